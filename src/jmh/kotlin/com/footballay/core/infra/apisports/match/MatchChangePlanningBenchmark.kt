@@ -0,0 +1,121 @@
+package com.footballay.core.infra.apisports.match
+
+import com.footballay.core.infra.apisports.match.persist.event.planner.MatchEventChangePlanner
+import com.footballay.core.infra.apisports.match.persist.player.collector.MatchPlayerDtoCollector
+import com.footballay.core.infra.apisports.match.persist.player.planner.MatchPlayerChangePlanner
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerKeyGenerator
+import com.footballay.core.infra.apisports.match.plan.dto.MatchEventPlanDto
+import com.footballay.core.infra.apisports.match.plan.dto.MatchPlayerDto
+import com.footballay.core.infra.apisports.match.plan.event.MatchEventExtractorImpl
+import com.footballay.core.infra.apisports.match.plan.lineup.MatchLineupExtractorImpl
+import com.footballay.core.infra.persistence.apisports.entity.FixtureApiSports
+import com.footballay.core.infra.persistence.apisports.entity.TeamApiSports
+import com.footballay.core.infra.persistence.apisports.entity.live.ApiSportsMatchEvent
+import com.footballay.core.infra.persistence.apisports.entity.live.ApiSportsMatchPlayer
+import com.footballay.core.infra.persistence.apisports.entity.live.ApiSportsMatchTeam
+import com.footballay.core.infra.util.UidGenerator
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Entity 변경 계획 단계 벤치마크 (DB 접근 없음)
+ *
+ * - `firstPoll` : 저장된 엔티티가 없는 상태 (라인업이 처음 들어온 poll)
+ * - `steadyPoll` : 직전 poll 결과가 이미 저장된 상태 (라이브 중 대부분의 poll)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+open class MatchChangePlanningBenchmark {
+    @Benchmark
+    fun collectMatchPlayers(state: PlanningState): Map<String, MatchPlayerDto> = MatchPlayerDtoCollector.collectFrom(state.context)
+
+    @Benchmark
+    fun planPlayerChangesFirstPoll(state: PlanningState) =
+        MatchPlayerChangePlanner.planChanges(state.collectedPlayers, emptyMap(), state.uidGenerator, state.homeTeam, state.awayTeam)
+
+    @Benchmark
+    fun planPlayerChangesSteadyPoll(state: PlanningState) =
+        MatchPlayerChangePlanner.planChanges(state.collectedPlayers, state.savedPlayers, state.uidGenerator, state.homeTeam, state.awayTeam)
+
+    @Benchmark
+    fun planEventChangesFirstPoll(state: PlanningState) =
+        MatchEventChangePlanner.planChanges(
+            state.eventPlan,
+            emptyMap(),
+            state.fixture,
+            state.homeTeam,
+            state.awayTeam,
+            state.savedPlayers,
+        )
+
+    @Benchmark
+    fun planEventChangesSteadyPoll(state: PlanningState) =
+        MatchEventChangePlanner.planChanges(
+            state.eventPlan,
+            state.savedEvents,
+            state.fixture,
+            state.homeTeam,
+            state.awayTeam,
+            state.savedPlayers,
+        )
+
+    /**
+     * 녹화된 fixture 로 추출까지 끝낸 입력과, 첫 poll 계획 결과를 "저장된 엔티티" 로 준비합니다.
+     */
+    @State(Scope.Benchmark)
+    open class PlanningState {
+        val uidGenerator = SequentialUidGenerator()
+
+        lateinit var fixture: FixtureApiSports
+        lateinit var homeTeam: ApiSportsMatchTeam
+        lateinit var awayTeam: ApiSportsMatchTeam
+        lateinit var context: MatchPlayerContext
+        lateinit var collectedPlayers: Map<String, MatchPlayerDto>
+        lateinit var eventPlan: MatchEventPlanDto
+        lateinit var savedPlayers: Map<String, ApiSportsMatchPlayer>
+        lateinit var savedEvents: Map<Int, ApiSportsMatchEvent>
+
+        @Setup(Level.Trial)
+        fun prepare(recorded: RecordedFixtureState) {
+            val dto = recorded.dto
+            fixture = FixtureApiSports(apiId = dto.fixture.id, season = null)
+            homeTeam = ApiSportsMatchTeam(teamApiSports = TeamApiSports(apiId = dto.teams.home.id, name = dto.teams.home.name))
+            awayTeam = ApiSportsMatchTeam(teamApiSports = TeamApiSports(apiId = dto.teams.away.id, name = dto.teams.away.name))
+
+            context = MatchPlayerContext()
+            MatchLineupExtractorImpl().extractLineup(dto, context)
+            eventPlan = MatchEventExtractorImpl().extractEvents(dto, context)
+            collectedPlayers = MatchPlayerDtoCollector.collectFrom(context)
+
+            val created = MatchPlayerChangePlanner.planChanges(collectedPlayers, emptyMap(), uidGenerator, homeTeam, awayTeam).toCreate
+            val createdByName = created.associateBy { it.name }
+            savedPlayers =
+                collectedPlayers.values
+                    .mapNotNull { dto -> createdByName[dto.name]?.let { MatchPlayerKeyGenerator.generateMatchPlayerKey(dto.apiId, dto.name) to it } }
+                    .toMap()
+
+            val events = MatchEventChangePlanner.planChanges(eventPlan, emptyMap(), fixture, homeTeam, awayTeam, savedPlayers).toCreate
+            savedEvents = MatchEventChangePlanner.entitiesToSequenceMap(events)
+        }
+    }
+
+    /**
+     * SecureRandom 비용이 계획 단계 측정에 섞이지 않도록 순차 UID 를 사용합니다.
+     */
+    class SequentialUidGenerator : UidGenerator {
+        private val sequence = AtomicLong()
+
+        override fun generateUid(): String = "bench-${sequence.incrementAndGet()}"
+
+        override fun isValidUid(uid: String): Boolean = uid.startsWith("bench-")
+    }
+}
@@ -0,0 +1,87 @@
+package com.footballay.core.infra.apisports.match
+
+import com.footballay.core.infra.apisports.match.plan.base.MatchBaseExtractorImpl
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerKeyGenerator
+import com.footballay.core.infra.apisports.match.plan.event.MatchEventExtractorImpl
+import com.footballay.core.infra.apisports.match.plan.lineup.MatchLineupExtractorImpl
+import com.footballay.core.infra.apisports.match.plan.playerstat.MatchPlayerStatExtractorImpl
+import com.footballay.core.infra.apisports.match.plan.teamstat.MatchTeamStatExtractorImpl
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * 응답 → FullMatchSyncDto → 섹션별 Plan DTO 추출 단계 벤치마크
+ *
+ * `extractAll` 은 facade 가 poll 1회마다 수행하는 추출 순서(lineup → events → team stats → player stats)와 같습니다.
+ * events / player stats 는 lineup 이 채운 [MatchPlayerContext] 를 사용하므로 매 호출마다 lineup 부터 다시 추출합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+open class MatchDtoExtractionBenchmark {
+    private val baseExtractor = MatchBaseExtractorImpl()
+    private val lineupExtractor = MatchLineupExtractorImpl()
+    private val eventExtractor = MatchEventExtractorImpl()
+    private val teamStatExtractor = MatchTeamStatExtractorImpl()
+    private val playerStatExtractor = MatchPlayerStatExtractorImpl()
+
+    @Benchmark
+    fun fullMatchSyncDtoOf(state: RecordedFixtureState): FullMatchSyncDto = FullMatchSyncDto.of(state.response)
+
+    @Benchmark
+    fun extractBase(state: RecordedFixtureState) = baseExtractor.extractBaseMatch(state.dto)
+
+    @Benchmark
+    fun extractLineup(state: RecordedFixtureState) = lineupExtractor.extractLineup(state.dto, MatchPlayerContext())
+
+    @Benchmark
+    fun extractEvents(state: RecordedFixtureState) = eventExtractor.extractEvents(state.dto, lineupContext(state))
+
+    @Benchmark
+    fun extractTeamStats(state: RecordedFixtureState) = teamStatExtractor.extractTeamStats(state.dto)
+
+    @Benchmark
+    fun extractPlayerStats(state: RecordedFixtureState) = playerStatExtractor.extractPlayerStats(state.dto, lineupContext(state))
+
+    @Benchmark
+    fun extractAll(
+        state: RecordedFixtureState,
+        blackhole: Blackhole,
+    ) {
+        val dto = FullMatchSyncDto.of(state.response)
+        val context = MatchPlayerContext()
+        blackhole.consume(baseExtractor.extractBaseMatch(dto))
+        blackhole.consume(lineupExtractor.extractLineup(dto, context))
+        blackhole.consume(eventExtractor.extractEvents(dto, context))
+        blackhole.consume(teamStatExtractor.extractTeamStats(dto))
+        blackhole.consume(playerStatExtractor.extractPlayerStats(dto, context))
+    }
+
+    /**
+     * 응답에 등장하는 모든 선수(라인업 + 이벤트)의 MatchPlayer 키 생성
+     */
+    @Benchmark
+    fun generateMatchPlayerKeys(
+        state: RecordedFixtureState,
+        blackhole: Blackhole,
+    ) {
+        state.dto.lineups.forEach { lineup ->
+            (lineup.startXI + lineup.substitutes).forEach {
+                val name = it.player.name ?: return@forEach
+                blackhole.consume(MatchPlayerKeyGenerator.generateMatchPlayerKey(it.player.id, name))
+            }
+        }
+        state.dto.events.forEach { event ->
+            val player = event.player ?: return@forEach
+            val name = player.name ?: return@forEach
+            blackhole.consume(MatchPlayerKeyGenerator.generateMatchPlayerKey(player.id, name))
+        }
+    }
+
+    private fun lineupContext(state: RecordedFixtureState): MatchPlayerContext =
+        MatchPlayerContext().also { lineupExtractor.extractLineup(state.dto, it) }
+}
@@ -0,0 +1,57 @@
+package com.footballay.core.infra.apisports.match
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.footballay.core.config.JacksonConfig
+import com.footballay.core.infra.apisports.shared.fetch.response.ApiSportsFixture
+import com.footballay.core.infra.apisports.shared.fetch.response.ApiSportsV3Envelope
+import com.footballay.core.infra.apisports.shared.fetch.response.Paging
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+/**
+ * 녹화된 fixture 응답 JSON 을 읽어 벤치마크 입력으로 제공합니다.
+ *
+ * ApiSportsV3MockFetcher 와 같은 방식으로 `response[0]` 만 역직렬화하여 envelope 를 구성합니다.
+ * JSON 파싱은 측정 대상이 아니므로 trial 당 한 번만 수행합니다.
+ */
+@State(Scope.Benchmark)
+open class RecordedFixtureState {
+    /**
+     * classpath 기준 녹화 fixture 경로
+     */
+    @Param(
+        "devdata/mockapiv2/fixture_1208021.json",
+        "devdata/mockapiv2/fixture_1208022.json",
+        "mock/apisports/fixtureByFixtureid.json",
+    )
+    lateinit var resource: String
+
+    lateinit var response: ApiSportsFixtureSingle
+
+    lateinit var dto: FullMatchSyncDto
+
+    @Setup(Level.Trial)
+    fun load() {
+        response = readEnvelope(resource)
+        dto = FullMatchSyncDto.of(response)
+    }
+
+    private fun readEnvelope(path: String): ApiSportsFixtureSingle {
+        val objectMapper = JacksonConfig().objectMapper()
+        val raw =
+            requireNotNull(javaClass.classLoader.getResourceAsStream(path)) { "Recorded fixture not found: $path" }
+                .use { it.readBytes().toString(Charsets.UTF_8) }
+        val root = objectMapper.readTree(raw)
+        return ApiSportsV3Envelope(
+            get = root.get("get").asText(),
+            parameters = objectMapper.convertValue(root.get("parameters"), object : TypeReference<Map<String, String>>() {}),
+            errors = emptyList(),
+            results = root.get("results").asInt(),
+            paging = objectMapper.treeToValue(root.get("paging"), Paging::class.java),
+            response = listOf(objectMapper.treeToValue(root.get("response").get(0), ApiSportsFixture.Single::class.java)),
+        )
+    }
+}
@@ -1,6 +1,12 @@
 package com.footballay.core;
 
+import com.footballay.core.infra.apisports.match.batch.FixtureFetchCoalescerProperties;
 import com.footballay.core.infra.apisports.shared.config.ApiSportsProperties;
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsQuotaProperties;
+import com.footballay.core.infra.dispatcher.match.MatchSyncEngineProperties;
+import com.footballay.core.infra.dispatcher.match.lease.MatchSyncLeaseProperties;
+import com.footballay.core.infra.facade.LeagueDeepSyncProperties;
+import com.footballay.core.infra.scheduler.cadence.LiveMatchCadenceProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -9,6 +15,6 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @Configuration
 @EnableJpaAuditing
 @EnableJpaRepositories
-@EnableConfigurationProperties({ApiSportsProperties.class})
+@EnableConfigurationProperties({ApiSportsProperties.class, ApiSportsQuotaProperties.class, FixtureFetchCoalescerProperties.class, MatchSyncEngineProperties.class, MatchSyncLeaseProperties.class, LiveMatchCadenceProperties.class, LeagueDeepSyncProperties.class})
 public class GlobalConfigEnable {
 }
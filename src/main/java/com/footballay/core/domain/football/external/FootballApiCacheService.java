@@ -20,6 +20,8 @@ import com.footballay.core.domain.football.repository.TeamRepository;
 import com.footballay.core.domain.football.repository.live.LiveStatusRepository;
 import com.footballay.core.domain.football.repository.relations.LeagueTeamRepository;
 import com.footballay.core.domain.football.repository.relations.TeamPlayerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,8 +30,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import static com.footballay.core.domain.football.external.fetch.response.LeagueInfoResponse._Response;
 import static com.footballay.core.domain.football.external.fetch.response.LeagueInfoResponse._Season;
 import static com.footballay.core.domain.football.external.fetch.response.PlayerSquadResponse._PlayerData;
@@ -70,6 +74,8 @@ public class FootballApiCacheService {
     private final FixtureRepository fixtureRepository;
     private final TeamPlayerRepository teamPlayerRepository;
     private final LiveStatusRepository liveStatusRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public ApiStatus status() {
         ExternalApiStatusResponse status = apiCallService.status();
@@ -308,27 +314,69 @@ public class FootballApiCacheService {
         League league = leagueRepository.findById(leagueId).orElseThrow(() -> new RuntimeException("아직 캐싱되지 않은 league 입니다"));
         final int leagueSeason = league.getCurrentSeason();
         FixtureResponse fixtureResponse = apiCallService.fixturesOfLeagueSeason(leagueId, leagueSeason);
-        List<LiveStatus> liveStatusList = new ArrayList<>();
+        final long startedAt = System.nanoTime();
+        List<FixtureResponse._Response> responses = fixtureResponse.getResponse();
+
+        Map<Long, Fixture> existingFixtures = fixtureRepository.findAllWithLiveStatusByFixtureIdIn(
+                        responses.stream().map(response -> response.getFixture().getId()).toList())
+                .stream()
+                .collect(Collectors.toMap(Fixture::getFixtureId, Function.identity()));
+        Map<Long, Team> teams = teamRepository.findAllById(
+                        responses.stream()
+                                .flatMap(response -> Stream.of(response.getTeams().getHome().getId(), response.getTeams().getAway().getId()))
+                                .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
         List<Fixture> fixtures = new ArrayList<>();
-        for (FixtureResponse._Response response : fixtureResponse.getResponse()) {
-            Optional<Fixture> optionalFixture = fixtureRepository.findById(response.getFixture().getId());
-            if (optionalFixture.isEmpty()) {
-                LiveStatus liveStatus = toLiveStatusEntity(response);
-                liveStatusList.add(liveStatusRepository.save(liveStatus));
-                Fixture fixture = toFixtureEntity(response, liveStatus);
-                fixtures.add(fixtureRepository.save(fixture));
+        int inserted = 0;
+        int updated = 0;
+        for (FixtureResponse._Response response : responses) {
+            Fixture fixture = existingFixtures.get(response.getFixture().getId());
+            if (fixture == null) {
+                LiveStatus liveStatus = liveStatusRepository.save(toLiveStatusEntity(response));
+                fixture = toFixtureEntity(response, liveStatus, league, teams);
+                entityManager.persist(fixture);
+                inserted++;
             } else {
-                Fixture fixture = optionalFixture.get();
+                List<Object> before = fixtureSnapshot(fixture);
                 LiveStatus liveStatus = fixture.getLiveStatus();
-                liveStatus.updateCompare(toLiveStatusEntity(response));
-                fixture.updateCompare(toFixtureEntity(response, liveStatus));
-                fixtures.add(fixture);
+                if (liveStatus == null) {
+                    fixture.setLiveStatus(liveStatusRepository.save(toLiveStatusEntity(response)));
+                } else {
+                    liveStatus.updateCompare(toLiveStatusEntity(response));
+                }
+                fixture.updateCompare(toFixtureEntity(response, fixture.getLiveStatus(), league, teams));
+                if (!before.equals(fixtureSnapshot(fixture))) {
+                    updated++;
+                }
             }
+            fixtures.add(fixture);
         }
+        // 변경분은 batch 로 flush 됩니다 (LiveStatus pooled sequence, hibernate.jdbc.batch_size)
+        entityManager.flush();
         lastCacheLogService.saveApiCache(ApiCacheType.FIXTURES_OF_LEAGUE, Map.of("leagueId", leagueId, "season", leagueSeason), ZonedDateTime.now());
+        log.info("cached fixtures of league :: leagueId={}, season={}, total={}, inserted={}, updated={}, unchanged={}, took={}ms",
+                leagueId, leagueSeason, fixtures.size(), inserted, updated, fixtures.size() - inserted - updated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
         return fixtures;
     }
 
+    /**
+     * 경기 일정 캐싱 시 변경 여부를 판단할 값들
+     */
+    private static List<Object> fixtureSnapshot(Fixture fixture) {
+        LiveStatus liveStatus = fixture.getLiveStatus();
+        return Arrays.asList(
+                fixture.getReferee(), fixture.getTimezone(), fixture.getDate(), fixture.getTimestamp(), fixture.getRound(),
+                liveStatus == null ? null : liveStatus.getLongStatus(),
+                liveStatus == null ? null : liveStatus.getShortStatus(),
+                liveStatus == null ? null : liveStatus.getElapsed(),
+                liveStatus == null ? null : liveStatus.getHomeScore(),
+                liveStatus == null ? null : liveStatus.getAwayScore()
+        );
+    }
+
     /**
      * playerId, leagueId, season 값으로 선수를 지정하여 정보를 가져옵니다. <br>
      * leagueId 로 특정하는 경우 여러 팀이 있을 수 있습니다. 예를 들어 시즌 중에 같은 리그의 다른 팀으로 이적한 경우 <br>
@@ -412,17 +460,16 @@ public class FootballApiCacheService {
         date: "2024-06-27T09:00:00+09:00"
         timestamp: 1719446400
      */
-    private Fixture toFixtureEntity(FixtureResponse._Response response, LiveStatus status) {
+    private Fixture toFixtureEntity(FixtureResponse._Response response, LiveStatus status, League league, Map<Long, Team> teams) {
         final ZoneId ZONE_ID_SEOUL = ZoneId.of("Asia/Seoul");
         ZonedDateTime zonedDateTime = ZonedDateTime.parse(response.getFixture().getDate(), DateTimeFormatter.ISO_DATE_TIME).withZoneSameInstant(ZONE_ID_SEOUL);
         LocalDateTime dateTime = zonedDateTime.toLocalDateTime();
         String zoneId = ZONE_ID_SEOUL.toString();
-        Optional<Team> findHome = teamRepository.findById(response.getTeams().getHome().getId());
-        Optional<Team> findAway = teamRepository.findById(response.getTeams().getAway().getId());
-        Optional<League> findLeague = leagueRepository.findById(response.getLeague().getId());
-        Team home = findHome.orElseThrow(() -> new IllegalStateException("_Home team not found : " + response.getTeams().getHome().getId() + " , team name : " + response.getTeams().getHome().getName()));
-        Team away = findAway.orElseThrow(() -> new IllegalStateException("_Away team not found : " + response.getTeams().getAway().getId() + " , team name : " + response.getTeams().getAway().getName()));
-        League league = findLeague.orElseThrow(() -> new IllegalStateException("_League not found : " + response.getLeague().getId() + " , league name : " + response.getLeague().getName()));
+        Team home = Optional.ofNullable(teams.get(response.getTeams().getHome().getId())).orElseThrow(() -> new IllegalStateException("_Home team not found : " + response.getTeams().getHome().getId() + " , team name : " + response.getTeams().getHome().getName()));
+        Team away = Optional.ofNullable(teams.get(response.getTeams().getAway().getId())).orElseThrow(() -> new IllegalStateException("_Away team not found : " + response.getTeams().getAway().getId() + " , team name : " + response.getTeams().getAway().getName()));
+        if (!Objects.equals(league.getLeagueId(), response.getLeague().getId())) {
+            throw new IllegalStateException("_League not found : " + response.getLeague().getId() + " , league name : " + response.getLeague().getName());
+        }
         return Fixture.builder().fixtureId(response.getFixture().getId()).referee(response.getFixture().getReferee()).timezone(zoneId).date(dateTime).timestamp(response.getFixture().getTimestamp()).round(response.getLeague().getRound()).liveStatus(status).league(league).homeTeam(home).awayTeam(away).build();
     }
 
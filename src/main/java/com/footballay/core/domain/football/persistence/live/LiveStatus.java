@@ -7,11 +7,13 @@ import jakarta.persistence.*;
  * Fixture Caching 과정과 Fixture Live Job 과정 둘에서 저장됩니다. <br>
  * {@link LiveStatus} 는 Live Job 데이터로 분류하지 않습니다. 즉, 비라이브 데이터라고 칭합니다. <br>
  * 라이브 데이터에 대한 정의는 {@link Fixture} 를 참조하십시오. <br>
+ * 리그 경기 일정 캐싱 시 수백 건이 한 번에 생성되므로 JDBC batch insert 를 위해 pooled sequence 로 id 를 할당합니다. (V4 migration)
  */
 @Entity
 public class LiveStatus {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "live_status_seq")
+    @SequenceGenerator(name = "live_status_seq", sequenceName = "live_status_seq", allocationSize = 50)
     private Long id;
     @OneToOne(mappedBy = "liveStatus", fetch = FetchType.LAZY)
     private Fixture fixture;
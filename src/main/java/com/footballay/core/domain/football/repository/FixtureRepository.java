@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +47,14 @@ public interface FixtureRepository extends JpaRepository<Fixture, Long> {
             "WHERE f.fixtureId = :fixtureId")
     Optional<Fixture> findFixtureByIdWithDetails(long fixtureId);
 
+    /**
+     * 경기 일정 캐싱 시 이미 저장된 fixture 들을 한 번에 조회합니다.
+     */
+    @Query("SELECT f FROM Fixture f " +
+            "LEFT JOIN FETCH f.liveStatus ls " +
+            "WHERE f.fixtureId IN :fixtureIds")
+    List<Fixture> findAllWithLiveStatusByFixtureIdIn(@Param("fixtureIds") Collection<Long> fixtureIds);
+
     /**
      * 이용 가능한 fixture 를 조회합니다. league , isAvailable , date 로 조회
      * 해당 리그의 date 이후의 이용 가능한 fixture 를 조회합니다.
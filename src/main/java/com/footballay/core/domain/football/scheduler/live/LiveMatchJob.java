@@ -1,10 +1,15 @@
 package com.footballay.core.domain.football.scheduler.live;
 
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import java.time.LocalDateTime;
 
+/**
+ * clustered job store 에서는 같은 fixture 의 이전 실행이 다른 인스턴스에서 끝나지 않았으면 다음 실행을 미룹니다.
+ */
+@DisallowConcurrentExecution
 public class LiveMatchJob implements Job {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LiveMatchJob.class);
     private final LiveMatchTask liveMatchTask;
@@ -2,83 +2,137 @@ package com.footballay.core.domain.football.service;
 
 import com.footballay.core.domain.football.persistence.Player;
 import com.footballay.core.domain.football.repository.PlayerRepository;
+import jakarta.annotation.Nullable;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.Units;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 선수 엑셀 export / import
+ * <pre>
+ * export 는 SXSSF 로 {@link #ROW_ACCESS_WINDOW} 개 행만 메모리에 두고 나머지는 임시 파일로 내보낸 뒤 응답 stream 에 바로 씁니다.
+ * 선수 사진은 {@link #PHOTO_CHUNK_SIZE} 명 단위로 크기가 제한된 pool 에서 병렬로 내려받고 {@link PlayerPhotoCache} 에 캐싱합니다.
+ * 사진 이미지 자체는 xlsx 패키지에 포함되어야 하므로 행 수가 아니라 (중복을 제외한) 사진 수에 비례한 메모리를 사용합니다.
+ * </pre>
+ */
 @Service
-public class FootballExcelService {
+public class FootballExcelService implements DisposableBean {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(FootballExcelService.class);
+
+    private static final String[] COLUMNS = {"ID", "Name", "Korean Name", "Number", "Photo"};
+    private static final int PHOTO_COLUMN_IDX = 4;
+    private static final int ROW_HEIGHT_IN_POINTS = 100;
+    static final int ROW_ACCESS_WINDOW = 100;
+    static final int PHOTO_CHUNK_SIZE = 32;
+    private static final int PHOTO_FETCH_PARALLELISM = 8;
+
     private final PlayerRepository playerRepository;
+    private final PlayerPhotoCache playerPhotoCache;
+    private final ExecutorService photoFetchExecutor;
 
-    public ByteArrayInputStream createPlayerExcel(List<Player> players) throws IOException {
-        String[] COLUMNs = {"ID", "Name", "Korean Name", "Number", "Photo"};
-        try (
-            Workbook workbook = new XSSFWorkbook();
-            ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    /**
+     * 선수 목록을 엑셀로 만들어 {@code out} 에 씁니다. {@code out} 은 닫지 않습니다.
+     */
+    public void writePlayerExcel(List<Player> players, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
             Sheet sheet = workbook.createSheet("Players");
-            // 열 너비 및 행 높이 설정
-            int photoColumnIdx = 4;
-            sheet.setColumnWidth(photoColumnIdx, 30 * 256); // 사진 열 너비 넓게 설정
+            // 열 너비 설정
+            sheet.setColumnWidth(PHOTO_COLUMN_IDX, 30 * 256); // 사진 열 너비 넓게 설정
             sheet.setColumnWidth(0, 10 * 256); // ID 열 너비
             sheet.setColumnWidth(1, 20 * 256); // Name 열 너비
             sheet.setColumnWidth(2, 20 * 256); // Korean Name 열 너비
             sheet.setColumnWidth(3, 10 * 256); // Number 열 너비
-            int rowHeightInPoints = 100; // 행 높이 (100px)
             // 헤더 생성
             Row headerRow = sheet.createRow(0);
-            for (int col = 0; col < COLUMNs.length; col++) {
-                Cell cell = headerRow.createCell(col);
-                cell.setCellValue(COLUMNs[col]);
+            for (int col = 0; col < COLUMNS.length; col++) {
+                headerRow.createCell(col).setCellValue(COLUMNS[col]);
             }
-            // 데이터 생성
+
+            Drawing<?> drawing = sheet.createDrawingPatriarch();
+            Map<String, Integer> pictureIdxByUrl = new HashMap<>();
+            log.info("excel data write start. players : {}", players.size());
             int rowIdx = 1;
-            log.info("excel data write start");
-            for (Player player : players) {
-                Row row = sheet.createRow(rowIdx);
-                row.setHeightInPoints(rowHeightInPoints); // 각 행의 높이 지정
-                row.createCell(0).setCellValue(player.getId());
-                row.createCell(1).setCellValue(player.getName());
-                row.createCell(2).setCellValue(player.getKoreanName() != null ? player.getKoreanName() : "");
-                row.createCell(3).setCellValue(player.getNumber() != null ? player.getNumber() : 0);
-                // 이미지 삽입
-                if (player.getPhotoUrl() != null && !player.getPhotoUrl().isEmpty()) {
-                    try (InputStream inputStream = new URL(player.getPhotoUrl()).openStream()) {
-                        byte[] bytes = IOUtils.toByteArray(inputStream);
-                        int pictureIdx = workbook.addPicture(bytes, Workbook.PICTURE_TYPE_PNG);
-                        CreationHelper helper = workbook.getCreationHelper();
-                        Drawing<?> drawing = sheet.createDrawingPatriarch();
-                        ClientAnchor anchor = helper.createClientAnchor();
-                        anchor.setCol1(photoColumnIdx);
-                        anchor.setRow1(rowIdx);
-                        anchor.setDx1(0);
-                        anchor.setDy1(0);
-                        anchor.setDy2(100 * Units.EMU_PER_PIXEL); // 이미지 높이 100px로 설정
-                        Picture pict = drawing.createPicture(anchor, pictureIdx);
-                        pict.resize(); // width는 자동으로 조정
-                    } catch (IOException e) {
-                        e.printStackTrace();
+            for (int from = 0; from < players.size(); from += PHOTO_CHUNK_SIZE) {
+                List<Player> chunk = players.subList(from, Math.min(from + PHOTO_CHUNK_SIZE, players.size()));
+                List<CompletableFuture<byte[]>> photos = fetchPhotos(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    Player player = chunk.get(i);
+                    writePlayerRow(sheet, rowIdx, player);
+                    Integer pictureIdx = pictureIdxOf(workbook, pictureIdxByUrl, player.getPhotoUrl(), photos.get(i).join());
+                    if (pictureIdx != null) {
+                        insertPhoto(workbook, drawing, rowIdx, pictureIdx);
                     }
+                    rowIdx++;
                 }
-                rowIdx++;
             }
             workbook.write(out);
             log.info("excel data write end");
-            return new ByteArrayInputStream(out.toByteArray());
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
+    private List<CompletableFuture<byte[]>> fetchPhotos(List<Player> chunk) {
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(chunk.size());
+        for (Player player : chunk) {
+            String photoUrl = player.getPhotoUrl();
+            futures.add(StringUtils.hasText(photoUrl)
+                    ? CompletableFuture.supplyAsync(() -> playerPhotoCache.get(photoUrl), photoFetchExecutor)
+                    : CompletableFuture.completedFuture(null));
+        }
+        return futures;
+    }
+
+    private void writePlayerRow(Sheet sheet, int rowIdx, Player player) {
+        Row row = sheet.createRow(rowIdx);
+        row.setHeightInPoints(ROW_HEIGHT_IN_POINTS); // 각 행의 높이 지정
+        row.createCell(0).setCellValue(player.getId());
+        row.createCell(1).setCellValue(player.getName());
+        row.createCell(2).setCellValue(player.getKoreanName() != null ? player.getKoreanName() : "");
+        row.createCell(3).setCellValue(player.getNumber() != null ? player.getNumber() : 0);
+    }
+
+    /**
+     * 같은 사진은 workbook 에 한 번만 추가합니다.
+     */
+    @Nullable
+    private Integer pictureIdxOf(Workbook workbook, Map<String, Integer> pictureIdxByUrl, String photoUrl, @Nullable byte[] photo) {
+        if (photo == null) {
+            return null;
+        }
+        return pictureIdxByUrl.computeIfAbsent(photoUrl, url -> workbook.addPicture(photo, Workbook.PICTURE_TYPE_PNG));
+    }
+
+    private void insertPhoto(Workbook workbook, Drawing<?> drawing, int rowIdx, int pictureIdx) {
+        ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+        anchor.setCol1(PHOTO_COLUMN_IDX);
+        anchor.setRow1(rowIdx);
+        anchor.setDx1(0);
+        anchor.setDy1(0);
+        anchor.setDy2(100 * Units.EMU_PER_PIXEL); // 이미지 높이 100px로 설정
+        Picture pict = drawing.createPicture(anchor, pictureIdx);
+        pict.resize(); // width는 자동으로 조정
+    }
+
     /**
      * 엑셀 데이터로 선수 한글 이름과 등번호를 업데이트 합니다.
      * @param file
@@ -165,7 +219,19 @@ public class FootballExcelService {
         }
     }
 
-    public FootballExcelService(final PlayerRepository playerRepository) {
+    @Override
+    public void destroy() {
+        photoFetchExecutor.shutdownNow();
+    }
+
+    public FootballExcelService(final PlayerRepository playerRepository, final PlayerPhotoCache playerPhotoCache) {
         this.playerRepository = playerRepository;
+        this.playerPhotoCache = playerPhotoCache;
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.photoFetchExecutor = Executors.newFixedThreadPool(PHOTO_FETCH_PARALLELISM, runnable -> {
+            Thread thread = new Thread(runnable, "excel-photo-fetch-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
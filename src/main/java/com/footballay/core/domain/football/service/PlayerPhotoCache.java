@@ -0,0 +1,70 @@
+package com.footballay.core.domain.football.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nullable;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+import java.time.Duration;
+
+/**
+ * 선수 사진 이미지를 인스턴스 로컬에 캐싱합니다.
+ * 엑셀 export 시 같은 선수 사진을 매번 다시 내려받지 않도록 합니다.
+ * 캐시 크기는 이미지 byte 합계로 제한합니다.
+ */
+@Component
+public class PlayerPhotoCache {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(PlayerPhotoCache.class);
+
+    private static final long MAXIMUM_WEIGHT_BYTES = 64L * 1024 * 1024;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(6);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RestClient restClient;
+    private final Cache<String, byte[]> photos = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT_BYTES)
+            .weigher((String url, byte[] bytes) -> bytes.length)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public PlayerPhotoCache() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * @param photoUrl 사진 URL
+     * @return 사진 이미지. URL 이 없거나 내려받지 못하면 null 이며 실패한 결과는 캐싱하지 않습니다.
+     */
+    @Nullable
+    public byte[] get(@Nullable String photoUrl) {
+        if (!StringUtils.hasText(photoUrl)) {
+            return null;
+        }
+        byte[] cached = photos.getIfPresent(photoUrl);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            byte[] downloaded = restClient.get()
+                    .uri(photoUrl)
+                    .retrieve()
+                    .body(byte[].class);
+            if (downloaded == null || downloaded.length == 0) {
+                return null;
+            }
+            photos.put(photoUrl, downloaded);
+            return downloaded;
+        } catch (Exception e) {
+            log.warn("Failed to download player photo: {}", photoUrl, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.footballay.core.monitor.alert;
+
+import java.time.Duration;
+
+/**
+ * 알림 채널이 전송 한도를 초과하여 요청을 거절했을 때 발생하는 예외
+ * 호출자는 {@link #getRetryAfter()} 만큼 기다린 뒤 다시 보낼 수 있습니다.
+ */
+public class AlertRateLimitedException extends NotificationException {
+
+    private final Duration retryAfter;
+
+    public AlertRateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
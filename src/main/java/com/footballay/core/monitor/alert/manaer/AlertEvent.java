@@ -0,0 +1,19 @@
+package com.footballay.core.monitor.alert.manaer;
+
+import java.time.Duration;
+
+/**
+ * 전송 대기 중인 알림 한 건
+ *
+ * @param entityId 도메인 식별자 (fixtureId, matchId 등)
+ * @param message  전송할 메시지
+ * @param ttl      중복 방지 기간
+ */
+public record AlertEvent(
+        AlertCategory category,
+        AlertSeverity severity,
+        String entityId,
+        String message,
+        Duration ttl
+) {
+}
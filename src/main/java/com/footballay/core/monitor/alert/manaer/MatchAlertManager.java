@@ -1,16 +1,28 @@
 package com.footballay.core.monitor.alert.manaer;
 
+import com.footballay.core.monitor.alert.AlertRateLimitedException;
 import com.footballay.core.monitor.alert.duplicate.AlertDeduplicator;
 import com.footballay.core.monitor.alert.notify.AlertNotifier;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 중복 확인 후 알림을 호출 스레드에서 바로 전송합니다.
+ * 라이브 동기화 경로에서는 {@link QueuedAlertManager} 를 거쳐 백그라운드에서 {@link #alertBatch} 로 전송됩니다.
+ */
 @Service
 public class MatchAlertManager implements AlertManager {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MatchAlertManager.class);
+    /**
+     * Discord content 최대 길이는 2000자 입니다. mention prefix 와 notifier 머리말 자리를 남겨둡니다.
+     */
+    static final int MAX_AGGREGATED_MESSAGE_LENGTH = 1800;
+    private static final int MAX_AGGREGATED_LINE_LENGTH = 200;
+
     private final AlertDeduplicator deduplicator;
     private final List<AlertNotifier> notifiers;
 
@@ -38,6 +50,72 @@ public class MatchAlertManager implements AlertManager {
         }
     }
 
+    /**
+     * 같은 category, severity 의 알림들을 중복 확인 후 한 번에 전송합니다.
+     * 중복을 걸러내고 남은 알림이 한 건이면 {@link #alertOnce} 와 같은 형태로, 여러 건이면 하나의 요약 메시지로 보냅니다.
+     * 전송에 실패하면 중복 제어 키를 되돌려 다음 알림이 다시 전송될 수 있게 합니다.
+     *
+     * @param events 같은 category, severity 의 알림
+     * @param window 요약 메시지에 표시할 수집 기간
+     * @return 전송했거나 보낼 알림이 없으면 true, 전송에 실패하면 false
+     * @throws AlertRateLimitedException 알림 채널이 전송 한도를 초과한 경우. 중복 제어 키는 되돌린 상태입니다.
+     */
+    public boolean alertBatch(AlertCategory category, AlertSeverity severity, List<AlertEvent> events, Duration window) {
+        AlertNotifier notifier = selectNotifier(category);
+        if (notifier == null) {
+            log.warn("No notifier found for category {}", category);
+            return true;
+        }
+        String deduplicateType = deduplicateTypeFrom(category, severity);
+        List<AlertEvent> accepted = new ArrayList<>();
+        for (AlertEvent event : events) {
+            if (deduplicator.shouldNotify(deduplicateType, event.entityId(), event.ttl())) {
+                accepted.add(event);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return true;
+        }
+
+        try {
+            if (accepted.size() == 1) {
+                AlertEvent event = accepted.get(0);
+                notifier.notifyAlert(severity, event.entityId(), event.message());
+            } else {
+                notifier.notifyAlert(severity, accepted.size() + " fixtures", aggregateMessage(accepted, window));
+            }
+            log.info("Alert sent for category: {}, severity: {}, count: {}", category, severity, accepted.size());
+            return true;
+        } catch (AlertRateLimitedException e) {
+            accepted.forEach(event -> deduplicator.invalidate(deduplicateType, event.entityId()));
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to send alert for {}, count: {}", category, accepted.size(), e);
+            accepted.forEach(event -> deduplicator.invalidate(deduplicateType, event.entityId()));
+            return false;
+        }
+    }
+
+    static String aggregateMessage(List<AlertEvent> events, Duration window) {
+        StringBuilder sb = new StringBuilder()
+                .append(events.size()).append(" alerts in the last ").append(window.toSeconds()).append("s");
+        for (int i = 0; i < events.size(); i++) {
+            AlertEvent event = events.get(i);
+            String line = abbreviate("\n- " + event.entityId() + ": " + event.message());
+            String rest = "\n... and " + (events.size() - i) + " more";
+            if (sb.length() + line.length() + rest.length() > MAX_AGGREGATED_MESSAGE_LENGTH) {
+                sb.append(rest);
+                break;
+            }
+            sb.append(line);
+        }
+        return sb.toString();
+    }
+
+    private static String abbreviate(String line) {
+        return line.length() <= MAX_AGGREGATED_LINE_LENGTH ? line : line.substring(0, MAX_AGGREGATED_LINE_LENGTH - 3) + "...";
+    }
+
     @Nullable
     public AlertNotifier selectNotifier(@NotNull AlertCategory category) {
         for (AlertNotifier nowNotifier : notifiers) {
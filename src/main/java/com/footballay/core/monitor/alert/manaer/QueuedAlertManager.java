@@ -0,0 +1,238 @@
+package com.footballay.core.monitor.alert.manaer;
+
+import com.footballay.core.monitor.alert.AlertRateLimitedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림을 bounded queue 에 넣고 바로 반환하는 {@link AlertManager}
+ * <pre>
+ * 라이브 동기화 스레드가 Redis 중복 확인이나 Discord webhook 호출을 기다리지 않도록 전송은 백그라운드 스레드 하나가 맡습니다.
+ *
+ * - 로컬 중복 제거 : 최근에 받은 (category, severity, entityId) 는 queue 에 넣지 않습니다. 인스턴스 간 중복은 {@link MatchAlertManager} 가 Redis 로 확인합니다.
+ * - queue 가득 참 : 알림을 버리고 바로 반환합니다.
+ * - 묶음 전송 : 첫 알림부터 aggregation-window 동안 모은 알림을 (category, severity) 별 webhook 한 번으로 보냅니다.
+ * - rate limit : 전송 간 min-send-interval 을 두고, 429 응답을 받으면 Retry-After 만큼 기다렸다가 다시 보냅니다.
+ *
+ * Metrics:
+ * - footballay.alert.enqueue (result=accepted|deduplicated|dropped)
+ * - footballay.alert.delivery (result=sent|failed|rate_limited|dropped) : (category, severity) 묶음 단위
+ * - footballay.alert.queue.size
+ * </pre>
+ */
+@Primary
+@Service
+public class QueuedAlertManager implements AlertManager, DisposableBean {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(QueuedAlertManager.class);
+
+    private static final Duration LOCAL_DEDUPE_MAX_TTL = Duration.ofMinutes(10);
+    private static final long LOCAL_DEDUPE_MAXIMUM_SIZE = 10_000;
+    private static final long IDLE_POLL_MILLIS = 1_000;
+    private static final int MAX_RATE_LIMITED_ATTEMPTS = 3;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final MatchAlertManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final Duration aggregationWindow;
+    private final Duration minSendInterval;
+
+    private final BlockingQueue<AlertEvent> queue;
+    private final Cache<String, Duration> recent;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+    private long lastSentAtNanos;
+
+    public QueuedAlertManager(
+            MatchAlertManager delegate,
+            MeterRegistry meterRegistry,
+            @Value("${footballay.alert.queue-capacity:1000}") int queueCapacity,
+            @Value("${footballay.alert.aggregation-window:10s}") Duration aggregationWindow,
+            @Value("${footballay.alert.min-send-interval:1s}") Duration minSendInterval
+    ) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.aggregationWindow = aggregationWindow;
+        this.minSendInterval = minSendInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(LOCAL_DEDUPE_MAXIMUM_SIZE)
+                .expireAfter(new LocalDedupeExpiry())
+                .build();
+        Gauge.builder("footballay.alert.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "alert-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @Override
+    public void alertOnce(AlertCategory category, AlertSeverity severity, String entityId, String message, Duration ttl) {
+        AlertEvent event = new AlertEvent(category, severity, entityId, message, ttl);
+        String key = localKey(event);
+        if (recent.asMap().putIfAbsent(key, ttl) != null) {
+            enqueueCounter("deduplicated").increment();
+            return;
+        }
+        if (!queue.offer(event)) {
+            recent.invalidate(key);
+            enqueueCounter("dropped").increment();
+            log.warn("Alert queue is full, dropping alert for category: {}, severity: {}, entityId: {}", category, severity, entityId);
+            return;
+        }
+        enqueueCounter("accepted").increment();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(SHUTDOWN_TIMEOUT.toMillis());
+        if (!queue.isEmpty()) {
+            log.warn("Alert dispatcher stopped with {} pending alerts", queue.size());
+        }
+    }
+
+    private void dispatchLoop() {
+        List<AlertEvent> buffer = new ArrayList<>();
+        while (running) {
+            try {
+                collect(buffer);
+                if (!buffer.isEmpty()) {
+                    flush(buffer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error while dispatching {} alerts", buffer.size(), e);
+            } finally {
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 알림을 기다린 뒤, 그 시점부터 aggregation-window 동안 들어온 알림을 모읍니다.
+     */
+    private void collect(List<AlertEvent> buffer) throws InterruptedException {
+        AlertEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        buffer.add(first);
+        long deadline = System.nanoTime() + aggregationWindow.toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            AlertEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next != null) {
+                buffer.add(next);
+            }
+        }
+        queue.drainTo(buffer);
+    }
+
+    private void flush(List<AlertEvent> events) throws InterruptedException {
+        Map<Group, List<AlertEvent>> groups = new LinkedHashMap<>();
+        for (AlertEvent event : events) {
+            groups.computeIfAbsent(new Group(event.category(), event.severity()), g -> new ArrayList<>()).add(event);
+        }
+        for (Map.Entry<Group, List<AlertEvent>> entry : groups.entrySet()) {
+            deliver(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void deliver(Group group, List<AlertEvent> events) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            waitForSendInterval();
+            try {
+                boolean sent = delegate.alertBatch(group.category(), group.severity(), events, aggregationWindow);
+                lastSentAtNanos = System.nanoTime();
+                if (sent) {
+                    deliveryCounter("sent").increment();
+                } else {
+                    events.forEach(event -> recent.invalidate(localKey(event)));
+                    deliveryCounter("failed").increment();
+                }
+                return;
+            } catch (AlertRateLimitedException e) {
+                lastSentAtNanos = System.nanoTime();
+                deliveryCounter("rate_limited").increment();
+                if (attempt >= MAX_RATE_LIMITED_ATTEMPTS) {
+                    events.forEach(event -> recent.invalidate(localKey(event)));
+                    deliveryCounter("dropped").increment();
+                    log.warn("Dropping {} {} alerts after {} rate limited attempts", events.size(), group, attempt);
+                    return;
+                }
+                log.info("Alert channel rate limited, retrying {} alerts after {}", events.size(), e.getRetryAfter());
+                TimeUnit.MILLISECONDS.sleep(e.getRetryAfter().toMillis());
+            }
+        }
+    }
+
+    private void waitForSendInterval() throws InterruptedException {
+        if (lastSentAtNanos == 0) {
+            return;
+        }
+        long waitNanos = lastSentAtNanos + minSendInterval.toNanos() - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private static String localKey(AlertEvent event) {
+        return event.category() + ":" + event.severity() + ":" + event.entityId();
+    }
+
+    private Counter enqueueCounter(String result) {
+        return Counter.builder("footballay.alert.enqueue")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter deliveryCounter(String result) {
+        return Counter.builder("footballay.alert.delivery")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Group(AlertCategory category, AlertSeverity severity) {
+    }
+
+    /**
+     * 로컬 중복 제거는 알림의 ttl 을 따르되 {@link #LOCAL_DEDUPE_MAX_TTL} 을 넘지 않습니다.
+     * 그 이후로는 Redis 중복 제어에 맡깁니다.
+     */
+    private static class LocalDedupeExpiry implements Expiry<String, Duration> {
+        @Override
+        public long expireAfterCreate(String key, Duration ttl, long currentTime) {
+            return Math.min(ttl.toNanos(), LOCAL_DEDUPE_MAX_TTL.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Duration ttl, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Duration ttl, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
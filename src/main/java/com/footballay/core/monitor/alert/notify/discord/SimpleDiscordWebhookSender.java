@@ -1,15 +1,27 @@
 package com.footballay.core.monitor.alert.notify.discord;
 
+import com.footballay.core.monitor.alert.AlertRateLimitedException;
 import com.footballay.core.monitor.alert.NotificationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+
 @Service
 public class SimpleDiscordWebhookSender implements DiscordWebhookSender {
 
-    private final RestClient webClient = RestClient.create();
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final RestClient webClient = RestClient.builder()
+            .requestFactory(requestFactory())
+            .build();
 
     @Override
     public void sendWebhook(String webhookUrl, DiscordWebhookRequest request) throws NotificationException {
@@ -23,6 +35,10 @@ public class SimpleDiscordWebhookSender implements DiscordWebhookSender {
             if (!resp.getStatusCode().is2xxSuccessful()) {
                 throw new NotificationException("Failed to send webhook, received status: " + resp.getStatusCode());
             }
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            throw new AlertRateLimitedException("Discord webhook rate limited", retryAfterFrom(e.getResponseHeaders()));
+        } catch (NotificationException e) {
+            throw e;
         } catch (Exception e) {
             throw new NotificationException("Failed to send webhook to URL: " + webhookUrl, e);
         }
@@ -34,4 +50,27 @@ public class SimpleDiscordWebhookSender implements DiscordWebhookSender {
         }
     }
 
+    /**
+     * Discord 는 429 응답의 Retry-After header 에 초 단위(소수 가능) 대기 시간을 담아 보냅니다.
+     */
+    static Duration retryAfterFrom(HttpHeaders headers) {
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (!StringUtils.hasText(retryAfter)) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            long millis = (long) Math.ceil(Double.parseDouble(retryAfter.trim()) * 1000);
+            return millis > 0 ? Duration.ofMillis(millis) : DEFAULT_RETRY_AFTER;
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(CONNECT_TIMEOUT);
+        factory.setReadTimeout(READ_TIMEOUT);
+        return factory;
+    }
+
 }
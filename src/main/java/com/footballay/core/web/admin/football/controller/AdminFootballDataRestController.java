@@ -6,7 +6,7 @@ import com.footballay.core.domain.football.service.FootballExcelService;
 import com.footballay.core.web.admin.football.response.*;
 import com.footballay.core.web.admin.football.service.AdminFootballDataWebService;
 import com.footballay.core.web.common.dto.ApiResponse;
-import org.springframework.core.io.InputStreamResource;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -15,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -122,13 +121,13 @@ public class AdminFootballDataRestController {
     }
 
     @GetMapping("/teams/{teamId}/players/export")
-    public ResponseEntity<InputStreamResource> exportPlayersToExcel(@PathVariable long teamId) throws IOException {
+    public void exportPlayersToExcel(@PathVariable long teamId, HttpServletResponse response) throws IOException {
         List<Player> players = footballDataService.getSquadOfTeam(teamId);
-        log.info("controller :: players : {}", players);
-        ByteArrayInputStream in = excelService.createPlayerExcel(players);
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Disposition", "attachment; filename=players.xlsx");
-        return ResponseEntity.ok().headers(headers).contentType(MediaType.APPLICATION_OCTET_STREAM).body(new InputStreamResource(in));
+        log.info("controller :: players : {}", players.size());
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=players.xlsx");
+        excelService.writePlayerExcel(players, response.getOutputStream());
+        response.flushBuffer();
     }
 
     @PostMapping("/players/import")
@@ -2,40 +2,299 @@ package com.footballay.core.web.common.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Map;
-import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * API 응답 JSON 캐시 (L1: 인스턴스 로컬 Caffeine, L2: Redis)
+ * <pre>
+ * 조회 순서는 L1 → L2 → 계산입니다. 캐시 값은 "[response]" 형태로 한 번만 직렬화된 JSON 입니다.
+ *
+ * - key : requestUrl 과 이름순으로 정렬한 parameter 로 만듭니다. parameter Map 의 순회 순서와 무관하게 같은 요청은 같은 key 를 가집니다.
+ * - fresh ({@link #FRESH_TTL}) : 캐시 값을 그대로 응답합니다.
+ * - stale ({@link #STALE_TTL} 동안) : 캐시 값을 응답하면서 백그라운드에서 한 번만 다시 계산합니다. (stale-while-revalidate)
+ * - 만료/없음 : 같은 key 를 동시에 요청하면 인스턴스당 한 요청만 계산하고 나머지는 그 결과를 기다립니다. (single-flight)
+ * - Redis 장애 시 L1 과 계산만으로 응답합니다.
+ *
+ * Metrics:
+ * - footballay.api.cache.lookup (endpoint, result=l1_hit|l2_hit|stale|miss) : endpoint 별 hit ratio
+ * - footballay.api.cache.load (endpoint) : 응답 계산 시간
+ * - footballay.api.cache.coalesced (endpoint) : 다른 요청의 계산 결과를 기다린 요청 수
+ * </pre>
+ */
 @Service
-public class CachedApiResponseService {
+public class CachedApiResponseService implements DisposableBean {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(CachedApiResponseService.class);
+
+    static final Duration FRESH_TTL = Duration.ofSeconds(10);
+    static final Duration STALE_TTL = Duration.ofSeconds(20);
+    private static final String KEY_PREFIX = "api-cache:";
+    private static final char FRESH_UNTIL_SEPARATOR = '\n';
+    private static final long L1_MAXIMUM_SIZE = 10_000;
+
     private final ObjectMapper OBJECT_MAPPER;
     private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
 
-    public Optional<String> getCachedResponseIfExist(String requestUrl, Map<String, ? extends String> parameters) {
-        String key = generateKey(requestUrl, parameters);
-        String cachedResponse = stringRedisTemplate.opsForValue().get(key);
-        return Optional.ofNullable(cachedResponse);
+    private final Cache<String, CachedEntry> local;
+    private final Map<String, CompletableFuture<CachedEntry>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+
+    /**
+     * @param json   "[response]" 형태의 직렬화된 JSON
+     * @param source 응답을 얻은 위치
+     */
+    public record Lookup(String json, Source source) {
+    }
+
+    public enum Source {
+        L1("HIT"),
+        L2("HIT"),
+        STALE("STALE"),
+        LOADED("MISS");
+
+        private final String header;
+
+        Source(String header) {
+            this.header = header;
+        }
+
+        /**
+         * @return X-Cache 응답 header 값
+         */
+        public String header() {
+            return header;
+        }
     }
 
-    public void cacheResponse(String requestUrl, Map<String, ? extends String> parameters, Object response) throws JsonProcessingException {
+    /**
+     * 캐시에서 응답을 찾고, 없으면 {@code loader} 로 계산하여 캐싱합니다.
+     *
+     * @param requestUrl 캐시 key 와 metric endpoint tag 로 사용할 요청 경로
+     * @param parameters 요청 parameter
+     * @param loader     응답 계산. 실패 시 예외를 던져야 하며 실패한 결과는 캐싱하지 않습니다.
+     * @throws RuntimeException 캐시가 없고 {@code loader} 가 실패한 경우
+     */
+    public Lookup getOrLoad(String requestUrl, Map<String, ?> parameters, Supplier<?> loader) {
         String key = generateKey(requestUrl, parameters);
-        stringRedisTemplate.opsForValue().set(key, OBJECT_MAPPER.writeValueAsString(new Object[] {response}), Duration.ofSeconds(10));
+        long now = clock.millis();
+
+        CachedEntry entry = local.getIfPresent(key);
+        Source source = Source.L1;
+        if (entry == null || entry.isExpired(now)) {
+            entry = readRemote(key);
+            source = Source.L2;
+            if (entry != null && !entry.isExpired(now)) {
+                local.put(key, entry);
+            }
+        }
+
+        if (entry != null && entry.isFresh(now)) {
+            lookupCounter(requestUrl, source == Source.L1 ? "l1_hit" : "l2_hit").increment();
+            return new Lookup(entry.json(), source);
+        }
+        if (entry != null && !entry.isExpired(now)) {
+            lookupCounter(requestUrl, "stale").increment();
+            refreshInBackground(key, requestUrl, loader);
+            return new Lookup(entry.json(), Source.STALE);
+        }
+        lookupCounter(requestUrl, "miss").increment();
+        return new Lookup(load(key, requestUrl, loader).json(), Source.LOADED);
+    }
+
+    /**
+     * 같은 key 의 계산이 진행 중이면 그 결과를 기다리고, 아니면 직접 계산합니다.
+     */
+    private CachedEntry load(String key, String requestUrl, Supplier<?> loader) {
+        CompletableFuture<CachedEntry> mine = new CompletableFuture<>();
+        CompletableFuture<CachedEntry> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedCounter(requestUrl).increment();
+            return await(running);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            CachedEntry entry = compute(key, loader);
+            mine.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            sample.stop(loadTimer(requestUrl));
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshInBackground(String key, String requestUrl, Supplier<?> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, requestUrl, loader);
+                } catch (Exception e) {
+                    log.warn("Background cache refresh failed. key={}", key, e);
+                }
+            });
+        } catch (Exception e) {
+            log.debug("Background cache refresh skipped. key={}", key, e);
+        }
+    }
+
+    private CachedEntry compute(String key, Supplier<?> loader) {
+        Object response = loader.get();
+        String json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsString(new Object[] {response});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response for cache. key=" + key, e);
+        }
+        long now = clock.millis();
+        CachedEntry entry = new CachedEntry(json, now + FRESH_TTL.toMillis(), now + FRESH_TTL.toMillis() + STALE_TTL.toMillis());
+        local.put(key, entry);
+        writeRemote(key, entry);
         log.info("Cached response for key: {}", key);
+        return entry;
     }
 
-    private String generateKey(String requestUrl, Map<String, ? extends String> parameters) {
-        StringBuilder keyBuilder = new StringBuilder(requestUrl);
-        if (parameters != null && !parameters.isEmpty()) {
-            parameters.forEach((k, v) -> keyBuilder.append("&").append(k).append("=").append(v));
+    private CachedEntry readRemote(String key) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf(FRESH_UNTIL_SEPARATOR);
+            long freshUntil = Long.parseLong(value.substring(0, separator));
+            return new CachedEntry(value.substring(separator + 1), freshUntil, freshUntil + STALE_TTL.toMillis());
+        } catch (Exception e) {
+            log.warn("Failed to read cached response from Redis. key={}", key, e);
+            return null;
         }
-        return keyBuilder.toString();
     }
 
-    public CachedApiResponseService(final ObjectMapper OBJECT_MAPPER, final StringRedisTemplate stringRedisTemplate) {
+    private void writeRemote(String key, CachedEntry entry) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, entry.freshUntil() + String.valueOf(FRESH_UNTIL_SEPARATOR) + entry.json(), FRESH_TTL.plus(STALE_TTL));
+        } catch (Exception e) {
+            log.warn("Failed to write cached response to Redis. key={}", key, e);
+        }
+    }
+
+    /**
+     * parameter 를 이름순으로 정렬하여 같은 요청이 항상 같은 key 를 갖도록 합니다.
+     */
+    static String generateKey(String requestUrl, Map<String, ?> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return KEY_PREFIX + requestUrl;
+        }
+        StringJoiner query = new StringJoiner("&", "?", "");
+        new TreeMap<>(parameters).forEach((name, value) ->
+                query.add(encode(name) + "=" + encode(String.valueOf(value))));
+        return KEY_PREFIX + requestUrl + query;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static CachedEntry await(CompletableFuture<CachedEntry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter lookupCounter(String endpoint, String result) {
+        return Counter.builder("footballay.api.cache.lookup")
+                .description("API response cache lookups by tier")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter coalescedCounter(String endpoint) {
+        return Counter.builder("footballay.api.cache.coalesced")
+                .description("Requests that waited for another request computing the same cache key")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private Timer loadTimer(String endpoint) {
+        return Timer.builder("footballay.api.cache.load")
+                .description("Time to compute a response on cache miss or refresh")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record CachedEntry(String json, long freshUntil, long staleUntil) {
+        boolean isFresh(long now) {
+            return now < freshUntil;
+        }
+
+        boolean isExpired(long now) {
+            return now >= staleUntil;
+        }
+    }
+
+    @Autowired
+    public CachedApiResponseService(final ObjectMapper OBJECT_MAPPER, final StringRedisTemplate stringRedisTemplate, final MeterRegistry meterRegistry) {
+        this(OBJECT_MAPPER, stringRedisTemplate, meterRegistry, Clock.systemUTC());
+    }
+
+    CachedApiResponseService(final ObjectMapper OBJECT_MAPPER, final StringRedisTemplate stringRedisTemplate, final MeterRegistry meterRegistry, final Clock clock) {
         this.OBJECT_MAPPER = OBJECT_MAPPER;
         this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(L1_MAXIMUM_SIZE)
+                .expireAfterWrite(FRESH_TTL.plus(STALE_TTL))
+                .build();
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+                1, 2, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "api-cache-refresh-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
     }
 }
@@ -26,7 +26,6 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -133,21 +132,23 @@ public class FootballStreamDataController {
         return ResponseEntity.ok(footballStreamWebService.getFixtureLineup(requestUrl, preferenceKey, fixtureId));
     }
 
+    /**
+     * 경기 통계는 {@link CachedApiResponseService} 를 거쳐 응답합니다.
+     * X-Cache header 로 캐시 사용 여부(HIT, STALE, MISS)를 알려줍니다.
+     */
     @GetMapping("/fixtures/statistics")
     public ResponseEntity<?> fixturesStatistics(@RequestParam long fixtureId, @RequestParam(required = false) String preferenceKey) {
         final String requestUrl = "/api/football/fixtures/statistics";
+        Map<String, String> params = Map.of("fixtureId", String.valueOf(fixtureId));
         try {
-            Optional<String> cachedResponseIfExist = cachedApiResponseService.getCachedResponseIfExist(requestUrl, Map.of("fixtureId", String.valueOf(fixtureId)));
-            if (cachedResponseIfExist.isPresent()) {
-                MetaData successMetaData = apiCommonResponseService.createSuccessMetaData(requestUrl, Map.of("fixtureId", String.valueOf(fixtureId)));
-                CachedApiResponse cacheResp = new CachedApiResponse(successMetaData, cachedResponseIfExist.get());
-                log.info("Cache hit [requestId={}] of fixtureStatistics for fixtureId: {}", successMetaData.requestId(), fixtureId);
-                return ResponseEntity.ok().header("X-Cache", "HIT").body(cacheResp);
-            }
+            CachedApiResponseService.Lookup lookup = cachedApiResponseService.getOrLoad(requestUrl, params, () -> footballStreamWebService.loadMatchStatistics(fixtureId));
+            MetaData successMetaData = apiCommonResponseService.createSuccessMetaData(requestUrl, params);
+            log.info("Cache {} [requestId={}] of fixtureStatistics for fixtureId: {}", lookup.source(), successMetaData.requestId(), fixtureId);
+            return ResponseEntity.ok().header("X-Cache", lookup.source().header()).body(new CachedApiResponse(successMetaData, lookup.json()));
         } catch (Exception e) {
-            log.error("Error while checking cache: ", e);
+            log.error("Error occurred while loading match statistics fixtureId : {}", fixtureId, e);
+            return ResponseEntity.ok(apiCommonResponseService.createFailureResponse("경기 통계 정보를 가져오는데 실패했습니다", requestUrl, params));
         }
-        return ResponseEntity.ok(footballStreamWebService.getMatchStatistics(requestUrl, preferenceKey, fixtureId));
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
@@ -5,7 +5,6 @@ import com.footballay.core.domain.football.dto.*;
 import com.footballay.core.domain.football.preference.FootballPreferenceService;
 import com.footballay.core.web.common.dto.ApiResponse;
 import com.footballay.core.web.common.service.ApiCommonResponseService;
-import com.footballay.core.web.common.service.CachedApiResponseService;
 import com.footballay.core.web.football.request.FixtureOfLeagueRequest;
 import com.footballay.core.web.football.request.TeamsOfLeagueRequest;
 import com.footballay.core.web.football.response.*;
@@ -31,7 +30,6 @@ public class FootballStreamWebService {
     private final FootballRoot footballRoot;
     private final ApiCommonResponseService apiCommonResponseService;
     private final FootballPreferenceService footballPreferenceService;
-    private final CachedApiResponseService cachedApiResponseService;
 
     public ApiResponse<LeagueResponse> getLeagueList(String requestUrl) {
         log.info("getLeagueList");
@@ -204,18 +202,15 @@ public class FootballStreamWebService {
         }
     }
 
-    public ApiResponse<MatchStatisticsResponse> getMatchStatistics(String requestUrl, @Nullable String preferenceKey, long fixtureId) {
-        Map<String, String> params = Map.of("fixtureId", String.valueOf(fixtureId));
-        log.info("getMatchStatistics. params={}", params);
-        try {
-            MatchStatisticsDto matchStatisticsDTO = footballRoot.getMatchStatistics(fixtureId);
-            MatchStatisticsResponse responseData = MatchStatisticsResponseMapper.toResponse(matchStatisticsDTO);
-            cachedApiResponseService.cacheResponse(requestUrl, params, responseData);
-            return apiCommonResponseService.createSuccessResponse(new MatchStatisticsResponse[] {responseData}, requestUrl, params);
-        } catch (Exception e) {
-            log.error("Error occurred while calling method getMatchStatistics() fixtureId : {}", fixtureId, e);
-            return apiCommonResponseService.createFailureResponse("경기 통계 정보를 가져오는데 실패했습니다", requestUrl, params);
-        }
+    /**
+     * 경기 통계 응답을 계산합니다. 캐싱은 호출하는 쪽에서 {@link com.footballay.core.web.common.service.CachedApiResponseService} 로 처리합니다.
+     *
+     * @throws RuntimeException 통계 조회 실패
+     */
+    public MatchStatisticsResponse loadMatchStatistics(long fixtureId) {
+        log.info("loadMatchStatistics. fixtureId={}", fixtureId);
+        MatchStatisticsDto matchStatisticsDTO = footballRoot.getMatchStatistics(fixtureId);
+        return MatchStatisticsResponseMapper.toResponse(matchStatisticsDTO);
     }
 
     private ApiResponse<FixtureOfLeagueResponse> createFailureResponse(String message, String requestUrl, Map<String, String> params) {
@@ -244,10 +239,9 @@ public class FootballStreamWebService {
         return apiCommonResponseService.createSuccessResponse(array, requestUrl, params);
     }
 
-    public FootballStreamWebService(final FootballRoot footballRoot, final ApiCommonResponseService apiCommonResponseService, final FootballPreferenceService footballPreferenceService, final CachedApiResponseService cachedApiResponseService) {
+    public FootballStreamWebService(final FootballRoot footballRoot, final ApiCommonResponseService apiCommonResponseService, final FootballPreferenceService footballPreferenceService) {
         this.footballRoot = footballRoot;
         this.apiCommonResponseService = apiCommonResponseService;
         this.footballPreferenceService = footballPreferenceService;
-        this.cachedApiResponseService = cachedApiResponseService;
     }
 }
@@ -2,6 +2,7 @@ package com.footballay.core.websocket.controller;
 
 import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
+import com.footballay.core.websocket.relay.RemoteUserMessageSender;
 import com.footballay.core.websocket.request.AutoRemoteReconnectRequestMessage;
 import com.footballay.core.websocket.request.RemoteConnectRequestMessage;
 import com.footballay.core.websocket.request.RemoteIssueRequestMessage;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.util.StringUtils;
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,6 +32,7 @@ public class RemoteStompController {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RemoteStompController.class);
     private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final RemoteUserMessageSender remoteUserMessageSender;
 
     @MessageMapping("/remote.issuecode")
     @SendToUser("/topic/remote")
@@ -144,10 +147,10 @@ public class RemoteStompController {
         LocalDateTime now = LocalDateTime.now();
         message.put("serverTime", now);
         log.info("server time added To Message : {}", now);
-        Consumer<String> sendMessageToUser = userName -> {
-            messagingTemplate.convertAndSendToUser(userName, "/topic/remote/" + remoteCode, message);
-        };
-        scoreBoardRemoteService.sendMessageToSubscribers(remoteCode, principal, sendMessageToUser);
+        List<String> subscribers = new ArrayList<>();
+        Consumer<String> collectSubscriber = subscribers::add;
+        scoreBoardRemoteService.sendMessageToSubscribers(remoteCode, principal, collectSubscriber);
+        remoteUserMessageSender.sendToUsers(subscribers, "/topic/remote/" + remoteCode, message);
     }
 
     @MessageMapping("/remote/{remoteCode}/members")
@@ -188,13 +191,12 @@ public class RemoteStompController {
         log.info("principals : {}", principals);
         log.info("nicknames : {}", nicknames);
         RemoteMembersResponse memberResponse = new RemoteMembersResponse(nicknames);
-        for (String userName : principals) {
-            messagingTemplate.convertAndSendToUser(userName, "/topic/remote/" + remoteCode.getRemoteCode(), memberResponse);
-        }
+        remoteUserMessageSender.sendToUsers(principals, "/topic/remote/" + remoteCode.getRemoteCode(), memberResponse);
     }
 
-    public RemoteStompController(final ScoreBoardRemoteServiceImpl scoreBoardRemoteService, final SimpMessagingTemplate messagingTemplate) {
+    public RemoteStompController(final ScoreBoardRemoteServiceImpl scoreBoardRemoteService, final SimpMessagingTemplate messagingTemplate, final RemoteUserMessageSender remoteUserMessageSender) {
         this.scoreBoardRemoteService = scoreBoardRemoteService;
         this.messagingTemplate = messagingTemplate;
+        this.remoteUserMessageSender = remoteUserMessageSender;
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -18,7 +19,8 @@ public class RedisRemoteCodeService implements RemoteCodeService {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RedisRemoteCodeService.class);
     private final StringRedisTemplate stringRedisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
-    private static final String REMOTECODE_SET_PREFIX = "remote:";
+    private final RemoteCodeMemberIndex memberIndex;
+    private static final String REMOTECODE_SET_PREFIX = RemoteCodeMemberIndex.KEY_PREFIX;
     private static final Duration REMOTECODE_EXPIRATION = RemoteExpireTimes.REMOTECODE_EXP;
     protected static final int MAX_CHANNEL_MEMBER = 5;
 
@@ -45,6 +47,7 @@ public class RedisRemoteCodeService implements RemoteCodeService {
         // 코드 SET 생성 - set 의 key 를 remote:remoteCode 로 하고, value 는 구독자들의 이름으로 한다.
         final String REMOTE_CODE_KEY = getRemoteCodeKey(remoteCode);
         stringRedisTemplate.opsForHash().put(REMOTE_CODE_KEY, principalName, nickname);
+        memberIndex.invalidate(remoteCode.getRemoteCode());
         // 코드 만료시간 설정
         this.refreshExpiration(remoteCode);
         return remoteCode;
@@ -52,13 +55,14 @@ public class RedisRemoteCodeService implements RemoteCodeService {
 
     /**
      * RemoteCode 의 구독자 목록 조회
+     * 로컬 {@link RemoteCodeMemberIndex} 에서 조회하며, 없을 때만 Redis 를 조회합니다.
      *
      * @param remoteCode 구독자 목록을 조회할 코드
      * @return 구독자 목록
      */
     @Override
     public Map<Object, Object> getSubscribers(String remoteCode) {
-        return stringRedisTemplate.opsForHash().entries(getRemoteCodeKey(RemoteCode.of(remoteCode)));
+        return new LinkedHashMap<>(memberIndex.members(RemoteCode.of(remoteCode).getRemoteCode()));
     }
 
     @Override
@@ -94,6 +98,7 @@ public class RedisRemoteCodeService implements RemoteCodeService {
         }
         log.info("add sub nickname : {}", nickname);
         stringRedisTemplate.opsForHash().put(REMOTE_CODE_KEY, subscriberPrincipalName, nickname);
+        memberIndex.invalidate(remoteCode.getRemoteCode());
         this.refreshExpiration(remoteCode);
     }
 
@@ -108,6 +113,7 @@ public class RedisRemoteCodeService implements RemoteCodeService {
     public boolean removeSubscriber(RemoteCode remoteCode, String subscriber) {
         String remoteCodeKey = getRemoteCodeKey(remoteCode);
         stringRedisTemplate.opsForHash().delete(remoteCodeKey, subscriber);
+        memberIndex.invalidate(remoteCode.getRemoteCode());
         Long size = stringRedisTemplate.opsForHash().size(remoteCodeKey);
         return size == 0;
     }
@@ -124,16 +130,23 @@ public class RedisRemoteCodeService implements RemoteCodeService {
         stringRedisTemplate.expire(remoteCodeKey, duration);
     }
 
+    /**
+     * 원격 명령마다 호출되므로, 같은 코드는 {@link RemoteCodeMemberIndex#REFRESH_INTERVAL} 에 한 번만 Redis 에 반영합니다.
+     * 만료시간(24시간)에 비해 충분히 짧은 간격이므로 사용 중인 코드가 만료되지 않습니다.
+     */
     @Override
     public void refreshExpiration(RemoteCode remoteCode) {
-        this.setExpiration(remoteCode, REMOTECODE_EXPIRATION);
+        if (memberIndex.claimExpirationRefresh(remoteCode.getRemoteCode())) {
+            this.setExpiration(remoteCode, REMOTECODE_EXPIRATION);
+        }
     }
 
+    /**
+     * 구독자가 한 명이라도 있는 코드만 유효합니다. (Redis 는 빈 hash 를 남기지 않습니다)
+     */
     @Override
     public boolean isValidCode(@NotNull RemoteCode remoteCode) {
-        final String REMOTE_CODE_KEY = getRemoteCodeKey(remoteCode);
-        log.info("hasKey : {}", stringRedisTemplate.hasKey(REMOTE_CODE_KEY));
-        return stringRedisTemplate.hasKey(REMOTE_CODE_KEY);
+        return !memberIndex.members(remoteCode.getRemoteCode()).isEmpty();
     }
 
     /**
@@ -153,6 +166,7 @@ public class RedisRemoteCodeService implements RemoteCodeService {
             // 코드 삭제 실패
             return false;
         }
+        memberIndex.invalidate(remoteCode.getRemoteCode());
         subs.forEach(sub -> messagingTemplate.convertAndSendToUser((String) sub, "/topic/remote/" + remoteCode.getRemoteCode(), "code expired"));
         return true;
     }
@@ -184,8 +198,9 @@ public class RedisRemoteCodeService implements RemoteCodeService {
         return map.size() + 1 > MAX_CHANNEL_MEMBER;
     }
 
-    public RedisRemoteCodeService(final StringRedisTemplate stringRedisTemplate, final SimpMessagingTemplate messagingTemplate) {
+    public RedisRemoteCodeService(final StringRedisTemplate stringRedisTemplate, final SimpMessagingTemplate messagingTemplate, final RemoteCodeMemberIndex memberIndex) {
         this.stringRedisTemplate = stringRedisTemplate;
         this.messagingTemplate = messagingTemplate;
+        this.memberIndex = memberIndex;
     }
 }
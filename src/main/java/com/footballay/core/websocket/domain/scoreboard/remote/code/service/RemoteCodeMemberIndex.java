@@ -0,0 +1,233 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.code.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * remoteCode → {principalName : nickname} 의 인스턴스 로컬 index
+ * <pre>
+ * 원격 컨트롤 명령마다 코드 검증과 구독자 조회를 위해 Redis 를 왕복하지 않도록, 구독자 hash 를 로컬에 보관합니다.
+ * Redis keyspace notification(__keyspace@*__:remote:*) 을 구독하여 다른 인스턴스의 변경(hset, hdel, del, expired)도 즉시 무효화합니다.
+ *
+ * - 존재하지 않는 코드는 보관하지 않습니다. (잘못된 코드 요청으로 index 가 커지지 않도록)
+ * - 알림이 유실되는 경우(구독 재연결 등)를 대비해 {@link #MAX_STALENESS} 가 지난 항목은 다시 읽습니다.
+ * - 항목마다 version 을 두고, 무효화는 새 version 의 tombstone 으로 바꿉니다.
+ *   조회 결과는 조회를 시작할 때의 version 이 그대로일 때만 {@code entries.compute} 안에서 저장하므로,
+ *   조회 도중 무효화된 결과가 남지 않고 다른 코드의 무효화에는 영향을 받지 않습니다.
+ * - Redis 에서 keyspace notification 을 켤 수 없으면 index 를 사용하지 않고 항상 Redis 를 조회합니다.
+ * - 코드 만료시간 갱신(EXPIRE)은 {@link #REFRESH_INTERVAL} 에 한 번만 하도록 기록합니다.
+ *
+ * Metrics:
+ * - footballay.websocket.remote.index.lookup (result=hit|miss|bypass)
+ * </pre>
+ */
+@Component
+public class RemoteCodeMemberIndex implements MessageListener {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RemoteCodeMemberIndex.class);
+
+    static final String KEY_PREFIX = "remote:";
+    static final Duration MAX_STALENESS = Duration.ofMinutes(1);
+    static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final String NOTIFY_CONFIG = "notify-keyspace-events";
+    /** K: keyspace channel, g: del/rename, h: hash 명령, x: 만료, e: eviction */
+    private static final String REQUIRED_NOTIFY_FLAGS = "Kghxe";
+    private static final String KEYSPACE_CHANNEL_SEPARATOR = "__:";
+
+    private final StringRedisTemplate redis;
+    private final Clock clock;
+    private final boolean notificationsEnabled;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRefreshedAt = new ConcurrentHashMap<>();
+    /** 항목 version 발급용. 코드마다 비교하므로 값은 증가만 하면 됩니다 */
+    private final AtomicLong versions = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public RemoteCodeMemberIndex(StringRedisTemplate redis, RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.clock = Clock.systemUTC();
+        this.notificationsEnabled = enableKeyspaceNotifications();
+        if (notificationsEnabled) {
+            listenerContainer.addMessageListener(this, new PatternTopic("__keyspace@*__:" + KEY_PREFIX + "*"));
+        }
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.bypassCounter = lookupCounter(meterRegistry, "bypass");
+        log.info("RemoteCodeMemberIndex initialized - keyspaceNotifications={}", notificationsEnabled);
+    }
+
+    RemoteCodeMemberIndex(StringRedisTemplate redis, boolean notificationsEnabled, MeterRegistry meterRegistry, Clock clock) {
+        this.redis = redis;
+        this.clock = clock;
+        this.notificationsEnabled = notificationsEnabled;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.bypassCounter = lookupCounter(meterRegistry, "bypass");
+    }
+
+    /**
+     * @param remoteCode 원격 코드 문자열
+     * @return {principalName : nickname}. 코드가 없으면 빈 Map
+     */
+    public Map<String, String> members(String remoteCode) {
+        if (!notificationsEnabled) {
+            bypassCounter.increment();
+            return load(remoteCode);
+        }
+        long now = clock.millis();
+        Entry cached = entries.get(remoteCode);
+        if (cached != null && cached.isLoaded() && now - cached.loadedAt() < MAX_STALENESS.toMillis()) {
+            hitCounter.increment();
+            return cached.members();
+        }
+        missCounter.increment();
+        // 처음 읽는 코드도 조회 도중의 무효화를 감지할 수 있도록 pending 항목으로 version 을 먼저 잡습니다
+        Entry claimed = cached != null
+                ? cached
+                : entries.computeIfAbsent(remoteCode, code -> Entry.pending(versions.incrementAndGet()));
+        long loadVersion = claimed.version();
+        Map<String, String> loaded;
+        try {
+            loaded = load(remoteCode);
+        } catch (RuntimeException e) {
+            entries.remove(remoteCode, claimed);
+            throw e;
+        }
+        entries.compute(remoteCode, (code, current) -> {
+            if (current == null || current.version() != loadVersion) {
+                return current;
+            }
+            return loaded.isEmpty() ? null : new Entry(loaded, now, loadVersion);
+        });
+        return loaded;
+    }
+
+    /**
+     * 이 인스턴스가 변경한 코드는 알림을 기다리지 않고 바로 무효화합니다.
+     * 보관 중이거나 조회 중인 항목만 새 version 의 tombstone 으로 바꾸므로, 그 전에 시작한 조회 결과는 저장되지 않습니다.
+     */
+    public void invalidate(String remoteCode) {
+        entries.computeIfPresent(remoteCode, (code, current) -> Entry.invalidated(versions.incrementAndGet()));
+    }
+
+    /**
+     * 만료시간 갱신이 필요한지 판단하고, 필요하면 갱신 시각으로 기록합니다.
+     *
+     * @return 마지막 갱신 후 {@link #REFRESH_INTERVAL} 이 지났으면 true
+     */
+    public boolean claimExpirationRefresh(String remoteCode) {
+        long now = clock.millis();
+        Long previous = lastRefreshedAt.get(remoteCode);
+        if (previous != null && now - previous < REFRESH_INTERVAL.toMillis()) {
+            return false;
+        }
+        lastRefreshedAt.put(remoteCode, now);
+        return true;
+    }
+
+    /**
+     * keyspace notification 수신. channel 은 __keyspace@{db}__:remote:{code}, body 는 명령 이름입니다.
+     * 만료시간 갱신(expire)은 구독자 목록을 바꾸지 않으므로 무시합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+        int keyStart = channel.indexOf(KEYSPACE_CHANNEL_SEPARATOR);
+        if (keyStart < 0 || "expire".equals(event)) {
+            return;
+        }
+        String key = channel.substring(keyStart + KEYSPACE_CHANNEL_SEPARATOR.length());
+        if (!key.startsWith(KEY_PREFIX)) {
+            return;
+        }
+        String remoteCode = key.substring(KEY_PREFIX.length());
+        invalidate(remoteCode);
+        if ("del".equals(event) || "expired".equals(event) || "evicted".equals(event)) {
+            lastRefreshedAt.remove(remoteCode);
+        }
+    }
+
+    private Map<String, String> load(String remoteCode) {
+        Map<Object, Object> raw = redis.opsForHash().entries(KEY_PREFIX + remoteCode);
+        Map<String, String> members = new LinkedHashMap<>();
+        raw.forEach((principal, nickname) -> members.put(principal.toString(), nickname.toString()));
+        return Map.copyOf(members);
+    }
+
+    /**
+     * 기존 notify-keyspace-events 설정에 필요한 flag 만 추가합니다.
+     * 관리형 Redis 처럼 CONFIG 명령이 막혀 있으면 false 를 반환합니다.
+     */
+    private boolean enableKeyspaceNotifications() {
+        try {
+            Boolean enabled = redis.execute((RedisCallback<Boolean>) connection -> {
+                Properties config = connection.serverCommands().getConfig(NOTIFY_CONFIG);
+                String current = config == null ? "" : config.getProperty(NOTIFY_CONFIG, "");
+                String merged = mergeNotifyFlags(current);
+                if (!merged.equals(current)) {
+                    connection.serverCommands().setConfig(NOTIFY_CONFIG, merged);
+                    log.info("Redis {} changed - from='{}', to='{}'", NOTIFY_CONFIG, current, merged);
+                }
+                return true;
+            });
+            return Boolean.TRUE.equals(enabled);
+        } catch (Exception e) {
+            log.warn("Redis keyspace notifications unavailable, remote code index is bypassed", e);
+            return false;
+        }
+    }
+
+    static String mergeNotifyFlags(String current) {
+        StringBuilder merged = new StringBuilder(current);
+        for (char flag : REQUIRED_NOTIFY_FLAGS.toCharArray()) {
+            boolean coveredByAll = flag != 'K' && current.indexOf('A') >= 0;
+            if (current.indexOf(flag) < 0 && !coveredByAll) {
+                merged.append(flag);
+            }
+        }
+        return merged.toString();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("footballay.websocket.remote.index.lookup")
+                .description("Remote code member lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param members 구독자 목록. 조회 중(pending)이거나 무효화된(tombstone) 항목은 null
+     */
+    private record Entry(Map<String, String> members, long loadedAt, long version) {
+        static Entry pending(long version) {
+            return new Entry(null, 0L, version);
+        }
+
+        static Entry invalidated(long version) {
+            return new Entry(null, 0L, version);
+        }
+
+        boolean isLoaded() {
+            return members != null;
+        }
+    }
+}
@@ -2,11 +2,11 @@ package com.footballay.core.websocket.handler;
 
 import com.footballay.core.websocket.domain.scoreboard.remote.ScoreBoardRemoteServiceImpl;
 import com.footballay.core.websocket.domain.scoreboard.remote.code.RemoteCode;
+import com.footballay.core.websocket.relay.RemoteUserMessageSender;
 import com.footballay.core.websocket.response.RemoteMembersResponse;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
@@ -17,7 +17,7 @@ import java.util.Map;
 @Component
 public class StompChannelInterceptor implements ChannelInterceptor {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StompChannelInterceptor.class);
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RemoteUserMessageSender remoteUserMessageSender;
     private final ScoreBoardRemoteServiceImpl scoreBoardRemoteService;
 
     /**
@@ -63,9 +63,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             List<String> principals = remoteUserDetails.get(0);
             List<String> nicknames = remoteUserDetails.get(1);
             RemoteMembersResponse memberResponse = new RemoteMembersResponse(nicknames);
-            for (String userName : principals) {
-                messagingTemplate.convertAndSendToUser(userName, "/topic/remote/" + remoteCode, memberResponse);
-            }
+            remoteUserMessageSender.sendToUsers(principals, "/topic/remote/" + remoteCode, memberResponse);
             break;
         case SUBSCRIBE: 
             log.info("구독 요청한 WebsocketSession :: {}", sessionId);
@@ -77,8 +75,8 @@ public class StompChannelInterceptor implements ChannelInterceptor {
         }
     }
 
-    public StompChannelInterceptor(final SimpMessagingTemplate messagingTemplate, final ScoreBoardRemoteServiceImpl scoreBoardRemoteService) {
-        this.messagingTemplate = messagingTemplate;
+    public StompChannelInterceptor(final RemoteUserMessageSender remoteUserMessageSender, final ScoreBoardRemoteServiceImpl scoreBoardRemoteService) {
+        this.remoteUserMessageSender = remoteUserMessageSender;
         this.scoreBoardRemoteService = scoreBoardRemoteService;
     }
 }
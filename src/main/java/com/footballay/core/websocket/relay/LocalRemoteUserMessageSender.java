@@ -0,0 +1,29 @@
+package com.footballay.core.websocket.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+
+/**
+ * 현재 인스턴스에 접속한 세션으로만 전송하는 {@link RemoteUserMessageSender}
+ * <pre>
+ * 인스턴스가 하나일 때(기본값) 사용합니다.
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "footballay.websocket.relay.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRemoteUserMessageSender implements RemoteUserMessageSender {
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public LocalRemoteUserMessageSender(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void sendToUsers(Collection<String> userNames, String destination, Object payload) {
+        for (String userName : userNames) {
+            messagingTemplate.convertAndSendToUser(userName, destination, payload);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.footballay.core.websocket.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 인스턴스에 접속한 구독자에게만 전송하는 {@link TopicMessageSender}
+ * <pre>
+ * 인스턴스가 하나일 때(기본값) 사용합니다.
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "footballay.websocket.relay.mode", havingValue = "local", matchIfMissing = true)
+public class LocalTopicMessageSender implements TopicMessageSender {
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public LocalTopicMessageSender(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void sendToTopic(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
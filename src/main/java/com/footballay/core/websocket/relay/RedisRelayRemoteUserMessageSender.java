@@ -0,0 +1,132 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis pub/sub 으로 인스턴스 간 user destination 메시지를 중계하는 {@link RemoteUserMessageSender}
+ * <pre>
+ * 원격 컨트롤 그룹 멤버들은 load balancer 에 의해 서로 다른 인스턴스에 접속할 수 있습니다.
+ * simple broker 는 자신의 인스턴스에 접속한 세션만 알기 때문에, 그룹 전체에 보낼 메시지를
+ * {@link #CHANNEL} 로 한 번 발행하고 모든 인스턴스가 자신에게 접속한 멤버에게만 전송합니다.
+ *
+ * - 메시지는 발행 시 한 번만 직렬화하며, 멤버 수와 무관하게 그룹당 한 번만 발행합니다.
+ * - 접속 여부는 {@link SimpUserRegistry} 로 판단합니다.
+ *
+ * Metrics:
+ * - footballay.websocket.relay.latency : 발행부터 수신 인스턴스에서 전송을 마칠 때까지의 시간
+ * - footballay.websocket.relay.deliveries (outcome=delivered|not_connected) : 수신 인스턴스별 유저 전송 결과
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "footballay.websocket.relay.mode", havingValue = "redis")
+public class RedisRelayRemoteUserMessageSender implements RemoteUserMessageSender, MessageListener {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RedisRelayRemoteUserMessageSender.class);
+
+    public static final String CHANNEL = "websocket:user-relay";
+
+    private final StringRedisTemplate redis;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final Timer latencyTimer;
+    private final Counter deliveredCounter;
+    private final Counter notConnectedCounter;
+
+    public RedisRelayRemoteUserMessageSender(
+            StringRedisTemplate redis,
+            SimpMessageSendingOperations messagingTemplate,
+            SimpUserRegistry userRegistry,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this(redis, messagingTemplate, userRegistry, objectMapper, meterRegistry, Clock.systemUTC());
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    RedisRelayRemoteUserMessageSender(
+            StringRedisTemplate redis,
+            SimpMessageSendingOperations messagingTemplate,
+            SimpUserRegistry userRegistry,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.redis = redis;
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.latencyTimer = Timer.builder("footballay.websocket.relay.latency")
+                .description("Time from publishing a relayed user message to local delivery on a receiving node")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deliveredCounter = deliveryCounter(meterRegistry, "delivered");
+        this.notConnectedCounter = deliveryCounter(meterRegistry, "not_connected");
+    }
+
+    @Override
+    public void sendToUsers(Collection<String> userNames, String destination, Object payload) {
+        if (userNames.isEmpty()) {
+            return;
+        }
+        RelayedUserMessage relayed = new RelayedUserMessage(
+                List.copyOf(userNames),
+                destination,
+                objectMapper.valueToTree(payload),
+                clock.millis()
+        );
+        try {
+            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayed));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize relayed user message. destination=" + destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayedUserMessage relayed;
+        try {
+            relayed = objectMapper.readValue(message.getBody(), RelayedUserMessage.class);
+        } catch (IOException e) {
+            log.warn("Malformed relayed user message is ignored", e);
+            return;
+        }
+        for (String userName : relayed.userNames()) {
+            if (userRegistry.getUser(userName) == null) {
+                notConnectedCounter.increment();
+                continue;
+            }
+            messagingTemplate.convertAndSendToUser(userName, relayed.destination(), relayed.payload());
+            deliveredCounter.increment();
+        }
+        latencyTimer.record(Duration.ofMillis(Math.max(0, clock.millis() - relayed.publishedAt())));
+    }
+
+    private static Counter deliveryCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("footballay.websocket.relay.deliveries")
+                .description("Relayed user messages handled by this node")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
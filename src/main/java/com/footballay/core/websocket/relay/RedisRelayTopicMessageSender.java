@@ -0,0 +1,101 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Redis pub/sub 으로 인스턴스 간 broadcast 메시지를 중계하는 {@link TopicMessageSender}
+ * <pre>
+ * 경기 delta 는 sync 를 실행한 인스턴스에서 만들어지지만, 구독자는 load balancer 에 의해 어느 인스턴스에든 접속할 수 있습니다.
+ * simple broker 는 자신의 인스턴스에 접속한 구독만 알기 때문에, 메시지를 {@link #CHANNEL} 로 한 번 발행하고
+ * 발행한 인스턴스를 포함한 모든 인스턴스가 자신의 simple broker 로 전송합니다.
+ *
+ * - 메시지는 발행 시 한 번만 직렬화합니다.
+ * - 구독자가 없는 인스턴스에서는 simple broker 가 메시지를 버립니다.
+ *
+ * Metrics:
+ * - footballay.websocket.topic-relay.latency : 발행부터 수신 인스턴스에서 전송을 마칠 때까지의 시간
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "footballay.websocket.relay.mode", havingValue = "redis")
+public class RedisRelayTopicMessageSender implements TopicMessageSender, MessageListener {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RedisRelayTopicMessageSender.class);
+
+    public static final String CHANNEL = "websocket:topic-relay";
+
+    private final StringRedisTemplate redis;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final Timer latencyTimer;
+
+    public RedisRelayTopicMessageSender(
+            StringRedisTemplate redis,
+            SimpMessageSendingOperations messagingTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this(redis, messagingTemplate, objectMapper, meterRegistry, Clock.systemUTC());
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    RedisRelayTopicMessageSender(
+            StringRedisTemplate redis,
+            SimpMessageSendingOperations messagingTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.redis = redis;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.latencyTimer = Timer.builder("footballay.websocket.topic-relay.latency")
+                .description("Time from publishing a relayed topic message to local delivery on a receiving node")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sendToTopic(String destination, Object payload) {
+        RelayedTopicMessage relayed = new RelayedTopicMessage(
+                destination,
+                objectMapper.valueToTree(payload),
+                clock.millis()
+        );
+        try {
+            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayed));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize relayed topic message. destination=" + destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayedTopicMessage relayed;
+        try {
+            relayed = objectMapper.readValue(message.getBody(), RelayedTopicMessage.class);
+        } catch (IOException e) {
+            log.warn("Malformed relayed topic message is ignored", e);
+            return;
+        }
+        messagingTemplate.convertAndSend(relayed.destination(), relayed.payload());
+        latencyTimer.record(Duration.ofMillis(Math.max(0, clock.millis() - relayed.publishedAt())));
+    }
+}
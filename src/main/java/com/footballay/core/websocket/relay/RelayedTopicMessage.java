@@ -0,0 +1,13 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Redis 로 인스턴스 간 전달되는 broadcast 메시지
+ *
+ * @param destination broadcast destination. ex) /topic/fixture/{fixtureUid}
+ * @param payload     한 번만 직렬화된 메시지 본문
+ * @param publishedAt 발행 시각 (epoch millis). 인스턴스 간 전달 지연 측정에 사용합니다.
+ */
+public record RelayedTopicMessage(String destination, JsonNode payload, long publishedAt) {
+}
@@ -0,0 +1,15 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+
+/**
+ * Redis 로 인스턴스 간 전달되는 user destination 메시지
+ *
+ * @param userNames   받을 유저들의 principal name
+ * @param destination user destination prefix(/user) 를 제외한 경로
+ * @param payload     한 번만 직렬화된 메시지 본문
+ * @param publishedAt 발행 시각 (epoch millis). 인스턴스 간 전달 지연 측정에 사용합니다.
+ */
+public record RelayedUserMessage(List<String> userNames, String destination, JsonNode payload, long publishedAt) {
+}
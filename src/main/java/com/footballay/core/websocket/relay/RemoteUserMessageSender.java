@@ -0,0 +1,23 @@
+package com.footballay.core.websocket.relay;
+
+import java.util.Collection;
+
+/**
+ * 원격 컨트롤 그룹 멤버들에게 user destination 메시지를 보냅니다.
+ * <pre>
+ * 그룹 멤버들이 서로 다른 인스턴스에 접속해 있을 수 있으므로 전송 방식은 구현체가 결정합니다.
+ * - {@link LocalRemoteUserMessageSender} : 현재 인스턴스의 simple broker 로만 전송 (단일 인스턴스)
+ * - {@link RedisRelayRemoteUserMessageSender} : Redis pub/sub 으로 모든 인스턴스에 전달 후, 멤버가 접속한 인스턴스에서 전송
+ *
+ * 구현체는 footballay.websocket.relay.mode (local | redis) 로 선택합니다.
+ * </pre>
+ */
+public interface RemoteUserMessageSender {
+
+    /**
+     * @param userNames   받을 유저들의 principal name
+     * @param destination user destination prefix(/user) 를 제외한 경로. ex) /topic/remote/{remoteCode}
+     * @param payload     JSON 으로 직렬화할 메시지
+     */
+    void sendToUsers(Collection<String> userNames, String destination, Object payload);
+}
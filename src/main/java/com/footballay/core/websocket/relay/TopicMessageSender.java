@@ -0,0 +1,20 @@
+package com.footballay.core.websocket.relay;
+
+/**
+ * 토픽 구독자 전체에게 broadcast 메시지를 보냅니다.
+ * <pre>
+ * 구독자들은 서로 다른 인스턴스에 접속해 있을 수 있으므로 전송 방식은 구현체가 결정합니다.
+ * - {@link LocalTopicMessageSender} : 현재 인스턴스의 simple broker 로만 전송 (단일 인스턴스)
+ * - {@link RedisRelayTopicMessageSender} : Redis pub/sub 으로 모든 인스턴스에 전달 후, 각 인스턴스가 자신의 구독자에게 전송
+ *
+ * 구현체는 {@link RemoteUserMessageSender} 와 같은 footballay.websocket.relay.mode (local | redis) 로 선택합니다.
+ * </pre>
+ */
+public interface TopicMessageSender {
+
+    /**
+     * @param destination broadcast destination. ex) /topic/fixture/{fixtureUid}
+     * @param payload     JSON 으로 직렬화할 메시지
+     */
+    void sendToTopic(String destination, Object payload);
+}
@@ -0,0 +1,79 @@
+package com.footballay.core.domain.model.match
+
+/**
+ * 경기 이벤트 변경분 도메인 모델 (`afterSequence` + `eventRevision` cursor 조회)
+ *
+ * 클라이언트는 [removedSequences] 를 지운 뒤 [events] 를 sequence 기준으로 upsert 하고,
+ * 다음 요청에 [lastSequence] 와 [eventRevision] 을 cursor 로 사용합니다.
+ *
+ * 새 이벤트가 뒤에 추가되기만 하면 revision 이 그대로이므로 cursor 이후 이벤트만 보냅니다.
+ * 기존 이벤트가 삭제/수정되거나 sequence 가 당겨지면 (VAR 취소 후 새 이벤트 추가 등) revision 이 바뀌므로,
+ * 클라이언트가 보낸 revision 이 현재와 다르면 전체 이벤트와 사라진 sequence 를 함께 보냅니다.
+ *
+ * @property lastSequence 현재 마지막 이벤트 sequence. 이벤트가 없으면 -1
+ * @property eventRevision 현재 이벤트 목록 revision
+ * @property events cursor 이후 새 이벤트. revision 이 달랐다면 전체 이벤트
+ * @property removedSequences cursor 이전에 전달되었지만 더 이상 존재하지 않는 sequence (tombstone)
+ */
+data class FixtureEventsDeltaModel(
+    val fixtureUid: String,
+    val lastSequence: Int,
+    val eventRevision: Long,
+    val events: List<FixtureEventsModel.EventInfo>,
+    val removedSequences: List<Int>,
+) {
+    companion object {
+        /**
+         * 전체 이벤트 목록에서 [afterSequence] 이후의 변경분을 만듭니다.
+         *
+         * @param events sequence 오름차순 전체 이벤트
+         * @param eventRevision 현재 이벤트 목록 revision
+         * @param clientEventRevision 클라이언트가 마지막으로 받은 revision. 모르면 null
+         */
+        fun of(
+            fixtureUid: String,
+            events: List<FixtureEventsModel.EventInfo>,
+            afterSequence: Int,
+            eventRevision: Long,
+            clientEventRevision: Long?,
+        ): FixtureEventsDeltaModel {
+            val lastSequence = events.lastOrNull()?.sequence ?: NO_EVENT
+            val reset = needsReset(lastSequence, afterSequence, eventRevision, clientEventRevision)
+            return FixtureEventsDeltaModel(
+                fixtureUid = fixtureUid,
+                lastSequence = lastSequence,
+                eventRevision = eventRevision,
+                events = if (reset) events else events.filter { it.sequence > afterSequence },
+                removedSequences = if (reset) removedSequences(events, afterSequence) else emptyList(),
+            )
+        }
+
+        /**
+         * 클라이언트가 가진 이벤트 목록을 전체 이벤트로 교체해야 하는지 판단합니다.
+         *
+         * 처음 요청(-1)이 아니면서 revision 을 모르거나 다르면, 또는 클라이언트의 cursor 가 현재 마지막 sequence 보다 크면 교체합니다.
+         */
+        fun needsReset(
+            lastSequence: Int,
+            afterSequence: Int,
+            eventRevision: Long,
+            clientEventRevision: Long?,
+        ): Boolean {
+            if (afterSequence <= NO_EVENT) return false
+            return clientEventRevision != eventRevision || afterSequence > lastSequence
+        }
+
+        /**
+         * 클라이언트가 가진 0..[afterSequence] 중 현재 목록에 없는 sequence 입니다.
+         */
+        fun removedSequences(
+            events: List<FixtureEventsModel.EventInfo>,
+            afterSequence: Int,
+        ): List<Int> {
+            val current = events.mapTo(HashSet()) { it.sequence }
+            return (0..afterSequence).filter { it !in current }
+        }
+
+        const val NO_EVENT = -1
+    }
+}
@@ -4,10 +4,13 @@ package com.footballay.core.domain.model.match
  * 경기 이벤트 도메인 모델
  *
  * Query Service → Web Layer 전달용 도메인 모델
+ *
+ * @property eventRevision 이벤트 목록 revision ([FixtureEventsDeltaModel] 참고)
  */
 data class FixtureEventsModel(
     val fixtureUid: String,
     val events: List<EventInfo>,
+    val eventRevision: Long = 0,
 ) {
     data class EventInfo(
         val sequence: Int,
@@ -18,7 +18,8 @@ interface FixtureApiSportsSyncer {
      *
      * @param leagueApiId ApiSports 리그 ID
      * @param dtos 동기화할 경기 데이터 목록 (모든 DTO는 동일한 시즌이어야 함)
-     * @return 저장된 FixtureApiSports 맵 (ApiId -> FixtureApiSports)
+     * @return 새로 저장되거나 변경된 FixtureApiSports 맵 (ApiId -> FixtureApiSports).
+     *         저장된 sync hash 와 같아 건너뛴 경기는 포함하지 않으므로, 변경이 없으면 빈 맵입니다.
      * @throws IllegalArgumentException 입력 데이터가 유효하지 않은 경우
      * @throws IllegalStateException 필수 참조 데이터(League, Team 등)가 존재하지 않는 경우
      */
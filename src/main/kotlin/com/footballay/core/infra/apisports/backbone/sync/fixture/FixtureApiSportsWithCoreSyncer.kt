@@ -17,12 +17,14 @@ import com.footballay.core.infra.persistence.apisports.entity.LeagueApiSportsSea
 import com.footballay.core.infra.persistence.apisports.entity.TeamApiSports
 import com.footballay.core.infra.persistence.apisports.entity.VenueApiSports
 import com.footballay.core.infra.persistence.apisports.repository.FixtureApiSportsRepository
+import com.footballay.core.infra.persistence.apisports.repository.FixtureSyncHashRow
 import com.footballay.core.infra.persistence.apisports.repository.LeagueApiSportsRepository
 import com.footballay.core.infra.persistence.apisports.repository.TeamApiSportsRepository
 import com.footballay.core.infra.persistence.apisports.repository.VenueApiSportsRepository
 import com.footballay.core.infra.persistence.core.entity.FixtureCore
 import com.footballay.core.infra.persistence.core.entity.LeagueCore
 import com.footballay.core.logger
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
@@ -40,6 +42,11 @@ import org.springframework.transaction.annotation.Transactional
  * - [FixtureCore] 만 존재하는 경우 [FixtureApiSports] 정보로 이를 추적하는 기능은 구현하지 않았습니다. 자동으로 연결되지 않습니다.
  * - [VenueApiSports] 는 자동으로 생성 또는 업데이트 됩니다
  *
+ * ## 변경 감지
+ * - DTO 마다 [FixtureSyncHashGenerator] 로 hash 를 계산하고, 저장된 [FixtureApiSports.syncHash] 와 같으면 건너뜁니다.
+ * - hash 비교는 projection 조회로 수행하므로 변경되지 않은 경기는 엔티티로 로딩되지 않습니다.
+ * - 킥오프가 바뀐 available 경기는 [FixtureKickoffChangedEvent] 를 발행하여 commit 후 Pre/Live Job 시작 시각을 다시 맞춥니다.
+ *
  * ## 분기 처리
  * - 기존에 존재하는 [FixtureApiSports] 가 있다면 업데이트 합니다.
  * - 만약 [FixtureApiSports] 는 존재하지만 [FixtureCore] 가 없는 경우, [FixtureCore] 를 생성하여 연결해줍니다.
@@ -65,6 +72,8 @@ class FixtureApiSportsWithCoreSyncer(
     private val fixtureApiSportsFactory: FixtureApiSportsFactory,
     private val venueApiSportsFactory: VenueApiSportsFactory,
     private val fixtureDataMapper: FixtureDataMapper,
+    private val fixtureSyncHashGenerator: FixtureSyncHashGenerator,
+    private val eventPublisher: ApplicationEventPublisher,
 ) : FixtureApiSportsSyncer {
     private val log = logger()
 
@@ -72,7 +81,8 @@ class FixtureApiSportsWithCoreSyncer(
      * 리그의 경기들을 저장합니다.
      *
      * - `dtos` 들은 동일 시즌이어야 합니다. (validateInput 에서 검증)
-     * - `leagueApiId + seasonYear`로 DB 에 저장된 경기들을 조회하여 생성/업데이트를 판단합니다.
+     * - `leagueApiId + seasonYear`로 DB 에 저장된 경기들의 hash 를 조회하여 생성/업데이트/건너뜀을 판단합니다.
+     * - 저장된 hash 와 같은 경기는 건너뛰며 반환 맵에도 포함되지 않습니다.
      * - 만약 dto 에 주어진 정보와 기존 DB 에 저장된 정보가 상충하는 경우, dto 정보를 우선시하여 업데이트합니다.
      * - dto 에 등장하는 팀 정보는 [TeamApiSports] 엔티티로 미리 저장되어 있어야 합니다. (미존재 시 예외)
      * - 경기장 엔티티 [VenueApiSports] 는 `dtos` 에 따라 자동으로 생성/업데이트 됩니다.
@@ -83,7 +93,7 @@ class FixtureApiSportsWithCoreSyncer(
      *
      * @param leagueApiId 리그 API ID
      * @param dtos 동기화할 경기 DTO 목록 (동일 시즌이어야 합니다)
-     * @return 저장된 FixtureApiSports 맵 (ApiId -> FixtureApiSports)
+     * @return 생성/업데이트 대상이었던 FixtureApiSports 맵 (ApiId -> FixtureApiSports)
      * @throws IllegalArgumentException leagueApiId가 0 이하인 경우
      * @throws IllegalArgumentException dtos의 시즌 정보가 일관되지 않거나 누락된 경우
      * @throws IllegalStateException 해당 leagueApiId와 seasonYear로 League를 찾을 수 없는 경우
@@ -106,9 +116,17 @@ class FixtureApiSportsWithCoreSyncer(
             return emptyMap()
         }
 
+        // 변경 감지: 저장된 hash 와 같은 경기는 엔티티를 불러오지 않고 건너뜀
+        val hashByApiId = validDtos.associate { it.apiId!! to fixtureSyncHashGenerator.generate(it) }
+        val changedDtos = filterChangedDtos(leagueApiId, seasonYear, validDtos, hashByApiId)
+        if (changedDtos.isEmpty()) {
+            log.info("All {} fixtures are unchanged. Skipping fixture sync.", validDtos.size)
+            return emptyMap()
+        }
+
         // 데이터 수집
-        val fixtureData = collectFixtureData(leagueApiId, seasonYear, validDtos)
-        validateMissingTeams(fixtureData, validDtos)
+        val fixtureData = collectFixtureData(leagueApiId, seasonYear, changedDtos)
+        validateMissingTeams(fixtureData, changedDtos)
         log.info(
             "collecting fixtures of league entities completed. Found {} fixtures, {} teams",
             fixtureData.fixtures.size,
@@ -116,10 +134,10 @@ class FixtureApiSportsWithCoreSyncer(
         )
 
         // Venue 생성/업데이트
-        val venueMap = saveVenues(validDtos, fixtureData)
+        val venueMap = saveVenues(changedDtos, fixtureData)
 
         // Fixture 케이스 분리
-        val fixtureCases = separateFixtureCases(validDtos, fixtureData.fixtures)
+        val fixtureCases = separateFixtureCases(changedDtos, fixtureData.fixtures)
 
         // FixtureCore 생성/수집
         val newCoreMap = saveNewFixtureCores(fixtureCases, fixtureData)
@@ -127,12 +145,92 @@ class FixtureApiSportsWithCoreSyncer(
         val coreMap = existingCoreMap + newCoreMap
 
         // FixtureApiSports 생성/업데이트
-        val fixtureApiSportsMap = saveFixtures(fixtureCases, fixtureData, venueMap, coreMap, seasonYear)
+        val fixtureApiSportsMap = saveFixtures(fixtureCases, fixtureData, venueMap, coreMap, seasonYear, hashByApiId)
 
-        log.info("All phases completed successfully. {}", fixtureApiSportsMap.keys)
+        // 기존 FixtureCore 킥오프 반영 및 available 경기 Job 재설정 이벤트 발행
+        syncCoreKickoffs(fixtureApiSportsMap.values)
+
+        log.info(
+            "All phases completed successfully. changed={}, unchanged={}, apiIds={}",
+            changedDtos.size,
+            validDtos.size - changedDtos.size,
+            fixtureApiSportsMap.keys,
+        )
         return fixtureApiSportsMap
     }
 
+    /**
+     * 저장된 hash 와 다른 DTO 만 남깁니다.
+     *
+     * Core 가 연결되지 않은 경기는 hash 가 같아도 Core 연결을 위해 남깁니다.
+     * DB 의 league+season 경기 중 DTO 에 없는 경기는 경고 로그만 남깁니다.
+     */
+    private fun filterChangedDtos(
+        leagueApiId: Long,
+        seasonYear: Int,
+        dtos: List<FixtureApiSportsSyncDto>,
+        hashByApiId: Map<Long, String>,
+    ): List<FixtureApiSportsSyncDto> {
+        val rows =
+            fixtureApiSportsRepository.findSyncHashRowsByLeagueSeasonOrApiIds(
+                leagueApiId,
+                seasonYear,
+                hashByApiId.keys.toList(),
+            )
+        val rowByApiId = rows.associateBy(FixtureSyncHashRow::apiId)
+
+        val missingApiIds = rowByApiId.keys - hashByApiId.keys
+        if (missingApiIds.isNotEmpty()) {
+            log.warn(
+                "missingFixtures detected: size={} Should check these FixtureApiSports apiIds={}",
+                missingApiIds.size,
+                missingApiIds,
+            )
+        }
+
+        val changedDtos =
+            dtos.filter { dto ->
+                val row = rowByApiId[dto.apiId]
+                row == null || row.coreId == null || row.syncHash != hashByApiId[dto.apiId]
+            }
+        log.info(
+            "Fixture change detection completed [Total: {}, Changed: {}, Unchanged: {}]",
+            dtos.size,
+            changedDtos.size,
+            dtos.size - changedDtos.size,
+        )
+        return changedDtos
+    }
+
+    /**
+     * 업데이트된 경기의 킥오프를 기존 [FixtureCore] 에 반영합니다.
+     *
+     * 새로 만든 Core 는 생성 시점에 같은 값을 가지므로 변경되지 않습니다.
+     * available 경기의 킥오프가 바뀐 경우 [FixtureKickoffChangedEvent] 를 발행합니다.
+     */
+    private fun syncCoreKickoffs(fixtures: Collection<FixtureApiSports>) {
+        fixtures.forEach { fixture ->
+            if (fixture.preventUpdate) return@forEach
+            val core = fixture.core ?: return@forEach
+            val kickoff = fixture.date ?: return@forEach
+            if (kickoff == core.kickoff) return@forEach
+
+            val previousKickoff = core.kickoff
+            core.kickoff = kickoff
+            log.info(
+                "Fixture kickoff changed - apiId={}, uid={}, {} -> {}, available={}",
+                fixture.apiId,
+                core.uid,
+                previousKickoff,
+                kickoff,
+                core.available,
+            )
+            if (core.available) {
+                eventPublisher.publishEvent(FixtureKickoffChangedEvent(core.uid, previousKickoff, kickoff))
+            }
+        }
+    }
+
     /**
      * 유효한 DTO만 필터링
      *
@@ -245,7 +343,9 @@ class FixtureApiSportsWithCoreSyncer(
      * 이후 이뤄지는 작업에서 추가 조회를 막기 위해, 이 메서드에서 수집하여 반환한 [FixtureDataCollection] 에 담긴 엔티티를 사용해야 합니다.
      * [FixtureDataCollection] 사용시, 반드시 주석이나 본 메서드를 참고하여 Eager Fetch 된 연관관계 여부를 확인하세요.
      *
-     * 주어진 Fixture dto 들의 `apiId` 와 league 의 `seasonYear` 를 기준으로 [FixtureApiSports] 엔티티를 수집합니다.
+     * 주어진 Fixture dto 들의 `apiId` 를 기준으로 [FixtureApiSports] 엔티티를 수집합니다.
+     * 변경 감지를 통과한 dto 만 전달되므로 변경되지 않은 경기는 로딩하지 않습니다.
+     * apiId 로 조회하므로 과거에 다른 League/Season 으로 저장된 경기도 함께 수집되어 Unique 제약조건 위반을 막습니다.
      * 주어진 Fixture dto 들의 `homeTeam.apiId` 및 `awayTeam.apiId` 와 기존에 저장된 league season fixture 들에 담긴 Team 들을 기준으로 [TeamApiSports] 엔티티를 수집합니다.
      *
      * 사전에 [LeagueApiSports] 와 [LeagueApiSportsSeason] 이 저장되어 있지 않은 경우 예외를 던집니다.
@@ -266,21 +366,12 @@ class FixtureApiSportsWithCoreSyncer(
                 ?: throw IllegalStateException("League not found with apiId: $leagueApiId and season: $seasonYear")
         log.info("Found league: {} with {} seasons", league.name, league.seasons.size)
 
-        // Fixture Entity 수집
-        // 기본은 리그+시즌만 조회하고, 리그+시즌 조회에서 누락된 dto apiId가 있으면 그때만 id기반 보강 조회를 수행합니다.
-        val fixturesBySeason = fixtureApiSportsRepository.findFixturesByLeagueAndSeason(leagueApiId, seasonYear)
-
-        val extraByIds = collectMissingFixturesNotInSeasonFixtures(dtos, fixturesBySeason)
-        if (extraByIds.isNotEmpty()) {
-            log.warn(
-                "[Safety Merge] {} fixtures missing from league+season lookup; merging by apiId. ids={}",
-                extraByIds.size,
-                extraByIds.map { it.apiId },
-            )
-        }
-
-        val fixtures = (fixturesBySeason + extraByIds).distinctBy { it.apiId }
-        log.info("Found {} fixtures (league+season merged; extraByIds={})", fixtures.size, extraByIds.size)
+        // Fixture Entity 수집 (변경 대상 apiId 만)
+        val fixtures =
+            fixtureApiSportsRepository
+                .findAllForSyncByApiIdIn(dtos.mapNotNull { it.apiId }.distinct())
+                .distinctBy { it.apiId }
+        log.info("Found {} existing fixtures for {} target dtos", fixtures.size, dtos.size)
 
         // Team Entity 수집
         // 저장된 Fixture 들의 Team 과 Dtos 에 담긴 Team 정보를 모두 수집하여 Team 엔티티 조회
@@ -315,36 +406,6 @@ class FixtureApiSportsWithCoreSyncer(
         )
     }
 
-    /**
-     * League+Season 조회에서 누락된 Fixture를 ApiId 기반으로 보강 조회
-     *
-     * DTO에는 있는 apiId이지만 season 기반 조회에 누락된 경우,
-     * 같은 apiId가 중복으로 저장되어 Unique 제약조건 위반이 발생할 수 있으므로 missing 검사 및 조회를 수행합니다.
-     *
-     * **Why needed:**
-     * League-Season 조회 방식과 ApiId 직접 조회 방식 간의 불일치를 감지하고 보정하기 위함입니다.
-     * 과거에 다른 League/Season으로 저장된 Fixture가 현재 요청의 League/Season과 다를 수 있습니다.
-     *
-     * @param dtos 요청된 Fixture DTO 목록
-     * @param fixturesBySeason League+Season 기반으로 조회된 Fixture 목록
-     * @return League+Season 조회에서 누락되었지만 ApiId로는 존재하는 Fixture 목록
-     */
-    private fun collectMissingFixturesNotInSeasonFixtures(
-        dtos: List<FixtureApiSportsSyncDto>,
-        fixturesBySeason: List<FixtureApiSports>,
-    ): List<FixtureApiSports> {
-        val dtoIds = dtos.mapNotNull { it.apiId }
-        val existingIds = fixturesBySeason.map { it.apiId }.toSet()
-        val missingIds = dtoIds.toSet() - existingIds
-        val extraByIds =
-            if (missingIds.isNotEmpty()) {
-                fixtureApiSportsRepository.findAllByApiIdIn(missingIds.toList())
-            } else {
-                emptyList()
-            }
-        return extraByIds
-    }
-
     /**
      * Venue 저장/업데이트
      *
@@ -388,10 +449,22 @@ class FixtureApiSportsWithCoreSyncer(
         val preventUpdateVenues = mutableListOf<VenueApiSports>()
 
         // 기존 Venue를 apiId로 매핑
-        val existingVenuesMap =
+        // 변경된 경기만 로딩하므로, 다른 경기에만 연결된 기존 Venue 는 apiId 로 추가 조회합니다.
+        val loadedVenuesMap =
             fixtureData.fixtures
                 .mapNotNull { it.venue }
                 .associateBy { it.apiId }
+        val unloadedVenueApiIds =
+            dtos
+                .mapNotNull { it.venue?.apiId }
+                .distinct()
+                .filter { it !in loadedVenuesMap }
+        val existingVenuesMap =
+            if (unloadedVenueApiIds.isNotEmpty()) {
+                loadedVenuesMap + venueApiSportsRepository.findAllByApiIdIn(unloadedVenueApiIds).associateBy { it.apiId }
+            } else {
+                loadedVenuesMap
+            }
 
         dtos.forEach { dto ->
             dto.venue?.let { venueDto ->
@@ -483,11 +556,9 @@ class FixtureApiSportsWithCoreSyncer(
         val bothExistFixtures = mutableListOf<FixtureWithDto>()
         val apiOnlyFixtures = mutableListOf<FixtureWithDto>()
         val bothNewDtos = mutableListOf<FixtureApiSportsSyncDto>()
-        val missingFixtures = mutableListOf<FixtureApiSports>()
 
         // 기존 FixtureApiSports를 apiId로 매핑
         val existingFixturesMap = existingFixtures.associateBy { it.apiId }
-        val dtoByApiId = dtos.mapNotNull { it.apiId?.let { id -> id to it } }.toMap()
 
         dtos.forEach { dto ->
             val existingFixture = existingFixturesMap[dto.apiId]
@@ -506,11 +577,6 @@ class FixtureApiSportsWithCoreSyncer(
             }
         }
 
-        // DB 조회에 들어온 Fixture 인데 DTO 에는 없는 경우 Missing 처리 대상으로 분류
-        existingFixtures.forEach { existing ->
-            if (!dtoByApiId.containsKey(existing.apiId)) missingFixtures.add(existing)
-        }
-
         log.info(
             "Fixture Case separation completed [Both exist: {}, Api only: {}, New: {}]",
             bothExistFixtures.size,
@@ -518,14 +584,6 @@ class FixtureApiSportsWithCoreSyncer(
             bothNewDtos.size,
         )
 
-        if (missingFixtures.isNotEmpty()) {
-            log.warn(
-                "missingFixtures detected: size={} Should check these FixtureApiSports apiIds={}",
-                missingFixtures.size,
-                missingFixtures.map { it.apiId },
-            )
-        }
-
         return FixtureProcessingCases(bothExistFixtures, apiOnlyFixtures, bothNewDtos)
     }
 
@@ -636,6 +694,7 @@ class FixtureApiSportsWithCoreSyncer(
      * @param fixtureData 수집된 데이터
      * @param venueMap VenueApiSports 맵 (Phase 3에서 생성)
      * @param coreMap FixtureCore 맵 (Phase 5에서 생성)
+     * @param hashByApiId 생성/업데이트한 경기에 기록할 DTO hash
      * @return ApiId -> FixtureApiSports 맵 (영속 상태)
      */
     private fun saveFixtures(
@@ -644,6 +703,7 @@ class FixtureApiSportsWithCoreSyncer(
         venueMap: Map<Long, VenueApiSports>,
         coreMap: Map<Long, FixtureCore>,
         seasonYear: Int,
+        hashByApiId: Map<Long, String>,
     ): Map<Long, FixtureApiSports> {
         log.info("Starting FixtureApiSports save & update")
 
@@ -657,7 +717,7 @@ class FixtureApiSportsWithCoreSyncer(
         )
 
         // 2) FixtureApiSports 배치 저장/업데이트
-        val fixtureApiSportsMap = saveFixtureApiSportsBatch(fixtureApiSportsCases, fixtureData, venueMap, coreMap)
+        val fixtureApiSportsMap = saveFixtureApiSportsBatch(fixtureApiSportsCases, fixtureData, venueMap, coreMap, hashByApiId)
 
         // 시즌 강제 바인딩: 생성/업데이트 후 season이 비어있을 수 있는 엔티티에 공통 시즌 연결
         val season = fixtureData.league.seasons.find { it.seasonYear == seasonYear }
@@ -728,6 +788,7 @@ class FixtureApiSportsWithCoreSyncer(
         fixtureData: FixtureDataCollection,
         venueMap: Map<Long, VenueApiSports>,
         coreMap: Map<Long, FixtureCore>,
+        hashByApiId: Map<Long, String>,
     ): Map<Long, FixtureApiSports> {
         val resultMap = mutableMapOf<Long, FixtureApiSports>()
 
@@ -743,7 +804,8 @@ class FixtureApiSportsWithCoreSyncer(
                 updateFixtureApiSports(existingFixture, dto, fixtureData, venueMap, coreMap)
             }
 
-        // 3. FixtureApiSports 배치 저장
+        // 3. FixtureApiSports 배치 저장 (insert 전에 hash 를 기록하여 추가 update 를 만들지 않음)
+        (newFixtures + updatedFixtures).forEach { it.syncHash = hashByApiId[it.apiId] }
         val savedFixtures =
             if (newFixtures.isNotEmpty() || updatedFixtures.isNotEmpty()) {
                 fixtureApiSportsRepository.saveAll(newFixtures + updatedFixtures)
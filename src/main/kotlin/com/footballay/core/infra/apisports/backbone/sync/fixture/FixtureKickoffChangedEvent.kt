@@ -0,0 +1,18 @@
+package com.footballay.core.infra.apisports.backbone.sync.fixture
+
+import java.time.Instant
+
+/**
+ * 경기일정 sync 중 available 경기의 킥오프 시각이 바뀌었음을 알리는 이벤트
+ *
+ * sync transaction 이 commit 된 뒤 Pre/Live Job 시작 시각을 다시 맞추는 데 사용합니다.
+ *
+ * @property fixtureUid FixtureCore UID
+ * @property previousKickoff 변경 전 킥오프 (없었으면 null)
+ * @property kickoff 변경된 킥오프
+ */
+data class FixtureKickoffChangedEvent(
+    val fixtureUid: String,
+    val previousKickoff: Instant?,
+    val kickoff: Instant,
+)
@@ -0,0 +1,23 @@
+package com.footballay.core.infra.apisports.backbone.sync.fixture
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.footballay.core.infra.apisports.shared.dto.FixtureApiSportsSyncDto
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.util.HexFormat
+
+/**
+ * 경기일정 DTO 로부터 [FixtureApiSports.syncHash][com.footballay.core.infra.persistence.apisports.entity.FixtureApiSports.syncHash] 를 생성합니다.
+ *
+ * DTO 를 JSON 으로 직렬화한 뒤 SHA-256 으로 해시합니다.
+ * data class 의 필드 선언 순서대로 직렬화되므로 같은 내용이면 항상 같은 hash 가 나옵니다.
+ */
+@Component
+class FixtureSyncHashGenerator(
+    private val objectMapper: ObjectMapper,
+) {
+    fun generate(dto: FixtureApiSportsSyncDto): String {
+        val bytes = objectMapper.writeValueAsBytes(dto)
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes))
+    }
+}
@@ -1,10 +1,16 @@
 package com.footballay.core.infra.apisports.match
 
+import com.footballay.core.infra.apisports.match.fingerprint.MatchFingerprintCache
+import com.footballay.core.infra.apisports.match.fingerprint.MatchFingerprintGenerator
 import com.footballay.core.infra.apisports.match.plan.MatchSyncConstants.KICKOFF_IMMINENT_THRESHOLD_MINUTES
 import com.footballay.core.infra.apisports.match.plan.MatchSyncConstants.POST_MATCH_POLLING_CUTOFF_MINUTES
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
 import com.footballay.core.infra.apisports.match.plan.base.MatchBaseDtoExtractor
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.apisports.match.plan.dto.MatchEventPlanDto
 import com.footballay.core.infra.apisports.match.plan.dto.MatchLineupPlanDto
+import com.footballay.core.infra.apisports.match.plan.dto.MatchPlayerStatPlanDto
+import com.footballay.core.infra.apisports.match.plan.dto.MatchTeamStatPlanDto
 import com.footballay.core.infra.apisports.match.plan.event.MatchEventDtoExtractor
 import com.footballay.core.infra.apisports.match.plan.lineup.MatchLineupDtoExtractor
 import com.footballay.core.infra.apisports.match.plan.playerstat.MatchPlayerStatDtoExtractor
@@ -34,6 +40,15 @@ import java.time.Instant
  * 즉, id=null 선수는 Lineup,Event,Statistics 모두 다 이름이 다르게 나올 수 있으며,
  * 경험적으로 statistics 에서 이름이 다르게 나올 확률이 높습니다.
  *
+ * ### 변경 없는 polling 건너뛰기
+ * 경기 중 대부분의 polling 은 이전 응답과 내용이 같습니다.
+ * [MatchFingerprintCache] 에 기억된 지문과 같으면 DTO 추출과 엔티티 동기화를 건너뛰고
+ * 경기 상태(status, elapsed)만 갱신합니다.
+ *
+ * 일부만 바뀐 경우에는 section(base, lineup, events, teamStats, playerStats)별 지문을 비교하여
+ * 바뀐 section 의 추출기와 Manager 만 실행합니다. ([MatchSyncSections] 참고)
+ * 경기 중에는 선수 통계만 바뀌는 polling 이 대부분이므로 MatchPlayer 처리를 대부분 건너뛸 수 있습니다.
+ *
  * @see MatchEntityPersistManager
  * @see MatchPlayerContext
  * @see FullMatchSyncDto
@@ -48,6 +63,9 @@ class ApiSportsMatchEntitySyncFacadeImpl(
     private val playerStatExtractor: MatchPlayerStatDtoExtractor,
     // 엔티티 저장 관리자 - Plan to Entity 책임
     private val matchEntityPersistManager: MatchEntityPersistManager,
+    // 변경 감지 - 변경 없는 polling 건너뛰기
+    private val fingerprintGenerator: MatchFingerprintGenerator,
+    private val fingerprintCache: MatchFingerprintCache,
 ) : ApiSportsMatchEntitySyncFacade {
     private val log = logger()
 
@@ -56,17 +74,40 @@ class ApiSportsMatchEntitySyncFacadeImpl(
         log.info("Starting match data sync for fixtureApiId={}", fixtureApiId)
 
         try {
+            val fingerprint = fingerprintGenerator.generate(dto)
+            val previousFingerprint = fingerprintCache.get(fixtureApiId)
+            if (fingerprintCache.isUnchanged(previousFingerprint, fingerprint)) {
+                log.info("Match payload unchanged, syncing fixture status only - fixtureApiId={}", fixtureApiId)
+                matchEntityPersistManager.syncFixtureStatus(fixtureApiId, baseDtoExtractor.extractBaseMatch(dto))
+                val result =
+                    determineMatchDataSyncResult(dto) { lineupDtoExtractor.extractLineup(dto, MatchPlayerContext()) }
+                        .let { if (it is MatchDataSyncResult.Live) it.copy(payloadUnchanged = true) else it }
+                return evictFingerprintIfPollingStopped(fixtureApiId, result)
+            }
+
+            val sections = fingerprint.changedSince(previousFingerprint)
             val context = MatchPlayerContext()
 
-            // DTO 추출
+            // DTO 추출 (변경된 section 만)
+            // MatchPlayer 를 처리하는 경우 완전한 context 가 필요하므로 lineup, event, playerStat 을 모두 추출합니다.
+            // event, playerStat 추출기는 id=null 선수 매칭에 lineup context 를 참고하므로 lineup 을 먼저 추출합니다.
+            val needsPlayerContext = sections.players || sections.events || sections.playerStats
             val baseDto = baseDtoExtractor.extractBaseMatch(dto)
-            val lineupDto = lineupDtoExtractor.extractLineup(dto, context)
-            val eventDto = eventDtoExtractor.extractEvents(dto, context)
-            val teamStatDto = teamStatExtractor.extractTeamStats(dto)
-            val playerStatDto = playerStatExtractor.extractPlayerStats(dto, context)
+            val lineupDto =
+                if (needsPlayerContext) lineupDtoExtractor.extractLineup(dto, context) else MatchLineupPlanDto.EMPTY
+            val eventDto =
+                if (sections.players || sections.events) eventDtoExtractor.extractEvents(dto, context) else MatchEventPlanDto()
+            val teamStatDto =
+                if (sections.teamStats) teamStatExtractor.extractTeamStats(dto) else MatchTeamStatPlanDto.empty()
+            val playerStatDto =
+                if (sections.players || sections.playerStats) {
+                    playerStatExtractor.extractPlayerStats(dto, context)
+                } else {
+                    MatchPlayerStatPlanDto(emptyList(), emptyList())
+                }
 
             log.info(
-                "Extracted DTOs - Lineup: ${context.lineupMpDtoMap.size}, Event: ${context.eventMpDtoMap.size}, Stat: ${context.statMpDtoMap.size}",
+                "Extracted DTOs - sections: ${sections.changedNames()}, Lineup: ${context.lineupMpDtoMap.size}, Event: ${context.eventMpDtoMap.size}, Stat: ${context.statMpDtoMap.size}",
             )
 
             // 엔티티 동기화 (트랜잭션)
@@ -79,14 +120,22 @@ class ApiSportsMatchEntitySyncFacadeImpl(
                     teamStatDto = teamStatDto,
                     playerStatDto = playerStatDto,
                     playerContext = context,
+                    sections = sections,
                 )
 
             log.info(
                 "Match sync completed - Created: ${syncResult.createdCount}, Retained: ${syncResult.retainedCount}, Deleted: ${syncResult.deletedCount}",
             )
+            if (syncResult.success) {
+                fingerprintCache.remember(fixtureApiId, fingerprint)
+            }
 
             // 경기 상태에 따른 상세 Result 반환
-            return determineMatchDataSyncResult(dto, lineupDto)
+            val result =
+                determineMatchDataSyncResult(dto) {
+                    if (needsPlayerContext) lineupDto else lineupDtoExtractor.extractLineup(dto, MatchPlayerContext())
+                }
+            return evictFingerprintIfPollingStopped(fixtureApiId, result)
         } catch (e: Exception) {
             log.error("Failed to sync match data for fixture: {}", fixtureApiId, e)
             return MatchDataSyncResult.Error(
@@ -96,6 +145,19 @@ class ApiSportsMatchEntitySyncFacadeImpl(
         }
     }
 
+    /**
+     * PostMatch polling 이 끝나면 더 이상 필요 없는 지문을 제거합니다.
+     */
+    private fun evictFingerprintIfPollingStopped(
+        fixtureApiId: Long,
+        result: MatchDataSyncResult,
+    ): MatchDataSyncResult {
+        if (result is MatchDataSyncResult.PostMatch && result.shouldStopPolling) {
+            fingerprintCache.evict(fixtureApiId)
+        }
+        return result
+    }
+
     /**
      * 경기 상태를 분석하여 적절한 MatchDataSyncResult를 결정합니다.
      *
@@ -107,11 +169,11 @@ class ApiSportsMatchEntitySyncFacadeImpl(
      *   - shouldStopPolling: 경기 종료 후 60분 경과
      *
      * @param dto Match 데이터 DTO
-     * @param lineupDto 라인업 데이터
+     * @param lineupDto 라인업 데이터 (경기 전 단계에서만 필요하므로 지연 추출)
      */
     private fun determineMatchDataSyncResult(
         dto: FullMatchSyncDto,
-        lineupDto: MatchLineupPlanDto,
+        lineupDto: () -> MatchLineupPlanDto,
     ): MatchDataSyncResult {
         val statusShort = dto.fixture.status.short
         val kickoffTime = dto.fixture.date?.toInstant()
@@ -168,8 +230,9 @@ class ApiSportsMatchEntitySyncFacadeImpl(
 
             // 경기 전 단계
             else -> {
-                val hasLineup = !lineupDto.isEmpty()
-                val hasCompleteLineup = hasLineup && lineupDto.hasCompleteLineup()
+                val lineup = lineupDto()
+                val hasLineup = !lineup.isEmpty()
+                val hasCompleteLineup = hasLineup && lineup.hasCompleteLineup()
                 val isKickoffImminent = isKickoffWithinMinutes(kickoffTime, KICKOFF_IMMINENT_THRESHOLD_MINUTES)
                 val shouldTerminatePreMatchJob = hasCompleteLineup || isKickoffImminent
 
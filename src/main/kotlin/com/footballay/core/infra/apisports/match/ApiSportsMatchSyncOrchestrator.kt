@@ -4,8 +4,10 @@ import com.footballay.core.infra.match.MatchSyncOrchestrator
 import com.footballay.core.infra.apisports.FixtureApiSportsQueryService
 import com.footballay.core.infra.apisports.backbone.extractor.ApiSportsFixturePlayerCollector
 import com.footballay.core.infra.apisports.backbone.sync.player.PlayerApiSportsSyncer
-import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
+import com.footballay.core.infra.apisports.match.batch.FixtureFetchCoalescer
+import com.footballay.core.infra.apisports.match.player.FixtureKnownPlayerCache
 import com.footballay.core.infra.dispatcher.match.MatchDataSyncResult
+import com.footballay.core.logger
 import org.springframework.stereotype.Component
 
 /**
@@ -18,41 +20,62 @@ import org.springframework.stereotype.Component
  * - FixtureApiSports에 apiId가 바인딩되어 있어야 함
  *
  * **동기화 순서:**
- * 1. ApiSports Fixture API 호출
+ * 1. ApiSports Fixture API 호출 (같은 시점의 다른 경기와 `ids=` 한 번으로 묶일 수 있음, [FixtureFetchCoalescer])
  * 2. 응답에서 선수 정보 추출 및 사전 저장 (PlayerCore, PlayerApiSports)
  * 3. 전체 매치 엔티티 동기화 (Event, PlayerStats 등)
  *
+ * **선수 사전 저장 생략:**
+ * 경기 중 등장 선수는 거의 바뀌지 않으므로 [FixtureKnownPlayerCache] 에 없는 선수가 등장한 팀만 동기화합니다.
+ * [PlayerApiSportsSyncer.syncPlayersOfTeam] 은 전달받은 선수 기준으로 Team-Player 연관관계를 정리하므로
+ * 새 선수만 전달하지 않고 해당 팀의 전체 선수 목록을 전달합니다.
+ *
  * @see MatchSyncOrchestrator
  * @see ApiSportsMatchEntitySyncFacade
  */
 @Component
 class ApiSportsMatchSyncOrchestrator(
     private val fixtureQueryService: FixtureApiSportsQueryService,
-    private val fetcher: ApiSportsV3Fetcher,
+    private val fixtureFetcher: FixtureFetchCoalescer,
     private val playerExtractor: ApiSportsFixturePlayerCollector,
     private val playerApiSportsSyncer: PlayerApiSportsSyncer,
     private val matchSyncService: ApiSportsMatchEntitySyncFacade,
+    private val knownPlayerCache: FixtureKnownPlayerCache,
 ) : MatchSyncOrchestrator {
+    private val log = logger()
+
     override fun isSupport(uid: String): Boolean = true
 
     override fun syncMatchData(uid: String): MatchDataSyncResult {
         try {
             val apiId = extractApiIdFromUid(uid)
-            val response = fetcher.fetchFixtureSingle(apiId)
+            val response = fixtureFetcher.fetch(apiId)
 
-            syncPlayersBeforeMatchSync(response)
+            syncPlayersBeforeMatchSync(apiId, response)
 
             val fullMatchSyncDto = FullMatchSyncDto.of(response)
-            return matchSyncService.syncFixtureMatchEntities(fullMatchSyncDto)
+            val result = matchSyncService.syncFixtureMatchEntities(fullMatchSyncDto)
+            if (result is MatchDataSyncResult.PostMatch && result.shouldStopPolling) {
+                knownPlayerCache.evict(apiId)
+            }
+            return result
         } catch (e: Exception) {
             return MatchDataSyncResult.Error("ApiSports Match Sync Error: ${e.message}", null)
         }
     }
 
-    private fun syncPlayersBeforeMatchSync(response: ApiSportsFixtureSingle) {
+    private fun syncPlayersBeforeMatchSync(
+        fixtureApiId: Long,
+        response: ApiSportsFixtureSingle,
+    ) {
         val playersByTeam = playerExtractor.extractPlayersByTeam(response)
         playersByTeam.forEach { (teamId, dtos) ->
+            val playerApiIds = dtos.mapNotNull { it.apiId }
+            if (!knownPlayerCache.hasUnknownPlayers(fixtureApiId, teamId, playerApiIds)) {
+                log.debug("No unseen players, skipping player sync - fixtureApiId={}, teamApiId={}", fixtureApiId, teamId)
+                return@forEach
+            }
             playerApiSportsSyncer.syncPlayersOfTeam(teamId, dtos)
+            knownPlayerCache.remember(fixtureApiId, teamId, playerApiIds)
         }
     }
 
@@ -1,5 +1,6 @@
 package com.footballay.core.infra.apisports.match
 
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
 import com.footballay.core.infra.apisports.match.plan.dto.FixtureApiSportsDto
 import com.footballay.core.infra.apisports.match.plan.dto.MatchLineupPlanDto
@@ -20,6 +21,9 @@ interface MatchEntityPersistManager {
      * 매치 엔티티들을 동기화합니다.
      * [MatchPlayerContext] 는 dto 들에서 등장한 선수들로 올바르게 채워져 있어야 합니다.
      *
+     * [sections] 에서 변경되지 않은 section 의 Manager 는 실행하지 않습니다.
+     * 이때 해당 section 의 dto 는 사용되지 않으므로 빈 dto 를 전달해도 됩니다.
+     *
      * @param fixtureApiId 경기 API ID
      * @param baseDto 기본 경기 정보
      * @param lineupDto 라인업 정보
@@ -27,6 +31,7 @@ interface MatchEntityPersistManager {
      * @param teamStatDto 팀 통계
      * @param playerStatDto 선수 통계
      * @param playerContext MatchPlayer 컨텍스트
+     * @param sections 이전 polling 이후 변경된 section (기본값: 전체)
      * @return 동기화 결과 (생성/수정/삭제 건수)
      */
     fun syncMatchEntities(
@@ -37,5 +42,20 @@ interface MatchEntityPersistManager {
         teamStatDto: MatchTeamStatPlanDto,
         playerStatDto: MatchPlayerStatPlanDto,
         playerContext: MatchPlayerContext,
+        sections: MatchSyncSections = MatchSyncSections.ALL,
     ): MatchEntitySyncResult
+
+    /**
+     * 경기 상태(status, elapsed)와 스코어만 동기화합니다.
+     *
+     * Match 응답 내용에 변화가 없을 때 전체 동기화 대신 사용합니다.
+     *
+     * @param fixtureApiId 경기 API ID
+     * @param baseDto 기본 경기 정보
+     * @return Fixture 가 존재하여 갱신했으면 true
+     */
+    fun syncFixtureStatus(
+        fixtureApiId: Long,
+        baseDto: FixtureApiSportsDto,
+    ): Boolean
 }
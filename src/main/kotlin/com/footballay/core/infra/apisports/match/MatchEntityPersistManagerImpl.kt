@@ -4,10 +4,13 @@ import com.footballay.core.infra.apisports.match.persist.base.BaseMatchEntityMan
 import com.footballay.core.infra.apisports.match.persist.event.manager.MatchEventManager
 import com.footballay.core.infra.apisports.match.persist.event.manager.MatchEventProcessResult
 import com.footballay.core.infra.apisports.match.persist.player.manager.MatchPlayerManager
+import com.footballay.core.infra.apisports.match.persist.player.manager.MatchPlayerProcessResult
+import com.footballay.core.infra.apisports.match.persist.player.planner.MatchPlayerChangePlanner
 import com.footballay.core.infra.apisports.match.persist.playerstat.manager.PlayerStatsManager
 import com.footballay.core.infra.apisports.match.persist.playerstat.result.PlayerStatsProcessResult
 import com.footballay.core.infra.apisports.match.persist.teamstat.manager.TeamStatsManager
 import com.footballay.core.infra.apisports.match.persist.teamstat.result.TeamStatsProcessResult
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
 import com.footballay.core.infra.apisports.match.plan.context.MatchEntityBundle
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
 import com.footballay.core.infra.apisports.match.plan.dto.FixtureApiSportsDto
@@ -41,6 +44,11 @@ import org.springframework.transaction.annotation.Transactional
  * 6. TeamStats 처리 (TeamStatsManager로 통합)
  * 7. 데이터베이스 영속화 (각 Manager에서 완료)
  *
+ * **변경된 section 만 처리:**
+ * [MatchSyncSections] 에서 변경되지 않은 section 의 Manager 는 건너뜁니다.
+ * - base 가 그대로면 MatchTeam 동기화 없이 경기 상태(status, elapsed)만 갱신합니다.
+ * - lineup 과 등장 선수 목록이 그대로면 MatchPlayer 처리를 건너뜁니다.
+ * - MatchPlayer 가 생성/삭제되면 선수 참조가 바뀌므로 Event, PlayerStats 는 section 변경과 무관하게 다시 처리합니다.
  */
 @Service
 class MatchEntityPersistManagerImpl(
@@ -62,8 +70,9 @@ class MatchEntityPersistManagerImpl(
         teamStatDto: MatchTeamStatPlanDto,
         playerStatDto: MatchPlayerStatPlanDto,
         playerContext: MatchPlayerContext,
+        sections: MatchSyncSections,
     ): MatchEntitySyncResult {
-        log.info("Starting entity sync for fixture: {}", fixtureApiId)
+        log.info("Starting entity sync for fixture: {}, changed sections: {}", fixtureApiId, sections.changedNames())
 
         // 1. 기존 저장된 엔티티들 로드
         val entityBundle = MatchEntityBundle.createEmpty()
@@ -78,79 +87,109 @@ class MatchEntityPersistManagerImpl(
         }
 
         // 2. Base DTO 처리 (Fixture + MatchTeam 생성/업데이트)
-        try {
-            val result = baseMatchEntityManager.syncBaseEntities(fixtureApiId, baseDto, entityBundle)
-
-            if (!result.success) {
-                log.error("Base entity sync failed: {}", result.errorMessage)
-                return MatchEntitySyncResult.failure(
-                    "failed to sync base entities: ${result.errorMessage}",
-                )
+        if (!sections.base) {
+            val fixture = entityBundle.fixture
+            if (fixture == null) {
+                log.warn("Fixture not found in entityBundle for apiId: {}", fixtureApiId)
+                return MatchEntitySyncResult.failure("failed to sync base entities: fixture not found")
             }
+            baseMatchEntityManager.syncFixtureStatus(fixture, baseDto)
+        } else {
+            try {
+                val result = baseMatchEntityManager.syncBaseEntities(fixtureApiId, baseDto, entityBundle)
 
-            log.info(
-                "Base entities synced - Home team: ${result.homeMatchTeam?.teamApiSports?.name}, Away team: ${result.awayMatchTeam?.teamApiSports?.name}",
-            )
-        } catch (e: Exception) {
-            log.error("Failed to sync base entities: {}", e.message, e)
-            return MatchEntitySyncResult.failure(
-                "failed to sync base entities: ${e.message}",
-            )
-        }
+                if (!result.success) {
+                    log.error("Base entity sync failed: {}", result.errorMessage)
+                    return MatchEntitySyncResult.failure(
+                        "failed to sync base entities: ${result.errorMessage}",
+                    )
+                }
 
-        // 3. MatchPlayer 처리 + Lineup 정보 적용
-        val matchPlayerResult =
-            try {
-                val result = matchPlayerManager.processMatchTeamAndPlayers(playerContext, lineupDto, entityBundle)
                 log.info(
-                    "MatchPlayer processing completed - Total: ${result.totalPlayers}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
+                    "Base entities synced - Home team: ${result.homeMatchTeam?.teamApiSports?.name}, Away team: ${result.awayMatchTeam?.teamApiSports?.name}",
                 )
-                result
             } catch (e: Exception) {
-                log.error("Failed to process match players: {}", e.message, e)
-                // 라인업 저장 에러시에는 이후 진행하기 어려우므로 실패 처리
+                log.error("Failed to sync base entities: {}", e.message, e)
                 return MatchEntitySyncResult.failure(
-                    "failed to process match lineup: ${e.message}",
+                    "failed to sync base entities: ${e.message}",
                 )
             }
+        }
+
+        // 3. MatchPlayer 처리 + Lineup 정보 적용
+        val matchPlayerResult =
+            if (!sections.players) {
+                // MatchPlayerManager 를 건너뛰면 Loader 가 구성한 키를 DTO 와 같은 MatchPlayerKey 로 맞춰둡니다.
+                entityBundle.allMatchPlayers = MatchPlayerChangePlanner.entitiesToKeyMap(entityBundle.allMatchPlayers.values.toList())
+                MatchPlayerProcessResult.empty()
+            } else {
+                try {
+                    val result = matchPlayerManager.processMatchTeamAndPlayers(playerContext, lineupDto, entityBundle)
+                    log.info(
+                        "MatchPlayer processing completed - Total: ${result.totalPlayers}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
+                    )
+                    result
+                } catch (e: Exception) {
+                    log.error("Failed to process match players: {}", e.message, e)
+                    // 라인업 저장 에러시에는 이후 진행하기 어려우므로 실패 처리
+                    return MatchEntitySyncResult.failure(
+                        "failed to process match lineup: ${e.message}",
+                    )
+                }
+            }
+
+        // MatchPlayer 가 생성/삭제되었다면 Event, PlayerStats 의 선수 참조도 다시 맞춰야 합니다.
+        val rosterChanged = matchPlayerResult.createdCount > 0 || matchPlayerResult.deletedCount > 0
 
         // 4. Event 처리
         val matchEventResult =
-            try {
-                val result = matchEventManager.processMatchEvents(eventDto, entityBundle)
-                log.info(
-                    "MatchEvent processing completed - Total: ${result.totalEvents}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
-                )
-                result
-            } catch (e: Exception) {
-                log.error("Failed to process match events: {}", e.message, e)
+            if (!sections.events && !rosterChanged) {
                 MatchEventProcessResult(0, 0, 0, 0, emptyList())
+            } else {
+                try {
+                    val result = matchEventManager.processMatchEvents(eventDto, entityBundle)
+                    log.info(
+                        "MatchEvent processing completed - Total: ${result.totalEvents}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
+                    )
+                    result
+                } catch (e: Exception) {
+                    log.error("Failed to process match events: {}", e.message, e)
+                    MatchEventProcessResult(0, 0, 0, 0, emptyList())
+                }
             }
 
         // 5. PlayerStats 처리
         val playerStatsResult =
-            try {
-                val result = playerStatsManager.processPlayerStats(playerStatDto, entityBundle)
-                log.info(
-                    "PlayerStats processing completed - Total: ${result.totalStats}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
-                )
-                result
-            } catch (e: Exception) {
-                log.error("Failed to process player stats: {}", e.message, e)
+            if (!sections.playerStats && !rosterChanged) {
                 PlayerStatsProcessResult(0, 0, 0, 0, emptyList())
+            } else {
+                try {
+                    val result = playerStatsManager.processPlayerStats(playerStatDto, entityBundle)
+                    log.info(
+                        "PlayerStats processing completed - Total: ${result.totalStats}, Created: ${result.createdCount}, Retained: ${result.retainedCount}, Deleted: ${result.deletedCount}",
+                    )
+                    result
+                } catch (e: Exception) {
+                    log.error("Failed to process player stats: {}", e.message, e)
+                    PlayerStatsProcessResult(0, 0, 0, 0, emptyList())
+                }
             }
 
         // 6. TeamStats 처리
         val teamStatsResult =
-            try {
-                val result = teamStatsManager.processTeamStats(teamStatDto, entityBundle)
-                log.info(
-                    "TeamStats processing completed - Home: ${result.hasHome}, Away: ${result.hasAway}, Created: ${result.createdCount}, Retained: ${result.retainedCount}",
-                )
-                result
-            } catch (e: Exception) {
-                log.error("Failed to process team stats: {}", e.message, e)
+            if (!sections.teamStats) {
                 TeamStatsProcessResult(false, false, 0, 0, null, null)
+            } else {
+                try {
+                    val result = teamStatsManager.processTeamStats(teamStatDto, entityBundle)
+                    log.info(
+                        "TeamStats processing completed - Home: ${result.hasHome}, Away: ${result.hasAway}, Created: ${result.createdCount}, Retained: ${result.retainedCount}",
+                    )
+                    result
+                } catch (e: Exception) {
+                    log.error("Failed to process team stats: {}", e.message, e)
+                    TeamStatsProcessResult(false, false, 0, 0, null, null)
+                }
             }
 
         log.info("All entities persisted successfully for fixture: {}", fixtureApiId)
@@ -178,4 +217,18 @@ class MatchEntityPersistManagerImpl(
                 ),
         )
     }
+
+    @Transactional
+    override fun syncFixtureStatus(
+        fixtureApiId: Long,
+        baseDto: FixtureApiSportsDto,
+    ): Boolean {
+        val fixture = matchDataLoader.loadFixtureOnly(fixtureApiId)
+        if (fixture == null) {
+            log.warn("Fixture not found for status sync - fixtureApiId={}", fixtureApiId)
+            return false
+        }
+        baseMatchEntityManager.syncFixtureStatus(fixture, baseDto)
+        return true
+    }
 }
@@ -0,0 +1,197 @@
+package com.footballay.core.infra.apisports.match.batch
+
+import com.footballay.core.infra.apisports.match.ApiSportsFixtureSingle
+import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
+import com.footballay.core.infra.apisports.shared.fetch.response.Paging
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsCallContext
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsCallPriority
+import com.footballay.core.logger
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+/**
+ * 같은 시점에 들어온 fixture 단건 조회를 `ids=` 조회 한 번으로 묶습니다.
+ *
+ * 라이브 경기의 LiveMatchJob 은 대부분 같은 간격으로 실행되므로, 여러 sync worker 가 거의 동시에 조회를 요청합니다.
+ * 각 worker 가 [fetch] 를 호출하면 먼저 도착한 요청(leader)이 [FixtureFetchCoalescerProperties.window] 동안
+ * 다른 요청을 모은 뒤 한 번에 조회하고, 응답을 fixture 별 단건 응답으로 나눠 돌려줍니다.
+ *
+ * **보장 사항:**
+ * - batch 에 하나만 모이면 기존과 같이 [ApiSportsV3Fetcher.fetchFixtureSingle] 을 호출합니다.
+ * - batch 는 참여한 요청 중 가장 높은 [ApiSportsCallPriority] 로 quota 를 사용합니다.
+ * - 조회가 실패하면 batch 에 참여한 모든 요청이 같은 예외를 받습니다.
+ *
+ * **Metrics:**
+ * - `footballay.apisports.fixture.batch.size`: 한 번의 HTTP 호출로 조회한 fixture 수
+ */
+@Component
+class FixtureFetchCoalescer(
+    private val fetcher: ApiSportsV3Fetcher,
+    private val properties: FixtureFetchCoalescerProperties,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = logger()
+
+    private val maxBatchSize = properties.maxBatchSize.coerceIn(1, ApiSportsV3Fetcher.MAX_FIXTURE_IDS)
+
+    private val batchSizeSummary: DistributionSummary =
+        DistributionSummary
+            .builder("footballay.apisports.fixture.batch.size")
+            .description("Fixtures fetched by a single ApiSports call")
+            .register(meterRegistry)
+
+    private val lock = Any()
+    private var openBatch: PendingBatch? = null
+
+    /**
+     * fixture 단건 응답을 조회합니다. 다른 요청과 묶여 조회될 수 있습니다.
+     *
+     * @return 응답에 해당 fixture 가 없으면 빈 response 의 envelope
+     */
+    fun fetch(fixtureApiId: Long): ApiSportsFixtureSingle {
+        if (properties.window.isZero || maxBatchSize == 1) {
+            batchSizeSummary.record(1.0)
+            return fetcher.fetchFixtureSingle(fixtureApiId)
+        }
+
+        val (batch, leader) = join(fixtureApiId, ApiSportsCallContext.currentPriority())
+        if (leader) {
+            batch.awaitFull(properties.window)
+            execute(close(batch))
+        }
+        return batch.resultOf(fixtureApiId, properties.waitTimeout)
+    }
+
+    private fun join(
+        fixtureApiId: Long,
+        priority: ApiSportsCallPriority,
+    ): Pair<PendingBatch, Boolean> =
+        synchronized(lock) {
+            val current = openBatch
+            if (current != null) {
+                current.add(fixtureApiId, priority)
+                if (current.size() >= maxBatchSize) {
+                    openBatch = null
+                    current.markFull()
+                }
+                return current to false
+            }
+            val created = PendingBatch(fixtureApiId, priority)
+            openBatch = created
+            created to true
+        }
+
+    /**
+     * 더 이상 요청이 합류하지 못하도록 닫고, 조회할 id 목록을 확정합니다.
+     */
+    private fun close(batch: PendingBatch): PendingBatch {
+        synchronized(lock) {
+            if (openBatch === batch) openBatch = null
+        }
+        return batch
+    }
+
+    private fun execute(batch: PendingBatch) {
+        val ids = batch.ids()
+        batchSizeSummary.record(ids.size.toDouble())
+        try {
+            val byId =
+                ApiSportsCallContext.withPriority(batch.priority()) {
+                    if (ids.size == 1) {
+                        mapOf(ids.first() to fetcher.fetchFixtureSingle(ids.first()))
+                    } else {
+                        log.info("Fetching {} fixtures in one call - ids={}", ids.size, ids)
+                        split(fetcher.fetchFixturesByIds(ids))
+                    }
+                }
+            batch.complete(byId)
+        } catch (e: Exception) {
+            batch.fail(e)
+        }
+    }
+
+    /**
+     * `ids=` 응답을 fixture 별 단건 응답 형태로 나눕니다.
+     */
+    private fun split(envelope: ApiSportsFixtureSingle): Map<Long, ApiSportsFixtureSingle> =
+        envelope.response.associate { fixture ->
+            fixture.fixture.id to
+                envelope.copy(
+                    parameters = mapOf("id" to fixture.fixture.id.toString()),
+                    results = 1,
+                    paging = Paging(current = 1, total = 1),
+                    response = listOf(fixture),
+                )
+        }
+
+    /**
+     * leader 가 조회를 마칠 때까지 참여 요청들이 기다리는 batch
+     */
+    private class PendingBatch(
+        firstId: Long,
+        firstPriority: ApiSportsCallPriority,
+    ) {
+        private val ids = linkedSetOf(firstId)
+        private var priority = firstPriority
+        private val full = CountDownLatch(1)
+        private val result = CompletableFuture<Map<Long, ApiSportsFixtureSingle>>()
+
+        // add / size 는 FixtureFetchCoalescer.lock 안에서, ids / priority 는 batch 를 닫은 뒤에만 호출됩니다.
+        fun add(
+            id: Long,
+            requestPriority: ApiSportsCallPriority,
+        ) {
+            ids.add(id)
+            if (requestPriority.ordinal < priority.ordinal) priority = requestPriority
+        }
+
+        fun size(): Int = ids.size
+
+        fun ids(): List<Long> = ids.toList()
+
+        fun priority(): ApiSportsCallPriority = priority
+
+        fun markFull() = full.countDown()
+
+        fun awaitFull(window: Duration) {
+            full.await(window.toNanos(), TimeUnit.NANOSECONDS)
+        }
+
+        fun complete(byId: Map<Long, ApiSportsFixtureSingle>) {
+            result.complete(byId)
+        }
+
+        fun fail(cause: Exception) {
+            result.completeExceptionally(cause)
+        }
+
+        fun resultOf(
+            id: Long,
+            timeout: Duration,
+        ): ApiSportsFixtureSingle {
+            val byId =
+                try {
+                    result.get(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                } catch (e: ExecutionException) {
+                    throw e.cause ?: e
+                }
+            return byId[id] ?: emptyEnvelope(id)
+        }
+
+        private fun emptyEnvelope(id: Long): ApiSportsFixtureSingle =
+            ApiSportsFixtureSingle(
+                get = "fixtures",
+                parameters = mapOf("id" to id.toString()),
+                errors = emptyList(),
+                results = 0,
+                paging = Paging(current = 1, total = 1),
+                response = emptyList(),
+            )
+    }
+}
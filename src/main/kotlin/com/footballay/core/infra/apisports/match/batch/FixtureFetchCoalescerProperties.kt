@@ -0,0 +1,18 @@
+package com.footballay.core.infra.apisports.match.batch
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * [FixtureFetchCoalescer] 설정
+ *
+ * @property window 첫 요청 이후 같은 batch 에 합류할 요청을 기다리는 시간. 0 이면 batch 없이 단건 조회
+ * @property maxBatchSize 한 번에 조회할 최대 fixture 수 (ApiSports `ids` 제한 20)
+ * @property waitTimeout batch 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "footballay.apisports.fixture-batch")
+data class FixtureFetchCoalescerProperties(
+    val window: Duration = Duration.ofMillis(150),
+    val maxBatchSize: Int = 20,
+    val waitTimeout: Duration = Duration.ofSeconds(30),
+)
@@ -0,0 +1,46 @@
+package com.footballay.core.infra.apisports.match.fingerprint
+
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
+
+/**
+ * Match 응답 내용의 지문(fingerprint)
+ *
+ * [com.footballay.core.infra.apisports.match.FullMatchSyncDto] 를 저장 단위(section)별로 나누어 해시한 값입니다.
+ * 이전 polling 의 지문과 같다면 저장할 변경사항이 없다는 의미입니다.
+ *
+ * **base 에서 제외하는 값:**
+ * 경기 경과 시간(elapsed, extra)은 매 분 바뀌므로 지문에 포함하지 않습니다.
+ * 지문이 같아도 경과 시간은 별도로 갱신합니다.
+ *
+ * @property base Fixture 기본 정보 (상태, 스코어, 팀, 경기장 등)
+ * @property lineup 라인업
+ * @property events 이벤트
+ * @property teamStats 팀 통계
+ * @property playerStats 선수 통계
+ * @property roster lineup, event, 선수 통계에 등장하는 선수 목록 (MatchPlayer 생성/삭제 판단용)
+ */
+data class MatchFingerprint(
+    val base: String,
+    val lineup: String,
+    val events: String,
+    val teamStats: String,
+    val playerStats: String,
+    val roster: String,
+) {
+    /**
+     * 이전 지문과 비교해 내용이 바뀐 section 을 반환합니다.
+     *
+     * @param previous 이전 polling 에서 저장에 성공한 지문. 없으면 모든 section 을 변경으로 간주합니다.
+     */
+    fun changedSince(previous: MatchFingerprint?): MatchSyncSections {
+        if (previous == null) return MatchSyncSections.ALL
+        return MatchSyncSections(
+            base = base != previous.base,
+            lineup = lineup != previous.lineup,
+            events = events != previous.events,
+            teamStats = teamStats != previous.teamStats,
+            playerStats = playerStats != previous.playerStats,
+            roster = roster != previous.roster,
+        )
+    }
+}
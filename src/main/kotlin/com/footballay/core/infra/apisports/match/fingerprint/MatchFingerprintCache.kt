@@ -0,0 +1,159 @@
+package com.footballay.core.infra.apisports.match.fingerprint
+
+import com.footballay.core.logger
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+
+/**
+ * Fixture 별 마지막으로 저장에 성공한 [MatchFingerprint] 를 Redis 에 보관합니다.
+ *
+ * 같은 지문이 다시 들어오면 planning 과 엔티티 저장을 건너뛸 수 있습니다.
+ *
+ * **공유 저장소:**
+ * Quartz cluster 에서는 같은 fixture 의 polling 이 매번 다른 인스턴스에서 실행될 수 있습니다.
+ * 인스턴스 로컬에 지문을 두면 다른 인스턴스가 저장한 변경(예: VAR 로 취소되기 전의 골)을 모른 채
+ * 예전 지문과 비교하여 되돌아간 section 을 건너뛰게 되므로, 모든 인스턴스가 같은 key 를 읽고 씁니다.
+ *
+ * **저장 시점:**
+ * 트랜잭션 안에서 [remember] 하면 커밋 이후에 반영합니다.
+ * 롤백된 저장의 지문을 기억하면 다음 polling 이 변경사항을 영영 저장하지 못하기 때문입니다.
+ *
+ * **Redis 장애:** 조회 실패는 지문이 없는 것으로 보고 전체 sync 를 하며, 저장 실패는 로그만 남깁니다.
+ *
+ * **Metrics:**
+ * - `footballay.match.sync.fingerprint` (result=hit|miss)
+ */
+@Component
+class MatchFingerprintCache(
+    private val redis: StringRedisTemplate,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = logger()
+
+    private val hitCounter: Counter = lookupCounter(meterRegistry, "hit")
+    private val missCounter: Counter = lookupCounter(meterRegistry, "miss")
+
+    /**
+     * 마지막으로 저장된 지문을 반환합니다. hit/miss 는 [isUnchanged] 에서만 집계합니다.
+     */
+    fun get(fixtureApiId: Long): MatchFingerprint? =
+        try {
+            val fields = redis.opsForHash<String, String>().entries(key(fixtureApiId))
+            toFingerprint(fields)
+        } catch (e: Exception) {
+            log.warn("Failed to read match fingerprint, syncing all sections - fixtureApiId={}", fixtureApiId, e)
+            null
+        }
+
+    /**
+     * [get] 으로 읽은 이전 지문과 같은지 확인합니다.
+     *
+     * @return 변경사항이 없으면 true
+     */
+    fun isUnchanged(
+        previous: MatchFingerprint?,
+        fingerprint: MatchFingerprint,
+    ): Boolean {
+        val unchanged = previous == fingerprint
+        if (unchanged) hitCounter.increment() else missCounter.increment()
+        return unchanged
+    }
+
+    /**
+     * 저장에 성공한 지문을 기억합니다.
+     */
+    fun remember(
+        fixtureApiId: Long,
+        fingerprint: MatchFingerprint,
+    ) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                object : TransactionSynchronization {
+                    override fun afterCommit() {
+                        write(fixtureApiId, fingerprint)
+                    }
+                },
+            )
+            return
+        }
+        write(fixtureApiId, fingerprint)
+    }
+
+    /**
+     * 더 이상 polling 하지 않는 fixture 의 지문을 제거합니다.
+     */
+    fun evict(fixtureApiId: Long) {
+        try {
+            if (redis.delete(key(fixtureApiId)) == true) {
+                log.info("Evicted match fingerprint - fixtureApiId={}", fixtureApiId)
+            }
+        } catch (e: Exception) {
+            log.warn("Failed to evict match fingerprint - fixtureApiId={}", fixtureApiId, e)
+        }
+    }
+
+    private fun write(
+        fixtureApiId: Long,
+        fingerprint: MatchFingerprint,
+    ) {
+        try {
+            val key = key(fixtureApiId)
+            redis.opsForHash<String, String>().putAll(key, toFields(fingerprint))
+            redis.expire(key, TTL)
+        } catch (e: Exception) {
+            log.warn("Failed to store match fingerprint - fixtureApiId={}", fixtureApiId, e)
+        }
+    }
+
+    private fun toFields(fingerprint: MatchFingerprint): Map<String, String> =
+        mapOf(
+            FIELD_BASE to fingerprint.base,
+            FIELD_LINEUP to fingerprint.lineup,
+            FIELD_EVENTS to fingerprint.events,
+            FIELD_TEAM_STATS to fingerprint.teamStats,
+            FIELD_PLAYER_STATS to fingerprint.playerStats,
+            FIELD_ROSTER to fingerprint.roster,
+        )
+
+    private fun toFingerprint(fields: Map<String, String>): MatchFingerprint? {
+        return MatchFingerprint(
+            base = fields[FIELD_BASE] ?: return null,
+            lineup = fields[FIELD_LINEUP] ?: return null,
+            events = fields[FIELD_EVENTS] ?: return null,
+            teamStats = fields[FIELD_TEAM_STATS] ?: return null,
+            playerStats = fields[FIELD_PLAYER_STATS] ?: return null,
+            roster = fields[FIELD_ROSTER] ?: return null,
+        )
+    }
+
+    private fun key(fixtureApiId: Long) = "$KEY_PREFIX$fixtureApiId"
+
+    private fun lookupCounter(
+        meterRegistry: MeterRegistry,
+        result: String,
+    ): Counter =
+        Counter
+            .builder("footballay.match.sync.fingerprint")
+            .description("Match payload fingerprint lookups (hit = persistence skipped)")
+            .tag("result", result)
+            .register(meterRegistry)
+
+    companion object {
+        const val KEY_PREFIX = "match-sync:fingerprint:"
+
+        /** PostMatch polling 까지 끝난 뒤 evict 되지 않은 지문(취소/연기 등)이 남지 않도록 */
+        val TTL: Duration = Duration.ofHours(12)
+
+        private const val FIELD_BASE = "base"
+        private const val FIELD_LINEUP = "lineup"
+        private const val FIELD_EVENTS = "events"
+        private const val FIELD_TEAM_STATS = "teamStats"
+        private const val FIELD_PLAYER_STATS = "playerStats"
+        private const val FIELD_ROSTER = "roster"
+    }
+}
@@ -0,0 +1,101 @@
+package com.footballay.core.infra.apisports.match.fingerprint
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.footballay.core.infra.apisports.match.FullMatchSyncDto
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.util.HexFormat
+
+/**
+ * [FullMatchSyncDto] 로부터 [MatchFingerprint] 를 생성합니다.
+ *
+ * 각 section 을 JSON 으로 직렬화한 뒤 SHA-256 으로 해시합니다.
+ * data class 의 필드 선언 순서대로 직렬화되므로 같은 내용이면 항상 같은 지문이 나옵니다.
+ * `hashCode()` 대신 SHA-256 을 사용하는 이유는 충돌 시 변경사항 저장이 누락되기 때문입니다.
+ */
+@Component
+class MatchFingerprintGenerator(
+    private val objectMapper: ObjectMapper,
+) {
+    fun generate(dto: FullMatchSyncDto): MatchFingerprint =
+        MatchFingerprint(
+            base = digest(BaseSection.of(dto)),
+            lineup = digest(dto.lineups),
+            events = digest(dto.events),
+            teamStats = digest(dto.statistics),
+            playerStats = digest(dto.players),
+            roster = digest(rosterOf(dto)),
+        )
+
+    /**
+     * MatchPlayer 로 저장되는 선수 목록
+     *
+     * 선수 통계 수치는 매 polling 바뀌지만 등장 선수는 거의 바뀌지 않습니다.
+     * MatchPlayer 엔티티에 반영되는 값(팀, id, 이름, 등번호, 포지션, 교체 여부)만 모아 순서와 무관하게 정렬합니다.
+     */
+    private fun rosterOf(dto: FullMatchSyncDto): List<String> {
+        val entries = sortedSetOf<String>()
+        dto.lineups.forEach { lineup ->
+            (lineup.startXI + lineup.substitutes).forEach {
+                entries.add(rosterEntry(lineup.team.id, it.player.id, it.player.name))
+            }
+        }
+        dto.events.forEach { event ->
+            event.player?.let { entries.add(rosterEntry(event.team.id, it.id, it.name)) }
+            event.assist?.let { entries.add(rosterEntry(event.team.id, it.id, it.name)) }
+        }
+        dto.players.forEach { teamPlayers ->
+            teamPlayers.players.forEach {
+                val games = it.statistics.firstOrNull()?.games
+                entries.add(
+                    rosterEntry(teamPlayers.team.id, it.player.id, it.player.name) +
+                        "|${games?.number}|${games?.position}|${games?.substitute}",
+                )
+            }
+        }
+        return entries.toList()
+    }
+
+    private fun rosterEntry(
+        teamApiId: Long?,
+        playerApiId: Long?,
+        name: String?,
+    ): String = "$teamApiId|$playerApiId|$name"
+
+    private fun digest(section: Any): String {
+        val bytes = objectMapper.writeValueAsBytes(section)
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes))
+    }
+
+    /**
+     * 지문 계산용 base section
+     *
+     * 경과 시간(elapsed, extra)은 제외합니다.
+     */
+    internal data class BaseSection(
+        val referee: String?,
+        val date: String?,
+        val venue: FullMatchSyncDto.FixtureDto.VenueDto,
+        val statusLong: String,
+        val statusShort: String,
+        val round: String?,
+        val teams: FullMatchSyncDto.TeamsDto,
+        val goals: FullMatchSyncDto.GoalsDto,
+        val score: FullMatchSyncDto.ScoreDto,
+    ) {
+        companion object {
+            fun of(dto: FullMatchSyncDto) =
+                BaseSection(
+                    referee = dto.fixture.referee,
+                    date = dto.fixture.date?.toInstant()?.toString(),
+                    venue = dto.fixture.venue,
+                    statusLong = dto.fixture.status.long,
+                    statusShort = dto.fixture.status.short,
+                    round = dto.league.round,
+                    teams = dto.teams,
+                    goals = dto.goals,
+                    score = dto.score,
+                )
+        }
+    }
+}
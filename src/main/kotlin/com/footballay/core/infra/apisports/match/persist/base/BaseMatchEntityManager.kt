@@ -93,6 +93,25 @@ class BaseMatchEntityManager(
         }
     }
 
+    /**
+     * 경기 상태(status, elapsed)와 스코어만 갱신합니다.
+     *
+     * Match 응답 내용이 이전 polling 과 같아 MatchTeam/MatchPlayer/Event 처리를 건너뛸 때 사용합니다.
+     *
+     * @param fixture 영속 상태의 FixtureApiSports (core 포함)
+     * @param baseDto 기본 경기 정보 DTO
+     */
+    @Transactional
+    fun syncFixtureStatus(
+        fixture: FixtureApiSports,
+        baseDto: FixtureApiSportsDto,
+    ) {
+        val core = fixture.core
+        if (core != null) updateFixtureCore(core, baseDto)
+        updateFixtureApiSports(fixture, baseDto)
+        log.info("Fixture status synced - fixtureApiId={}, status={}", fixture.apiId, fixture.status)
+    }
+
     private fun updateFixtureCore(
         fixtureCore: FixtureCore,
         baseDto: FixtureApiSportsDto,
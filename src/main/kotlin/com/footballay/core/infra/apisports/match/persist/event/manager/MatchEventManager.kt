@@ -70,6 +70,13 @@ class MatchEventManager(
                 eventChangeSet.deleteCount,
             )
 
+            // 기존 이벤트가 삭제되거나 내용이 바뀌면 이벤트 revision 증가 - 변경분 조회 클라이언트가 전체를 다시 받도록 (뒤에 추가만 되면 유지)
+            if (eventChangeSet.deleteCount > 0 || eventChangeSet.changedCount > 0) {
+                val fixture = entityBundle.fixture!!
+                fixture.eventRevision++
+                log.info("Event revision bumped - fixtureApiId={}, revision={}", fixture.apiId, fixture.eventRevision)
+            }
+
             // Event 엔티티 저장 - 데이터베이스에 변경사항 적용
             val savedEvents = persistEventChanges(eventChangeSet)
 
@@ -115,7 +115,7 @@ object MatchEventChangePlanner {
                 .associate { dto ->
                     dto.sequence to MatchedPair(dto, entityEvents[dto.sequence]!!)
                 }
-        val toRetain = buildRetainedEntities(matchedPairs, allMatchPlayers)
+        val toRetain = buildRetainedEntities(matchedPairs, homeTeam, awayTeam, allMatchPlayers)
 
         // 4단계: 효율적인 고아 엔티티 → 삭제 계획 - Entity에만 있고 DTO에 없는 엔티티들
         val toDelete = calculateOrphanEntities(dtoEvents, entityEvents)
@@ -125,10 +125,12 @@ object MatchEventChangePlanner {
                 toCreate = toCreate,
                 toRetain = toRetain,
                 toDelete = toDelete,
+                changedSequences = toRetain.mapTo(HashSet()) { it.sequence },
             )
 
         log.info(
-            "Event change planning completed - Create: ${changeSet.createCount}, Retain: ${changeSet.retainedCount}, Delete: ${changeSet.deleteCount}",
+            "Event change planning completed - Create: ${changeSet.createCount}, Retain: ${changeSet.retainedCount}, " +
+                "Changed: ${changeSet.changedCount}, Delete: ${changeSet.deleteCount}",
         )
 
         return changeSet
@@ -317,21 +319,28 @@ object MatchEventChangePlanner {
      *
      * **변경사항 확인 항목:**
      * - elapsedTime, extraTime, eventType, detail, comments
+     * - matchTeam (teamApiId 기반)
      * - player, assist (MatchPlayerKey 기반)
      *
      * @param matched 매칭된 DTO-Entity 쌍 맵
+     * @param homeTeam 홈팀 MatchTeam
+     * @param awayTeam 원정팀 MatchTeam
      * @param allMatchPlayers 모든 MatchPlayer 엔티티들 (key: MatchPlayerKey, value: ApiSportsMatchPlayer)
      * @return 유지할 Event 엔티티 목록
      */
     private fun buildRetainedEntities(
         matched: Map<Int, MatchedPair>,
+        homeTeam: ApiSportsMatchTeam?,
+        awayTeam: ApiSportsMatchTeam?,
         allMatchPlayers: Map<String, ApiSportsMatchPlayer>,
     ): List<ApiSportsMatchEvent> =
         matched.values.mapNotNull { pair ->
-            if (hasFieldChanges(pair.entity, pair.dto, allMatchPlayers)) {
+            val currentTeam = findMatchTeam(pair.dto.teamApiId, homeTeam, awayTeam)
+            if (hasFieldChanges(pair.entity, pair.dto, currentTeam, allMatchPlayers)) {
                 // 직접 필드 업데이트 - 변경사항이 있는 경우에만 업데이트
                 pair.entity
                     .apply {
+                        matchTeam = currentTeam
                         elapsedTime = pair.dto.elapsedTime
                         extraTime = pair.dto.extraTime
                         eventType = pair.dto.eventType
@@ -353,6 +362,7 @@ object MatchEventChangePlanner {
      *
      * **확인 항목:**
      * - elapsedTime, extraTime, eventType, detail, comments
+     * - matchTeam (팀 API ID 로 비교)
      * - player, assist (MatchPlayerKey 기반으로 찾은 MatchPlayer)
      *
      * **성능 최적화:**
@@ -360,12 +370,14 @@ object MatchEventChangePlanner {
      *
      * @param entity 기존 Event 엔티티
      * @param dto 새로운 Event DTO
+     * @param currentTeam DTO 의 teamApiId 로 찾은 MatchTeam
      * @param allMatchPlayers 모든 MatchPlayer 엔티티들 (key: MatchPlayerKey, value: ApiSportsMatchPlayer)
      * @return 변경사항이 있으면 true, 없으면 false
      */
     private fun hasFieldChanges(
         entity: ApiSportsMatchEvent,
         dto: MatchEventDto,
+        currentTeam: ApiSportsMatchTeam?,
         allMatchPlayers: Map<String, ApiSportsMatchPlayer>,
     ): Boolean {
         val currentPlayer = findMatchPlayer(dto.playerMpKey, allMatchPlayers)
@@ -376,6 +388,7 @@ object MatchEventChangePlanner {
             entity.eventType != dto.eventType ||
             entity.detail != dto.detail ||
             entity.comments != dto.comments ||
+            entity.matchTeam?.teamApiSports?.apiId != currentTeam?.teamApiSports?.apiId ||
             entity.player != currentPlayer ||
             entity.assist != currentAssist
     }
@@ -9,8 +9,9 @@ import com.footballay.core.infra.persistence.apisports.entity.live.ApiSportsMatc
  *
  * **구성 요소:**
  * - **toCreate**: 새로 생성할 Event 엔티티들 (sequence 순으로 정렬됨)
- * - **toRetain**: DTO와 매칭되어 유지될 Event 엔티티들 (변경 여부와 무관, sequence 순으로 정렬됨)
+ * - **toRetain**: DTO와 매칭되어 저장할 Event 엔티티들 (sequence 순으로 정렬됨)
  * - **toDelete**: 삭제할 Event 엔티티들 (sequence 순으로 정렬됨)
+ * - **changedSequences**: 매칭된 Event 중 sequence, 타입, 상세, 선수, 어시스트, 팀, 시간이 실제로 바뀐 sequence
  *
  * **사용 목적:**
  * - MatchEventChangePlanner에서 생성된 변경 계획을 담아서 전달
@@ -30,6 +31,7 @@ data class MatchEventChangeSet(
     val toCreate: List<ApiSportsMatchEvent>,
     val toRetain: List<ApiSportsMatchEvent>,
     val toDelete: List<ApiSportsMatchEvent>,
+    val changedSequences: Set<Int> = emptySet(),
 ) {
     /**
      * 전체 변경 작업 개수
@@ -52,12 +54,21 @@ data class MatchEventChangeSet(
     /**
      * 유지할 Event 개수
      *
-     * DTO와 매칭되어 유지될 Event 엔티티 개수를 반환합니다 (변경 여부와 무관).
+     * DTO와 매칭되어 저장할 Event 엔티티 개수를 반환합니다.
      *
      * @return 유지할 Event 개수
      */
     val retainedCount: Int get() = toRetain.size
 
+    /**
+     * 내용이 바뀐 기존 Event 개수
+     *
+     * 뒤에 새 Event 가 추가되기만 한 경우에는 0 입니다.
+     *
+     * @return 내용이 바뀐 기존 Event 개수
+     */
+    val changedCount: Int get() = changedSequences.size
+
     /**
      * 삭제할 Event 개수
      *
@@ -0,0 +1,56 @@
+package com.footballay.core.infra.apisports.match.plan
+
+/**
+ * 이번 polling 에서 다시 처리해야 하는 Match 저장 단위(section)
+ *
+ * 이전 polling 과 비교해 내용이 바뀐 section 만 true 입니다.
+ * DTO 추출기와 엔티티 Manager 는 자신의 section 이 바뀐 경우에만 실행됩니다.
+ *
+ * **MatchPlayer 처리 조건:**
+ * MatchPlayer 는 lineup, event, playerStat 세 곳에서 수집되며
+ * [com.footballay.core.infra.apisports.match.persist.player.manager.MatchPlayerManager] 는 수집되지 않은 선수를 삭제합니다.
+ * 따라서 lineup 이나 등장 선수 목록([roster])이 바뀌면 세 section 을 모두 추출하여 완전한 MatchPlayerContext 로 처리해야 합니다.
+ * 선수 통계 수치만 바뀐 경우에는 MatchPlayer 처리를 건너뜁니다.
+ *
+ * @property base Fixture 기본 정보 (상태, 스코어, 팀, 경기장 등)
+ * @property lineup 라인업
+ * @property events 이벤트
+ * @property teamStats 팀 통계
+ * @property playerStats 선수 통계
+ * @property roster lineup, event, 선수 통계에 등장하는 선수 목록
+ */
+data class MatchSyncSections(
+    val base: Boolean,
+    val lineup: Boolean,
+    val events: Boolean,
+    val teamStats: Boolean,
+    val playerStats: Boolean,
+    val roster: Boolean,
+) {
+    /**
+     * MatchPlayer 를 다시 처리해야 하는지 여부
+     */
+    val players: Boolean
+        get() = lineup || roster
+
+    /**
+     * 로그용 변경 section 이름 목록
+     */
+    fun changedNames(): List<String> =
+        buildList {
+            if (base) add("base")
+            if (lineup) add("lineup")
+            if (events) add("events")
+            if (teamStats) add("teamStats")
+            if (playerStats) add("playerStats")
+            if (roster) add("roster")
+        }
+
+    companion object {
+        /**
+         * 모든 section 을 처리합니다. 이전 polling 정보가 없을 때 사용합니다.
+         */
+        val ALL =
+            MatchSyncSections(base = true, lineup = true, events = true, teamStats = true, playerStats = true, roster = true)
+    }
+}
@@ -2,6 +2,7 @@ package com.footballay.core.infra.apisports.match.plan.loader
 
 import com.footballay.core.infra.apisports.match.plan.context.MatchEntityBundle
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.persistence.apisports.entity.FixtureApiSports
 
 interface MatchDataLoader {
     fun loadContext(
@@ -9,4 +10,9 @@ interface MatchDataLoader {
         context: MatchPlayerContext,
         entityBundle: MatchEntityBundle,
     )
+
+    /**
+     * 경기 상태 갱신에 필요한 Fixture 만 로드합니다. (MatchTeam, MatchPlayer, Event 제외)
+     */
+    fun loadFixtureOnly(fixtureApiId: Long): FixtureApiSports?
 }
@@ -2,6 +2,7 @@ package com.footballay.core.infra.apisports.match.plan.loader
 
 import com.footballay.core.infra.apisports.match.plan.context.MatchEntityBundle
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.persistence.apisports.entity.FixtureApiSports
 import com.footballay.core.infra.persistence.apisports.entity.live.ApiSportsMatchPlayer
 import com.footballay.core.logger
 import org.springframework.stereotype.Component
@@ -69,4 +70,10 @@ class MatchDataLoaderImpl(
         val playerStatsCount = entityBundle.getAllPlayerStats().size
         log.info("Loaded {} MatchPlayers with {} PlayerStats", allMatchPlayersMap.size, playerStatsCount)
     }
+
+    @Transactional(readOnly = true)
+    override fun loadFixtureOnly(fixtureApiId: Long): FixtureApiSports? {
+        log.info("loading fixture only for fixtureApiId: {}", fixtureApiId)
+        return entityQueryService.loadFixtureWithCore(fixtureApiId)
+    }
 }
@@ -38,4 +38,11 @@ interface MatchEntityQueryService {
      * FixtureApiSports + ApiSportsMatchEvent[] (player, assist 포함)
      */
     fun loadFixtureWithEvents(fixtureApiId: Long): FixtureApiSports?
+
+    /**
+     * 4. Fixture + fixtureCore 조회
+     *
+     * 이벤트/선수 없이 경기 상태만 갱신할 때 사용합니다.
+     */
+    fun loadFixtureWithCore(fixtureApiId: Long): FixtureApiSports?
 }
@@ -48,4 +48,12 @@ class MatchEntityQueryServiceImpl(
         log.debug("Loading fixture with events for fixture: {}", fixtureApiId)
         return fixtureRepository.findEventsByFixtureApiId(fixtureApiId)
     }
+
+    /**
+     * Fixture + FixtureCore 조회
+     */
+    override fun loadFixtureWithCore(fixtureApiId: Long): FixtureApiSports? {
+        log.debug("Loading fixture with core for fixture: {}", fixtureApiId)
+        return fixtureRepository.findWithCoreByApiId(fixtureApiId)
+    }
 }
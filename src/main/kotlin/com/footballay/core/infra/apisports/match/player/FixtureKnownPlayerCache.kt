@@ -0,0 +1,103 @@
+package com.footballay.core.infra.apisports.match.player
+
+import com.footballay.core.logger
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Fixture 별로 이미 선수 동기화를 마친 선수 apiId 를 팀 단위로 보관합니다.
+ *
+ * Match polling 마다 응답에 등장한 선수를 PlayerApiSports/PlayerCore 로 사전 저장하는데,
+ * 경기 중에는 등장 선수가 거의 바뀌지 않으므로 처음 보는 선수가 있을 때만 동기화하면 됩니다.
+ *
+ * **저장 시점:**
+ * 트랜잭션 안에서 [remember] 하면 커밋 이후에 반영합니다.
+ * 롤백된 선수 저장을 기억하면 이후 polling 에서 선수가 영영 저장되지 않기 때문입니다.
+ *
+ * **Metrics:**
+ * - `footballay.match.sync.players` (result=synced|skipped) : 팀 단위 선수 동기화 실행/회피 횟수
+ */
+@Component
+class FixtureKnownPlayerCache(
+    meterRegistry: MeterRegistry,
+) {
+    private val log = logger()
+
+    /**
+     * fixtureApiId -> (teamApiId -> 선수 apiId 목록)
+     */
+    private val knownPlayers = ConcurrentHashMap<Long, ConcurrentHashMap<Long, Set<Long>>>()
+
+    private val syncedCounter: Counter = lookupCounter(meterRegistry, "synced")
+    private val skippedCounter: Counter = lookupCounter(meterRegistry, "skipped")
+
+    /**
+     * 처음 보는 선수가 포함되어 있는지 확인합니다.
+     *
+     * @return 이미 동기화한 선수만 있다면 false (동기화 회피로 집계)
+     */
+    fun hasUnknownPlayers(
+        fixtureApiId: Long,
+        teamApiId: Long,
+        playerApiIds: Collection<Long>,
+    ): Boolean {
+        val known = knownPlayers[fixtureApiId]?.get(teamApiId).orEmpty()
+        val hasUnknown = !known.containsAll(playerApiIds)
+        if (hasUnknown) syncedCounter.increment() else skippedCounter.increment()
+        return hasUnknown
+    }
+
+    /**
+     * 동기화에 성공한 선수들을 기억합니다.
+     */
+    fun remember(
+        fixtureApiId: Long,
+        teamApiId: Long,
+        playerApiIds: Collection<Long>,
+    ) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                object : TransactionSynchronization {
+                    override fun afterCommit() {
+                        merge(fixtureApiId, teamApiId, playerApiIds)
+                    }
+                },
+            )
+            return
+        }
+        merge(fixtureApiId, teamApiId, playerApiIds)
+    }
+
+    /**
+     * 더 이상 polling 하지 않는 fixture 의 선수 목록을 제거합니다.
+     */
+    fun evict(fixtureApiId: Long) {
+        if (knownPlayers.remove(fixtureApiId) != null) {
+            log.info("Evicted known players - fixtureApiId={}", fixtureApiId)
+        }
+    }
+
+    private fun merge(
+        fixtureApiId: Long,
+        teamApiId: Long,
+        playerApiIds: Collection<Long>,
+    ) {
+        knownPlayers
+            .computeIfAbsent(fixtureApiId) { ConcurrentHashMap() }
+            .merge(teamApiId, playerApiIds.toSet()) { old, new -> old + new }
+    }
+
+    private fun lookupCounter(
+        meterRegistry: MeterRegistry,
+        result: String,
+    ): Counter =
+        Counter
+            .builder("footballay.match.sync.players")
+            .description("Per-team player pre-sync before match sync (skipped = no unseen players)")
+            .tag("result", result)
+            .register(meterRegistry)
+}
@@ -1,15 +1,44 @@
 package com.footballay.core.infra.apisports.shared.config
 
 import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
 
 @ConfigurationProperties(prefix = "footballay.apisports")
 data class ApiSportsProperties(
     val url: String = "v3.football.api-sports.io",
     val scheme: String = "https",
     val headers: ApiSportsHeaders = ApiSportsHeaders(),
+    val http: ApiSportsHttpProperties = ApiSportsHttpProperties(),
 )
 
 data class ApiSportsHeaders(
     val xRapidapiKeyName: String = "mock-rapid-key-name",
     val xRapidapiKeyValue: String = "mock-api-key",
 )
+
+/**
+ * ApiSports HTTP transport 설정
+ *
+ * @property connectTimeout TCP/TLS 연결 timeout
+ * @property readTimeout 기본 read timeout (패킷 간 최대 대기)
+ * @property callTimeout 기본 전체 호출 timeout (연결 ~ body 수신 완료)
+ * @property maxIdleConnections keep-alive 로 유지할 최대 유휴 연결 수
+ * @property keepAlive 유휴 연결 유지 시간
+ * @property endpoints endpoint 별 timeout override. key 는 [com.footballay.core.infra.apisports.shared.fetch.impl.ApiSportsEndpoint.tag]
+ */
+data class ApiSportsHttpProperties(
+    val connectTimeout: Duration = Duration.ofSeconds(3),
+    val readTimeout: Duration = Duration.ofSeconds(10),
+    val callTimeout: Duration = Duration.ofSeconds(30),
+    val maxIdleConnections: Int = 8,
+    val keepAlive: Duration = Duration.ofMinutes(5),
+    val endpoints: Map<String, ApiSportsEndpointTimeout> = emptyMap(),
+)
+
+/**
+ * endpoint 별 timeout. 지정하지 않은 값은 [ApiSportsHttpProperties] 기본값을 따릅니다.
+ */
+data class ApiSportsEndpointTimeout(
+    val readTimeout: Duration? = null,
+    val callTimeout: Duration? = null,
+)
@@ -26,4 +26,20 @@ interface ApiSportsV3Fetcher {
     ): ApiSportsV3Envelope<ApiSportsFixture.OfLeague>
 
     fun fetchFixtureSingle(fixtureApiId: Long): ApiSportsV3Envelope<ApiSportsFixture.Single>
+
+    /**
+     * 여러 경기의 상세 정보를 한 번에 조회합니다. 응답 항목은 [fetchFixtureSingle] 과 같은 형태입니다.
+     *
+     * 존재하지 않는 id 는 응답에서 빠지므로, 호출하는 쪽에서 `fixture.id` 로 다시 나눠야 합니다.
+     *
+     * @param fixtureApiIds 최대 [MAX_FIXTURE_IDS] 개
+     */
+    fun fetchFixturesByIds(fixtureApiIds: List<Long>): ApiSportsV3Envelope<ApiSportsFixture.Single>
+
+    companion object {
+        /**
+         * `ids` 파라미터에 넣을 수 있는 최대 fixture 수 (ApiSports 제한)
+         */
+        const val MAX_FIXTURE_IDS = 20
+    }
 }
@@ -0,0 +1,23 @@
+package com.footballay.core.infra.apisports.shared.fetch.impl
+
+/**
+ * ApiSports 호출 단위
+ *
+ * [ApiSportsPaths] 는 같은 path 를 여러 용도로 사용하므로(`/fixtures`),
+ * timeout 설정과 metric tag 는 path 가 아니라 이 endpoint 이름을 기준으로 합니다.
+ *
+ * @property path 요청 path
+ * @property tag metric tag 및 설정 key 로 쓰는 이름
+ */
+enum class ApiSportsEndpoint(
+    val path: String,
+    val tag: String,
+) {
+    STATUS(ApiSportsPaths.status, "status"),
+    LEAGUES_CURRENT(ApiSportsPaths.leaguesCurrent, "leagues-current"),
+    TEAMS_OF_LEAGUE(ApiSportsPaths.teamsOfLeague, "teams-of-league"),
+    SQUAD_OF_TEAM(ApiSportsPaths.squadOfTeam, "squad-of-team"),
+    FIXTURES_OF_LEAGUE(ApiSportsPaths.fixturesOfLeague, "fixtures-of-league"),
+    FIXTURE_SINGLE(ApiSportsPaths.fixtureSingle, "fixture-single"),
+    FIXTURES_BY_IDS(ApiSportsPaths.fixturesByIds, "fixtures-by-ids"),
+}
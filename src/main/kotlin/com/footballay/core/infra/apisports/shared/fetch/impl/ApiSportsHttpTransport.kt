@@ -0,0 +1,195 @@
+package com.footballay.core.infra.apisports.shared.fetch.impl
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.footballay.core.infra.apisports.shared.config.ApiSportsProperties
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsCallContext
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsQuotaBudget
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsRateLimitHeaders
+import com.footballay.core.logger
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import okhttp3.ConnectionPool
+import okhttp3.Interceptor
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.asResponseBody
+import okio.Buffer
+import okio.ForwardingSource
+import okio.buffer
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.context.annotation.Profile
+import org.springframework.stereotype.Component
+import java.io.IOException
+import java.net.URI
+import java.util.EnumMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * ApiSports 전용 HTTP transport
+ *
+ * - keep-alive connection pool 을 모든 endpoint 가 공유합니다.
+ * - `Accept-Encoding` 을 직접 지정하지 않으므로 OkHttp 가 gzip 을 요청하고 투명하게 해제합니다.
+ * - endpoint 별 read/call timeout 은 [ApiSportsProperties.http] 에서 설정합니다.
+ * - 응답 body 를 문자열로 만들지 않고 stream 에서 바로 역직렬화합니다.
+ * - 요청 전 [ApiSportsQuotaBudget] 에서 현재 우선순위([ApiSportsCallContext])로 quota 를 얻고,
+ *   모든 응답(실패 포함)의 rate limit header 를 budget 에 반영합니다.
+ *
+ * **Metrics:**
+ * - `footballay.apisports.fetch.duration` (endpoint, outcome=success|http_error|io_error)
+ * - `footballay.apisports.fetch.bytes` (endpoint, encoding) : 압축 해제 전 실제 전송 byte 수
+ */
+@Profile("!mockapi")
+@Component
+class ApiSportsHttpTransport(
+    private val properties: ApiSportsProperties,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry,
+    private val quotaBudget: ApiSportsQuotaBudget,
+) : DisposableBean {
+    private val log = logger()
+
+    private val baseClient: OkHttpClient =
+        properties.http.let { http ->
+            OkHttpClient
+                .Builder()
+                .connectionPool(ConnectionPool(http.maxIdleConnections, http.keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(http.connectTimeout)
+                .readTimeout(http.readTimeout)
+                .callTimeout(http.callTimeout)
+                .retryOnConnectionFailure(true)
+                .addNetworkInterceptor(WireBytesInterceptor())
+                .build()
+        }
+
+    /**
+     * endpoint 별 client. [OkHttpClient.newBuilder] 로 만들어 connection pool 과 dispatcher 를 공유합니다.
+     */
+    private val clients: Map<ApiSportsEndpoint, OkHttpClient> =
+        ApiSportsEndpoint.entries.associateWithTo(EnumMap(ApiSportsEndpoint::class.java)) { endpoint ->
+            val override = properties.http.endpoints[endpoint.tag] ?: return@associateWithTo baseClient
+            baseClient
+                .newBuilder()
+                .apply { override.readTimeout?.let { readTimeout(it) } }
+                .apply { override.callTimeout?.let { callTimeout(it) } }
+                .build()
+        }
+
+    /**
+     * GET 요청 후 응답 body 를 [type] 으로 역직렬화합니다.
+     *
+     * @throws IllegalStateException 2xx 가 아닌 응답, body 가 없는 응답, 네트워크 오류
+     * @throws com.footballay.core.domain.football.exception.ApiRateLimitException 현재 우선순위로 quota 를 얻지 못한 경우
+     */
+    fun <T> get(
+        endpoint: ApiSportsEndpoint,
+        uri: URI,
+        type: TypeReference<T>,
+    ): T {
+        val request =
+            Request
+                .Builder()
+                .url(uri.toString())
+                .get()
+                .header(properties.headers.xRapidapiKeyName, properties.headers.xRapidapiKeyValue)
+                .header("Accept", "application/json")
+                .tag(ApiSportsEndpoint::class.java, endpoint)
+                .build()
+
+        quotaBudget.acquire(ApiSportsCallContext.currentPriority())
+
+        val sample = Timer.start(meterRegistry)
+        var outcome = "io_error"
+        try {
+            return clients.getValue(endpoint).newCall(request).execute().use { response ->
+                quotaBudget.record(ApiSportsRateLimitHeaders.of { response.header(it) })
+                if (!response.isSuccessful) {
+                    outcome = "http_error"
+                    throw IllegalStateException("ApiSports request failed - endpoint=${endpoint.tag}, status=${response.code}")
+                }
+                val body = response.body ?: throw IllegalStateException("Response body is null of ApiSports ${endpoint.tag}")
+                objectMapper.readValue(body.byteStream(), type).also { outcome = "success" }
+            }
+        } catch (e: IOException) {
+            log.warn("ApiSports request I/O failure - endpoint={}, uri={}", endpoint.tag, uri, e)
+            throw IllegalStateException("ApiSports request I/O failure - endpoint=${endpoint.tag}", e)
+        } finally {
+            sample.stop(durationTimer(endpoint, outcome))
+        }
+    }
+
+    private fun durationTimer(
+        endpoint: ApiSportsEndpoint,
+        outcome: String,
+    ): Timer =
+        Timer
+            .builder("footballay.apisports.fetch.duration")
+            .description("ApiSports fetch duration including body deserialization")
+            .tag("endpoint", endpoint.tag)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+
+    private fun bytesSummary(
+        endpoint: String,
+        encoding: String,
+    ): DistributionSummary =
+        DistributionSummary
+            .builder("footballay.apisports.fetch.bytes")
+            .description("ApiSports response bytes on the wire (before decompression)")
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .tag("encoding", encoding)
+            .register(meterRegistry)
+
+    override fun destroy() {
+        baseClient.dispatcher.executorService.shutdown()
+        baseClient.connectionPool.evictAll()
+    }
+
+    /**
+     * 압축 해제 전 body 를 세는 network interceptor
+     *
+     * network interceptor 는 OkHttp 의 gzip 해제보다 아래에서 동작하므로 실제 전송량을 볼 수 있습니다.
+     * 집계는 body 를 모두 읽거나 닫을 때 한 번만 합니다.
+     */
+    private inner class WireBytesInterceptor : Interceptor {
+        override fun intercept(chain: Interceptor.Chain): Response {
+            val response = chain.proceed(chain.request())
+            val body = response.body ?: return response
+            val endpoint = chain.request().tag(ApiSportsEndpoint::class.java)?.tag ?: "unknown"
+            val summary = bytesSummary(endpoint, response.header("Content-Encoding") ?: "identity")
+
+            val counting =
+                object : ForwardingSource(body.source()) {
+                    private var total = 0L
+                    private var recorded = false
+
+                    override fun read(
+                        sink: Buffer,
+                        byteCount: Long,
+                    ): Long {
+                        val read = super.read(sink, byteCount)
+                        if (read == -1L) record() else total += read
+                        return read
+                    }
+
+                    override fun close() {
+                        record()
+                        super.close()
+                    }
+
+                    private fun record() {
+                        if (recorded) return
+                        recorded = true
+                        summary.record(total.toDouble())
+                    }
+                }
+            return response
+                .newBuilder()
+                .body(counting.buffer().asResponseBody(body.contentType(), body.contentLength()))
+                .build()
+        }
+    }
+}
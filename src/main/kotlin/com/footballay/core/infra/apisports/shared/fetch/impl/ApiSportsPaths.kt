@@ -16,6 +16,13 @@ class ApiSportsPaths {
          */
         const val fixturesOfLeague: String = "/fixtures"
 
+        /**
+         * ex. ?ids=1208021-1208022-1208023
+         *
+         * up to 20 ids joined by '-', each item has the same shape as [fixtureSingle]
+         */
+        const val fixturesByIds: String = "/fixtures"
+
         /**
          * ex. ?current=true
          */
@@ -1,13 +1,12 @@
 package com.footballay.core.infra.apisports.shared.fetch.impl
 
-import com.footballay.core.bodyObject
+import com.fasterxml.jackson.module.kotlin.jacksonTypeRef
 import com.footballay.core.infra.apisports.shared.config.ApiSportsProperties
 import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
 import com.footballay.core.infra.apisports.shared.fetch.response.*
 import com.footballay.core.logger
 import org.springframework.context.annotation.Profile
 import org.springframework.stereotype.Component
-import org.springframework.web.client.RestClient
 import org.springframework.web.util.UriComponentsBuilder
 import java.net.URI
 
@@ -15,11 +14,13 @@ import java.net.URI
  * Implementation of [ApiSportsV3Fetcher] to fetch data from API Sports v3.
  *
  * Functions *TAKE SECONDS!* Don't use when the endpoint is called frequently.
+ *
+ * HTTP 연결, 압축, timeout, metric 은 [ApiSportsHttpTransport] 가 담당합니다.
  */
 @Profile("!mockapi")
 @Component
 class ApiSportsV3FetchImpl(
-    private val restClient: RestClient,
+    private val transport: ApiSportsHttpTransport,
     private val properties: ApiSportsProperties,
 ) : ApiSportsV3Fetcher {
     private val log = logger()
@@ -30,28 +31,24 @@ class ApiSportsV3FetchImpl(
 
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.status)
+                .path(ApiSportsEndpoint.STATUS.path)
                 .build()
                 .toUri()
         logNameAndUri("status", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3LiveStatusEnvelope<ApiSportsAccountStatus>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports Status")
+        return transport.get(ApiSportsEndpoint.STATUS, uri, jacksonTypeRef<ApiSportsV3LiveStatusEnvelope<ApiSportsAccountStatus>>())
     }
 
     override fun fetchLeaguesCurrent(): ApiSportsV3Envelope<ApiSportsLeague.Current> {
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.leaguesCurrent)
+                .path(ApiSportsEndpoint.LEAGUES_CURRENT.path)
                 .queryParam("current", true)
                 .build()
                 .toUri()
         logNameAndUri("leagues current", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3Envelope<ApiSportsLeague.Current>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports League Current")
+        return transport.get(ApiSportsEndpoint.LEAGUES_CURRENT, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsLeague.Current>>())
     }
 
     override fun fetchTeamsOfLeague(
@@ -60,30 +57,26 @@ class ApiSportsV3FetchImpl(
     ): ApiSportsV3Envelope<ApiSportsTeam.OfLeague> {
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.teamsOfLeague)
+                .path(ApiSportsEndpoint.TEAMS_OF_LEAGUE.path)
                 .queryParam("league", leagueApiId)
                 .queryParam("season", season)
                 .build()
                 .toUri()
         logNameAndUri("teams of league", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3Envelope<ApiSportsTeam.OfLeague>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports Teams of League")
+        return transport.get(ApiSportsEndpoint.TEAMS_OF_LEAGUE, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsTeam.OfLeague>>())
     }
 
     override fun fetchSquadOfTeam(teamApiId: Long): ApiSportsV3Envelope<ApiSportsPlayer.OfTeam> {
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.squadOfTeam)
+                .path(ApiSportsEndpoint.SQUAD_OF_TEAM.path)
                 .queryParam("team", teamApiId)
                 .build()
                 .toUri()
         logNameAndUri("squad of team", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3Envelope<ApiSportsPlayer.OfTeam>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports Squad of Team")
+        return transport.get(ApiSportsEndpoint.SQUAD_OF_TEAM, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsPlayer.OfTeam>>())
     }
 
     override fun fetchFixturesOfLeague(
@@ -92,40 +85,44 @@ class ApiSportsV3FetchImpl(
     ): ApiSportsV3Envelope<ApiSportsFixture.OfLeague> {
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.fixturesOfLeague)
+                .path(ApiSportsEndpoint.FIXTURES_OF_LEAGUE.path)
                 .queryParam("league", leagueApiId)
                 .queryParam("season", season)
                 .build()
                 .toUri()
         logNameAndUri("fixtures of league", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3Envelope<ApiSportsFixture.OfLeague>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports Fixtures of League")
+        return transport.get(ApiSportsEndpoint.FIXTURES_OF_LEAGUE, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsFixture.OfLeague>>())
     }
 
     override fun fetchFixtureSingle(fixtureApiId: Long): ApiSportsV3Envelope<ApiSportsFixture.Single> {
         val uri: URI =
             ApiSportsUriBuilder()
-                .path(ApiSportsPaths.fixtureSingle)
+                .path(ApiSportsEndpoint.FIXTURE_SINGLE.path)
                 .queryParam("id", fixtureApiId)
                 .build()
                 .toUri()
         logNameAndUri("fixture single", uri)
 
-        return apiSportsRestClientRequestBuild(uri)
-            .bodyObject<ApiSportsV3Envelope<ApiSportsFixture.Single>>()
-            ?: throw IllegalStateException("Response body is null of ApiSports Fixture Single")
+        return transport.get(ApiSportsEndpoint.FIXTURE_SINGLE, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsFixture.Single>>())
     }
 
-    private fun apiSportsRestClientRequestBuild(uri: URI) =
-        restClient
-            .get()
-            .uri(uri)
-            .header(properties.headers.xRapidapiKeyName, properties.headers.xRapidapiKeyValue)
-            .header("Accept", "application/json")
-            .header("Accept-Encoding", "identity") // gzip 압축 방지
-            .retrieve()
+    override fun fetchFixturesByIds(fixtureApiIds: List<Long>): ApiSportsV3Envelope<ApiSportsFixture.Single> {
+        require(fixtureApiIds.isNotEmpty()) { "fixtureApiIds must not be empty" }
+        require(fixtureApiIds.size <= ApiSportsV3Fetcher.MAX_FIXTURE_IDS) {
+            "fixtureApiIds must not exceed ${ApiSportsV3Fetcher.MAX_FIXTURE_IDS}, size=${fixtureApiIds.size}"
+        }
+
+        val uri: URI =
+            ApiSportsUriBuilder()
+                .path(ApiSportsEndpoint.FIXTURES_BY_IDS.path)
+                .queryParam("ids", fixtureApiIds.joinToString("-"))
+                .build()
+                .toUri()
+        logNameAndUri("fixtures by ids", uri)
+
+        return transport.get(ApiSportsEndpoint.FIXTURES_BY_IDS, uri, jacksonTypeRef<ApiSportsV3Envelope<ApiSportsFixture.Single>>())
+    }
 
     private fun ApiSportsUriBuilder() =
         UriComponentsBuilder
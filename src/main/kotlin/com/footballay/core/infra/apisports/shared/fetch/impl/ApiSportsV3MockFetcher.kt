@@ -528,6 +528,19 @@ class ApiSportsV3MockFetcher(
         )
     }
 
+    override fun fetchFixturesByIds(fixtureApiIds: List<Long>): ApiSportsV3Envelope<Single> {
+        log.info("Mock fetching fixtures by ids: $fixtureApiIds")
+        val fixtures = fixtureApiIds.flatMap { fetchFixtureSingle(it).response }
+        return ApiSportsV3Envelope(
+            get = "fixtures",
+            parameters = mapOf("ids" to fixtureApiIds.joinToString("-")),
+            errors = emptyList(),
+            results = fixtures.size,
+            paging = Paging(current = 1, total = 1),
+            response = fixtures,
+        )
+    }
+
     private fun createMockPremierLeagueTeams(): List<ApiSportsTeam.OfLeague> =
         listOf(
             // Manchester United (ID: 33)
@@ -0,0 +1,33 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+/**
+ * 현재 thread 에서 수행 중인 ApiSports 호출의 우선순위
+ *
+ * [ApiSportsV3Fetcher][com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher] 메서드는 우선순위를 인자로 받지 않으므로,
+ * 호출하는 쪽이 [withPriority] 로 감싸서 전달합니다. 지정하지 않은 호출은 [DEFAULT_PRIORITY] 로 취급합니다.
+ *
+ * Match sync 는 worker thread 에서 blocking 으로 수행되므로 ThreadLocal 로 충분합니다.
+ */
+object ApiSportsCallContext {
+    /**
+     * 관리자 수동 동기화 등 우선순위를 지정하지 않은 호출
+     */
+    val DEFAULT_PRIORITY = ApiSportsCallPriority.BACKBONE
+
+    private val current = ThreadLocal<ApiSportsCallPriority>()
+
+    fun currentPriority(): ApiSportsCallPriority = current.get() ?: DEFAULT_PRIORITY
+
+    fun <T> withPriority(
+        priority: ApiSportsCallPriority,
+        block: () -> T,
+    ): T {
+        val previous = current.get()
+        current.set(priority)
+        try {
+            return block()
+        } finally {
+            if (previous == null) current.remove() else current.set(previous)
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+import com.footballay.core.infra.dispatcher.match.JobContext
+
+/**
+ * ApiSports 호출 우선순위 (위에 있을수록 높음)
+ *
+ * 낮은 우선순위 호출은 상위 우선순위를 위해 남겨둔 quota(reserve)를 사용할 수 없습니다.
+ * quota 가 줄어들면 backbone → standings → post-match → pre-match 순으로 먼저 막히고,
+ * live 호출은 마지막까지 허용됩니다.
+ *
+ * @property minuteReserveRatio 분당 한도 중 상위 우선순위를 위해 남겨둘 비율
+ * @property dailyReserveRatio 일일 한도 중 상위 우선순위를 위해 남겨둘 비율
+ */
+enum class ApiSportsCallPriority(
+    val minuteReserveRatio: Double,
+    val dailyReserveRatio: Double,
+) {
+    LIVE(0.0, 0.0),
+    PRE_MATCH_LINEUP(0.1, 0.02),
+    POST_MATCH(0.2, 0.05),
+    STANDINGS(0.4, 0.15),
+    BACKBONE(0.5, 0.25),
+    ;
+
+    val tag: String = name.lowercase()
+
+    companion object {
+        fun of(phase: JobContext.JobPhase): ApiSportsCallPriority =
+            when (phase) {
+                JobContext.JobPhase.PRE_MATCH -> PRE_MATCH_LINEUP
+                JobContext.JobPhase.LIVE_MATCH -> LIVE
+                JobContext.JobPhase.POST_MATCH -> POST_MATCH
+            }
+    }
+}
@@ -0,0 +1,64 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+/**
+ * ApiSports 계정 quota 관리
+ *
+ * 모든 ApiSports 호출은 요청 전에 [acquire] 하고, 응답을 받으면 [record] 로 header 의 남은 한도를 반영합니다.
+ *
+ * @see TokenBucketApiSportsQuotaBudget
+ */
+interface ApiSportsQuotaBudget {
+    /**
+     * [priority] 로 요청 1건을 사용합니다. 여유가 생길 때까지 설정된 시간만큼 기다립니다.
+     *
+     * @throws com.footballay.core.domain.football.exception.ApiRateLimitException 대기 시간 안에 quota 를 얻지 못한 경우
+     */
+    fun acquire(priority: ApiSportsCallPriority)
+
+    /**
+     * 기다리지 않고 [priority] 로 요청 1건을 사용합니다.
+     *
+     * @return 사용했으면 true
+     */
+    fun tryAcquire(priority: ApiSportsCallPriority): Boolean
+
+    /**
+     * 응답 header 의 rate limit 값을 반영합니다. header 가 없으면 null 로 전달합니다.
+     */
+    fun record(headers: ApiSportsRateLimitHeaders)
+
+    /**
+     * 남은 일일 quota 에 따른 polling 간격 배수 (1 이면 원래 간격)
+     */
+    fun pollStride(): Int
+}
+
+/**
+ * ApiSports 응답의 rate limit header
+ *
+ * @property minuteLimit `X-RateLimit-Limit`
+ * @property minuteRemaining `X-RateLimit-Remaining`
+ * @property dailyLimit `x-ratelimit-requests-limit`
+ * @property dailyRemaining `x-ratelimit-requests-remaining`
+ */
+data class ApiSportsRateLimitHeaders(
+    val minuteLimit: Int?,
+    val minuteRemaining: Int?,
+    val dailyLimit: Int?,
+    val dailyRemaining: Int?,
+) {
+    companion object {
+        const val MINUTE_LIMIT = "X-RateLimit-Limit"
+        const val MINUTE_REMAINING = "X-RateLimit-Remaining"
+        const val DAILY_LIMIT = "x-ratelimit-requests-limit"
+        const val DAILY_REMAINING = "x-ratelimit-requests-remaining"
+
+        fun of(header: (String) -> String?): ApiSportsRateLimitHeaders =
+            ApiSportsRateLimitHeaders(
+                minuteLimit = header(MINUTE_LIMIT)?.toIntOrNull(),
+                minuteRemaining = header(MINUTE_REMAINING)?.toIntOrNull(),
+                dailyLimit = header(DAILY_LIMIT)?.toIntOrNull(),
+                dailyRemaining = header(DAILY_REMAINING)?.toIntOrNull(),
+            )
+    }
+}
@@ -0,0 +1,44 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+import com.footballay.core.infra.dispatcher.match.MatchSyncQuotaPolicy
+import com.footballay.core.infra.dispatcher.match.MatchSyncRequest
+import com.footballay.core.logger
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * ApiSports quota 기반 [MatchSyncQuotaPolicy]
+ *
+ * - [admit]: [ApiSportsQuotaBudget.pollStride] 가 N 이면 fixture 별로 N 번 중 1 번만 실행합니다.
+ *   Quartz trigger 를 다시 등록하지 않고도 polling 간격이 N 배로 늘어납니다.
+ * - [runWithin]: Job 단계에 맞는 [ApiSportsCallPriority] 로 fetch 가 quota 를 사용하도록 합니다.
+ */
+@Component
+class ApiSportsQuotaMatchSyncPolicy(
+    private val budget: ApiSportsQuotaBudget,
+) : MatchSyncQuotaPolicy {
+    private val log = logger()
+
+    private val skippedPolls = ConcurrentHashMap<String, Int>()
+
+    override fun admit(request: MatchSyncRequest): Boolean {
+        val stride = budget.pollStride()
+        if (stride <= 1) {
+            skippedPolls.remove(request.fixtureUid)
+            return true
+        }
+
+        val fires = skippedPolls.merge(request.fixtureUid, 1) { old, one -> old + one }!!
+        if (fires < stride) {
+            log.info("Skipping poll to save ApiSports quota - fixtureUid={}, stride={}, fires={}", request.fixtureUid, stride, fires)
+            return false
+        }
+        skippedPolls.remove(request.fixtureUid)
+        return true
+    }
+
+    override fun <T> runWithin(
+        request: MatchSyncRequest,
+        block: () -> T,
+    ): T = ApiSportsCallContext.withPriority(ApiSportsCallPriority.of(request.jobContext.jobPhase), block)
+}
@@ -0,0 +1,32 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+import java.time.ZoneId
+import java.time.ZoneOffset
+
+/**
+ * ApiSports 계정 quota 설정
+ *
+ * 한도 값은 첫 응답을 받기 전까지 사용하는 초기값이며, 이후에는 응답 header 값으로 갱신됩니다.
+ *
+ * @property minuteLimit 분당 요청 한도 초기값 (`X-RateLimit-Limit`)
+ * @property dailyLimit 일일 요청 한도 초기값 (`x-ratelimit-requests-limit`)
+ * @property liveMaxWait live 호출이 분당 한도를 기다릴 수 있는 최대 시간
+ * @property maxWait 그 외 호출이 분당 한도를 기다릴 수 있는 최대 시간
+ * @property stretchBelowRatio 남은 일일 quota 비율이 이 값보다 낮아지면 polling 간격을 늘리기 시작
+ * @property maxStretch polling 간격을 늘릴 수 있는 최대 배수
+ * @property dailyResetZone 일일 한도가 초기화되는 자정의 기준 시간대 (ApiSports 는 UTC 00:00)
+ * @property dailyProbeInterval 일일 quota 를 다 쓴 것으로 계산된 동안 live 호출을 한 번씩 허용하는 간격
+ */
+@ConfigurationProperties(prefix = "footballay.apisports.quota")
+data class ApiSportsQuotaProperties(
+    val minuteLimit: Int = 300,
+    val dailyLimit: Int = 7500,
+    val liveMaxWait: Duration = Duration.ofSeconds(3),
+    val maxWait: Duration = Duration.ofSeconds(10),
+    val stretchBelowRatio: Double = 0.2,
+    val maxStretch: Int = 4,
+    val dailyResetZone: ZoneId = ZoneOffset.UTC,
+    val dailyProbeInterval: Duration = Duration.ofMinutes(5),
+)
@@ -0,0 +1,213 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+import com.footballay.core.domain.football.exception.ApiRateLimitException
+import com.footballay.core.logger
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.stereotype.Component
+import java.time.Clock
+import java.time.Instant
+import java.time.LocalDate
+import java.util.concurrent.TimeUnit
+import kotlin.math.ceil
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * Token bucket 기반 [ApiSportsQuotaBudget]
+ *
+ * **분당 한도:**
+ * 용량이 분당 한도인 bucket 을 초당 `한도 / 60` 속도로 채웁니다.
+ * 응답의 `X-RateLimit-Remaining` 이 로컬 계산보다 작으면 서버 값을 따릅니다 (다른 인스턴스/도구가 같은 계정을 쓰는 경우).
+ *
+ * **일일 한도:**
+ * 응답 header 의 남은 요청 수를 그대로 사용하고, 응답 사이에는 로컬에서 차감합니다.
+ * [ApiSportsQuotaProperties.dailyResetZone] 기준 자정이 지나면 남은 요청 수를 한도로 되돌립니다.
+ * 로컬 계산으로 일일 quota 가 바닥나도 [ApiSportsQuotaProperties.dailyProbeInterval] 마다 live 호출 하나를 허용하여,
+ * 그 응답 header 로 실제 남은 요청 수를 다시 맞춥니다.
+ *
+ * **우선순위:**
+ * [ApiSportsCallPriority] 별 reserve 를 제외한 quota 만 사용할 수 있으므로,
+ * quota 가 줄어들수록 낮은 우선순위부터 막힙니다.
+ *
+ * **Metrics:**
+ * - `footballay.apisports.quota.minute.tokens`
+ * - `footballay.apisports.quota.daily.remaining`
+ * - `footballay.apisports.quota.poll.stride`
+ * - `footballay.apisports.quota.denied` (priority)
+ */
+@Component
+class TokenBucketApiSportsQuotaBudget internal constructor(
+    private val properties: ApiSportsQuotaProperties,
+    private val meterRegistry: MeterRegistry,
+    private val clock: Clock,
+    private val nanoTime: () -> Long,
+) : ApiSportsQuotaBudget {
+    @Autowired
+    constructor(
+        properties: ApiSportsQuotaProperties,
+        meterRegistry: MeterRegistry,
+    ) : this(properties, meterRegistry, Clock.systemUTC(), System::nanoTime)
+
+    private val log = logger()
+
+    private var minuteLimit: Int = properties.minuteLimit
+    private var tokens: Double = properties.minuteLimit.toDouble()
+    private var lastRefillNanos: Long = nanoTime()
+
+    private var dailyLimit: Int = properties.dailyLimit
+    private var dailyRemaining: Int = properties.dailyLimit
+    private var nextDailyReset: Instant = nextDailyResetAfter(clock.instant())
+    private var lastProbeNanos: Long? = null
+
+    init {
+        Gauge
+            .builder("footballay.apisports.quota.minute.tokens", this) { it.currentTokens() }
+            .description("Available ApiSports requests in the per-minute bucket")
+            .register(meterRegistry)
+        Gauge
+            .builder("footballay.apisports.quota.daily.remaining", this) { it.currentDailyRemaining().toDouble() }
+            .description("Remaining ApiSports requests for the day")
+            .register(meterRegistry)
+        Gauge
+            .builder("footballay.apisports.quota.poll.stride", this) { it.pollStride().toDouble() }
+            .description("Poll interval multiplier applied because of the daily quota")
+            .register(meterRegistry)
+    }
+
+    override fun acquire(priority: ApiSportsCallPriority) {
+        val maxWait = if (priority == ApiSportsCallPriority.LIVE) properties.liveMaxWait else properties.maxWait
+        val deadline = nanoTime() + maxWait.toNanos()
+        while (true) {
+            if (tryAcquire(priority)) return
+            val wait = min(millisUntilAdmitted(priority), TimeUnit.NANOSECONDS.toMillis(deadline - nanoTime()))
+            if (wait <= 0) break
+            Thread.sleep(wait)
+        }
+        deniedCounter(priority).increment()
+        log.warn("ApiSports quota exhausted - priority={}, tokens={}, dailyRemaining={}", priority, currentTokens(), currentDailyRemaining())
+        throw ApiRateLimitException("ApiSports quota exhausted for priority=$priority")
+    }
+
+    @Synchronized
+    override fun tryAcquire(priority: ApiSportsCallPriority): Boolean {
+        refill()
+        rolloverDaily()
+        if (!isAdmitted(priority)) return tryProbe(priority)
+        tokens -= 1
+        dailyRemaining -= 1
+        return true
+    }
+
+    @Synchronized
+    override fun record(headers: ApiSportsRateLimitHeaders) {
+        refill()
+        rolloverDaily()
+        headers.minuteLimit?.takeIf { it > 0 }?.let { minuteLimit = it }
+        headers.minuteRemaining?.let { tokens = min(tokens, it.toDouble()) }
+        headers.dailyLimit?.takeIf { it > 0 }?.let { dailyLimit = it }
+        headers.dailyRemaining?.let { dailyRemaining = it }
+    }
+
+    /**
+     * 남은 일일 quota 비율이 [ApiSportsQuotaProperties.stretchBelowRatio] 보다 낮으면
+     * 비율에 반비례하여 polling 간격을 늘립니다. (예: 기준 20%, 남은 10% → 2배)
+     */
+    @Synchronized
+    override fun pollStride(): Int {
+        rolloverDaily()
+        val ratio = dailyRemaining.toDouble() / dailyLimit
+        if (ratio >= properties.stretchBelowRatio) return 1
+        val stretch = properties.stretchBelowRatio / max(ratio, MIN_RATIO)
+        return min(properties.maxStretch, ceil(stretch).toInt())
+    }
+
+    private fun isAdmitted(priority: ApiSportsCallPriority): Boolean {
+        val minuteReserve = minuteLimit * priority.minuteReserveRatio
+        val dailyReserve = dailyLimit * priority.dailyReserveRatio
+        return tokens >= 1 + minuteReserve && dailyRemaining >= 1 + dailyReserve
+    }
+
+    /**
+     * 일일 quota 가 바닥난 것으로 계산된 동안 live 호출을 [ApiSportsQuotaProperties.dailyProbeInterval] 마다 하나씩 허용합니다.
+     * 로컬 차감이 실제보다 많았거나 header 를 받지 못한 경우, probe 응답의 header 가 남은 요청 수를 바로잡습니다.
+     */
+    private fun tryProbe(priority: ApiSportsCallPriority): Boolean {
+        if (priority != ApiSportsCallPriority.LIVE || tokens < 1 || dailyRemaining >= 1) return false
+        val now = nanoTime()
+        val lastProbe = lastProbeNanos
+        if (lastProbe != null && now - lastProbe < properties.dailyProbeInterval.toNanos()) return false
+        lastProbeNanos = now
+        tokens -= 1
+        log.info("ApiSports daily quota exhausted locally, admitting live probe - dailyRemaining={}", dailyRemaining)
+        return true
+    }
+
+    /**
+     * 일일 한도 초기화 시각이 지났으면 남은 요청 수를 한도로 되돌립니다.
+     */
+    private fun rolloverDaily() {
+        val now = clock.instant()
+        if (now.isBefore(nextDailyReset)) return
+        dailyRemaining = dailyLimit
+        lastProbeNanos = null
+        nextDailyReset = nextDailyResetAfter(now)
+        log.info("ApiSports daily quota reset - dailyLimit={}, nextReset={}", dailyLimit, nextDailyReset)
+    }
+
+    private fun nextDailyResetAfter(instant: Instant): Instant =
+        LocalDate
+            .ofInstant(instant, properties.dailyResetZone)
+            .plusDays(1)
+            .atStartOfDay(properties.dailyResetZone)
+            .toInstant()
+
+    /**
+     * 분당 bucket 이 [priority] 를 허용할 만큼 채워질 때까지 남은 시간.
+     * 일일 quota 가 부족하면 기다려도 소용없으므로 0 을 반환합니다.
+     */
+    @Synchronized
+    private fun millisUntilAdmitted(priority: ApiSportsCallPriority): Long {
+        if (dailyRemaining < 1 + dailyLimit * priority.dailyReserveRatio) return 0
+        val missing = 1 + minuteLimit * priority.minuteReserveRatio - tokens
+        if (missing <= 0) return 1
+        return ceil(missing / refillPerNano() / NANOS_PER_MILLI).toLong().coerceAtLeast(1)
+    }
+
+    private fun refill() {
+        val now = nanoTime()
+        val elapsed = now - lastRefillNanos
+        if (elapsed <= 0) return
+        tokens = min(minuteLimit.toDouble(), tokens + elapsed * refillPerNano())
+        lastRefillNanos = now
+    }
+
+    private fun refillPerNano(): Double = minuteLimit / NANOS_PER_MINUTE
+
+    @Synchronized
+    private fun currentTokens(): Double {
+        refill()
+        return tokens
+    }
+
+    @Synchronized
+    private fun currentDailyRemaining(): Int {
+        rolloverDaily()
+        return dailyRemaining
+    }
+
+    private fun deniedCounter(priority: ApiSportsCallPriority): Counter =
+        Counter
+            .builder("footballay.apisports.quota.denied")
+            .description("ApiSports calls rejected because the quota for their priority ran out")
+            .tag("priority", priority.tag)
+            .register(meterRegistry)
+
+    companion object {
+        private const val NANOS_PER_MINUTE = 60_000_000_000.0
+        private const val NANOS_PER_MILLI = 1_000_000.0
+        private const val MIN_RATIO = 0.001
+    }
+}
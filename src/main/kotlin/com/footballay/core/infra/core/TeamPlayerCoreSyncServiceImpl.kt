@@ -1,6 +1,5 @@
 package com.footballay.core.infra.core
 
-import com.footballay.core.infra.persistence.apisports.repository.PlayerApiSportsRepository
 import com.footballay.core.infra.persistence.core.entity.PlayerCore
 import com.footballay.core.infra.persistence.core.entity.TeamCore
 import com.footballay.core.infra.persistence.core.entity.TeamPlayerCore
@@ -12,7 +11,6 @@ import org.springframework.stereotype.Service
 @Service
 class TeamPlayerCoreSyncServiceImpl(
     private val teamPlayerCoreRepository: TeamPlayerCoreRepository,
-    private val playerApiSportsRepository: PlayerApiSportsRepository,
 ) : TeamPlayerCoreSyncService {
     private val log = logger()
 
@@ -52,19 +50,8 @@ class TeamPlayerCoreSyncServiceImpl(
             return
         }
 
-        val existingRelationships = teamPlayerCoreRepository.findByTeamId(teamId)
-        val existingPlayerIds = existingRelationships.mapNotNull { it.player?.id }.toSet()
-
-        val newRelationships = mutableListOf<TeamPlayerCore>()
-        playerIds.forEach { playerId ->
-            if (!existingPlayerIds.contains(playerId)) {
-                val playerCore = playerCores.find { it.id == playerId }
-                if (playerCore != null) {
-                    val teamPlayerCore = TeamPlayerCore(team = teamCore, player = playerCore)
-                    newRelationships.add(teamPlayerCore)
-                }
-            }
-        }
+        val existingPlayerIds = teamPlayerCoreRepository.findByTeamId(teamId).mapNotNullTo(HashSet()) { it.player?.id }
+        val newRelationships = newRelationshipsOf(teamCore, playerCores, existingPlayerIds)
 
         if (newRelationships.isNotEmpty()) {
             teamPlayerCoreRepository.saveAll(newRelationships)
@@ -87,79 +74,26 @@ class TeamPlayerCoreSyncServiceImpl(
     ) {
         val teamId = teamCore.id ?: throw IllegalStateException("TeamCore must have an ID")
 
-        // 배치 처리를 위한 데이터 준비
-        val playerIds = playerCores.mapNotNull { it.id }
-        val processedPlayerApiIds = playerApiIds.toSet()
-
-        // 1. 현재 팀에 연결된 모든 연관관계를 한 번에 조회
-        val existingRelationships = teamPlayerCoreRepository.findByTeamId(teamId)
-        val existingPlayerIds = existingRelationships.mapNotNull { it.player?.id }.toSet()
-
-        // 2. 새로 추가되어야 할 연관관계를 배치로 생성
-        val newRelationships = mutableListOf<TeamPlayerCore>()
-        playerIds.forEach { playerId ->
-            if (!existingPlayerIds.contains(playerId)) {
-                val playerCore = playerCores.find { it.id == playerId }
-                if (playerCore != null) {
-                    val teamPlayerCore =
-                        TeamPlayerCore(
-                            team = teamCore,
-                            player = playerCore,
-                        )
-                    newRelationships.add(teamPlayerCore)
-                }
-            }
-        }
+        // 1. 현재 팀에 연결된 모든 연관관계를 선수의 apiId 와 함께 한 번에 조회
+        val existingRows = teamPlayerCoreRepository.findApiIdRowsByTeamId(teamId)
+        val existingPlayerIds = existingRows.mapTo(HashSet()) { it.playerCoreId }
 
-        // 배치로 새 연관관계 저장
+        // 2. 새로 추가되어야 할 연관관계를 batch insert
+        val newRelationships = newRelationshipsOf(teamCore, playerCores, existingPlayerIds)
         if (newRelationships.isNotEmpty()) {
             teamPlayerCoreRepository.saveAll(newRelationships)
             log.info(
-                "Added ${newRelationships.size} players to team: teamId=$teamId, playerIds=${newRelationships.map {
-                    it.player
-                        ?.id
-                }}",
+                "Added ${newRelationships.size} players to team: teamId=$teamId, playerIds=${newRelationships.map { it.player?.id }}",
             )
         }
 
-        // 3. 제거되어야 할 연관관계를 배치로 삭제
-        // 현재 팀에 속한 모든 PlayerCore의 apiId를 조회
-        val currentTeamPlayerApiIds =
-            existingRelationships
-                .mapNotNull { it.player?.id }
-                .mapNotNull { playerId ->
-                    playerApiSportsRepository.findByPlayerCoreId(playerId)?.apiId
-                }.toSet()
-
-        val relationshipsToRemove = mutableListOf<TeamPlayerCore>()
-
-        currentTeamPlayerApiIds.forEach { apiId ->
-            if (!processedPlayerApiIds.contains(apiId)) {
-                val playerCore =
-                    existingRelationships
-                        .find {
-                            it.player?.id?.let { playerId ->
-                                playerApiSportsRepository.findByPlayerCoreId(playerId)?.apiId == apiId
-                            } == true
-                        }?.player
-
-                if (playerCore != null) {
-                    val relationship = existingRelationships.find { it.player?.id == playerCore.id }
-                    if (relationship != null) {
-                        relationshipsToRemove.add(relationship)
-                    }
-                }
-            }
-        }
-
-        // 배치로 연관관계 삭제
-        if (relationshipsToRemove.isNotEmpty()) {
-            teamPlayerCoreRepository.deleteAll(relationshipsToRemove)
+        // 3. 이번 응답에 없는 apiId 의 선수 연관관계를 한 번의 DELETE 로 삭제 (apiId 가 없는 선수는 유지)
+        val processedPlayerApiIds = playerApiIds.toHashSet()
+        val rowsToRemove = existingRows.filter { it.playerApiId != null && it.playerApiId !in processedPlayerApiIds }
+        if (rowsToRemove.isNotEmpty()) {
+            teamPlayerCoreRepository.deleteAllByIdInBatch(rowsToRemove.map { it.teamPlayerId })
             log.info(
-                "Removed ${relationshipsToRemove.size} players from team: teamId=$teamId, playerIds=${relationshipsToRemove.map {
-                    it.player
-                        ?.id
-                }}",
+                "Removed ${rowsToRemove.size} players from team: teamId=$teamId, playerIds=${rowsToRemove.map { it.playerCoreId }}",
             )
         }
     }
@@ -177,4 +111,18 @@ class TeamPlayerCoreSyncServiceImpl(
             log.info("Team-player relationship not found for deletion: teamId=$teamId, playerId=$playerId")
         }
     }
+
+    /**
+     * 아직 연관관계가 없는 선수들의 연관관계를 만듭니다. 같은 선수가 여러 번 주어져도 한 번만 만듭니다.
+     *
+     * @param existingPlayerIds 이미 연관관계가 있는 PlayerCore id. 만든 선수의 id 가 추가됩니다.
+     */
+    private fun newRelationshipsOf(
+        teamCore: TeamCore,
+        playerCores: List<PlayerCore>,
+        existingPlayerIds: MutableSet<Long>,
+    ): List<TeamPlayerCore> =
+        playerCores
+            .filter { playerCore -> playerCore.id?.let { existingPlayerIds.add(it) } == true }
+            .map { playerCore -> TeamPlayerCore(team = teamCore, player = playerCore) }
 }
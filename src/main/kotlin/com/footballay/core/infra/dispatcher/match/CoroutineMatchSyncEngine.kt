@@ -0,0 +1,183 @@
+package com.footballay.core.infra.dispatcher.match
+
+import com.footballay.core.logger
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import kotlinx.coroutines.CoroutineName
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.launch
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Coroutine 기반 [MatchSyncEngine] 구현체
+ *
+ * 고정 크기 worker pool 위에서 coroutine worker 들이 bounded [Channel] 을 소비합니다.
+ * Quartz Job 은 [enqueue] 후 즉시 반환하므로 Quartz thread 수(5)와 무관하게
+ * 동시에 여러 라이브 경기를 처리할 수 있습니다.
+ *
+ * **동작 방식:**
+ * 1. [MatchSyncQuotaPolicy.admit] 가 거절하면 이번 polling 을 건너뜀 (quota 부족 시 간격 늘리기)
+ * 2. [enqueue] 시 fixtureUid 를 in-flight 집합에 등록 (이미 있으면 병합)
+ * 3. [MatchSyncLease] 를 얻음 (다른 인스턴스가 sync 중이면 거절)
+ * 4. 대기열에 `trySend` (가득 차면 거절)
+ * 5. worker 가 요청을 꺼내 [MatchSyncQuotaPolicy.runWithin] 안에서 [MatchDataSyncDispatcher.syncByFixtureUid] 실행
+ * 6. 완료 후 lease 반납, in-flight 집합에서 제거
+ *
+ * **Metrics:**
+ * - `footballay.match.sync.queue.depth`: 대기열 크기
+ * - `footballay.match.sync.start.lag`: 예정 실행 시각 대비 실제 시작 지연 (phase 별)
+ * - `footballay.match.sync.duration`: sync 소요 시간 (phase 별)
+ * - `footballay.match.sync.rejected`: 거절된 요청 수 (reason=coalesced|lease_held|queue_full|quota_stretched)
+ */
+@Component
+class CoroutineMatchSyncEngine(
+    private val dispatcher: MatchDataSyncDispatcher,
+    private val meterRegistry: MeterRegistry,
+    properties: MatchSyncEngineProperties,
+    private val quotaPolicy: MatchSyncQuotaPolicy,
+    private val lease: MatchSyncLease,
+) : MatchSyncEngine,
+    DisposableBean {
+    private val log = logger()
+
+    private val executor =
+        Executors.newFixedThreadPool(properties.workerCount) { runnable ->
+            Thread(runnable, "match-sync-worker-${threadSequence.incrementAndGet()}").apply { isDaemon = true }
+        }
+    private val scope =
+        CoroutineScope(SupervisorJob() + executor.asCoroutineDispatcher() + CoroutineName("match-sync-engine"))
+
+    private val queue = Channel<MatchSyncRequest>(properties.queueCapacity)
+    private val depth = AtomicInteger(0)
+    private val inFlightFixtures = ConcurrentHashMap.newKeySet<String>()
+
+    private val coalescedCounter: Counter = rejectedCounter("coalesced")
+    private val leaseHeldCounter: Counter = rejectedCounter("lease_held")
+    private val queueFullCounter: Counter = rejectedCounter("queue_full")
+    private val quotaStretchedCounter: Counter = rejectedCounter("quota_stretched")
+
+    init {
+        Gauge
+            .builder("footballay.match.sync.queue.depth", depth) { it.get().toDouble() }
+            .description("Pending match sync requests waiting for a worker")
+            .register(meterRegistry)
+
+        repeat(properties.workerCount) {
+            scope.launch {
+                for (request in queue) {
+                    process(request)
+                }
+            }
+        }
+        log.info(
+            "CoroutineMatchSyncEngine started - workers={}, queueCapacity={}",
+            properties.workerCount,
+            properties.queueCapacity,
+        )
+    }
+
+    override fun enqueue(request: MatchSyncRequest): Boolean {
+        if (!quotaPolicy.admit(request)) {
+            quotaStretchedCounter.increment()
+            return false
+        }
+
+        if (!inFlightFixtures.add(request.fixtureUid)) {
+            log.info("Match sync already pending or running, coalescing - fixtureUid={}", request.fixtureUid)
+            coalescedCounter.increment()
+            return false
+        }
+
+        if (!lease.tryAcquire(request.fixtureUid)) {
+            inFlightFixtures.remove(request.fixtureUid)
+            leaseHeldCounter.increment()
+            return false
+        }
+
+        depth.incrementAndGet()
+        val sendResult = queue.trySend(request)
+        if (sendResult.isFailure) {
+            depth.decrementAndGet()
+            lease.release(request.fixtureUid)
+            inFlightFixtures.remove(request.fixtureUid)
+            log.warn("Match sync queue is full, rejecting - fixtureUid={}, depth={}", request.fixtureUid, depth.get())
+            queueFullCounter.increment()
+            return false
+        }
+        return true
+    }
+
+    override fun queueDepth(): Int = depth.get()
+
+    private fun process(request: MatchSyncRequest) {
+        depth.decrementAndGet()
+        val phase = request.jobContext.jobPhase.name
+        val lag = Duration.between(request.scheduledAt, Instant.now())
+        startLagTimer(phase).record(lag.coerceAtLeast(Duration.ZERO))
+
+        try {
+            val result =
+                durationTimer(phase).recordCallable {
+                    quotaPolicy.runWithin(request) {
+                        dispatcher.syncByFixtureUid(request.fixtureUid, request.jobContext)
+                    }
+                }
+            log.info(
+                "Match sync completed - fixtureUid={}, phase={}, startLagMs={}, result={}",
+                request.fixtureUid,
+                phase,
+                lag.toMillis(),
+                result,
+            )
+        } catch (e: Exception) {
+            log.error("Match sync failed - fixtureUid={}, phase={}", request.fixtureUid, phase, e)
+        } finally {
+            lease.release(request.fixtureUid)
+            inFlightFixtures.remove(request.fixtureUid)
+        }
+    }
+
+    private fun startLagTimer(phase: String): Timer =
+        Timer
+            .builder("footballay.match.sync.start.lag")
+            .description("Delay between the scheduled poll time and the actual sync start")
+            .tag("phase", phase)
+            .register(meterRegistry)
+
+    private fun durationTimer(phase: String): Timer =
+        Timer
+            .builder("footballay.match.sync.duration")
+            .description("Match sync duration (fetch, extract, persist)")
+            .tag("phase", phase)
+            .register(meterRegistry)
+
+    private fun rejectedCounter(reason: String): Counter =
+        Counter
+            .builder("footballay.match.sync.rejected")
+            .description("Match sync requests not enqueued")
+            .tag("reason", reason)
+            .register(meterRegistry)
+
+    override fun destroy() {
+        log.info("Shutting down CoroutineMatchSyncEngine - pending={}", depth.get())
+        queue.close()
+        scope.cancel()
+        executor.shutdown()
+    }
+
+    companion object {
+        private val threadSequence = AtomicInteger(0)
+    }
+}
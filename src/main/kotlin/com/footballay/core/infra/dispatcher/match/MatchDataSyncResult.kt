@@ -41,12 +41,14 @@ sealed class MatchDataSyncResult {
      * @property isMatchFinished 경기가 종료되었는지 여부 (FT, AET, PEN 등)
      * @property elapsedMin 경기 경과 시간 (분)
      * @property statusShort 경기 상태 축약 코드 (NS, 1H, HT, 2H, FT 등)
+     * @property payloadUnchanged 직전 polling 과 응답 내용이 같았는지 여부 (polling 간격 조절에 사용)
      */
     data class Live(
         val kickoffTime: Instant?,
         val isMatchFinished: Boolean,
         val elapsedMin: Int?,
         val statusShort: String,
+        val payloadUnchanged: Boolean = false,
     ) : MatchDataSyncResult()
 
     /**
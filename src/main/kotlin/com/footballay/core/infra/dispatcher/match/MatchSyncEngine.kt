@@ -0,0 +1,47 @@
+package com.footballay.core.infra.dispatcher.match
+
+import java.time.Instant
+
+/**
+ * Match data sync 작업을 비동기로 실행하는 엔진
+ *
+ * Quartz Job 은 [enqueue] 로 fixtureUid 만 넘기고 즉시 반환합니다.
+ * 실제 fetch → extract → persist 는 엔진 내부 worker 가 [MatchDataSyncDispatcher] 를 통해 수행합니다.
+ * 이를 통해 1.5~3초 걸리는 sync 작업이 Quartz worker thread 를 점유하지 않도록 합니다.
+ *
+ * **보장 사항:**
+ * - 같은 fixtureUid 는 동시에 두 번 실행되지 않습니다 (per-fixture serialization)
+ * - 대기열이 가득 차면 요청을 거절합니다 (backpressure)
+ *
+ * @see CoroutineMatchSyncEngine
+ */
+interface MatchSyncEngine {
+    /**
+     * sync 요청을 대기열에 등록합니다.
+     *
+     * 같은 fixture 요청이 이미 대기 중이거나 실행 중이면 새 요청은 병합(무시)됩니다.
+     * 다음 polling 이 어차피 최신 데이터를 가져오므로 중복 실행할 이유가 없습니다.
+     *
+     * @param request sync 요청
+     * @return 대기열에 등록되었으면 true, 병합되었거나 대기열이 가득 찼으면 false
+     */
+    fun enqueue(request: MatchSyncRequest): Boolean
+
+    /**
+     * 현재 대기열에 쌓여 있는 요청 수
+     */
+    fun queueDepth(): Int
+}
+
+/**
+ * Match sync 요청
+ *
+ * @property fixtureUid 경기 고유 식별자
+ * @property jobContext Job 전환 관리를 위한 컨텍스트
+ * @property scheduledAt Quartz trigger 가 원래 실행되어야 했던 시각 (지연 측정 기준)
+ */
+data class MatchSyncRequest(
+    val fixtureUid: String,
+    val jobContext: JobContext,
+    val scheduledAt: Instant,
+)
@@ -0,0 +1,15 @@
+package com.footballay.core.infra.dispatcher.match
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * [CoroutineMatchSyncEngine] 설정
+ *
+ * @property workerCount 동시에 sync 를 수행할 worker 수
+ * @property queueCapacity 대기열 최대 크기. 초과 시 요청을 거절합니다.
+ */
+@ConfigurationProperties(prefix = "footballay.match-sync.engine")
+data class MatchSyncEngineProperties(
+    val workerCount: Int = 8,
+    val queueCapacity: Int = 64,
+)
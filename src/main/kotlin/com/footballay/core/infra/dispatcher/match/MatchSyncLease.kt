@@ -0,0 +1,27 @@
+package com.footballay.core.infra.dispatcher.match
+
+/**
+ * fixture 단위 match sync 실행권(lease)
+ *
+ * 여러 인스턴스가 같은 Quartz cluster 에 참여하면 trigger 는 한 인스턴스에서만 실행되지만,
+ * [MatchSyncEngine] 은 Job 이 반환된 뒤 비동기로 sync 하므로 이전 sync 가 끝나기 전에
+ * 다른 인스턴스가 같은 fixture 의 다음 trigger 를 실행할 수 있습니다.
+ * lease 는 한 fixture 를 동시에 한 인스턴스만 sync 하도록 보장합니다.
+ *
+ * @see com.footballay.core.infra.dispatcher.match.lease.RedisMatchSyncLease
+ */
+interface MatchSyncLease {
+    /**
+     * [fixtureUid] 의 lease 를 얻습니다.
+     *
+     * 인스턴스가 lease 를 반납하지 못하고 종료되어도 일정 시간 후 만료되어 다른 인스턴스가 이어받습니다.
+     *
+     * @return 얻었으면 true, 다른 인스턴스가 sync 중이면 false
+     */
+    fun tryAcquire(fixtureUid: String): Boolean
+
+    /**
+     * 이 인스턴스가 가진 [fixtureUid] 의 lease 를 반납합니다. 다른 인스턴스의 lease 는 건드리지 않습니다.
+     */
+    fun release(fixtureUid: String)
+}
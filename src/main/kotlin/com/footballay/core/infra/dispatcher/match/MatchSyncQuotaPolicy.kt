@@ -0,0 +1,30 @@
+package com.footballay.core.infra.dispatcher.match
+
+/**
+ * 외부 API 호출량(quota)을 고려한 match sync 실행 정책
+ *
+ * [MatchSyncEngine] 은 provider 와 무관하므로, quota 계산은 provider 별 구현체에 위임합니다.
+ *
+ * @see com.footballay.core.infra.apisports.shared.quota.ApiSportsQuotaMatchSyncPolicy
+ */
+interface MatchSyncQuotaPolicy {
+    /**
+     * 이번 polling 을 실행할지 결정합니다.
+     *
+     * 남은 quota 가 부족하면 일부 polling 을 건너뛰어 실질적인 polling 간격을 늘립니다.
+     * 경기 도중 quota 가 바닥나 동기화가 멈추는 것보다 간격이 늘어나는 편이 낫기 때문입니다.
+     *
+     * @return 실행해야 하면 true, 이번 polling 을 건너뛰어야 하면 false
+     */
+    fun admit(request: MatchSyncRequest): Boolean
+
+    /**
+     * [request] 의 우선순위를 적용한 상태로 [block] 을 실행합니다.
+     *
+     * [block] 안에서 발생하는 외부 API 호출은 이 요청의 우선순위로 quota 를 사용합니다.
+     */
+    fun <T> runWithin(
+        request: MatchSyncRequest,
+        block: () -> T,
+    ): T
+}
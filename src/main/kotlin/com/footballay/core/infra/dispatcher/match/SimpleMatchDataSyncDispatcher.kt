@@ -1,7 +1,9 @@
 package com.footballay.core.infra.dispatcher.match
 
 import com.footballay.core.infra.match.MatchSyncOrchestrator
+import com.footballay.core.infra.query.snapshot.MatchSnapshotPublisher
 import com.footballay.core.infra.scheduler.JobSchedulerService
+import com.footballay.core.infra.scheduler.cadence.LiveMatchCadencePolicy
 import com.footballay.core.logger
 import org.springframework.stereotype.Component
 import java.time.Instant
@@ -15,12 +17,14 @@ import java.time.Instant
  * **동작 방식:**
  * 1. 모든 Orchestrator에 대해 `isSupport(fixtureUid)` 호출
  * 2. 지원하는 Orchestrator를 찾으면 `syncMatchData(fixtureUid)` 호출
- * 3. 동기화 Result에 따라 Job 전환 결정 (JobContext가 있는 경우만)
- * 4. 지원하는 Orchestrator가 없으면 fallback 결과 반환
+ * 3. 동기화가 커밋되면 조회용 스냅샷 발행 ([MatchSnapshotPublisher])
+ * 4. 동기화 Result에 따라 Job 전환 결정 (JobContext가 있는 경우만)
+ * 5. 지원하는 Orchestrator가 없으면 fallback 결과 반환
  *
  * **Job 전환 로직:**
  * - PreMatch.readyForLive = true → LiveMatchJob 전환
  * - Live.isMatchFinished = true → PostMatchJob 전환
+ * - Live.isMatchFinished = false → [LiveMatchCadencePolicy] 에 따라 LiveMatchJob 간격 조절
  * - PostMatch.shouldStopPolling = true → Job 삭제
  *
  * @see MatchSyncOrchestrator
@@ -31,6 +35,8 @@ import java.time.Instant
 class SimpleMatchDataSyncDispatcher(
     private val orchestrators: List<MatchSyncOrchestrator>,
     private val jobSchedulerService: JobSchedulerService,
+    private val snapshotPublisher: MatchSnapshotPublisher,
+    private val cadencePolicy: LiveMatchCadencePolicy,
 ) : MatchDataSyncDispatcher {
     private val log = logger()
 
@@ -41,7 +47,10 @@ class SimpleMatchDataSyncDispatcher(
         // 1. Orchestrator를 통해 동기화 수행
         val result = performSync(fixtureUid)
 
-        // 2. JobContext가 있으면 Result에 따라 Job 관리
+        // 2. 조회용 스냅샷 발행
+        publishSnapshot(fixtureUid, result)
+
+        // 3. JobContext가 있으면 Result에 따라 Job 관리
         if (jobContext != null) {
             manageJobTransition(fixtureUid, result, jobContext)
         }
@@ -65,6 +74,27 @@ class SimpleMatchDataSyncDispatcher(
         )
     }
 
+    /**
+     * 동기화가 끝난 DB 상태로 조회용 스냅샷을 갱신합니다.
+     *
+     * Orchestrator 의 엔티티 저장 트랜잭션은 이미 커밋된 상태입니다.
+     * 스냅샷 발행 실패는 동기화 결과에 영향을 주지 않으며, 조회 API 는 DB 조회로 대체됩니다.
+     */
+    private fun publishSnapshot(
+        fixtureUid: String,
+        result: MatchDataSyncResult,
+    ) {
+        try {
+            when {
+                result is MatchDataSyncResult.Error -> return
+                result is MatchDataSyncResult.PostMatch && result.shouldStopPolling -> snapshotPublisher.retire(fixtureUid)
+                else -> snapshotPublisher.publish(fixtureUid)
+            }
+        } catch (e: Exception) {
+            log.warn("Failed to publish match snapshot - fixtureUid={}: {}", fixtureUid, e.message)
+        }
+    }
+
     /**
      * Result에 따라 Job 전환 관리
      *
@@ -109,11 +139,15 @@ class SimpleMatchDataSyncDispatcher(
 
                 if (result.isMatchFinished) {
                     log.info("LiveMatch → PostMatch transition - fixtureUid={}", fixtureUid)
+                    cadencePolicy.forget(fixtureUid)
                     jobSchedulerService.removeJob(jobContext.jobKey)
                     jobSchedulerService.addPostMatchJob(
                         fixtureUid = fixtureUid,
                         startTime = Instant.now(),
                     )
+                } else {
+                    val interval = cadencePolicy.nextInterval(fixtureUid, result)
+                    jobSchedulerService.rescheduleLiveMatchJob(fixtureUid, interval)
                 }
             }
 
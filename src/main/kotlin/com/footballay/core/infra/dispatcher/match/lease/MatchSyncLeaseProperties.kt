@@ -0,0 +1,15 @@
+package com.footballay.core.infra.dispatcher.match.lease
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * [RedisMatchSyncLease] 설정
+ *
+ * @property ttl lease 만료 시간. 대기열 대기 + sync 소요 시간보다 길어야 하며,
+ *               인스턴스가 죽었을 때 다른 인스턴스가 fixture 를 이어받기까지의 최대 지연이기도 합니다.
+ */
+@ConfigurationProperties(prefix = "footballay.match-sync.lease")
+data class MatchSyncLeaseProperties(
+    val ttl: Duration = Duration.ofSeconds(60),
+)
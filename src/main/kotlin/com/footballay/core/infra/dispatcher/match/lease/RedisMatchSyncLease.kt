@@ -0,0 +1,71 @@
+package com.footballay.core.infra.dispatcher.match.lease
+
+import com.footballay.core.infra.dispatcher.match.MatchSyncLease
+import com.footballay.core.logger
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Component
+import java.net.InetAddress
+import java.util.UUID
+
+/**
+ * Redis 기반 [MatchSyncLease]
+ *
+ * `SET key nodeId NX PX ttl` 로 lease 를 얻고, 반납은 값이 자신의 [nodeId] 일 때만 삭제합니다.
+ * 인스턴스가 죽으면 lease 는 [MatchSyncLeaseProperties.ttl] 후 만료되고,
+ * Quartz cluster 가 해당 인스턴스의 trigger 를 다른 인스턴스에서 실행하면서 fixture 가 재분배됩니다.
+ *
+ * **Redis 장애:** lease 확인에 실패하면 로그만 남기고 sync 를 허용합니다.
+ * 같은 trigger 는 Quartz cluster 가 한 인스턴스에서만 실행하므로, 중복 sync 보다 sync 중단을 더 피해야 하기 때문입니다.
+ */
+@Component
+class RedisMatchSyncLease(
+    private val redis: StringRedisTemplate,
+    private val properties: MatchSyncLeaseProperties,
+) : MatchSyncLease {
+    private val log = logger()
+
+    /**
+     * lease 소유자 식별자 (host 이름 + 프로세스별 임의 값)
+     */
+    val nodeId: String = "${hostName()}-${UUID.randomUUID().toString().take(8)}"
+
+    override fun tryAcquire(fixtureUid: String): Boolean =
+        try {
+            val acquired = redis.opsForValue().setIfAbsent(key(fixtureUid), nodeId, properties.ttl) == true
+            if (!acquired) {
+                log.info("Match sync lease held by another node - fixtureUid={}, owner={}", fixtureUid, redis.opsForValue().get(key(fixtureUid)))
+            }
+            acquired
+        } catch (e: Exception) {
+            log.warn("Failed to acquire match sync lease, allowing sync - fixtureUid={}", fixtureUid, e)
+            true
+        }
+
+    override fun release(fixtureUid: String) {
+        try {
+            redis.execute(RELEASE_SCRIPT, listOf(key(fixtureUid)), nodeId)
+        } catch (e: Exception) {
+            log.warn("Failed to release match sync lease - fixtureUid={}", fixtureUid, e)
+        }
+    }
+
+    private fun key(fixtureUid: String) = "$KEY_PREFIX$fixtureUid"
+
+    private fun hostName(): String = runCatching { InetAddress.getLocalHost().hostName }.getOrDefault("unknown")
+
+    companion object {
+        const val KEY_PREFIX = "match-sync:lease:"
+
+        private val RELEASE_SCRIPT =
+            DefaultRedisScript(
+                """
+                if redis.call('get', KEYS[1]) == ARGV[1] then
+                    return redis.call('del', KEYS[1])
+                end
+                return 0
+                """.trimIndent(),
+                Long::class.javaObjectType,
+            )
+    }
+}
@@ -64,7 +64,7 @@ interface ApiSportsBackboneSyncFacade {
      *
      * @param leagueApiId 리그의 ApiSports ID
      * @param season 시즌 연도
-     * @return 처리된 경기일정 수
+     * @return 처리된 경기일정 수 (변경이 없어 저장을 건너뛴 경기 포함)
      */
     fun syncFixturesOfLeagueWithSeason(
         leagueApiId: Long,
@@ -75,7 +75,7 @@ interface ApiSportsBackboneSyncFacade {
      * 특정 리그의 현재 시즌으로 경기일정을 Fetch하고 Sync합니다.
      *
      * @param leagueApiId 리그의 ApiSports ID
-     * @return 처리된 경기일정 수
+     * @return 처리된 경기일정 수 (변경이 없어 저장을 건너뛴 경기 포함)
      */
     fun syncFixturesOfLeagueWithCurrentSeason(leagueApiId: Long): FixturesSyncResult
 }
@@ -125,7 +125,7 @@ class ApiSportsBackboneSyncFacadeImpl(
         // fetchSquadOfTeam은 팀별로 응답이 와서, response는 하나의 team과 그 team의 players를 포함합니다
         val teamResponse = fetchResponse.response.first()
 
-        val dtos = teamResponse.players.map { mapToPlayerCreateDto(it) }
+        val dtos = teamResponse.toPlayerCreateDtos()
         playerSyncer.syncPlayersOfTeam(teamApiId, dtos)
 
         log.info("Successfully synced ${dtos.size} players for team $teamApiId")
@@ -203,8 +203,16 @@ class ApiSportsBackboneSyncFacadeImpl(
         val dtos = fixturesResp.response.map { mapToFixtureCreateDto(it) }
 
         return try {
-            val savedFixtures = fixtureSyncer.saveFixturesOfLeague(leagueApiId, dtos)
-            DomainResult.Success(savedFixtures.size)
+            val changedFixtures = fixtureSyncer.saveFixturesOfLeague(leagueApiId, dtos)
+            log.info(
+                "Fixtures of league synced - leagueApiId={}, season={}, fetched={}, changed={}, skipped={}",
+                leagueApiId,
+                season,
+                dtos.size,
+                changedFixtures.size,
+                dtos.size - changedFixtures.size,
+            )
+            DomainResult.Success(dtos.size)
         } catch (ex: Exception) {
             log.error(
                 "Failed to sync fixtures for leagueApiId={}, season={}. size={}",
@@ -344,11 +352,16 @@ class ApiSportsBackboneSyncFacadeImpl(
             surface = venue.surface,
             image = venue.image,
         )
+}
 
-    private fun mapToPlayerCreateDto(player: ApiSportsPlayer.OfTeam.PlayerInfo): PlayerApiSportsCreateDto {
-        log.debug("Mapping player: ${player.name} (${player.id})")
-
-        return PlayerApiSportsCreateDto(
+/**
+ * squad 응답을 [PlayerApiSportsSyncer.syncPlayersOfTeam] 입력으로 변환합니다.
+ *
+ * 단건 선수 sync 와 [ApiSportsLeagueDeepSyncFacadeImpl] 가 같은 변환을 사용합니다.
+ */
+internal fun ApiSportsPlayer.OfTeam.toPlayerCreateDtos(): List<PlayerApiSportsCreateDto> =
+    players.map { player ->
+        PlayerApiSportsCreateDto(
             apiId = player.id,
             name = player.name,
             age = player.age,
@@ -357,4 +370,3 @@ class ApiSportsBackboneSyncFacadeImpl(
             photo = player.photo,
         )
     }
-}
@@ -0,0 +1,31 @@
+package com.footballay.core.infra.facade
+
+import com.footballay.core.common.result.DomainFail
+import com.footballay.core.common.result.DomainResult
+
+/**
+ * 리그 하나를 팀 → 선수(squad) → 경기일정 순서로 한 번에 동기화하는 Facade
+ *
+ * 신규 리그 onboarding 시 팀마다 선수 sync 를 반복 호출하지 않도록,
+ * squad 조회는 bounded worker pool 로 병렬 수행하고 저장은 몇 개 팀 단위 transaction 으로 묶습니다.
+ * 작업은 비동기로 수행되며 진행 상황은 [progress] 로 조회합니다.
+ */
+interface ApiSportsLeagueDeepSyncFacade {
+    /**
+     * 리그 deep sync 를 시작합니다.
+     *
+     * 같은 리그의 deep sync 가 대기 중이거나 진행 중이면 거절합니다.
+     *
+     * @param leagueApiId 리그의 ApiSports ID
+     * @return 시작 시점의 진행 상황
+     */
+    fun start(leagueApiId: Long): DomainResult<LeagueDeepSyncProgress, DomainFail>
+
+    /**
+     * 가장 최근 deep sync 의 진행 상황을 조회합니다.
+     *
+     * @param leagueApiId 리그의 ApiSports ID
+     * @return 진행 상황. 이 인스턴스에서 실행한 적이 없으면 null
+     */
+    fun progress(leagueApiId: Long): LeagueDeepSyncProgress?
+}
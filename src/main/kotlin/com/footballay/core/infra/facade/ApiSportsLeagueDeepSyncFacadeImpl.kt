@@ -0,0 +1,322 @@
+package com.footballay.core.infra.facade
+
+import com.footballay.core.common.result.DomainFail
+import com.footballay.core.common.result.DomainResult
+import com.footballay.core.infra.apisports.LeagueApiSportsQueryService
+import com.footballay.core.infra.apisports.backbone.sync.player.PlayerApiSportsCreateDto
+import com.footballay.core.infra.apisports.backbone.sync.player.PlayerApiSportsSyncer
+import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsCallContext
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsCallPriority
+import com.footballay.core.infra.persistence.apisports.repository.TeamApiSportsRepository
+import com.footballay.core.logger
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * [ApiSportsLeagueDeepSyncFacade] 구현체
+ *
+ * **동작 방식:**
+ * 1. 팀: [ApiSportsBackboneSyncFacade.syncTeamsOfLeagueWithCurrentSeason]
+ * 2. 선수: 리그의 팀마다 squad 를 `squadParallelism` 개 worker 로 병렬 조회하고,
+ *    조회가 끝난 순서대로 `teamsPerTransaction` 개 팀씩 한 transaction 에서 저장합니다.
+ *    묶음 저장이 실패하면 해당 묶음만 팀 단위 transaction 으로 다시 저장합니다.
+ * 3. 경기일정: [ApiSportsBackboneSyncFacade.syncFixturesOfLeagueWithCurrentSeason]
+ *
+ * 모든 ApiSports 호출은 BACKBONE 우선순위로 quota 를 거치므로 live match sync 몫을 침범하지 않습니다.
+ * 리그 단위 작업은 coordinator thread 하나에서 차례로 수행합니다.
+ *
+ * **Metrics:**
+ * - `footballay.apisports.deep-sync.step.duration`: 단계별 소요 시간 (step=TEAMS|SQUADS|FIXTURES)
+ */
+@Service
+class ApiSportsLeagueDeepSyncFacadeImpl(
+    private val backboneSyncFacade: ApiSportsBackboneSyncFacade,
+    private val fetcher: ApiSportsV3Fetcher,
+    private val playerSyncer: PlayerApiSportsSyncer,
+    private val teamApiSportsRepository: TeamApiSportsRepository,
+    private val leagueQueryService: LeagueApiSportsQueryService,
+    private val meterRegistry: MeterRegistry,
+    private val properties: LeagueDeepSyncProperties,
+    transactionManager: PlatformTransactionManager,
+) : ApiSportsLeagueDeepSyncFacade,
+    DisposableBean {
+    private val log = logger()
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    private val coordinator =
+        Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "league-deep-sync").apply { isDaemon = true }
+        }
+    private val squadExecutor =
+        Executors.newFixedThreadPool(properties.squadParallelism) { runnable ->
+            Thread(runnable, "league-deep-sync-squad-${threadSequence.incrementAndGet()}").apply { isDaemon = true }
+        }
+
+    private val trackers = ConcurrentHashMap<Long, Tracker>()
+
+    override fun start(leagueApiId: Long): DomainResult<LeagueDeepSyncProgress, DomainFail> {
+        if (leagueApiId <= 0) {
+            return DomainResult.Fail(
+                DomainFail.Validation.single(
+                    code = "INVALID_LEAGUE_ID",
+                    message = "League API ID must be positive",
+                    field = "leagueApiId",
+                ),
+            )
+        }
+        leagueQueryService.findByApiId(leagueApiId)
+            ?: return DomainResult.Fail(DomainFail.NotFound(resource = "LEAGUE", id = leagueApiId.toString()))
+
+        val created = Tracker(leagueApiId)
+        val tracker =
+            trackers.compute(leagueApiId) { _, existing ->
+                if (existing != null && existing.state.inProgress) existing else created
+            }!!
+        if (tracker !== created) {
+            log.info("League deep sync already in progress - leagueApiId={}, state={}", leagueApiId, tracker.state)
+            return DomainResult.Fail(
+                DomainFail.Validation.single(
+                    code = "DEEP_SYNC_IN_PROGRESS",
+                    message = "Deep sync is already ${tracker.state} for league $leagueApiId",
+                    field = "leagueApiId",
+                ),
+            )
+        }
+
+        try {
+            coordinator.execute { run(created) }
+        } catch (ex: RejectedExecutionException) {
+            created.fail("Deep sync executor is shut down")
+            return DomainResult.Fail(DomainFail.Unknown("Deep sync executor is shut down"))
+        }
+        log.info("League deep sync queued - leagueApiId={}", leagueApiId)
+        return DomainResult.Success(created.snapshot())
+    }
+
+    override fun progress(leagueApiId: Long): LeagueDeepSyncProgress? = trackers[leagueApiId]?.snapshot()
+
+    private fun run(tracker: Tracker) {
+        val leagueApiId = tracker.leagueApiId
+        tracker.state = LeagueDeepSyncState.RUNNING
+        log.info("League deep sync started - leagueApiId={}", leagueApiId)
+
+        try {
+            val teamsResult =
+                step(tracker, LeagueDeepSyncStep.TEAMS) {
+                    backboneSyncFacade.syncTeamsOfLeagueWithCurrentSeason(leagueApiId)
+                }
+            if (teamsResult is DomainResult.Fail) {
+                tracker.fail("Teams sync failed: ${teamsResult.error}")
+                return
+            }
+
+            val teamApiIds =
+                teamApiSportsRepository
+                    .findAllByLeagueApiSportsApiId(leagueApiId)
+                    .mapNotNull { it.apiId }
+                    .distinct()
+            tracker.teamsTotal = teamApiIds.size
+            step(tracker, LeagueDeepSyncStep.SQUADS) { syncSquads(tracker, teamApiIds) }
+
+            val fixturesResult =
+                step(tracker, LeagueDeepSyncStep.FIXTURES) {
+                    backboneSyncFacade.syncFixturesOfLeagueWithCurrentSeason(leagueApiId)
+                }
+            when (fixturesResult) {
+                is DomainResult.Fail -> {
+                    tracker.fail("Fixtures sync failed: ${fixturesResult.error}")
+                    return
+                }
+                is DomainResult.Success -> tracker.fixturesSynced = fixturesResult.value
+            }
+
+            tracker.complete()
+            val progress = tracker.snapshot()
+            log.info(
+                "League deep sync completed - leagueApiId={}, teams={}/{}, teamsFailed={}, players={}, fixtures={}, stepDurationsMs={}",
+                leagueApiId,
+                progress.teamsSynced,
+                progress.teamsTotal,
+                progress.teamsFailed,
+                progress.playersSynced,
+                progress.fixturesSynced,
+                progress.stepDurationsMs,
+            )
+        } catch (ex: Exception) {
+            log.error("League deep sync failed - leagueApiId={}, step={}", leagueApiId, tracker.currentStep, ex)
+            tracker.fail(ex.message ?: ex.javaClass.simpleName)
+        }
+    }
+
+    /**
+     * squad 조회는 worker pool 에 모두 제출하고, 결과는 팀 순서대로 꺼내 묶음 단위로 저장합니다.
+     * 저장은 coordinator thread 에서만 수행하므로 같은 TeamCore/PlayerCore 를 동시에 쓰지 않습니다.
+     */
+    private fun syncSquads(
+        tracker: Tracker,
+        teamApiIds: List<Long>,
+    ) {
+        val fetches =
+            teamApiIds.map { teamApiId ->
+                teamApiId to
+                    CompletableFuture.supplyAsync({
+                        ApiSportsCallContext.withPriority(ApiSportsCallPriority.BACKBONE) {
+                            fetcher.fetchSquadOfTeam(teamApiId)
+                        }
+                    }, squadExecutor)
+            }
+
+        fetches.chunked(properties.teamsPerTransaction.coerceAtLeast(1)).forEach { chunk ->
+            val squads =
+                chunk.mapNotNull { (teamApiId, future) ->
+                    try {
+                        val response = future.join().response.firstOrNull()
+                        TeamSquad(teamApiId, response?.toPlayerCreateDtos().orEmpty())
+                    } catch (ex: CompletionException) {
+                        log.warn("Squad fetch failed - teamApiId={}", teamApiId, ex.cause ?: ex)
+                        tracker.teamsFailed.incrementAndGet()
+                        null
+                    }
+                }
+            persistSquads(tracker, squads)
+        }
+    }
+
+    private fun persistSquads(
+        tracker: Tracker,
+        squads: List<TeamSquad>,
+    ) {
+        // 빈 squad 는 단건 sync 와 마찬가지로 기존 관계를 건드리지 않습니다
+        val toPersist = squads.filter { it.players.isNotEmpty() }
+        if (toPersist.isEmpty()) {
+            squads.forEach { tracker.teamsSynced.incrementAndGet() }
+            return
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult {
+                toPersist.forEach { playerSyncer.syncPlayersOfTeam(it.teamApiId, it.players) }
+            }
+        } catch (ex: Exception) {
+            if (squads.size == 1) {
+                log.warn("Squad persist failed - teamApiId={}", squads.first().teamApiId, ex)
+                tracker.teamsFailed.incrementAndGet()
+                return
+            }
+            log.warn("Batched squad persist failed, retrying team by team - teamApiIds={}", squads.map { it.teamApiId }, ex)
+            squads.forEach { persistSquads(tracker, listOf(it)) }
+            return
+        }
+        tracker.teamsSynced.addAndGet(squads.size)
+        tracker.playersSynced.addAndGet(toPersist.sumOf { it.players.size })
+    }
+
+    private fun <T> step(
+        tracker: Tracker,
+        step: LeagueDeepSyncStep,
+        block: () -> T,
+    ): T {
+        tracker.currentStep = step
+        val startedAt = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            val elapsedNanos = System.nanoTime() - startedAt
+            tracker.stepDurationsMs[step] = TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+            Timer
+                .builder("footballay.apisports.deep-sync.step.duration")
+                .description("League deep sync step duration")
+                .tag("step", step.name)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS)
+        }
+    }
+
+    override fun destroy() {
+        coordinator.shutdownNow()
+        squadExecutor.shutdownNow()
+    }
+
+    private data class TeamSquad(
+        val teamApiId: Long,
+        val players: List<PlayerApiSportsCreateDto>,
+    )
+
+    /**
+     * coordinator thread 가 갱신하고 요청 thread 가 [snapshot] 으로 읽는 진행 상황
+     */
+    private class Tracker(
+        val leagueApiId: Long,
+    ) {
+        private val requestedAt: Instant = Instant.now()
+
+        @Volatile var state: LeagueDeepSyncState = LeagueDeepSyncState.QUEUED
+
+        @Volatile var currentStep: LeagueDeepSyncStep? = null
+
+        @Volatile var teamsTotal: Int = 0
+
+        @Volatile var fixturesSynced: Int = 0
+
+        @Volatile private var finishedAt: Instant? = null
+
+        @Volatile private var failureMessage: String? = null
+
+        val teamsSynced = AtomicInteger(0)
+        val teamsFailed = AtomicInteger(0)
+        val playersSynced = AtomicInteger(0)
+        val stepDurationsMs = ConcurrentHashMap<LeagueDeepSyncStep, Long>()
+
+        fun complete() {
+            finish(LeagueDeepSyncState.COMPLETED)
+        }
+
+        fun fail(message: String) {
+            failureMessage = message
+            finish(LeagueDeepSyncState.FAILED)
+        }
+
+        private fun finish(finalState: LeagueDeepSyncState) {
+            currentStep = null
+            finishedAt = Instant.now()
+            state = finalState
+        }
+
+        fun snapshot(): LeagueDeepSyncProgress =
+            LeagueDeepSyncProgress(
+                leagueApiId = leagueApiId,
+                state = state,
+                currentStep = currentStep,
+                teamsTotal = teamsTotal,
+                teamsSynced = teamsSynced.get(),
+                teamsFailed = teamsFailed.get(),
+                playersSynced = playersSynced.get(),
+                fixturesSynced = fixturesSynced,
+                stepDurationsMs =
+                    LeagueDeepSyncStep.entries
+                        .filter { it in stepDurationsMs }
+                        .associateWith { stepDurationsMs.getValue(it) },
+                requestedAt = requestedAt,
+                finishedAt = finishedAt,
+                failureMessage = failureMessage,
+            )
+    }
+
+    companion object {
+        private val threadSequence = AtomicInteger(0)
+    }
+}
@@ -2,6 +2,7 @@ package com.footballay.core.infra.facade
 
 import com.footballay.core.common.result.DomainFail
 import com.footballay.core.common.result.DomainResult
+import com.footballay.core.infra.apisports.backbone.sync.fixture.FixtureKickoffChangedEvent
 import com.footballay.core.infra.persistence.apisports.entity.FixtureApiSports
 import com.footballay.core.infra.persistence.apisports.repository.FixtureApiSportsRepository
 import com.footballay.core.infra.persistence.core.entity.FixtureCore
@@ -10,6 +11,8 @@ import com.footballay.core.infra.scheduler.JobSchedulerService
 import com.footballay.core.logger
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
 import java.time.Clock
 import java.time.Instant
 
@@ -23,6 +26,7 @@ import java.time.Instant
  * 2. PreMatchJob 등록 (킥오프 1시간 전부터 시작 권장)
  * 3. PreMatchJob → LiveMatchJob → PostMatchJob 자동 전환 (Dispatcher가 관리)
  * 4. Fixture available = false 설정 → 모든 Job 삭제
+ * 5. 경기일정 sync 로 킥오프가 바뀌면 [FixtureKickoffChangedEvent] 를 받아 Pre/Live Job 시작 시각 재설정
  */
 @Service
 class AvailableFixtureFacade(
@@ -46,7 +50,6 @@ class AvailableFixtureFacade(
      * - LiveMatchJob: kickoff 시간에 시작 (사전 등록)
      *
      * **개선 가능성:**
-     * - 추후 kickoff 시간 변경 이벤트 처리
      * - 미확정 경기에 대한 대기열 시스템 도입
      *
      * @param fixtureApiId FixtureApiSports API ID
@@ -235,6 +238,26 @@ class AvailableFixtureFacade(
         return DomainResult.Success(fixtureCore.uid)
     }
 
+    /**
+     * 킥오프 변경 시 Pre/Live Job 시작 시각 재설정
+     *
+     * 경기일정 sync transaction 이 commit 된 뒤에만 실행되어, rollback 된 킥오프로 Job 을 옮기지 않습니다.
+     * 이미 시작된 LiveMatchJob 은 건드리지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun onFixtureKickoffChanged(event: FixtureKickoffChangedEvent) {
+        val kickoff = event.kickoff
+        val preMatchStartTime = if (kickoff.isAfter(Instant.now(clock))) calculatePreMatchJobStartTime(kickoff) else null
+        val retimed = jobSchedulerService.retimeMatchJobs(event.fixtureUid, preMatchStartTime, kickoff)
+        log.info(
+            "Fixture kickoff changed - uid={}, {} -> {}, jobsRetimed={}",
+            event.fixtureUid,
+            event.previousKickoff,
+            kickoff,
+            retimed,
+        )
+    }
+
     /**
      * PreMatchJob 시작 시각 계산
      *
@@ -0,0 +1,44 @@
+package com.footballay.core.infra.facade
+
+import java.time.Instant
+
+/**
+ * 리그 deep sync 진행 상황 snapshot
+ *
+ * @property currentStep 진행 중인 단계. 대기 중이거나 끝났으면 null
+ * @property teamsTotal squad 를 동기화할 팀 수 (팀 단계가 끝난 뒤 결정)
+ * @property teamsSynced squad 저장까지 끝난 팀 수
+ * @property teamsFailed squad 조회 또는 저장에 실패한 팀 수 (개별 선수 sync 로 재시도 가능)
+ * @property stepDurationsMs 끝난 단계별 소요 시간 (ms)
+ */
+data class LeagueDeepSyncProgress(
+    val leagueApiId: Long,
+    val state: LeagueDeepSyncState,
+    val currentStep: LeagueDeepSyncStep?,
+    val teamsTotal: Int,
+    val teamsSynced: Int,
+    val teamsFailed: Int,
+    val playersSynced: Int,
+    val fixturesSynced: Int,
+    val stepDurationsMs: Map<LeagueDeepSyncStep, Long>,
+    val requestedAt: Instant,
+    val finishedAt: Instant?,
+    val failureMessage: String?,
+)
+
+enum class LeagueDeepSyncState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    ;
+
+    val inProgress: Boolean
+        get() = this == QUEUED || this == RUNNING
+}
+
+enum class LeagueDeepSyncStep {
+    TEAMS,
+    SQUADS,
+    FIXTURES,
+}
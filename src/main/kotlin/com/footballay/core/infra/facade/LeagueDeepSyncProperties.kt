@@ -0,0 +1,15 @@
+package com.footballay.core.infra.facade
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * [ApiSportsLeagueDeepSyncFacadeImpl] 설정
+ *
+ * @property squadParallelism 동시에 수행할 squad 조회 수. 호출은 모두 BACKBONE quota 를 거칩니다.
+ * @property teamsPerTransaction 한 transaction 에 묶어 저장할 팀 수
+ */
+@ConfigurationProperties(prefix = "footballay.apisports.deep-sync")
+data class LeagueDeepSyncProperties(
+    val squadParallelism: Int = 4,
+    val teamsPerTransaction: Int = 5,
+)
@@ -9,6 +9,10 @@ import org.hibernate.annotations.CacheConcurrencyStrategy
 import java.time.Instant
 
 @Entity
+@Table(
+    name = "fixture_api_sports",
+    indexes = [Index(name = "idx_fixture_api_sports_season", columnList = "season_id")],
+)
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 data class FixtureApiSports(
     @Id
@@ -60,6 +64,22 @@ data class FixtureApiSports(
     var awayTeam: ApiSportsMatchTeam? = null,
     @OneToMany(mappedBy = "fixtureApi", cascade = [CascadeType.ALL], fetch = FetchType.LAZY)
     var events: MutableList<ApiSportsMatchEvent> = mutableListOf(),
+    /**
+     * 마지막으로 반영한 경기일정 DTO 의 SHA-256 hash 입니다.
+     *
+     * 리그 경기일정 sync 에서 같은 hash 의 경기는 엔티티를 불러오지 않고 건너뜁니다.
+     * preventUpdate 경기나 아직 반영되지 않은 경기는 null 입니다.
+     */
+    @Column(name = "sync_hash", length = 64)
+    var syncHash: String? = null,
+    /**
+     * 이미 저장된 이벤트가 삭제되거나 바뀔 때마다 1씩 증가하는 이벤트 목록 revision 입니다.
+     *
+     * 새 이벤트가 뒤에 추가되기만 하면 증가하지 않으므로, 클라이언트가 가진 revision 과 같다면
+     * `afterSequence` 이후만 보내도 충분합니다.
+     */
+    @Column(name = "event_revision", nullable = false)
+    var eventRevision: Long = 0,
 ) {
     override fun toString(): String =
         "FixtureApiSports(id=$id, core.id=${core?.id}, apiId=$apiId, referee=$referee, " +
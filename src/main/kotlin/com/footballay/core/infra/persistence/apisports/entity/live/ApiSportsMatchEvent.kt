@@ -6,9 +6,16 @@ import jakarta.persistence.*
 @Entity
 @Table(
     name = "apisports_match_event",
+    indexes = [
+        Index(name = "idx_match_event_fixture_sequence", columnList = "fixture_api_id, sequence"),
+        Index(name = "idx_match_event_player", columnList = "player_id"),
+        Index(name = "idx_match_event_assist", columnList = "assist_id"),
+    ],
 )
 class ApiSportsMatchEvent(
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apisports_match_event_seq")
+    @SequenceGenerator(name = "apisports_match_event_seq", sequenceName = "apisports_match_event_seq", allocationSize = LiveEntitySequence.ALLOCATION_SIZE)
     var id: Long? = null,
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fixture_api_id")
@@ -20,9 +20,15 @@ import jakarta.persistence.*
     uniqueConstraints = [
         UniqueConstraint(columnNames = ["match_player_uid"]),
     ],
+    indexes = [
+        Index(name = "idx_match_player_match_team", columnList = "match_team_id"),
+        Index(name = "idx_match_player_player_apisports", columnList = "player_apisports_id"),
+    ],
 )
 class ApiSportsMatchPlayer(
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apisports_match_player_seq")
+    @SequenceGenerator(name = "apisports_match_player_seq", sequenceName = "apisports_match_player_seq", allocationSize = LiveEntitySequence.ALLOCATION_SIZE)
     var id: Long? = null,
     @Column(name = "match_player_uid", nullable = false, unique = true)
     var matchPlayerUid: String,
@@ -5,7 +5,9 @@ import jakarta.persistence.*
 @Entity
 @Table(name = "apisports_match_player_stat")
 class ApiSportsMatchPlayerStatistics(
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apisports_match_player_stat_seq")
+    @SequenceGenerator(name = "apisports_match_player_stat_seq", sequenceName = "apisports_match_player_stat_seq", allocationSize = LiveEntitySequence.ALLOCATION_SIZE)
     var id: Long? = null,
     @OneToOne(fetch = FetchType.LAZY, cascade = [CascadeType.ALL])
     @JoinColumn(name = "match_player_id", nullable = true)
@@ -14,7 +14,9 @@ import jakarta.persistence.*
     name = "apisports_match_team",
 )
 class ApiSportsMatchTeam(
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apisports_match_team_seq")
+    @SequenceGenerator(name = "apisports_match_team_seq", sequenceName = "apisports_match_team_seq", allocationSize = LiveEntitySequence.ALLOCATION_SIZE)
     var id: Long? = null,
     /**
      * TeamApiSports 직접 참조
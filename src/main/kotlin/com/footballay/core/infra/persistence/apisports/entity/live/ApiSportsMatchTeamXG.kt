@@ -16,7 +16,9 @@ import jakarta.persistence.*
     ],
 )
 class ApiSportsMatchTeamXG(
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apisports_match_team_xg_seq")
+    @SequenceGenerator(name = "apisports_match_team_xg_seq", sequenceName = "apisports_match_team_xg_seq", allocationSize = LiveEntitySequence.ALLOCATION_SIZE)
     var id: Long? = null,
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "match_team_statistics_id", nullable = false)
@@ -0,0 +1,13 @@
+package com.footballay.core.infra.persistence.apisports.entity.live
+
+/**
+ * Live 엔티티 id 생성 설정
+ *
+ * IDENTITY 는 INSERT 마다 id 를 돌려받아야 해서 JDBC batch insert 가 비활성화됩니다.
+ * 라인업이 들어오는 순간 선수/통계가 한 번에 수십 건 생성되므로 pooled sequence 로 id 를 미리 할당받습니다.
+ *
+ * DB sequence 의 INCREMENT 는 [ALLOCATION_SIZE] 와 같아야 합니다. (V3 migration)
+ */
+object LiveEntitySequence {
+    const val ALLOCATION_SIZE = 50
+}
@@ -12,6 +12,8 @@ interface FixtureApiSportsRepository : JpaRepository<FixtureApiSports, Long> {
     @EntityGraph(attributePaths = ["core"])
     fun findByCoreUid(coreUid: String): FixtureApiSports?
 
+    fun existsByCoreUid(coreUid: String): Boolean
+
     @Query("SELECT f FROM FixtureApiSports f JOIN f.core c WHERE c.uid = :coreUid")
     fun findByCoreUidWithJpql(
         @Param("coreUid") coreUid: String,
@@ -21,6 +23,20 @@ interface FixtureApiSportsRepository : JpaRepository<FixtureApiSports, Long> {
 
     fun findByApiId(apiId: Long): FixtureApiSports?
 
+    /**
+     * UID 기반 이벤트 revision 조회 (이벤트 변경분 조회용)
+     */
+    @Query("SELECT f.eventRevision FROM FixtureApiSports f JOIN f.core c WHERE c.uid = :fixtureUid")
+    fun findEventRevisionByCoreUid(
+        @Param("fixtureUid") fixtureUid: String,
+    ): Long?
+
+    /**
+     * ApiId 기반 Fixture + FixtureCore 조회 (경기 상태만 갱신할 때 사용)
+     */
+    @EntityGraph(attributePaths = ["core"])
+    fun findWithCoreByApiId(apiId: Long): FixtureApiSports?
+
     /**
      * Fixture 데이터 조회 (League+Season OR ApiId 기반)
      */
@@ -61,6 +77,48 @@ interface FixtureApiSportsRepository : JpaRepository<FixtureApiSports, Long> {
         @Param("seasonYear") seasonYear: Int,
     ): List<FixtureApiSports>
 
+    /**
+     * 경기일정 sync 변경 감지용 hash 조회 (League+Season OR ApiId 기반)
+     *
+     * 엔티티를 로딩하지 않으므로 변경되지 않은 경기는 영속성 컨텍스트에 올라오지 않습니다.
+     */
+    @Query(
+        """
+        SELECT new com.footballay.core.infra.persistence.apisports.repository.FixtureSyncHashRow(fas.apiId, fas.syncHash, fc.id)
+        FROM FixtureApiSports fas
+        LEFT JOIN fas.core fc
+        LEFT JOIN fas.season lass
+        LEFT JOIN lass.leagueApiSports las
+        WHERE (
+            (las.apiId = :leagueApiId AND lass.seasonYear = :seasonYear)
+            OR fas.apiId IN :fixtureApiIds
+        )
+    """,
+    )
+    fun findSyncHashRowsByLeagueSeasonOrApiIds(
+        @Param("leagueApiId") leagueApiId: Long,
+        @Param("seasonYear") seasonYear: Int,
+        @Param("fixtureApiIds") fixtureApiIds: List<Long>,
+    ): List<FixtureSyncHashRow>
+
+    /**
+     * 경기일정 sync 대상 Fixture 조회 (ApiId 기반)
+     *
+     * Core 가 없는 Fixture 도 포함합니다.
+     */
+    @Query(
+        """
+        SELECT fas FROM FixtureApiSports fas
+        LEFT JOIN FETCH fas.core fc
+        LEFT JOIN FETCH fas.season lass
+        LEFT JOIN FETCH fas.venue vas
+        WHERE fas.apiId IN :fixtureApiIds
+    """,
+    )
+    fun findAllForSyncByApiIdIn(
+        @Param("fixtureApiIds") fixtureApiIds: List<Long>,
+    ): List<FixtureApiSports>
+
     @Query(
         """
         SELECT f FROM FixtureApiSports f 
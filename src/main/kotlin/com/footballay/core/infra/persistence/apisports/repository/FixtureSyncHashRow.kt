@@ -0,0 +1,14 @@
+package com.footballay.core.infra.persistence.apisports.repository
+
+/**
+ * 경기일정 sync 변경 감지용 FixtureApiSports 요약
+ *
+ * @property apiId FixtureApiSports apiId
+ * @property syncHash 마지막으로 반영한 DTO hash. 반영 이력이 없으면 null
+ * @property coreId 연결된 FixtureCore id. Core 가 없으면 null
+ */
+data class FixtureSyncHashRow(
+    val apiId: Long,
+    val syncHash: String?,
+    val coreId: Long?,
+)
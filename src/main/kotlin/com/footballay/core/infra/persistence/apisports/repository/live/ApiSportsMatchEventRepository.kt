@@ -56,4 +56,40 @@ interface ApiSportsMatchEventRepository : JpaRepository<ApiSportsMatchEvent, Lon
     fun findByFixtureUidOrderBySequenceAsc(
         @Param("fixtureUid") fixtureUid: String,
     ): List<ApiSportsMatchEvent>
+
+    /**
+     * UID 기반으로 특정 sequence 이후 이벤트들을 sequence 순으로 조회합니다.
+     *
+     * (fixture_api_id, sequence) 인덱스로 범위 조회합니다.
+     */
+    @Query(
+        """
+        SELECT e FROM ApiSportsMatchEvent e
+        JOIN e.fixtureApi f
+        JOIN f.core c
+        WHERE c.uid = :fixtureUid AND e.sequence > :sequence
+        ORDER BY e.sequence ASC
+    """,
+    )
+    fun findByFixtureUidAndSequenceGreaterThanOrderBySequenceAsc(
+        @Param("fixtureUid") fixtureUid: String,
+        @Param("sequence") sequence: Int,
+    ): List<ApiSportsMatchEvent>
+
+    /**
+     * UID 기반으로 특정 경기의 마지막 이벤트 sequence 를 조회합니다.
+     *
+     * @return 이벤트가 없으면 null
+     */
+    @Query(
+        """
+        SELECT MAX(e.sequence) FROM ApiSportsMatchEvent e
+        JOIN e.fixtureApi f
+        JOIN f.core c
+        WHERE c.uid = :fixtureUid
+    """,
+    )
+    fun findMaxSequenceByFixtureUid(
+        @Param("fixtureUid") fixtureUid: String,
+    ): Int?
 }
@@ -11,7 +11,10 @@ import java.time.Instant
  *
  */
 @Entity
-@Table(name = "fixture_core")
+@Table(
+    name = "fixture_core",
+    indexes = [Index(name = "idx_fixture_core_league_kickoff", columnList = "league_id, kickoff")],
+)
 data class FixtureCore(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,13 +7,21 @@ import jakarta.persistence.GenerationType
 import jakarta.persistence.Id
 import jakarta.persistence.JoinColumn
 import jakarta.persistence.ManyToOne
+import jakarta.persistence.SequenceGenerator
 import jakarta.persistence.Table
 
+/**
+ * 팀-선수 연관관계
+ *
+ * 리그 동기화 시 팀마다 스쿼드 전체의 연관관계가 한 번에 생성되므로 JDBC batch insert 를 위해 pooled sequence 로 id 를 할당합니다.
+ * DB sequence 의 INCREMENT 는 allocationSize 와 같아야 합니다. (V5 migration)
+ */
 @Entity
 @Table(name = "team_player_core")
 class TeamPlayerCore(
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_player_core_seq")
+    @SequenceGenerator(name = "team_player_core_seq", sequenceName = "team_player_core_seq", allocationSize = 50)
     var id: Long? = null,
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_core_id", referencedColumnName = "id", nullable = false)
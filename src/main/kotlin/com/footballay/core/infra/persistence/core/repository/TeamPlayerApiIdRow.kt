@@ -0,0 +1,14 @@
+package com.footballay.core.infra.persistence.core.repository
+
+/**
+ * 팀-선수 연관관계와 선수의 ApiSports apiId
+ *
+ * @property teamPlayerId TeamPlayerCore id
+ * @property playerCoreId PlayerCore id
+ * @property playerApiId PlayerApiSports apiId. PlayerApiSports 가 없거나 apiId 가 없으면 null
+ */
+data class TeamPlayerApiIdRow(
+    val teamPlayerId: Long,
+    val playerCoreId: Long,
+    val playerApiId: Long?,
+)
@@ -2,6 +2,8 @@ package com.footballay.core.infra.persistence.core.repository
 
 import com.footballay.core.infra.persistence.core.entity.TeamPlayerCore
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
@@ -13,6 +15,21 @@ interface TeamPlayerCoreRepository : JpaRepository<TeamPlayerCore, Long> {
 
     fun findByTeamId(teamId: Long): List<TeamPlayerCore>
 
+    /**
+     * 팀의 모든 연관관계를 선수의 PlayerApiSports apiId 와 함께 한 번에 조회합니다.
+     * 엔티티를 로딩하지 않으므로 PlayerCore.apiSportsPlayer (양방향 1:1 의 반대편) 로 인한 선수별 추가 조회가 없습니다.
+     */
+    @Query(
+        "SELECT new com.footballay.core.infra.persistence.core.repository.TeamPlayerApiIdRow(tpc.id, p.id, pas.apiId) " +
+            "FROM TeamPlayerCore tpc " +
+            "JOIN tpc.player p " +
+            "LEFT JOIN PlayerApiSports pas ON pas.playerCore = p " +
+            "WHERE tpc.team.id = :teamId",
+    )
+    fun findApiIdRowsByTeamId(
+        @Param("teamId") teamId: Long,
+    ): List<TeamPlayerApiIdRow>
+
     fun deleteByTeamIdAndPlayerId(
         teamId: Long,
         playerId: Long,
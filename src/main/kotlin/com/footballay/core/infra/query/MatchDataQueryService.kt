@@ -2,6 +2,7 @@ package com.footballay.core.infra.query
 
 import com.footballay.core.common.result.DomainFail
 import com.footballay.core.common.result.DomainResult
+import com.footballay.core.domain.model.match.FixtureEventsDeltaModel
 import com.footballay.core.domain.model.match.FixtureEventsModel
 import com.footballay.core.domain.model.match.FixtureInfoModel
 import com.footballay.core.domain.model.match.FixtureLineupModel
@@ -15,6 +16,18 @@ interface MatchDataQueryService {
 
     fun getFixtureEvents(fixtureUid: String): DomainResult<FixtureEventsModel, DomainFail>
 
+    /**
+     * [afterSequence] 이후의 이벤트 변경분을 조회합니다.
+     * [clientEventRevision] 이 현재 revision 과 다르면 전체 이벤트와 tombstone 을 반환합니다.
+     *
+     * @see FixtureEventsDeltaModel
+     */
+    fun getFixtureEventsAfter(
+        fixtureUid: String,
+        afterSequence: Int,
+        clientEventRevision: Long?,
+    ): DomainResult<FixtureEventsDeltaModel, DomainFail>
+
     fun getFixtureLineup(fixtureUid: String): DomainResult<FixtureLineupModel, DomainFail>
 
     fun getFixtureStatistics(fixtureUid: String): DomainResult<FixtureStatisticsModel, DomainFail>
@@ -102,7 +102,7 @@ class MatchDataQueryServiceImpl(
         log.debug("Fetched {} events for fixture uid: {}", events.size, fixtureUid)
 
         return try {
-            val model = toFixtureEventsModel(fixtureUid, events)
+            val model = toFixtureEventsModel(fixtureUid, events, fixture.eventRevision)
             DomainResult.Success(model)
         } catch (e: Exception) {
             log.error("Error converting fixture events for uid: {}", fixtureUid, e)
@@ -115,6 +115,65 @@ class MatchDataQueryServiceImpl(
         }
     }
 
+    /**
+     * 경기 이벤트 변경분 조회 (afterSequence + eventRevision cursor)
+     *
+     * 이벤트 revision 과 마지막 sequence 를 먼저 확인하고, 클라이언트의 revision 이 같으면 cursor 이후 범위만 조회합니다.
+     * revision 이 다르면 기존 이벤트가 삭제/수정되었으므로 전체를 조회하여 tombstone 과 함께 반환합니다.
+     *
+     * @param fixtureUid Fixture UID
+     * @param afterSequence 클라이언트가 마지막으로 받은 sequence (처음이면 -1)
+     * @param clientEventRevision 클라이언트가 마지막으로 받은 이벤트 revision (모르면 null)
+     * @return DomainResult<FixtureEventsDeltaModel>
+     */
+    override fun getFixtureEventsAfter(
+        fixtureUid: String,
+        afterSequence: Int,
+        clientEventRevision: Long?,
+    ): DomainResult<FixtureEventsDeltaModel, DomainFail> {
+        val eventRevision =
+            fixtureApiSportsRepository.findEventRevisionByCoreUid(fixtureUid)
+                ?: return DomainResult.Fail(DomainFail.NotFound("Fixture", fixtureUid))
+
+        val lastSequence = matchEventRepository.findMaxSequenceByFixtureUid(fixtureUid) ?: FixtureEventsDeltaModel.NO_EVENT
+        val reset = FixtureEventsDeltaModel.needsReset(lastSequence, afterSequence, eventRevision, clientEventRevision)
+        val events =
+            if (reset) {
+                matchEventRepository.findByFixtureUidOrderBySequenceAsc(fixtureUid)
+            } else {
+                matchEventRepository.findByFixtureUidAndSequenceGreaterThanOrderBySequenceAsc(fixtureUid, afterSequence)
+            }
+        log.debug(
+            "Fetched {} events after sequence {} for fixture uid: {} (revision={}, reset={})",
+            events.size,
+            afterSequence,
+            fixtureUid,
+            eventRevision,
+            reset,
+        )
+
+        return try {
+            val eventInfos = events.map { toEventInfo(it) }
+            DomainResult.Success(
+                FixtureEventsDeltaModel(
+                    fixtureUid = fixtureUid,
+                    lastSequence = lastSequence,
+                    eventRevision = eventRevision,
+                    events = eventInfos,
+                    removedSequences = if (reset) FixtureEventsDeltaModel.removedSequences(eventInfos, afterSequence) else emptyList(),
+                ),
+            )
+        } catch (e: Exception) {
+            log.error("Error converting fixture events after sequence for uid: {}", fixtureUid, e)
+            DomainResult.Fail(
+                DomainFail.Validation.single(
+                    code = "FIXTURE_EVENTS_CONVERSION_ERROR",
+                    message = "Failed to convert fixture events: ${e.message}",
+                ),
+            )
+        }
+    }
+
     /**
      * 경기 라인업 조회 (홈/원정 선수 정보)
      *
@@ -265,10 +324,12 @@ class MatchDataQueryServiceImpl(
     private fun toFixtureEventsModel(
         fixtureUid: String,
         events: List<ApiSportsMatchEvent>,
+        eventRevision: Long,
     ): FixtureEventsModel =
         FixtureEventsModel(
             fixtureUid = fixtureUid,
             events = events.map { toEventInfo(it) },
+            eventRevision = eventRevision,
         )
 
     private fun toEventInfo(event: ApiSportsMatchEvent): FixtureEventsModel.EventInfo {
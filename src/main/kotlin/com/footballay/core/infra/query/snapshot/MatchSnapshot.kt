@@ -0,0 +1,28 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.footballay.core.domain.model.match.FixtureEventsModel
+import com.footballay.core.domain.model.match.FixtureInfoModel
+import com.footballay.core.domain.model.match.FixtureLineupModel
+import com.footballay.core.domain.model.match.FixtureLiveStatusModel
+import com.footballay.core.domain.model.match.FixtureStatisticsModel
+import java.time.Instant
+
+/**
+ * 동기화 직후의 경기 조회 데이터 전체를 담은 불변 스냅샷
+ *
+ * Match sync 가 커밋될 때마다 새로 만들어지며, 조회 API 는 DB 대신 이 스냅샷을 사용합니다.
+ *
+ * @property fixtureUid Fixture UID
+ * @property version 스냅샷 버전. 같은 fixture 안에서 단조 증가하며 캐시 무효화 기준이 됩니다.
+ * @property publishedAt 스냅샷 생성 시각
+ */
+data class MatchSnapshot(
+    val fixtureUid: String,
+    val version: Long,
+    val publishedAt: Instant,
+    val info: FixtureInfoModel,
+    val liveStatus: FixtureLiveStatusModel,
+    val events: FixtureEventsModel,
+    val lineup: FixtureLineupModel,
+    val statistics: FixtureStatisticsModel,
+)
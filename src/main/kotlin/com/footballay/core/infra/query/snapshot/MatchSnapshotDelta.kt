@@ -0,0 +1,115 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.footballay.core.domain.model.match.FixtureEventsModel
+import com.footballay.core.domain.model.match.FixtureLiveStatusModel
+import com.footballay.core.domain.model.match.FixtureStatisticsModel
+
+/**
+ * 직전 스냅샷 대비 변경분
+ *
+ * 구독 클라이언트는 [previousVersion] 이 자신이 가진 버전과 다르면 (메시지 유실) HTTP 조회로 전체를 다시 받아야 합니다.
+ *
+ * @property previousVersion 비교 기준 스냅샷 버전. 기준이 없으면 null 이며 모든 섹션이 채워집니다.
+ * @property liveStatus 스코어/상태/경과 시간이 바뀌었으면 새 값, 아니면 null
+ * @property events 새로 추가되었거나 내용이 바뀐 이벤트. [eventsReset] 이면 전체 이벤트
+ * @property eventsReset 기존 이벤트가 사라져 (VAR 취소 등) 클라이언트가 이벤트 목록을 교체해야 하는지 여부
+ * @property lineupChanged 라인업이 바뀌었는지 여부. 라인업은 변경이 드물어 본문 대신 재조회 신호만 보냅니다.
+ * @property infoChanged 경기 기본 정보(심판, 일정 등)가 바뀌었는지 여부. 라인업과 같이 재조회 신호만 보냅니다.
+ * @property statistics 팀 통계가 바뀐 팀과 통계가 바뀐 선수만 담은 통계. 변경이 없으면 null
+ */
+data class MatchSnapshotDelta(
+    val fixtureUid: String,
+    val version: Long,
+    val previousVersion: Long?,
+    val liveStatus: FixtureLiveStatusModel?,
+    val events: List<FixtureEventsModel.EventInfo>,
+    val eventsReset: Boolean,
+    val lineupChanged: Boolean,
+    val infoChanged: Boolean,
+    val statistics: FixtureStatisticsModel?,
+) {
+    /**
+     * 스냅샷 내용이 직전과 같은지 여부. 비어 있으면 새 버전을 만들지 않습니다.
+     */
+    fun isEmpty(): Boolean = liveStatus == null && events.isEmpty() && !eventsReset && !lineupChanged && !infoChanged && statistics == null
+
+    companion object {
+        /**
+         * 두 스냅샷의 변경분을 계산합니다.
+         *
+         * @param previous 직전 스냅샷. null 이면 [current] 전체를 변경분으로 취급합니다.
+         */
+        fun between(
+            previous: MatchSnapshot?,
+            current: MatchSnapshot,
+        ): MatchSnapshotDelta {
+            if (previous == null) {
+                return MatchSnapshotDelta(
+                    fixtureUid = current.fixtureUid,
+                    version = current.version,
+                    previousVersion = null,
+                    liveStatus = current.liveStatus,
+                    events = current.events.events,
+                    eventsReset = true,
+                    lineupChanged = true,
+                    infoChanged = true,
+                    statistics = current.statistics,
+                )
+            }
+
+            val previousEvents = previous.events.events.associateBy { it.sequence }
+            val currentSequences = current.events.events.mapTo(HashSet()) { it.sequence }
+            val eventsReset = previousEvents.keys.any { it !in currentSequences }
+
+            return MatchSnapshotDelta(
+                fixtureUid = current.fixtureUid,
+                version = current.version,
+                previousVersion = previous.version,
+                liveStatus = current.liveStatus.takeIf { it != previous.liveStatus },
+                events =
+                    if (eventsReset) {
+                        current.events.events
+                    } else {
+                        current.events.events.filter { previousEvents[it.sequence] != it }
+                    },
+                eventsReset = eventsReset,
+                lineupChanged = current.lineup != previous.lineup,
+                infoChanged = current.info != previous.info,
+                statistics = changedStatistics(previous.statistics, current.statistics),
+            )
+        }
+
+        private fun changedStatistics(
+            previous: FixtureStatisticsModel,
+            current: FixtureStatisticsModel,
+        ): FixtureStatisticsModel? {
+            if (previous == current) return null
+
+            val home = changedTeam(previous.home, current.home)
+            val away = changedTeam(previous.away, current.away)
+            if (home == null && away == null && previous.fixture == current.fixture) return null
+
+            return current.copy(home = home, away = away)
+        }
+
+        /**
+         * 팀 통계는 변경 시 그대로, 선수 통계는 바뀐 선수만 남깁니다.
+         */
+        private fun changedTeam(
+            previous: FixtureStatisticsModel.TeamWithStatistics?,
+            current: FixtureStatisticsModel.TeamWithStatistics?,
+        ): FixtureStatisticsModel.TeamWithStatistics? {
+            if (current == null || previous == current) return null
+            if (previous == null) return current
+
+            val previousPlayers = previous.playerStatistics.associateBy { playerKey(it.player) }
+            val changedPlayers = current.playerStatistics.filter { previousPlayers[playerKey(it.player)] != it }
+            if (changedPlayers.isEmpty() && previous.teamStatistics == current.teamStatistics && previous.team == current.team) {
+                return null
+            }
+            return current.copy(playerStatistics = changedPlayers)
+        }
+
+        private fun playerKey(player: FixtureStatisticsModel.PlayerInfoBasic): String = player.matchPlayerUid ?: "${player.name}|${player.number}"
+    }
+}
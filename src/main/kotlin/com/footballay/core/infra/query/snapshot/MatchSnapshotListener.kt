@@ -0,0 +1,11 @@
+package com.footballay.core.infra.query.snapshot
+
+/**
+ * 새 스냅샷이 발행될 때 변경분을 전달받는 리스너
+ *
+ * [MatchSnapshotPublisher] 가 스냅샷 저장에 성공하고 변경분이 있을 때만 호출합니다.
+ * 리스너의 실패는 스냅샷 발행에 영향을 주지 않습니다.
+ */
+interface MatchSnapshotListener {
+    fun onSnapshotPublished(delta: MatchSnapshotDelta)
+}
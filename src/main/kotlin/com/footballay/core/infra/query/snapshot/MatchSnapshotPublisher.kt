@@ -0,0 +1,19 @@
+package com.footballay.core.infra.query.snapshot
+
+/**
+ * Match sync 커밋 이후 조회용 [MatchSnapshot] 을 만들어 [MatchSnapshotStore] 에 반영합니다.
+ */
+interface MatchSnapshotPublisher {
+    /**
+     * 현재 DB 상태로 스냅샷을 만들어 저장합니다.
+     *
+     * @param fixtureUid Fixture UID
+     * @return 저장된 스냅샷. 조회 데이터를 만들 수 없으면 null
+     */
+    fun publish(fixtureUid: String): MatchSnapshot?
+
+    /**
+     * 더 이상 동기화하지 않는 경기의 스냅샷을 제거합니다.
+     */
+    fun retire(fixtureUid: String)
+}
@@ -0,0 +1,84 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.footballay.core.infra.query.MatchDataQueryService
+import com.footballay.core.logger
+import org.springframework.stereotype.Component
+import org.springframework.transaction.annotation.Transactional
+import java.time.Instant
+
+/**
+ * [MatchDataQueryService] 로 조회 데이터 5종을 한 번에 만들어 스냅샷으로 발행합니다.
+ *
+ * 조회 API 요청마다 실행되던 fetch join 쿼리를 sync 1회당 1번으로 줄이는 것이 목적입니다.
+ * 하나라도 조회에 실패하면 불완전한 스냅샷을 남기지 않도록 기존 스냅샷을 제거합니다.
+ *
+ * 저장에 성공하면 직전 스냅샷과의 변경분([MatchSnapshotDelta])을 [MatchSnapshotListener] 들에게 전달합니다.
+ *
+ * 내용이 직전 스냅샷과 같으면 버전을 올리지 않고 직전 스냅샷을 유지합니다.
+ * 따라서 저장된 모든 버전은 구독자에게 전달된 버전이며, 다음 변경분의 `previousVersion` 이 끊기지 않고
+ * 변경이 없는 동안 ETag 도 그대로 유지됩니다.
+ */
+@Component
+class MatchSnapshotPublisherImpl(
+    private val matchDataQueryService: MatchDataQueryService,
+    private val snapshotStore: MatchSnapshotStore,
+    private val listeners: List<MatchSnapshotListener>,
+) : MatchSnapshotPublisher {
+    private val log = logger()
+
+    @Transactional(readOnly = true)
+    override fun publish(fixtureUid: String): MatchSnapshot? {
+        val info = matchDataQueryService.getFixtureInfo(fixtureUid).getOrNull()
+        val liveStatus = matchDataQueryService.getFixtureLiveStatus(fixtureUid).getOrNull()
+        val events = matchDataQueryService.getFixtureEvents(fixtureUid).getOrNull()
+        val lineup = matchDataQueryService.getFixtureLineup(fixtureUid).getOrNull()
+        val statistics = matchDataQueryService.getFixtureStatistics(fixtureUid).getOrNull()
+
+        if (info == null || liveStatus == null || events == null || lineup == null || statistics == null) {
+            log.warn("Failed to build match snapshot, evicting - fixtureUid={}", fixtureUid)
+            snapshotStore.evict(fixtureUid)
+            return null
+        }
+
+        val now = Instant.now()
+        val previous = snapshotStore.get(fixtureUid)
+        val candidate =
+            MatchSnapshot(
+                fixtureUid = fixtureUid,
+                version = maxOf((previous?.version ?: 0L) + 1, now.toEpochMilli()),
+                publishedAt = now,
+                info = info,
+                liveStatus = liveStatus,
+                events = events,
+                lineup = lineup,
+                statistics = statistics,
+            )
+        val delta = MatchSnapshotDelta.between(previous, candidate)
+        if (previous != null && delta.isEmpty()) {
+            log.debug("Match snapshot unchanged, keeping version - fixtureUid={}, version={}", fixtureUid, previous.version)
+            return previous
+        }
+        if (!snapshotStore.put(candidate)) {
+            return snapshotStore.get(fixtureUid)
+        }
+        log.info("Published match snapshot - fixtureUid={}, version={}", fixtureUid, candidate.version)
+
+        notifyListeners(delta)
+        return candidate
+    }
+
+    private fun notifyListeners(delta: MatchSnapshotDelta) {
+        listeners.forEach { listener ->
+            try {
+                listener.onSnapshotPublished(delta)
+            } catch (e: Exception) {
+                log.warn("Snapshot listener failed - fixtureUid={}, listener={}", delta.fixtureUid, listener.javaClass.simpleName, e)
+            }
+        }
+    }
+
+    override fun retire(fixtureUid: String) {
+        snapshotStore.evict(fixtureUid)
+        log.info("Retired match snapshot - fixtureUid={}", fixtureUid)
+    }
+}
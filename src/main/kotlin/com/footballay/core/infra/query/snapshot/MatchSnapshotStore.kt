@@ -0,0 +1,28 @@
+package com.footballay.core.infra.query.snapshot
+
+/**
+ * [MatchSnapshot] 저장소
+ *
+ * TTL 이 아니라 [MatchSnapshot.version] 으로 무효화합니다.
+ * 더 낮은 버전의 스냅샷은 저장되지 않습니다.
+ */
+interface MatchSnapshotStore {
+    /**
+     * 최신 스냅샷을 조회합니다.
+     *
+     * @return 스냅샷이 없으면 null (DB 조회로 대체)
+     */
+    fun get(fixtureUid: String): MatchSnapshot?
+
+    /**
+     * 스냅샷을 저장합니다.
+     *
+     * @return 이미 같거나 더 높은 버전이 저장되어 있으면 false
+     */
+    fun put(snapshot: MatchSnapshot): Boolean
+
+    /**
+     * 스냅샷을 제거합니다. 이후 조회는 DB 로 대체됩니다.
+     */
+    fun evict(fixtureUid: String)
+}
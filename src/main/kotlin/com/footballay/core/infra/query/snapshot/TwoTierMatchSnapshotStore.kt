@@ -0,0 +1,161 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.footballay.core.logger
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 프로세스 내부 Caffeine 캐시(L1) + Redis(L2) 2단계 [MatchSnapshotStore]
+ *
+ * **조회:** L1 → L2 → 없음(null) 순서로 조회합니다. L2 에서 찾으면 L1 에 채워둡니다.
+ *
+ * **저장:** 스냅샷은 저장 시점에 한 번만 JSON 으로 직렬화하여 L2 에 저장하고,
+ * 버전을 [INVALIDATION_CHANNEL] 로 발행합니다.
+ * 다른 인스턴스는 자신의 L1 이 더 낮은 버전이면 제거하고 다음 조회에서 L2 를 읽습니다.
+ *
+ * **L1 보관:** 최대 [LOCAL_MAXIMUM_SIZE] 경기, 저장 후 [RETENTION] 이 지나면 만료됩니다.
+ * 취소/연기되어 evict 되지 않은 경기나 L2 에서 채운 스냅샷도 Redis 와 같은 기간 뒤에 사라집니다.
+ *
+ * **Redis 장애:** L2 접근 실패는 로그만 남기고 L1 또는 DB 조회로 대체합니다.
+ *
+ * **Metrics:**
+ * - `footballay.match.snapshot.lookup` (tier=l1|l2|miss)
+ */
+@Component
+class TwoTierMatchSnapshotStore(
+    private val redis: StringRedisTemplate,
+    private val objectMapper: ObjectMapper,
+    listenerContainer: RedisMessageListenerContainer,
+    meterRegistry: MeterRegistry,
+) : MatchSnapshotStore,
+    MessageListener {
+    private val log = logger()
+
+    private val local: Cache<String, MatchSnapshot> =
+        Caffeine
+            .newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(RETENTION)
+            .build()
+
+    private val l1HitCounter: Counter = lookupCounter(meterRegistry, "l1")
+    private val l2HitCounter: Counter = lookupCounter(meterRegistry, "l2")
+    private val missCounter: Counter = lookupCounter(meterRegistry, "miss")
+
+    init {
+        listenerContainer.addMessageListener(this, ChannelTopic(INVALIDATION_CHANNEL))
+    }
+
+    override fun get(fixtureUid: String): MatchSnapshot? {
+        local.getIfPresent(fixtureUid)?.let {
+            l1HitCounter.increment()
+            return it
+        }
+
+        val remote = readRemote(fixtureUid)
+        if (remote == null) {
+            missCounter.increment()
+            return null
+        }
+        l2HitCounter.increment()
+        putLocalIfNewer(remote)
+        return remote
+    }
+
+    override fun put(snapshot: MatchSnapshot): Boolean {
+        if (!putLocalIfNewer(snapshot)) {
+            log.debug("Ignored stale snapshot - fixtureUid={}, version={}", snapshot.fixtureUid, snapshot.version)
+            return false
+        }
+
+        try {
+            redis.opsForValue().set(key(snapshot.fixtureUid), objectMapper.writeValueAsString(snapshot), RETENTION)
+            redis.convertAndSend(INVALIDATION_CHANNEL, "${snapshot.fixtureUid}$SEPARATOR${snapshot.version}")
+        } catch (e: Exception) {
+            log.warn("Failed to write snapshot to redis - fixtureUid={}: {}", snapshot.fixtureUid, e.message)
+        }
+        return true
+    }
+
+    override fun evict(fixtureUid: String) {
+        local.invalidate(fixtureUid)
+        try {
+            redis.delete(key(fixtureUid))
+            redis.convertAndSend(INVALIDATION_CHANNEL, "$fixtureUid$SEPARATOR${Long.MAX_VALUE}")
+        } catch (e: Exception) {
+            log.warn("Failed to evict snapshot from redis - fixtureUid={}: {}", fixtureUid, e.message)
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 버전보다 낮은 L1 스냅샷을 제거합니다.
+     */
+    override fun onMessage(
+        message: Message,
+        pattern: ByteArray?,
+    ) {
+        val body = String(message.body)
+        val fixtureUid = body.substringBeforeLast(SEPARATOR)
+        val version = body.substringAfterLast(SEPARATOR).toLongOrNull() ?: return
+        local.asMap().computeIfPresent(fixtureUid) { _, current -> if (current.version < version) null else current }
+    }
+
+    private fun putLocalIfNewer(snapshot: MatchSnapshot): Boolean {
+        var updated = false
+        local.asMap().compute(snapshot.fixtureUid) { _, current ->
+            if (current == null || current.version < snapshot.version) {
+                updated = true
+                snapshot
+            } else {
+                current
+            }
+        }
+        return updated
+    }
+
+    private fun readRemote(fixtureUid: String): MatchSnapshot? =
+        try {
+            redis.opsForValue().get(key(fixtureUid))?.let { objectMapper.readValue(it, MatchSnapshot::class.java) }
+        } catch (e: Exception) {
+            log.warn("Failed to read snapshot from redis - fixtureUid={}: {}", fixtureUid, e.message)
+            null
+        }
+
+    private fun key(fixtureUid: String) = "$KEY_PREFIX$fixtureUid"
+
+    private fun lookupCounter(
+        meterRegistry: MeterRegistry,
+        tier: String,
+    ): Counter =
+        Counter
+            .builder("footballay.match.snapshot.lookup")
+            .description("Live match snapshot lookups by serving tier")
+            .tag("tier", tier)
+            .register(meterRegistry)
+
+    companion object {
+        private const val KEY_PREFIX = "match:snapshot:"
+        const val INVALIDATION_CHANNEL = "match:snapshot:version"
+        private const val SEPARATOR = "|"
+
+        /**
+         * 무효화 기준이 아니라 polling 이 끝난 경기의 스냅샷이 Redis 에 남지 않도록 하는 보관 기간입니다.
+         */
+        private val RETENTION: Duration = Duration.ofHours(6)
+
+        /**
+         * 동시에 polling 하는 경기 수보다 넉넉한 L1 최대 경기 수
+         */
+        private const val LOCAL_MAXIMUM_SIZE = 500L
+    }
+}
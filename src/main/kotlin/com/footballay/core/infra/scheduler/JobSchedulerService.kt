@@ -5,8 +5,11 @@ import org.quartz.JobBuilder
 import org.quartz.JobKey
 import org.quartz.Scheduler
 import org.quartz.SimpleScheduleBuilder
+import org.quartz.SimpleTrigger
 import org.quartz.TriggerBuilder
+import org.quartz.TriggerKey
 import org.springframework.stereotype.Service
+import java.time.Duration
 import java.time.Instant
 import java.util.*
 
@@ -15,7 +18,7 @@ import java.util.*
  *
  * Match Sync Job의 생명주기를 관리합니다.
  * - PreMatchJob: 경기 전 라인업 캐싱 (60초 간격)
- * - LiveMatchJob: 경기 중 실시간 동기화 (17초 간격)
+ * - LiveMatchJob: 경기 중 실시간 동기화 (17초 간격으로 시작, 경기 상태에 따라 [rescheduleLiveMatchJob] 으로 조절)
  * - PostMatchJob: 경기 후 최종 데이터 확정 (60초 간격)
  *
  * **Job 전환 흐름:**
@@ -25,6 +28,8 @@ import java.util.*
  * - Job 추가/삭제/조회
  * - Job 전환 시 이전 Job 삭제
  * - Job 실행 간격 및 최대 실행 시간 관리
+ *
+ * @see com.footballay.core.infra.scheduler.cadence.LiveMatchCadencePolicy
  */
 @Service
 class JobSchedulerService(
@@ -117,8 +122,9 @@ class JobSchedulerService(
             val trigger =
                 TriggerBuilder
                     .newTrigger()
-                    .withIdentity("live-match-trigger-$fixtureUid", JOB_GROUP_LIVE_MATCH)
+                    .withIdentity(liveMatchTriggerKey(fixtureUid))
                     .startAt(Date.from(startTime))
+                    .endAt(Date.from(startTime.plus(LIVE_MATCH_MAX_DURATION)))
                     .withSchedule(
                         SimpleScheduleBuilder
                             .simpleSchedule()
@@ -136,6 +142,115 @@ class JobSchedulerService(
         }
     }
 
+    /**
+     * LiveMatchJob 실행 간격 변경
+     *
+     * 현재 trigger 를 새 간격의 trigger 로 교체합니다. 다음 실행은 지금으로부터 [interval] 뒤이며,
+     * 최대 실행 시각(endAt)은 처음 등록한 값을 유지합니다.
+     * 교체된 trigger 는 previousFireTime 이 비어 있으므로, 이미 시작된 Job 임을 trigger job data 로 남깁니다.
+     * 간격이 같으면 아무것도 하지 않습니다 (매 polling 마다 trigger 를 다시 쓰지 않도록).
+     *
+     * @param fixtureUid Fixture UID
+     * @param interval 새 실행 간격
+     * @return trigger 가 교체되었는지 여부
+     */
+    fun rescheduleLiveMatchJob(
+        fixtureUid: String,
+        interval: Duration,
+    ): Boolean {
+        try {
+            val triggerKey = liveMatchTriggerKey(fixtureUid)
+            val current = scheduler.getTrigger(triggerKey) as? SimpleTrigger ?: return false
+            if (current.repeatInterval == interval.toMillis()) {
+                return false
+            }
+
+            val endAt = current.endTime ?: Date.from(current.startTime.toInstant().plus(LIVE_MATCH_MAX_DURATION))
+            val nextFireTime = Instant.now().plus(interval)
+            if (!nextFireTime.isBefore(endAt.toInstant())) {
+                return false
+            }
+
+            val trigger =
+                TriggerBuilder
+                    .newTrigger()
+                    .withIdentity(triggerKey)
+                    .forJob(current.jobKey)
+                    .usingJobData(KEY_LIVE_MATCH_STARTED, true)
+                    .startAt(Date.from(nextFireTime))
+                    .endAt(endAt)
+                    .withSchedule(
+                        SimpleScheduleBuilder
+                            .simpleSchedule()
+                            .withIntervalInMilliseconds(interval.toMillis())
+                            .repeatForever()
+                            .withMisfireHandlingInstructionNextWithRemainingCount(),
+                    ).build()
+
+            scheduler.rescheduleJob(triggerKey, trigger)
+            log.info(
+                "LiveMatchJob rescheduled - fixtureUid={}, intervalMs={} -> {}",
+                fixtureUid,
+                current.repeatInterval,
+                interval.toMillis(),
+            )
+            return true
+        } catch (e: Exception) {
+            log.error("Failed to reschedule LiveMatchJob - fixtureUid={}", fixtureUid, e)
+            return false
+        }
+    }
+
+    /**
+     * 킥오프 변경에 맞춰 PreMatchJob, LiveMatchJob 시작 시각 재설정
+     *
+     * LiveMatchJob 이 아직 한 번도 실행되지 않은 경우에만 두 Job 을 새 시각으로 다시 등록합니다.
+     * 이미 실행 중이거나 LiveMatchJob 이 없으면(종료 후 PostMatchJob 단계 등) 아무것도 하지 않습니다.
+     *
+     * @param fixtureUid Fixture UID
+     * @param preMatchStartTime 새 PreMatchJob 시작 시각. null 이면 PreMatchJob 을 삭제합니다 (킥오프가 이미 지난 경우)
+     * @param kickoff 새 킥오프 시각
+     * @return Job 이 재설정되었는지 여부
+     */
+    fun retimeMatchJobs(
+        fixtureUid: String,
+        preMatchStartTime: Instant?,
+        kickoff: Instant,
+    ): Boolean {
+        try {
+            val liveTrigger = scheduler.getTrigger(liveMatchTriggerKey(fixtureUid))
+            if (liveTrigger == null) {
+                log.info("LiveMatchJob not found, skipping retime - fixtureUid={}", fixtureUid)
+                return false
+            }
+            if (liveTrigger.previousFireTime != null || liveTrigger.jobDataMap.getBooleanValue(KEY_LIVE_MATCH_STARTED)) {
+                log.info("LiveMatchJob already started, skipping retime - fixtureUid={}", fixtureUid)
+                return false
+            }
+            if (liveTrigger.startTime.toInstant() == kickoff) {
+                return false
+            }
+
+            if (preMatchStartTime != null) {
+                addPreMatchJob(fixtureUid, preMatchStartTime)
+            } else {
+                removeJob(createJobKey(JOB_GROUP_PRE_MATCH, fixtureUid))
+            }
+            val retimed = addLiveMatchJob(fixtureUid, kickoff)
+            log.info(
+                "Match jobs retimed - fixtureUid={}, kickoff={} -> {}, preMatchStart={}",
+                fixtureUid,
+                liveTrigger.startTime.toInstant(),
+                kickoff,
+                preMatchStartTime,
+            )
+            return retimed
+        } catch (e: Exception) {
+            log.error("Failed to retime match jobs - fixtureUid={}", fixtureUid, e)
+            return false
+        }
+    }
+
     /**
      * PostMatchJob 추가
      *
@@ -255,6 +370,8 @@ class JobSchedulerService(
         fixtureUid: String,
     ): JobKey = JobKey.jobKey("$groupName-$fixtureUid", groupName)
 
+    private fun liveMatchTriggerKey(fixtureUid: String): TriggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", JOB_GROUP_LIVE_MATCH)
+
     companion object {
         // Job Group 이름
         private const val JOB_GROUP_PRE_MATCH = "pre-match"
@@ -268,6 +385,10 @@ class JobSchedulerService(
         // LiveMatch Job 설정 (17초 간격, 최대 5시간 = 1058회)
         private const val LIVE_MATCH_INTERVAL_SECONDS = 17
         private const val LIVE_MATCH_MAX_EXECUTIONS = 1058
+        private val LIVE_MATCH_MAX_DURATION: Duration = Duration.ofHours(5)
+
+        // 간격 변경으로 교체된 LiveMatchJob trigger 표시 (이미 시작된 Job)
+        private const val KEY_LIVE_MATCH_STARTED = "liveMatchStarted"
 
         // PostMatch Job 설정 (60초 간격, 최대 1시간 = 60회)
         private const val POST_MATCH_INTERVAL_SECONDS = 60
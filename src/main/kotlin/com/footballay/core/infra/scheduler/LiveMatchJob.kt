@@ -1,11 +1,13 @@
 package com.footballay.core.infra.scheduler
 
 import com.footballay.core.infra.dispatcher.match.JobContext
-import com.footballay.core.infra.dispatcher.match.MatchDataSyncDispatcher
+import com.footballay.core.infra.dispatcher.match.MatchSyncEngine
+import com.footballay.core.infra.dispatcher.match.MatchSyncRequest
 import com.footballay.core.logger
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.quartz.JobExecutionException
+import java.time.Instant
 import java.time.OffsetDateTime
 
 /**
@@ -17,15 +19,14 @@ import java.time.OffsetDateTime
  *
  * **동작 방식:**
  * 1. JobContext에서 fixtureUid 추출
- * 2. Dispatcher에게 동기화 요청
+ * 2. [MatchSyncEngine]에 동기화 요청을 등록하고 즉시 반환
  * 3. Result.Live.isMatchFinished가 true면 Dispatcher가 PostMatchJob으로 전환
  *
  * **주의사항:**
- * - Match data sync는 1.5~3초 소요 → Worker Thread 점유 주의
- * - 향후 비동기/코루틴으로 전환 예정
+ * - Match data sync는 1.5~3초 소요 → Quartz Worker Thread 대신 [MatchSyncEngine] worker 에서 실행
  */
 class LiveMatchJob(
-    private val dispatcher: MatchDataSyncDispatcher,
+    private val matchSyncEngine: MatchSyncEngine,
 ) : Job {
     private val log = logger()
 
@@ -41,9 +42,14 @@ class LiveMatchJob(
         log.info("LiveMatchJob executing - fixtureUid={}, time={}", fixtureUid, executionTime)
 
         try {
-            val jobContext = JobContext.liveMatch(context.jobDetail.key)
-            val result = dispatcher.syncByFixtureUid(fixtureUid, jobContext)
-            log.info("LiveMatchJob completed - fixtureUid={}, result={}", fixtureUid, result)
+            val request =
+                MatchSyncRequest(
+                    fixtureUid = fixtureUid,
+                    jobContext = JobContext.liveMatch(context.jobDetail.key),
+                    scheduledAt = context.scheduledFireTime?.toInstant() ?: Instant.now(),
+                )
+            val enqueued = matchSyncEngine.enqueue(request)
+            log.info("LiveMatchJob enqueued - fixtureUid={}, enqueued={}", fixtureUid, enqueued)
         } catch (e: Exception) {
             log.error("LiveMatchJob execution failed - fixtureUid={}", fixtureUid, e)
             throw JobExecutionException("LiveMatchJob failed for fixtureUid=$fixtureUid", e)
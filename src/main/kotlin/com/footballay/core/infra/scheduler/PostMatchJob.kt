@@ -1,11 +1,13 @@
 package com.footballay.core.infra.scheduler
 
 import com.footballay.core.infra.dispatcher.match.JobContext
-import com.footballay.core.infra.dispatcher.match.MatchDataSyncDispatcher
+import com.footballay.core.infra.dispatcher.match.MatchSyncEngine
+import com.footballay.core.infra.dispatcher.match.MatchSyncRequest
 import com.footballay.core.logger
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.quartz.JobExecutionException
+import java.time.Instant
 import java.time.OffsetDateTime
 
 /**
@@ -16,7 +18,7 @@ import java.time.OffsetDateTime
  *
  * **동작 방식:**
  * 1. JobContext에서 fixtureUid 추출
- * 2. Dispatcher에게 동기화 요청
+ * 2. [MatchSyncEngine]에 동기화 요청을 등록하고 즉시 반환
  * 3. Result.PostMatch.shouldStopPolling이 true면 Dispatcher가 Job 삭제
  *
  * **중단 조건:**
@@ -24,7 +26,7 @@ import java.time.OffsetDateTime
  * - 최종 데이터가 확정되면 더 이상 변경이 없음
  */
 class PostMatchJob(
-    private val dispatcher: MatchDataSyncDispatcher,
+    private val matchSyncEngine: MatchSyncEngine,
 ) : Job {
     private val log = logger()
 
@@ -40,9 +42,14 @@ class PostMatchJob(
         log.info("PostMatchJob executing - fixtureUid={}, time={}", fixtureUid, executionTime)
 
         try {
-            val jobContext = JobContext.postMatch(context.jobDetail.key)
-            val result = dispatcher.syncByFixtureUid(fixtureUid, jobContext)
-            log.info("PostMatchJob completed - fixtureUid={}, result={}", fixtureUid, result)
+            val request =
+                MatchSyncRequest(
+                    fixtureUid = fixtureUid,
+                    jobContext = JobContext.postMatch(context.jobDetail.key),
+                    scheduledAt = context.scheduledFireTime?.toInstant() ?: Instant.now(),
+                )
+            val enqueued = matchSyncEngine.enqueue(request)
+            log.info("PostMatchJob enqueued - fixtureUid={}, enqueued={}", fixtureUid, enqueued)
         } catch (e: Exception) {
             log.error("PostMatchJob execution failed - fixtureUid={}", fixtureUid, e)
             throw JobExecutionException("PostMatchJob failed for fixtureUid=$fixtureUid", e)
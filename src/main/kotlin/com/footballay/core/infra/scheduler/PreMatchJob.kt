@@ -1,11 +1,13 @@
 package com.footballay.core.infra.scheduler
 
 import com.footballay.core.infra.dispatcher.match.JobContext
-import com.footballay.core.infra.dispatcher.match.MatchDataSyncDispatcher
+import com.footballay.core.infra.dispatcher.match.MatchSyncEngine
+import com.footballay.core.infra.dispatcher.match.MatchSyncRequest
 import com.footballay.core.logger
 import org.quartz.Job
 import org.quartz.JobExecutionContext
 import org.quartz.JobExecutionException
+import java.time.Instant
 import java.time.OffsetDateTime
 
 /**
@@ -16,13 +18,13 @@ import java.time.OffsetDateTime
  *
  * **동작 방식:**
  * 1. JobContext에서 fixtureUid 추출
- * 2. Dispatcher에게 동기화 요청
+ * 2. [MatchSyncEngine]에 동기화 요청을 등록하고 즉시 반환
  * 3. Result에 따라 Dispatcher가 다음 Job 전환 결정
  *
  * **Job은 단순히 실행만 담당하고, 판단은 Dispatcher가 합니다.**
  */
 class PreMatchJob(
-    private val dispatcher: MatchDataSyncDispatcher,
+    private val matchSyncEngine: MatchSyncEngine,
 ) : Job {
     private val log = logger()
 
@@ -38,9 +40,14 @@ class PreMatchJob(
         log.info("PreMatchJob executing - fixtureUid={}, time={}", fixtureUid, executionTime)
 
         try {
-            val jobContext = JobContext.preMatch(context.jobDetail.key)
-            val result = dispatcher.syncByFixtureUid(fixtureUid, jobContext)
-            log.info("PreMatchJob completed - fixtureUid={}, result={}", fixtureUid, result)
+            val request =
+                MatchSyncRequest(
+                    fixtureUid = fixtureUid,
+                    jobContext = JobContext.preMatch(context.jobDetail.key),
+                    scheduledAt = context.scheduledFireTime?.toInstant() ?: Instant.now(),
+                )
+            val enqueued = matchSyncEngine.enqueue(request)
+            log.info("PreMatchJob enqueued - fixtureUid={}, enqueued={}", fixtureUid, enqueued)
         } catch (e: Exception) {
             log.error("PreMatchJob execution failed - fixtureUid={}", fixtureUid, e)
             throw JobExecutionException("PreMatchJob failed for fixtureUid=$fixtureUid", e)
@@ -0,0 +1,64 @@
+package com.footballay.core.infra.scheduler.cadence
+
+import com.footballay.core.infra.dispatcher.match.MatchDataSyncResult
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 경기 상태 기반 [LiveMatchCadencePolicy]
+ *
+ * **간격 결정 (위에서부터 우선):**
+ * - HT / BT / SUSP, INT: 경기가 멈춰 있으므로 느리게
+ * - ET, P, 전반 추가시간(1H 45분 이상), 후반 막판([LiveMatchCadenceProperties.finalMinutesFrom] 이후): 빠르게
+ * - 그 외: 기본 간격. 단, 변경 없는 응답이 연속되면 [LiveMatchCadenceProperties.idle] 로 늘림
+ *
+ * 빠른 구간에서는 변경이 없어도 간격을 늘리지 않습니다. 막판 득점을 늦게 반영하는 비용이 더 크기 때문입니다.
+ */
+@Component
+class AdaptiveLiveMatchCadencePolicy(
+    private val properties: LiveMatchCadenceProperties,
+) : LiveMatchCadencePolicy {
+    private val unchangedStreaks = ConcurrentHashMap<String, Int>()
+
+    override fun nextInterval(
+        fixtureUid: String,
+        result: MatchDataSyncResult.Live,
+    ): Duration {
+        val streak =
+            if (result.payloadUnchanged) {
+                unchangedStreaks.merge(fixtureUid, 1) { old, one -> old + one }!!
+            } else {
+                unchangedStreaks.remove(fixtureUid)
+                0
+            }
+
+        return when {
+            result.statusShort == "HT" -> properties.halfTime
+            result.statusShort == "BT" -> properties.breakTime
+            result.statusShort in SUSPENDED_STATUSES -> properties.suspended
+            isUrgent(result) -> properties.urgent
+            streak >= properties.unchangedStreakThreshold -> properties.idle
+            else -> properties.base
+        }
+    }
+
+    override fun forget(fixtureUid: String) {
+        unchangedStreaks.remove(fixtureUid)
+    }
+
+    private fun isUrgent(result: MatchDataSyncResult.Live): Boolean {
+        val elapsed = result.elapsedMin ?: 0
+        return when (result.statusShort) {
+            "ET", "P" -> true
+            "1H" -> elapsed >= FIRST_HALF_REGULATION_MINUTES
+            "2H" -> elapsed >= properties.finalMinutesFrom
+            else -> false
+        }
+    }
+
+    companion object {
+        private const val FIRST_HALF_REGULATION_MINUTES = 45
+        private val SUSPENDED_STATUSES = setOf("SUSP", "INT")
+    }
+}
@@ -0,0 +1,29 @@
+package com.footballay.core.infra.scheduler.cadence
+
+import com.footballay.core.infra.dispatcher.match.MatchDataSyncResult
+import java.time.Duration
+
+/**
+ * LiveMatchJob polling 간격 결정 정책
+ *
+ * 매 Live 동기화 결과를 받아 다음 polling 간격을 결정합니다.
+ * 같은 quota 로 의미 있는 polling 을 늘리기 위해, 변화가 적은 구간은 느리게 변화가 잦은 구간은 빠르게 polling 합니다.
+ *
+ * @see AdaptiveLiveMatchCadencePolicy
+ */
+interface LiveMatchCadencePolicy {
+    /**
+     * @param fixtureUid 경기 UID
+     * @param result 이번 Live 동기화 결과
+     * @return 다음 polling 까지의 간격
+     */
+    fun nextInterval(
+        fixtureUid: String,
+        result: MatchDataSyncResult.Live,
+    ): Duration
+
+    /**
+     * 경기가 Live 단계를 벗어나면 fixture 별 상태를 정리합니다.
+     */
+    fun forget(fixtureUid: String)
+}
@@ -0,0 +1,28 @@
+package com.footballay.core.infra.scheduler.cadence
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * [AdaptiveLiveMatchCadencePolicy] 설정
+ *
+ * @property base 일반적인 경기 진행 중 polling 간격
+ * @property urgent 추가시간, 연장전, 승부차기, 경기 막판 polling 간격
+ * @property halfTime 하프타임(HT) polling 간격
+ * @property breakTime 연장 전 휴식(BT) polling 간격
+ * @property suspended 경기 중단(SUSP, INT) polling 간격
+ * @property idle 변경 없는 응답이 연속될 때 늘어나는 polling 간격
+ * @property unchangedStreakThreshold [idle] 간격으로 전환하기 위한 연속 무변경 응답 수
+ * @property finalMinutesFrom 후반 이 시점(분)부터는 [urgent] 간격을 사용
+ */
+@ConfigurationProperties(prefix = "footballay.match-sync.cadence")
+data class LiveMatchCadenceProperties(
+    val base: Duration = Duration.ofSeconds(17),
+    val urgent: Duration = Duration.ofSeconds(10),
+    val halfTime: Duration = Duration.ofSeconds(60),
+    val breakTime: Duration = Duration.ofSeconds(45),
+    val suspended: Duration = Duration.ofSeconds(120),
+    val idle: Duration = Duration.ofSeconds(34),
+    val unchangedStreakThreshold: Int = 3,
+    val finalMinutesFrom: Int = 80,
+)
@@ -1,6 +1,7 @@
 package com.footballay.core.web.admin.apisports.controller
 
 import com.footballay.core.common.result.toResponseEntity
+import com.footballay.core.web.admin.apisports.dto.LeagueDeepSyncProgressDto
 import com.footballay.core.web.admin.apisports.dto.LeaguesSyncResultDto
 import com.footballay.core.web.admin.apisports.dto.PlayersSyncResultDto
 import com.footballay.core.web.admin.apisports.dto.LeagueSeasonRequest
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse
 import io.swagger.v3.oas.annotations.responses.ApiResponses
 import io.swagger.v3.oas.annotations.security.SecurityRequirement
 import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
 import com.footballay.core.web.admin.apisports.dto.AvailableLeagueDto
@@ -84,6 +86,13 @@ class AdminApiSportsController(
                 "전제조건: League Sync 완료, Team Sync 완료. " +
                 "주의: 경기가 많은 리그는 API 호출 제한에 걸릴 수 있습니다."
 
+        private const val OP_DEEP_SYNC_LEAGUE =
+            "리그의 팀, 선수(squad), 현재 시즌 경기일정을 한 번의 요청으로 동기화합니다. " +
+                "작업은 비동기로 수행되며 202 와 함께 시작 시점의 진행 상황을 반환합니다. " +
+                "팀별 squad 조회는 제한된 worker 수로 병렬 수행되고, 저장은 여러 팀 단위 transaction 으로 묶입니다. " +
+                "진행 상황과 단계별 소요 시간은 같은 경로의 GET 으로 조회합니다. " +
+                "전제조건: League Sync 완료. 같은 리그의 작업이 진행 중이면 400 을 반환합니다."
+
         private const val OP_SET_LEAGUE_AVAILABLE =
             "리그를 available/unavailable 상태로 설정합니다. " +
                 "Available 설정: 리그를 공개 API에 노출, 사용자가 해당 리그의 경기를 조회할 수 있게 됨. " +
@@ -237,6 +246,43 @@ class AdminApiSportsController(
             .syncFixturesOfLeague(leagueApiId)
             .toResponseEntity()
 
+    @Operation(summary = "리그 deep sync 시작", description = OP_DEEP_SYNC_LEAGUE)
+    @ApiResponses(
+        ApiResponse(responseCode = "202", content = [Content(schema = Schema(implementation = LeagueDeepSyncProgressDto::class))]),
+        ApiResponse(responseCode = "404", description = "리그를 찾을 수 없음"),
+        ApiResponse(
+            responseCode = "400",
+            description = "요청 값이 유효하지 않거나 이미 진행 중",
+            content = [Content(schema = Schema(implementation = ValidationErrorResponse::class))],
+        ),
+    )
+    @PostMapping("/leagues/{leagueApiId}/deep-sync")
+    fun startLeagueDeepSync(
+        @Parameter(description = "ApiSports League ID", example = "39")
+        @PathVariable
+        @Positive
+        leagueApiId: Long,
+    ): ResponseEntity<LeagueDeepSyncProgressDto> =
+        adminApiSportsWebService
+            .startLeagueDeepSync(leagueApiId)
+            .toResponseEntity(HttpStatus.ACCEPTED)
+
+    @Operation(summary = "리그 deep sync 진행 상황 조회")
+    @ApiResponses(
+        ApiResponse(responseCode = "200", content = [Content(schema = Schema(implementation = LeagueDeepSyncProgressDto::class))]),
+        ApiResponse(responseCode = "404", description = "이 인스턴스에서 실행한 deep sync 가 없음"),
+    )
+    @GetMapping("/leagues/{leagueApiId}/deep-sync")
+    fun getLeagueDeepSyncProgress(
+        @Parameter(description = "ApiSports League ID", example = "39")
+        @PathVariable
+        @Positive
+        leagueApiId: Long,
+    ): ResponseEntity<LeagueDeepSyncProgressDto> =
+        adminApiSportsWebService
+            .getLeagueDeepSyncProgress(leagueApiId)
+            .toResponseEntity()
+
     @Operation(summary = "리그 available 설정", description = OP_SET_LEAGUE_AVAILABLE)
     @ApiResponses(
         ApiResponse(responseCode = "200"),
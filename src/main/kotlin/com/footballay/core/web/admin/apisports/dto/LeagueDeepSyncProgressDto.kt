@@ -0,0 +1,35 @@
+package com.footballay.core.web.admin.apisports.dto
+
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.Instant
+
+/**
+ * 리그 deep sync 진행 상황 DTO
+ */
+@Schema(description = "리그 deep sync 진행 상황")
+data class LeagueDeepSyncProgressDto(
+    @Schema(description = "ApiSports 리그 ID", example = "39")
+    val leagueApiId: Long,
+    @Schema(description = "상태 (QUEUED, RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+    val state: String,
+    @Schema(description = "진행 중인 단계 (TEAMS, SQUADS, FIXTURES)", example = "SQUADS", nullable = true)
+    val currentStep: String?,
+    @Schema(description = "squad 를 동기화할 팀 수", example = "20")
+    val teamsTotal: Int,
+    @Schema(description = "squad 동기화가 끝난 팀 수", example = "12")
+    val teamsSynced: Int,
+    @Schema(description = "squad 동기화에 실패한 팀 수", example = "0")
+    val teamsFailed: Int,
+    @Schema(description = "동기화된 선수 수", example = "310")
+    val playersSynced: Int,
+    @Schema(description = "동기화된 경기 수", example = "380")
+    val fixturesSynced: Int,
+    @Schema(description = "끝난 단계별 소요 시간 (ms)", example = "{\"TEAMS\": 820, \"SQUADS\": 9400}")
+    val stepDurationsMs: Map<String, Long>,
+    @Schema(description = "요청 시각")
+    val requestedAt: Instant,
+    @Schema(description = "종료 시각", nullable = true)
+    val finishedAt: Instant?,
+    @Schema(description = "실패 사유", nullable = true)
+    val failureMessage: String?,
+)
@@ -4,8 +4,11 @@ import com.footballay.core.common.result.DomainFail
 import com.footballay.core.common.result.DomainResult
 import com.footballay.core.common.result.map
 import com.footballay.core.infra.facade.ApiSportsBackboneSyncFacade
+import com.footballay.core.infra.facade.ApiSportsLeagueDeepSyncFacade
 import com.footballay.core.infra.facade.AvailableLeagueFacade
+import com.footballay.core.infra.facade.LeagueDeepSyncProgress
 import com.footballay.core.logger
+import com.footballay.core.web.admin.apisports.dto.LeagueDeepSyncProgressDto
 import com.footballay.core.web.admin.apisports.dto.LeaguesSyncResultDto
 import com.footballay.core.web.admin.apisports.dto.PlayersSyncResultDto
 import com.footballay.core.web.admin.apisports.dto.TeamsSyncResultDto
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service
 class AdminApiSportsWebService(
     private val apiSportsBackboneSyncFacade: ApiSportsBackboneSyncFacade,
     private val availableLeagueFacade: AvailableLeagueFacade,
+    private val leagueDeepSyncFacade: ApiSportsLeagueDeepSyncFacade,
 ) {
     private val log = logger()
 
@@ -105,6 +109,46 @@ class AdminApiSportsWebService(
         return apiSportsBackboneSyncFacade.syncFixturesOfLeagueWithCurrentSeason(leagueApiId)
     }
 
+    /**
+     * 리그의 팀, 선수, 현재 시즌 경기일정을 한 번에 동기화하는 작업을 시작합니다.
+     *
+     * @param leagueApiId 리그의 ApiSports ID
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    fun startLeagueDeepSync(leagueApiId: Long): DomainResult<LeagueDeepSyncProgressDto, DomainFail> {
+        log.info("Starting league deep sync request for leagueApiId=$leagueApiId")
+        return leagueDeepSyncFacade.start(leagueApiId).map { it.toDto() }
+    }
+
+    /**
+     * 리그 deep sync 진행 상황을 조회합니다.
+     *
+     * @param leagueApiId 리그의 ApiSports ID
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    fun getLeagueDeepSyncProgress(leagueApiId: Long): DomainResult<LeagueDeepSyncProgressDto, DomainFail> {
+        val progress =
+            leagueDeepSyncFacade.progress(leagueApiId)
+                ?: return DomainResult.Fail(DomainFail.NotFound(resource = "LEAGUE_DEEP_SYNC", id = leagueApiId.toString()))
+        return DomainResult.Success(progress.toDto())
+    }
+
+    private fun LeagueDeepSyncProgress.toDto(): LeagueDeepSyncProgressDto =
+        LeagueDeepSyncProgressDto(
+            leagueApiId = leagueApiId,
+            state = state.name,
+            currentStep = currentStep?.name,
+            teamsTotal = teamsTotal,
+            teamsSynced = teamsSynced,
+            teamsFailed = teamsFailed,
+            playersSynced = playersSynced,
+            fixturesSynced = fixturesSynced,
+            stepDurationsMs = stepDurationsMs.mapKeys { it.key.name },
+            requestedAt = requestedAt,
+            finishedAt = finishedAt,
+            failureMessage = failureMessage,
+        )
+
     /**
      * 리그의 available 상태를 설정합니다.
      *
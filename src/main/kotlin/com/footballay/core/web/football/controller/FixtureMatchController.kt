@@ -1,5 +1,7 @@
 package com.footballay.core.web.football.controller
 
+import com.footballay.core.common.result.DomainFail
+import com.footballay.core.common.result.DomainResult
 import com.footballay.core.common.result.toResponseEntity
 import com.footballay.core.logger
 import com.footballay.core.web.football.dto.*
@@ -11,10 +13,13 @@ import io.swagger.v3.oas.annotations.media.Schema
 import io.swagger.v3.oas.annotations.responses.ApiResponse
 import io.swagger.v3.oas.annotations.responses.ApiResponses
 import io.swagger.v3.oas.annotations.tags.Tag
+import jakarta.validation.constraints.Min
 import jakarta.validation.constraints.NotBlank
+import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.validation.annotation.Validated
 import org.springframework.web.bind.annotation.*
+import org.springframework.web.context.request.WebRequest
 
 /**
  * Football Fixture Public API Controller
@@ -27,6 +32,10 @@ import org.springframework.web.bind.annotation.*
  * 응답 구조:
  * - 성공: 각 DTO(FixtureInfoResponse 등)를 그대로 반환
  * - 실패: 공통 DomainResult → ResponseEntity 매핑(@ControllerAdvice / toResponseEntity)에 따름
+ *
+ * 조건부 요청:
+ * - 스냅샷이 발행된 경기는 sync 버전 기반의 strong ETag 를 함께 내려줍니다.
+ * - `If-None-Match` 가 현재 ETag 와 같으면 조회/직렬화 없이 304(Not Modified)를 반환합니다.
  */
 @Tag(
     name = "Football - Fixtures",
@@ -58,11 +67,10 @@ class FixtureMatchController(
         @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
         @PathVariable
         @NotBlank uid: String,
+        request: WebRequest,
     ): ResponseEntity<FixtureInfoResponse> {
         log.info("GET /api/v1/football/fixtures/{}/info", uid)
-        return webService
-            .getFixtureInfo(uid)
-            .toResponseEntity()
+        return conditionalGet(uid, request) { webService.getFixtureInfo(uid) }
     }
 
     @Operation(
@@ -81,11 +89,10 @@ class FixtureMatchController(
         @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
         @PathVariable
         @NotBlank uid: String,
+        request: WebRequest,
     ): ResponseEntity<FixtureLiveStatusResponse> {
         log.info("GET /api/v1/football/fixtures/{}/status", uid)
-        return webService
-            .getFixtureLiveStatus(uid)
-            .toResponseEntity()
+        return conditionalGet(uid, request) { webService.getFixtureLiveStatus(uid) }
     }
 
     @Operation(
@@ -104,11 +111,10 @@ class FixtureMatchController(
         @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
         @PathVariable
         @NotBlank uid: String,
+        request: WebRequest,
     ): ResponseEntity<FixtureLineupResponse> {
         log.info("GET /api/v1/football/fixtures/{}/lineup", uid)
-        return webService
-            .getFixtureLineup(uid)
-            .toResponseEntity()
+        return conditionalGet(uid, request) { webService.getFixtureLineup(uid) }
     }
 
     @Operation(
@@ -127,11 +133,40 @@ class FixtureMatchController(
         @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
         @PathVariable
         @NotBlank uid: String,
+        request: WebRequest,
     ): ResponseEntity<FixtureEventsResponse> {
         log.info("GET /api/v1/football/fixtures/{}/events", uid)
-        return webService
-            .getFixtureEvents(uid)
-            .toResponseEntity()
+        return conditionalGet(uid, request) { webService.getFixtureEvents(uid) }
+    }
+
+    @Operation(
+        summary = "경기 이벤트 변경분 조회",
+        description = "afterSequence 이후 새로 추가된 이벤트와 삭제된 이벤트의 sequence(tombstone)를 조회합니다. " +
+            "removedSequences 를 지운 뒤 events 를 sequence 기준으로 upsert 하고, 다음 요청에 lastSequence 와 eventRevision 을 사용합니다. " +
+            "eventRevision 이 현재와 다르면 (이벤트 삭제/수정) 전체 이벤트를 반환합니다.",
+    )
+    @ApiResponses(
+        ApiResponse(
+            responseCode = "200",
+            content = [Content(schema = Schema(implementation = FixtureEventsDeltaResponse::class))],
+        ),
+        ApiResponse(responseCode = "404", description = "Fixture를 찾을 수 없음"),
+    )
+    @GetMapping("/{uid}/events", params = ["afterSequence"])
+    fun getFixtureEventsAfter(
+        @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
+        @PathVariable
+        @NotBlank uid: String,
+        @Parameter(description = "마지막으로 받은 이벤트 sequence (처음이면 -1)")
+        @RequestParam
+        @Min(-1) afterSequence: Int,
+        @Parameter(description = "마지막으로 받은 eventRevision (처음이면 생략)")
+        @RequestParam(required = false)
+        eventRevision: Long?,
+        request: WebRequest,
+    ): ResponseEntity<FixtureEventsDeltaResponse> {
+        log.info("GET /api/v1/football/fixtures/{}/events?afterSequence={}&eventRevision={}", uid, afterSequence, eventRevision)
+        return conditionalGet(uid, request) { webService.getFixtureEventsAfter(uid, afterSequence, eventRevision) }
     }
 
     @Operation(
@@ -150,10 +185,32 @@ class FixtureMatchController(
         @Parameter(description = "Fixture UID (예: yp4nn06fntg591kk)")
         @PathVariable
         @NotBlank uid: String,
+        request: WebRequest,
     ): ResponseEntity<FixtureStatisticsResponse> {
         log.info("GET /api/v1/football/fixtures/{}/statistics", uid)
-        return webService
-            .getFixtureStatistics(uid)
-            .toResponseEntity()
+        return conditionalGet(uid, request) { webService.getFixtureStatistics(uid) }
+    }
+
+    /**
+     * ETag 를 먼저 확인하고, 변경되지 않았으면 [load] 를 호출하지 않고 304 를 반환합니다.
+     *
+     * ETag 는 [load] 이전에 결정되므로 응답 본문이 ETag 보다 새로울 수는 있어도 오래될 수는 없습니다.
+     * (그 경우 다음 요청에서 한 번 더 200 을 받을 뿐입니다)
+     */
+    private fun <T : Any> conditionalGet(
+        uid: String,
+        request: WebRequest,
+        load: () -> DomainResult<T, DomainFail>,
+    ): ResponseEntity<T> {
+        val eTag = webService.getFixtureETag(uid)
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build()
+        }
+
+        val response = load().toResponseEntity()
+        if (eTag == null || !response.statusCode.is2xxSuccessful) {
+            return response
+        }
+        return ResponseEntity.status(response.statusCode).eTag(eTag).body(response.body)
     }
 }
@@ -0,0 +1,29 @@
+package com.footballay.core.web.football.dto
+
+/**
+ * 라이브 경기 변경분 STOMP 메시지
+ *
+ * `/topic/fixture/{fixtureUid}` 로 sync 커밋마다 발행됩니다.
+ * 클라이언트는 [previousVersion] 이 자신이 마지막으로 받은 [version] 과 다르면 HTTP API 로 전체를 다시 조회합니다.
+ *
+ * @param fixtureUid Fixture UID
+ * @param version 이 변경분이 반영된 스냅샷 버전 (HTTP 응답 ETag 와 같은 값)
+ * @param previousVersion 비교 기준 스냅샷 버전. null 이면 전체 데이터
+ * @param liveStatus 스코어/상태가 바뀐 경우에만 포함
+ * @param events 새로 추가되거나 바뀐 이벤트. [eventsReset] 이면 전체 이벤트
+ * @param eventsReset 이벤트 목록을 [events] 로 교체해야 하는지 여부
+ * @param lineupChanged 라인업이 바뀌어 재조회가 필요한지 여부
+ * @param infoChanged 경기 기본 정보가 바뀌어 재조회가 필요한지 여부
+ * @param statistics 바뀐 팀 통계와 바뀐 선수 통계만 포함
+ */
+data class FixtureDeltaMessage(
+    val fixtureUid: String,
+    val version: Long,
+    val previousVersion: Long?,
+    val liveStatus: FixtureLiveStatusResponse.LiveStatus?,
+    val events: List<FixtureEventsResponse.EventInfo>,
+    val eventsReset: Boolean,
+    val lineupChanged: Boolean,
+    val infoChanged: Boolean,
+    val statistics: FixtureStatisticsResponse?,
+)
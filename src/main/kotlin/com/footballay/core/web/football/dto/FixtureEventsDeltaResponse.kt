@@ -0,0 +1,21 @@
+package com.footballay.core.web.football.dto
+
+/**
+ * 경기 이벤트 변경분 응답 DTO (`afterSequence` + `eventRevision` cursor 조회)
+ *
+ * 클라이언트는 [removedSequences] 를 지운 뒤 [events] 를 sequence 기준으로 upsert 하고,
+ * 다음 요청의 `afterSequence` 로 [lastSequence], `eventRevision` 으로 [eventRevision] 을 사용합니다.
+ *
+ * @param fixtureUid Fixture UID
+ * @param lastSequence 현재 마지막 이벤트 sequence (이벤트가 없으면 -1)
+ * @param eventRevision 이벤트 목록 revision. 기존 이벤트가 삭제/수정될 때마다 바뀝니다.
+ * @param events 새 이벤트. 요청한 revision 이 달랐다면 전체 이벤트
+ * @param removedSequences 더 이상 존재하지 않는 sequence (tombstone)
+ */
+data class FixtureEventsDeltaResponse(
+    val fixtureUid: String,
+    val lastSequence: Int,
+    val eventRevision: Long,
+    val events: List<FixtureEventsResponse.EventInfo>,
+    val removedSequences: List<Int>,
+)
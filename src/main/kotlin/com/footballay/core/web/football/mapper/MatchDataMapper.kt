@@ -1,6 +1,7 @@
 package com.footballay.core.web.football.mapper
 
 import com.footballay.core.domain.model.match.*
+import com.footballay.core.infra.query.snapshot.MatchSnapshotDelta
 import com.footballay.core.web.football.dto.*
 import com.footballay.core.logger
 import org.springframework.stereotype.Component
@@ -88,6 +89,18 @@ class MatchDataMapper {
             events = model.events.map { toEventInfo(it) },
         )
 
+    /**
+     * 경기 이벤트 변경분 변환 (Domain Model → Response DTO)
+     */
+    fun toFixtureEventsDeltaResponse(model: FixtureEventsDeltaModel): FixtureEventsDeltaResponse =
+        FixtureEventsDeltaResponse(
+            fixtureUid = model.fixtureUid,
+            lastSequence = model.lastSequence,
+            eventRevision = model.eventRevision,
+            events = model.events.map { toEventInfo(it) },
+            removedSequences = model.removedSequences,
+        )
+
     private fun toEventInfo(event: FixtureEventsModel.EventInfo): FixtureEventsResponse.EventInfo =
         FixtureEventsResponse.EventInfo(
             sequence = event.sequence,
@@ -159,6 +172,22 @@ class MatchDataMapper {
             substitute = player.substitute,
         )
 
+    /**
+     * 스냅샷 변경분 변환 (Domain Model → STOMP Message DTO)
+     */
+    fun toFixtureDeltaMessage(delta: MatchSnapshotDelta): FixtureDeltaMessage =
+        FixtureDeltaMessage(
+            fixtureUid = delta.fixtureUid,
+            version = delta.version,
+            previousVersion = delta.previousVersion,
+            liveStatus = delta.liveStatus?.let { toFixtureLiveStatusResponse(it).liveStatus },
+            events = delta.events.map { toEventInfo(it) },
+            eventsReset = delta.eventsReset,
+            lineupChanged = delta.lineupChanged,
+            infoChanged = delta.infoChanged,
+            statistics = delta.statistics?.let { toFixtureStatisticsResponse(it) },
+        )
+
     /**
      * 경기 통계 변환 (Domain Model → Response DTO)
      */
@@ -0,0 +1,39 @@
+package com.footballay.core.web.football.service
+
+import com.footballay.core.infra.query.snapshot.MatchSnapshotDelta
+import com.footballay.core.infra.query.snapshot.MatchSnapshotListener
+import com.footballay.core.logger
+import com.footballay.core.web.football.mapper.MatchDataMapper
+import com.footballay.core.websocket.relay.TopicMessageSender
+import org.springframework.stereotype.Component
+
+/**
+ * 스냅샷 변경분을 STOMP `/topic/fixture/{fixtureUid}` 로 발행합니다.
+ *
+ * 클라이언트는 경기당 한 번 구독하고, HTTP 조회는 최초 진입과 메시지 유실 복구에만 사용합니다.
+ * sync 를 실행한 인스턴스와 구독자가 접속한 인스턴스가 다를 수 있으므로 [TopicMessageSender] 로 전송합니다.
+ */
+@Component
+class FixtureDeltaBroadcaster(
+    private val topicMessageSender: TopicMessageSender,
+    private val matchDataMapper: MatchDataMapper,
+) : MatchSnapshotListener {
+    private val log = logger()
+
+    override fun onSnapshotPublished(delta: MatchSnapshotDelta) {
+        val destination = destinationOf(delta.fixtureUid)
+        topicMessageSender.sendToTopic(destination, matchDataMapper.toFixtureDeltaMessage(delta))
+        log.debug(
+            "Broadcast fixture delta - destination={}, version={}, events={}",
+            destination,
+            delta.version,
+            delta.events.size,
+        )
+    }
+
+    companion object {
+        const val DESTINATION_PREFIX = "/topic/fixture/"
+
+        fun destinationOf(fixtureUid: String): String = "$DESTINATION_PREFIX$fixtureUid"
+    }
+}
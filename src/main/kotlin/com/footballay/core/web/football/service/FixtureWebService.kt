@@ -3,27 +3,43 @@ package com.footballay.core.web.football.service
 import com.footballay.core.common.result.DomainFail
 import com.footballay.core.common.result.DomainResult
 import com.footballay.core.common.result.map
+import com.footballay.core.domain.model.match.FixtureEventsDeltaModel
 import com.footballay.core.infra.query.MatchDataQueryService
+import com.footballay.core.infra.query.snapshot.MatchSnapshotStore
 import com.footballay.core.logger
 import com.footballay.core.web.football.dto.*
 import com.footballay.core.web.football.mapper.MatchDataMapper
 import org.springframework.stereotype.Service
-import org.springframework.transaction.annotation.Transactional
 
 /**
  * Footballay Fixture Web Service
+ *
+ * Match sync 가 발행한 [com.footballay.core.infra.query.snapshot.MatchSnapshot] 이 있으면 DB 조회 없이 스냅샷으로 응답하고,
+ * 없으면 [MatchDataQueryService] 로 조회합니다.
+ * 스냅샷 응답에서는 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 사용하지 않습니다. (조회 서비스가 자체 트랜잭션 사용)
  */
 @Service
-@Transactional(readOnly = true)
 class FixtureWebService(
     private val matchDataQueryService: MatchDataQueryService,
     private val matchDataMapper: MatchDataMapper,
+    private val snapshotStore: MatchSnapshotStore,
 ) {
     private val log = logger()
 
+    /**
+     * 현재 스냅샷 버전으로 만든 strong ETag 를 반환합니다.
+     *
+     * 스냅샷 조회만 하므로 DB 조회나 응답 매핑이 발생하지 않습니다.
+     *
+     * @return 발행된 스냅샷이 없으면 null (ETag 없이 응답)
+     */
+    fun getFixtureETag(fixtureUid: String): String? = snapshotStore.get(fixtureUid)?.let { "\"${it.version}\"" }
+
     fun getFixtureInfo(fixtureUid: String): DomainResult<FixtureInfoResponse, DomainFail> {
         log.info("getFixtureInfo. fixtureUid={}", fixtureUid)
 
+        snapshotStore.get(fixtureUid)?.let { return DomainResult.Success(matchDataMapper.toFixtureInfoResponse(it.info)) }
+
         return matchDataQueryService
             .getFixtureInfo(fixtureUid)
             .map { domain -> matchDataMapper.toFixtureInfoResponse(domain) }
@@ -32,6 +48,8 @@ class FixtureWebService(
     fun getFixtureLiveStatus(fixtureUid: String): DomainResult<FixtureLiveStatusResponse, DomainFail> {
         log.info("getFixtureLiveStatus. fixtureUid={}", fixtureUid)
 
+        snapshotStore.get(fixtureUid)?.let { return DomainResult.Success(matchDataMapper.toFixtureLiveStatusResponse(it.liveStatus)) }
+
         return matchDataQueryService
             .getFixtureLiveStatus(fixtureUid)
             .map { domain -> matchDataMapper.toFixtureLiveStatusResponse(domain) }
@@ -40,14 +58,42 @@ class FixtureWebService(
     fun getFixtureEvents(fixtureUid: String): DomainResult<FixtureEventsResponse, DomainFail> {
         log.info("getFixtureEvents. fixtureUid={}", fixtureUid)
 
+        snapshotStore.get(fixtureUid)?.let { return DomainResult.Success(matchDataMapper.toFixtureEventsResponse(it.events)) }
+
         return matchDataQueryService
             .getFixtureEvents(fixtureUid)
             .map { domain -> matchDataMapper.toFixtureEventsResponse(domain) }
     }
 
+    /**
+     * [afterSequence] 이후의 이벤트 변경분을 조회합니다.
+     *
+     * 스냅샷이 있으면 메모리의 이벤트 목록으로, 없으면 sequence 범위 쿼리로 계산합니다.
+     *
+     * @param eventRevision 클라이언트가 마지막으로 받은 이벤트 revision. 다르면 전체 이벤트와 tombstone 을 반환합니다.
+     */
+    fun getFixtureEventsAfter(
+        fixtureUid: String,
+        afterSequence: Int,
+        eventRevision: Long?,
+    ): DomainResult<FixtureEventsDeltaResponse, DomainFail> {
+        log.info("getFixtureEventsAfter. fixtureUid={}, afterSequence={}, eventRevision={}", fixtureUid, afterSequence, eventRevision)
+
+        snapshotStore.get(fixtureUid)?.let {
+            val delta = FixtureEventsDeltaModel.of(fixtureUid, it.events.events, afterSequence, it.events.eventRevision, eventRevision)
+            return DomainResult.Success(matchDataMapper.toFixtureEventsDeltaResponse(delta))
+        }
+
+        return matchDataQueryService
+            .getFixtureEventsAfter(fixtureUid, afterSequence, eventRevision)
+            .map { domain -> matchDataMapper.toFixtureEventsDeltaResponse(domain) }
+    }
+
     fun getFixtureLineup(fixtureUid: String): DomainResult<FixtureLineupResponse, DomainFail> {
         log.info("getFixtureLineup. fixtureUid={}", fixtureUid)
 
+        snapshotStore.get(fixtureUid)?.let { return DomainResult.Success(matchDataMapper.toFixtureLineupResponse(it.lineup)) }
+
         return matchDataQueryService
             .getFixtureLineup(fixtureUid)
             .map { domain -> matchDataMapper.toFixtureLineupResponse(domain) }
@@ -56,6 +102,8 @@ class FixtureWebService(
     fun getFixtureStatistics(fixtureUid: String): DomainResult<FixtureStatisticsResponse, DomainFail> {
         log.info("getFixtureStatistics. fixtureUid={}", fixtureUid)
 
+        snapshotStore.get(fixtureUid)?.let { return DomainResult.Success(matchDataMapper.toFixtureStatisticsResponse(it.statistics)) }
+
         return matchDataQueryService
             .getFixtureStatistics(fixtureUid)
             .map { domain -> matchDataMapper.toFixtureStatisticsResponse(domain) }
@@ -0,0 +1,2 @@
+-- afterSequence cursor 조회 (이벤트 변경분 API) 를 위한 범위 인덱스
+CREATE INDEX IF NOT EXISTS idx_match_event_fixture_sequence ON apisports_match_event (fixture_api_id, sequence);
@@ -0,0 +1,36 @@
+-- Live 엔티티 id 생성을 IDENTITY 에서 pooled sequence 로 전환 (JDBC batch insert 활성화)
+-- INCREMENT 는 LiveEntitySequence.ALLOCATION_SIZE(50) 와 같아야 합니다.
+-- Hibernate pooled optimizer 는 nextval 값을 할당 구간의 상한으로 사용하므로 (상한 - 49 ~ 상한)
+-- 기존 최대 id + 50 에서 시작하여 이미 발급된 id 와 겹치지 않게 합니다.
+-- IDENTITY 는 sequence 와 별개로 1 부터 값을 발급해 pooled id 와 충돌하므로 제거하고,
+-- 수동 INSERT 도 같은 sequence 에서 id 를 받도록 기본값을 nextval 로 바꿉니다.
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_event_seq INCREMENT BY 50;
+SELECT setval('apisports_match_event_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_event), false);
+ALTER TABLE apisports_match_event ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_event ALTER COLUMN id SET DEFAULT nextval('apisports_match_event_seq');
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_player_seq INCREMENT BY 50;
+SELECT setval('apisports_match_player_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_player), false);
+ALTER TABLE apisports_match_player ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_player ALTER COLUMN id SET DEFAULT nextval('apisports_match_player_seq');
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_player_stat_seq INCREMENT BY 50;
+SELECT setval('apisports_match_player_stat_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_player_stat), false);
+ALTER TABLE apisports_match_player_stat ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_player_stat ALTER COLUMN id SET DEFAULT nextval('apisports_match_player_stat_seq');
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_team_seq INCREMENT BY 50;
+SELECT setval('apisports_match_team_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_team), false);
+ALTER TABLE apisports_match_team ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_team ALTER COLUMN id SET DEFAULT nextval('apisports_match_team_seq');
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_team_stat_seq INCREMENT BY 50;
+SELECT setval('apisports_match_team_stat_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_team_stat), false);
+ALTER TABLE apisports_match_team_stat ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_team_stat ALTER COLUMN id SET DEFAULT nextval('apisports_match_team_stat_seq');
+
+CREATE SEQUENCE IF NOT EXISTS apisports_match_team_xg_seq INCREMENT BY 50;
+SELECT setval('apisports_match_team_xg_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM apisports_match_team_xg), false);
+ALTER TABLE apisports_match_team_xg ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE apisports_match_team_xg ALTER COLUMN id SET DEFAULT nextval('apisports_match_team_xg_seq');
@@ -0,0 +1,8 @@
+-- LiveStatus id 생성을 IDENTITY 에서 pooled sequence 로 전환 (리그 경기 일정 캐싱 시 JDBC batch insert 활성화)
+-- INCREMENT 는 LiveStatus 의 allocationSize(50) 와 같아야 합니다.
+-- 기존 최대 id + 50 에서 시작하여 이미 발급된 id 와 겹치지 않게 합니다.
+
+CREATE SEQUENCE IF NOT EXISTS live_status_seq INCREMENT BY 50;
+SELECT setval('live_status_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM live_status), false);
+ALTER TABLE live_status ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE live_status ALTER COLUMN id SET DEFAULT nextval('live_status_seq');
@@ -0,0 +1,8 @@
+-- TeamPlayerCore id 생성을 IDENTITY 에서 pooled sequence 로 전환 (팀 스쿼드 동기화 시 JDBC batch insert 활성화)
+-- INCREMENT 는 TeamPlayerCore 의 allocationSize(50) 와 같아야 합니다.
+-- 기존 최대 id + 50 에서 시작하여 이미 발급된 id 와 겹치지 않게 합니다.
+
+CREATE SEQUENCE IF NOT EXISTS team_player_core_seq INCREMENT BY 50;
+SELECT setval('team_player_core_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM team_player_core), false);
+ALTER TABLE team_player_core ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE team_player_core ALTER COLUMN id SET DEFAULT nextval('team_player_core_seq');
@@ -0,0 +1,4 @@
+-- 리그 경기일정 증분 sync 를 위한 경기별 내용 hash (SHA-256 hex)
+-- 기존 행은 NULL 로 두고, 다음 sync 에서 한 번 갱신되며 채워집니다.
+
+ALTER TABLE fixture_api_sports ADD COLUMN IF NOT EXISTS sync_hash VARCHAR(64);
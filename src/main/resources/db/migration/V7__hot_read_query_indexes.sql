@@ -0,0 +1,17 @@
+-- 조회 빈도가 높은 쿼리를 위한 보조 인덱스
+-- 각 인덱스는 엔티티 @Table(indexes) 에도 같은 이름으로 선언되어 테스트(H2, ddl-auto) 스키마와 일치합니다.
+
+-- 리그별 킥오프 범위 조회 / 가장 가까운 킥오프 조회 (findFixturesByLeagueUidInKickoffRange, findMinKickoffAfterByLeagueUid)
+-- MIN/MAX(kickoff) 조회는 이 인덱스만으로 처리되므로 별도 INCLUDE 컬럼은 두지 않습니다.
+CREATE INDEX IF NOT EXISTS idx_fixture_core_league_kickoff ON fixture_core (league_id, kickoff);
+
+-- 경기일정 sync 의 league+season 조회
+CREATE INDEX IF NOT EXISTS idx_fixture_api_sports_season ON fixture_api_sports (season_id);
+
+-- 라인업 조회 (match team -> players) 및 선수 기준 조회
+CREATE INDEX IF NOT EXISTS idx_match_player_match_team ON apisports_match_player (match_team_id);
+CREATE INDEX IF NOT EXISTS idx_match_player_player_apisports ON apisports_match_player (player_apisports_id);
+
+-- match player 삭제 시 이벤트 FK 참조 검사
+CREATE INDEX IF NOT EXISTS idx_match_event_player ON apisports_match_event (player_id);
+CREATE INDEX IF NOT EXISTS idx_match_event_assist ON apisports_match_event (assist_id);
@@ -0,0 +1,2 @@
+-- 이벤트 변경분 조회(afterSequence cursor)에서 삭제/수정/재번호를 감지하기 위한 경기별 이벤트 revision
+ALTER TABLE fixture_api_sports ADD COLUMN IF NOT EXISTS event_revision BIGINT NOT NULL DEFAULT 0;
@@ -3,14 +3,17 @@ package com.footballay.core.domain.football.external;
 import com.footballay.core.domain.football.constant.LeagueId;
 import com.footballay.core.domain.football.constant.PlayerId;
 import com.footballay.core.domain.football.constant.TeamId;
+import com.footballay.core.domain.football.persistence.Fixture;
 import com.footballay.core.domain.football.persistence.League;
 import com.footballay.core.domain.football.persistence.Player;
 import com.footballay.core.domain.football.persistence.Team;
 import com.footballay.core.domain.football.persistence.relations.LeagueTeam;
 import com.footballay.core.domain.football.persistence.relations.TeamPlayer;
+import com.footballay.core.domain.football.repository.FixtureRepository;
 import com.footballay.core.domain.football.repository.LeagueRepository;
 import com.footballay.core.domain.football.repository.PlayerRepository;
 import com.footballay.core.domain.football.repository.TeamRepository;
+import com.footballay.core.domain.football.repository.live.LiveStatusRepository;
 import com.footballay.core.domain.football.repository.relations.LeagueTeamRepository;
 import com.footballay.core.domain.football.repository.relations.TeamPlayerRepository;
 import jakarta.persistence.EntityManager;
@@ -42,6 +45,10 @@ class FootballApiCacheServiceTest {
     private PlayerRepository playerRepository;
     @Autowired
     private TeamPlayerRepository teamPlayerRepository;
+    @Autowired
+    private FixtureRepository fixtureRepository;
+    @Autowired
+    private LiveStatusRepository liveStatusRepository;
 
     @DisplayName("mockapi 를 사용해 league json 파일의 caching 에 성공합니다")
     @Test
@@ -201,6 +208,32 @@ class FootballApiCacheServiceTest {
         assertThat(deBruyne.getKoreanName()).isEqualTo("케빈 데 브라위너").withFailMessage("한글 이름 필드가 덮어써져서는 안됩니다.");
     }
 
+    @DisplayName("리그 경기 일정 재캐싱 - 기존 경기는 중복 저장 없이 업데이트합니다")
+    @Test
+    void cacheFixturesOfLeague_UpdateIfAlreadyExist() {
+        // given
+        footballApiCacheService.cacheLeague(LeagueId.EURO);
+        footballApiCacheService.cacheTeamsOfLeague(LeagueId.EURO);
+        List<Fixture> firstCached = footballApiCacheService.cacheFixturesOfLeague(LeagueId.EURO);
+        em.flush();
+        em.clear();
+        long fixtureId = firstCached.get(0).getFixtureId();
+        String originalReferee = firstCached.get(0).getReferee();
+        Fixture changed = fixtureRepository.findById(fixtureId).orElseThrow();
+        changed.setReferee("changed referee");
+        em.flush();
+        em.clear();
+        // when
+        List<Fixture> secondCached = footballApiCacheService.cacheFixturesOfLeague(LeagueId.EURO);
+        em.flush();
+        em.clear();
+        // then
+        assertThat(secondCached).hasSameSizeAs(firstCached);
+        assertThat(fixtureRepository.count()).isEqualTo(firstCached.size());
+        assertThat(liveStatusRepository.count()).isEqualTo(firstCached.size()).withFailMessage("LiveStatus 가 중복 저장되었습니다.");
+        assertThat(fixtureRepository.findById(fixtureId).orElseThrow().getReferee()).isEqualTo(originalReferee);
+    }
+
     private void saveEuroLeague() {
         final long leagueId = LeagueId.EURO;
         League league = League.builder().leagueId(leagueId).name("EURO").koreanName("유로").logo("https://static.domain.com/league/" + leagueId + ".png").available(true).currentSeason(2024).build();
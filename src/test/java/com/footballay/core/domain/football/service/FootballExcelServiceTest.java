@@ -0,0 +1,106 @@
+package com.footballay.core.domain.football.service;
+
+import com.footballay.core.domain.football.persistence.Player;
+import com.footballay.core.domain.football.repository.PlayerRepository;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FootballExcelServiceTest {
+
+    private MockWebServer server;
+    private FootballExcelService excelService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] png = onePixelPng();
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath() != null && request.getPath().startsWith("/missing")) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                return new MockResponse()
+                        .setHeader("Content-Type", "image/png")
+                        .setBody(new Buffer().write(png));
+            }
+        });
+        server.start();
+        excelService = new FootballExcelService(mock(PlayerRepository.class), new PlayerPhotoCache());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        excelService.destroy();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 보다 많은 선수를 export 해도 모든 행과 사진이 순서대로 들어간다")
+    void writePlayerExcel_writesAllRowsAndPhotos() throws IOException {
+        // given
+        int playerCount = FootballExcelService.ROW_ACCESS_WINDOW + FootballExcelService.PHOTO_CHUNK_SIZE + 7;
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= playerCount; i++) {
+            String photoUrl = i % 10 == 0 ? null : server.url("/photos/" + i + ".png").toString();
+            players.add(Player.builder().id((long) i).name("player" + i).number(i).photoUrl(photoUrl).build());
+        }
+        players.add(Player.builder().id(0L).name("missing").photoUrl(server.url("/missing/0.png").toString()).build());
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.writePlayerExcel(players, out);
+
+        // then
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(playerCount + 1);
+            assertThat(sheet.getRow(1).getCell(1).getStringCellValue()).isEqualTo("player1");
+            assertThat((long) sheet.getRow(playerCount).getCell(0).getNumericCellValue()).isEqualTo(playerCount);
+            assertThat(workbook.getAllPictures()).hasSize(playerCount - playerCount / 10);
+        }
+    }
+
+    @Test
+    @DisplayName("한 번 내려받은 사진은 다음 export 에서 다시 요청하지 않는다")
+    void writePlayerExcel_reusesCachedPhotos() throws IOException {
+        // given
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            players.add(Player.builder().id((long) i).name("player" + i).photoUrl(server.url("/photos/" + i + ".png").toString()).build());
+        }
+
+        // when
+        excelService.writePlayerExcel(players, new ByteArrayOutputStream());
+        excelService.writePlayerExcel(players, new ByteArrayOutputStream());
+
+        // then
+        assertThat(server.getRequestCount()).isEqualTo(5);
+    }
+
+    private static byte[] onePixelPng() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -96,4 +97,39 @@ class MatchAlertManagerIntegrationTest {
         manager.alertOnce(AlertCategory.MATCHIDNULL, AlertSeverity.WARNING, id, msg, TTL);
         verify(matchIdNullNotifier).notifyAlert(AlertSeverity.WARNING, id, msg);
     }
+
+    @Test
+    void alertBatch_skipsDuplicates_andAggregatesRest() throws Exception {
+        manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "1", "already sent", TTL);
+
+        List<AlertEvent> events = List.of(
+                new AlertEvent(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "1", "boom", TTL),
+                new AlertEvent(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "2", "boom", TTL),
+                new AlertEvent(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "3", "boom", TTL)
+        );
+
+        boolean sent = manager.alertBatch(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, events, Duration.ofSeconds(10));
+
+        // 이미 보낸 "1" 은 제외하고 나머지 두 건을 한 번에 전송
+        assertTrue(sent);
+        verify(matchDataNotifier).notifyAlert(
+                eq(AlertSeverity.EXCEPTION),
+                eq("2 fixtures"),
+                argThat(message -> message.contains("- 2: boom") && message.contains("- 3: boom") && !message.contains("- 1:"))
+        );
+    }
+
+    @Test
+    void aggregateMessage_isTrimmedUnderDiscordLimit() {
+        List<AlertEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(new AlertEvent(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, String.valueOf(i), "x".repeat(300), TTL));
+        }
+
+        String message = MatchAlertManager.aggregateMessage(events, Duration.ofSeconds(10));
+
+        assertTrue(message.length() <= MatchAlertManager.MAX_AGGREGATED_MESSAGE_LENGTH);
+        assertTrue(message.startsWith("100 alerts in the last 10s"));
+        assertTrue(message.contains("more"));
+    }
 }
@@ -0,0 +1,125 @@
+package com.footballay.core.monitor.alert.manaer;
+
+import com.footballay.core.monitor.alert.AlertRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueuedAlertManagerTest {
+
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    private final MatchAlertManager delegate = mock(MatchAlertManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private QueuedAlertManager manager;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (manager != null) {
+            manager.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 막혀 있어도 alertOnce 는 바로 반환하고 queue 가 가득 차면 알림을 버린다")
+    void alertOnce_neverBlocks_andDropsWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.alertBatch(any(), any(), anyList(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        manager = new QueuedAlertManager(delegate, meterRegistry, 2, Duration.ZERO, Duration.ZERO);
+        manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "0", "boom", TTL);
+        verify(delegate, timeout(1_000)).alertBatch(any(), any(), anyList(), any());
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 1; i <= 5; i++) {
+            manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, String.valueOf(i), "boom", TTL);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(meterRegistry.get("footballay.alert.enqueue").tag("result", "dropped").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 같은 종류의 알림은 한 번에 전송하고 같은 알림은 로컬에서 걸러낸다")
+    void burst_isAggregatedIntoSingleDelivery() {
+        // given
+        when(delegate.alertBatch(any(), any(), anyList(), any())).thenReturn(true);
+        manager = new QueuedAlertManager(delegate, meterRegistry, 100, WINDOW, Duration.ZERO);
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, String.valueOf(i), "boom", TTL);
+            manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, String.valueOf(i), "boom", TTL);
+        }
+        manager.alertOnce(AlertCategory.LINEUP, AlertSeverity.FAILURE, "100", "missing", TTL);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AlertEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(delegate, timeout(2_000)).alertBatch(eq(AlertCategory.MATCHDATA), eq(AlertSeverity.EXCEPTION), captor.capture(), eq(WINDOW));
+        verify(delegate, timeout(2_000)).alertBatch(eq(AlertCategory.LINEUP), eq(AlertSeverity.FAILURE), anyList(), eq(WINDOW));
+        assertThat(captor.getValue()).hasSize(12);
+        assertThat(meterRegistry.get("footballay.alert.enqueue").tag("result", "deduplicated").counter().count()).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("rate limit 응답을 받으면 Retry-After 만큼 기다린 뒤 다시 전송한다")
+    void rateLimited_retriesAfterDelay() {
+        // given
+        when(delegate.alertBatch(any(), any(), anyList(), any()))
+                .thenThrow(new AlertRateLimitedException("rate limited", Duration.ofMillis(100)))
+                .thenReturn(true);
+        manager = new QueuedAlertManager(delegate, meterRegistry, 100, Duration.ZERO, Duration.ZERO);
+
+        // when
+        manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "1", "boom", TTL);
+
+        // then
+        verify(delegate, timeout(2_000).times(2)).alertBatch(any(), any(), anyList(), any());
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() ->
+                assertThat(meterRegistry.get("footballay.alert.delivery").tag("result", "sent").counter().count()).isEqualTo(1.0));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 알림은 로컬 중복 제거에서 풀려 다시 받을 수 있다")
+    void failedDelivery_releasesLocalDedupe() {
+        // given
+        when(delegate.alertBatch(any(), any(), anyList(), any())).thenReturn(false).thenReturn(true);
+        manager = new QueuedAlertManager(delegate, meterRegistry, 100, Duration.ZERO, Duration.ZERO);
+        manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "1", "boom", TTL);
+        verify(delegate, timeout(2_000)).alertBatch(any(), any(), anyList(), any());
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() ->
+                assertThat(meterRegistry.get("footballay.alert.delivery").tag("result", "failed").counter().count()).isEqualTo(1.0));
+
+        // when
+        manager.alertOnce(AlertCategory.MATCHDATA, AlertSeverity.EXCEPTION, "1", "boom", TTL);
+
+        // then
+        verify(delegate, timeout(2_000).times(2)).alertBatch(any(), any(), anyList(), any());
+    }
+}
@@ -0,0 +1,254 @@
+package com.footballay.core.web.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CachedApiResponseService 단위 테스트
+ * <pre>
+ * Redis 는 in-memory Map 으로 대신하며, 같은 Map 을 쓰는 두 인스턴스로 L2 공유를 흉내냅니다.
+ * </pre>
+ */
+class CachedApiResponseServiceTest {
+    private static final String URL = "/api/football/fixtures/statistics";
+    private static final Map<String, String> PARAMS = Map.of("fixtureId", "1208021");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private final Map<String, String> redisValues = new ConcurrentHashMap<>();
+    private StringRedisTemplate redis;
+    private CachedApiResponseService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenAnswer(invocation -> redisValues.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> {
+            redisValues.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOps).set(anyString(), anyString(), any(Duration.class));
+        service = newInstance();
+    }
+
+    @DisplayName("parameter 순서와 관계없이 같은 요청은 같은 key 를 가진다")
+    @Test
+    void canonicalKey() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("leagueId", "39");
+        first.put("date", "2025-01-01T00:00:00+09:00");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("date", "2025-01-01T00:00:00+09:00");
+        second.put("leagueId", "39");
+
+        assertThat(CachedApiResponseService.generateKey(URL, first))
+                .isEqualTo(CachedApiResponseService.generateKey(URL, second))
+                .isEqualTo("api-cache:" + URL + "?date=2025-01-01T00%3A00%3A00%2B09%3A00&leagueId=39");
+    }
+
+    @DisplayName("계산한 응답은 L1 에서 다시 응답한다")
+    @Test
+    void l1HitAfterLoad() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        CachedApiResponseService.Lookup first = service.getOrLoad(URL, PARAMS, () -> Map.of("load", loads.incrementAndGet()));
+        CachedApiResponseService.Lookup second = service.getOrLoad(URL, PARAMS, () -> Map.of("load", loads.incrementAndGet()));
+
+        // then
+        assertThat(first.source()).isEqualTo(CachedApiResponseService.Source.LOADED);
+        assertThat(second.source()).isEqualTo(CachedApiResponseService.Source.L1);
+        assertThat(second.json()).isEqualTo("[{\"load\":1}]");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(lookupCount("miss")).isEqualTo(1.0);
+        assertThat(lookupCount("l1_hit")).isEqualTo(1.0);
+    }
+
+    @DisplayName("다른 인스턴스가 계산한 응답은 L2 에서 읽는다")
+    @Test
+    void l2HitFromOtherInstance() {
+        // given
+        service.getOrLoad(URL, PARAMS, () -> Map.of("node", "a"));
+        CachedApiResponseService otherInstance = newInstance();
+
+        // when
+        CachedApiResponseService.Lookup lookup = otherInstance.getOrLoad(URL, PARAMS, () -> Map.of("node", "b"));
+
+        // then
+        assertThat(lookup.source()).isEqualTo(CachedApiResponseService.Source.L2);
+        assertThat(lookup.json()).isEqualTo("[{\"node\":\"a\"}]");
+    }
+
+    @DisplayName("같은 key 를 동시에 요청하면 한 번만 계산한다")
+    @Test
+    void singleFlight() throws Exception {
+        // given
+        int concurrency = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        // when
+        List<Future<CachedApiResponseService.Lookup>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> service.getOrLoad(URL, PARAMS, () -> {
+                loads.incrementAndGet();
+                loaderEntered.countDown();
+                awaitQuietly(releaseLoader);
+                return Map.of("load", 1);
+            })));
+            loaderEntered.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < concurrency; i++) {
+                futures.add(executor.submit(() -> service.getOrLoad(URL, PARAMS, () -> Map.of("load", loads.incrementAndGet()))));
+            }
+            await().atMost(5, TimeUnit.SECONDS).until(() -> coalescedCount() == concurrency - 1);
+            releaseLoader.countDown();
+
+            // then
+            for (Future<CachedApiResponseService.Lookup> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS).json()).isEqualTo("[{\"load\":1}]");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("fresh 기간이 지나면 이전 응답을 돌려주고 백그라운드에서 한 번만 다시 계산한다")
+    @Test
+    void staleWhileRevalidate() {
+        // given
+        service.getOrLoad(URL, PARAMS, () -> Map.of("version", 1));
+        clock.advance(CachedApiResponseService.FRESH_TTL.plusSeconds(1));
+
+        // when
+        CachedApiResponseService.Lookup stale = service.getOrLoad(URL, PARAMS, () -> Map.of("version", 2));
+
+        // then
+        assertThat(stale.source()).isEqualTo(CachedApiResponseService.Source.STALE);
+        assertThat(stale.json()).isEqualTo("[{\"version\":1}]");
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            CachedApiResponseService.Lookup refreshed = service.getOrLoad(URL, PARAMS, () -> Map.of("version", 3));
+            assertThat(refreshed.source()).isEqualTo(CachedApiResponseService.Source.L1);
+            assertThat(refreshed.json()).isEqualTo("[{\"version\":2}]");
+        });
+    }
+
+    @DisplayName("stale 기간까지 지나면 요청 스레드에서 다시 계산한다")
+    @Test
+    void reloadAfterStaleWindow() {
+        // given
+        service.getOrLoad(URL, PARAMS, () -> Map.of("version", 1));
+        clock.advance(CachedApiResponseService.FRESH_TTL.plus(CachedApiResponseService.STALE_TTL));
+
+        // when
+        CachedApiResponseService.Lookup lookup = service.getOrLoad(URL, PARAMS, () -> Map.of("version", 2));
+
+        // then
+        assertThat(lookup.source()).isEqualTo(CachedApiResponseService.Source.LOADED);
+        assertThat(lookup.json()).isEqualTo("[{\"version\":2}]");
+    }
+
+    @DisplayName("계산이 실패하면 예외를 전달하고 캐싱하지 않는다")
+    @Test
+    void failureIsNotCached() {
+        assertThatThrownBy(() -> service.getOrLoad(URL, PARAMS, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("db down");
+
+        CachedApiResponseService.Lookup lookup = service.getOrLoad(URL, PARAMS, () -> Map.of("ok", true));
+        assertThat(lookup.source()).isEqualTo(CachedApiResponseService.Source.LOADED);
+    }
+
+    @DisplayName("Redis 장애 시에도 L1 과 계산으로 응답한다")
+    @Test
+    void redisFailure() {
+        // given
+        when(redis.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        CachedApiResponseService.Lookup first = service.getOrLoad(URL, PARAMS, () -> Map.of("ok", true));
+        CachedApiResponseService.Lookup second = service.getOrLoad(URL, PARAMS, () -> Map.of("ok", false));
+
+        // then
+        assertThat(first.source()).isEqualTo(CachedApiResponseService.Source.LOADED);
+        assertThat(second.source()).isEqualTo(CachedApiResponseService.Source.L1);
+    }
+
+    private CachedApiResponseService newInstance() {
+        return new CachedApiResponseService(objectMapper, redis, meterRegistry, clock);
+    }
+
+    private double lookupCount(String result) {
+        return meterRegistry.get("footballay.api.cache.lookup").tag("endpoint", URL).tag("result", result).counter().count();
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.find("footballay.api.cache.coalesced").counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
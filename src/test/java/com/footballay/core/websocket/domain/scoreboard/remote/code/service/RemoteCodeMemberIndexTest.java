@@ -0,0 +1,221 @@
+package com.footballay.core.websocket.domain.scoreboard.remote.code.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RemoteCodeMemberIndex 단위 테스트 (Redis Mock)
+ */
+class RemoteCodeMemberIndexTest {
+    private static final String REMOTE_CODE = "ABC123";
+    private static final String KEY = "remote:" + REMOTE_CODE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private StringRedisTemplate redis;
+    private HashOperations<String, Object, Object> hashOps;
+    private RemoteCodeMemberIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        hashOps = mock(HashOperations.class);
+        when(redis.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(hashOps.entries(KEY)).thenReturn(Map.of("host", "hostKim"));
+        index = new RemoteCodeMemberIndex(redis, true, meterRegistry, clock);
+    }
+
+    @DisplayName("한 번 읽은 구독자 목록은 Redis 를 다시 조회하지 않는다")
+    @Test
+    void hitAfterFirstLoad() {
+        // when
+        index.members(REMOTE_CODE);
+        Map<String, String> members = index.members(REMOTE_CODE);
+
+        // then
+        assertThat(members).containsExactly(Map.entry("host", "hostKim"));
+        verify(hashOps, times(1)).entries(KEY);
+        assertThat(lookupCount("hit")).isEqualTo(1.0);
+        assertThat(lookupCount("miss")).isEqualTo(1.0);
+    }
+
+    @DisplayName("다른 인스턴스의 hset 알림을 받으면 다음 조회에서 Redis 를 다시 읽는다")
+    @Test
+    void invalidateByKeyspaceNotification() {
+        // given
+        index.members(REMOTE_CODE);
+        when(hashOps.entries(KEY)).thenReturn(Map.of("host", "hostKim", "member", "memberLee"));
+
+        // when
+        index.onMessage(keyspaceEvent(KEY, "hset"), null);
+
+        // then
+        assertThat(index.members(REMOTE_CODE)).containsOnlyKeys("host", "member");
+        verify(hashOps, times(2)).entries(KEY);
+    }
+
+    @DisplayName("조회 도중 무효화된 코드는 읽어온 결과를 보관하지 않는다")
+    @Test
+    void discardLoadInvalidatedDuringLoad() {
+        // given: Redis 를 읽는 사이 다른 인스턴스가 구독자를 추가함
+        when(hashOps.entries(KEY)).thenAnswer(invocation -> {
+            index.invalidate(REMOTE_CODE);
+            return Map.of("host", "hostKim");
+        });
+        index.members(REMOTE_CODE);
+        when(hashOps.entries(KEY)).thenReturn(Map.of("host", "hostKim", "member", "memberLee"));
+
+        // when
+        Map<String, String> members = index.members(REMOTE_CODE);
+
+        // then
+        assertThat(members).containsOnlyKeys("host", "member");
+        verify(hashOps, times(2)).entries(KEY);
+    }
+
+    @DisplayName("다른 코드의 무효화는 조회 중인 코드의 결과 보관에 영향을 주지 않는다")
+    @Test
+    void keepLoadWhenOtherCodeInvalidated() {
+        // given
+        when(hashOps.entries("remote:OTHER1")).thenReturn(Map.of("host", "hostPark"));
+        index.members("OTHER1");
+        when(hashOps.entries(KEY)).thenAnswer(invocation -> {
+            index.invalidate("OTHER1");
+            return Map.of("host", "hostKim");
+        });
+
+        // when
+        index.members(REMOTE_CODE);
+        index.members(REMOTE_CODE);
+
+        // then
+        verify(hashOps, times(1)).entries(KEY);
+    }
+
+    @DisplayName("만료시간 갱신(expire) 알림은 구독자 목록을 무효화하지 않는다")
+    @Test
+    void ignoreExpireRefresh() {
+        // given
+        index.members(REMOTE_CODE);
+
+        // when
+        index.onMessage(keyspaceEvent(KEY, "expire"), null);
+        index.members(REMOTE_CODE);
+
+        // then
+        verify(hashOps, times(1)).entries(KEY);
+    }
+
+    @DisplayName("알림이 유실되어도 최대 보관 시간이 지나면 다시 읽는다")
+    @Test
+    void reloadAfterMaxStaleness() {
+        // given
+        index.members(REMOTE_CODE);
+
+        // when
+        clock.advance(RemoteCodeMemberIndex.MAX_STALENESS);
+        index.members(REMOTE_CODE);
+
+        // then
+        verify(hashOps, times(2)).entries(KEY);
+    }
+
+    @DisplayName("존재하지 않는 코드는 보관하지 않는다")
+    @Test
+    void doNotCacheUnknownCode() {
+        // given
+        when(hashOps.entries("remote:NOPE00")).thenReturn(Map.of());
+
+        // when
+        index.members("NOPE00");
+        index.members("NOPE00");
+
+        // then
+        verify(hashOps, times(2)).entries("remote:NOPE00");
+    }
+
+    @DisplayName("keyspace notification 을 쓸 수 없으면 항상 Redis 를 조회한다")
+    @Test
+    void bypassWithoutNotifications() {
+        // given
+        RemoteCodeMemberIndex bypass = new RemoteCodeMemberIndex(redis, false, meterRegistry, clock);
+
+        // when
+        bypass.members(REMOTE_CODE);
+        bypass.members(REMOTE_CODE);
+
+        // then
+        verify(hashOps, times(2)).entries(KEY);
+        assertThat(lookupCount("bypass")).isEqualTo(2.0);
+    }
+
+    @DisplayName("만료시간 갱신은 갱신 간격마다 한 번만 허용한다")
+    @Test
+    void throttleExpirationRefresh() {
+        assertThat(index.claimExpirationRefresh(REMOTE_CODE)).isTrue();
+        assertThat(index.claimExpirationRefresh(REMOTE_CODE)).isFalse();
+
+        clock.advance(RemoteCodeMemberIndex.REFRESH_INTERVAL);
+        assertThat(index.claimExpirationRefresh(REMOTE_CODE)).isTrue();
+    }
+
+    @DisplayName("기존 notify-keyspace-events 설정에 필요한 flag 만 추가한다")
+    @Test
+    void mergeNotifyFlags() {
+        assertThat(RemoteCodeMemberIndex.mergeNotifyFlags("")).isEqualTo("Kghxe");
+        assertThat(RemoteCodeMemberIndex.mergeNotifyFlags("Ex")).isEqualTo("ExKghe");
+        assertThat(RemoteCodeMemberIndex.mergeNotifyFlags("AKE")).isEqualTo("AKE");
+    }
+
+    private DefaultMessage keyspaceEvent(String key, String event) {
+        return new DefaultMessage(
+                ("__keyspace@0__:" + key).getBytes(StandardCharsets.UTF_8),
+                event.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private double lookupCount(String result) {
+        return meterRegistry.get("footballay.websocket.remote.index.lookup").tag("result", result).counter().count();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
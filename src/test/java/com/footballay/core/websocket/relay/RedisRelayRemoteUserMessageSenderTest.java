@@ -0,0 +1,195 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RedisRelayRemoteUserMessageSender 테스트
+ * <pre>
+ * Redis pub/sub 대신 발행된 메시지를 모든 인스턴스에 전달하는 in-memory bus 를 사용합니다.
+ * 인스턴스마다 subscriber thread 가 하나인 Redis 구독과 같도록, 인스턴스별 단일 thread 로 메시지를 전달합니다.
+ * </pre>
+ */
+class RedisRelayRemoteUserMessageSenderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Node> nodes = new ArrayList<>();
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+
+    RedisRelayRemoteUserMessageSenderTest() {
+        doAnswer(invocation -> {
+            String channel = invocation.getArgument(0);
+            String body = invocation.getArgument(1);
+            for (Node node : nodes) {
+                node.subscriber.execute(() -> node.sender.onMessage(
+                        new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)),
+                        null
+                ));
+            }
+            return 1L;
+        }).when(redis).convertAndSend(eq(RedisRelayRemoteUserMessageSender.CHANNEL), anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.subscriber.shutdownNow());
+    }
+
+    @DisplayName("그룹 메시지는 한 번만 발행되고, 각 멤버는 자신이 접속한 인스턴스에서 한 번만 받는다")
+    @Test
+    void relayToMembersOnOtherNodes() {
+        // given
+        Node nodeA = addNode(Set.of("user-1", "user-2"));
+        Node nodeB = addNode(Set.of("user-3"));
+
+        // when
+        nodeA.sender.sendToUsers(List.of("user-1", "user-2", "user-3"), "/topic/remote/ABC123", Map.of("score", 1));
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(nodeA.received).containsOnlyKeys("user-1", "user-2");
+            assertThat(nodeB.received).containsOnlyKeys("user-3");
+        });
+        assertThat(nodeB.received.get("user-3").get()).isEqualTo(1);
+        assertThat(nodeA.meterRegistry.get("footballay.websocket.relay.deliveries").tag("outcome", "not_connected").counter().count())
+                .isEqualTo(1.0);
+        assertThat(nodeB.meterRegistry.get("footballay.websocket.relay.deliveries").tag("outcome", "not_connected").counter().count())
+                .isEqualTo(2.0);
+        assertThat(nodeB.meterRegistry.get("footballay.websocket.relay.latency").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("받을 멤버가 없으면 발행하지 않는다")
+    @Test
+    void skipEmptyRecipients() {
+        // given
+        Node node = addNode(Set.of("user-1"));
+
+        // when
+        node.sender.sendToUsers(List.of(), "/topic/remote/ABC123", Map.of("score", 1));
+
+        // then
+        assertThat(node.meterRegistry.get("footballay.websocket.relay.latency").timer().count()).isZero();
+    }
+
+    @DisplayName("여러 원격 그룹이 동시에 메시지를 보내도 모든 멤버가 빠짐없이 한 번씩 받는다")
+    @Test
+    void manyConcurrentRemoteGroups() throws Exception {
+        // given : 3개 인스턴스, 300개 그룹, 그룹당 4명 (멤버는 인스턴스에 고르게 분산)
+        int nodeCount = 3;
+        int groupCount = 300;
+        int membersPerGroup = 4;
+        int messagesPerGroup = 5;
+        List<Set<String>> usersByNode = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            usersByNode.add(ConcurrentHashMap.newKeySet());
+        }
+        List<List<String>> groups = new ArrayList<>();
+        for (int g = 0; g < groupCount; g++) {
+            List<String> members = new ArrayList<>();
+            for (int m = 0; m < membersPerGroup; m++) {
+                String user = "group-" + g + "-user-" + m;
+                members.add(user);
+                usersByNode.get((g + m) % nodeCount).add(user);
+            }
+            groups.add(members);
+        }
+        usersByNode.forEach(this::addNode);
+
+        // when : 각 그룹의 publisher 가 자신이 접속한 인스턴스에서 동시에 전송
+        ExecutorService publishers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int g = 0; g < groupCount; g++) {
+                List<String> members = groups.get(g);
+                Node publisherNode = nodes.get(g % nodeCount);
+                futures.add(publishers.submit(() -> {
+                    for (int i = 0; i < messagesPerGroup; i++) {
+                        publisherNode.sender.sendToUsers(members, "/topic/remote/" + members.get(0), Map.of("seq", i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            publishers.shutdown();
+        }
+
+        // then
+        int totalMembers = groupCount * membersPerGroup;
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(nodes.stream().mapToInt(node -> node.received.size()).sum()).isEqualTo(totalMembers)
+        );
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(nodes).allSatisfy(node ->
+                        assertThat(node.meterRegistry.get("footballay.websocket.relay.latency").timer().count())
+                                .isEqualTo((long) groupCount * messagesPerGroup))
+        );
+        for (Node node : nodes) {
+            assertThat(node.received.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(messagesPerGroup));
+            double p99Millis = node.meterRegistry.get("footballay.websocket.relay.latency").timer()
+                    .takeSnapshot().percentileValues()[2].value(TimeUnit.MILLISECONDS);
+            assertThat(p99Millis).isLessThan(5_000);
+        }
+    }
+
+    private Node addNode(Set<String> connectedUsers) {
+        Node node = new Node(connectedUsers);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 하나의 애플리케이션 인스턴스 (접속한 유저 + simple broker + relay)
+     */
+    private class Node {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+        final ExecutorService subscriber = Executors.newSingleThreadExecutor();
+        final RedisRelayRemoteUserMessageSender sender;
+
+        Node(Set<String> connectedUsers) {
+            SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+            SimpUser simpUser = mock(SimpUser.class);
+            when(userRegistry.getUser(anyString())).thenAnswer(invocation ->
+                    connectedUsers.contains(invocation.<String>getArgument(0)) ? simpUser : null);
+
+            SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+            doAnswer(invocation -> {
+                assertThat(invocation.<Object>getArgument(2)).isInstanceOf(JsonNode.class);
+                received.computeIfAbsent(invocation.getArgument(0), key -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }).when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+            sender = new RedisRelayRemoteUserMessageSender(redis, messagingTemplate, userRegistry, objectMapper, meterRegistry, Clock.systemUTC());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.footballay.core.websocket.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RedisRelayTopicMessageSender 테스트
+ * <pre>
+ * Redis pub/sub 대신 발행된 메시지를 모든 인스턴스에 전달하는 in-memory bus 를 사용합니다.
+ * 인스턴스마다 subscriber thread 가 하나인 Redis 구독과 같도록, 인스턴스별 단일 thread 로 메시지를 전달합니다.
+ * 각 인스턴스의 simple broker 는 자신에게 접속한 구독자가 있는 destination 만 전달합니다.
+ * </pre>
+ */
+class RedisRelayTopicMessageSenderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Node> nodes = new ArrayList<>();
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final AtomicInteger publishCount = new AtomicInteger();
+
+    RedisRelayTopicMessageSenderTest() {
+        doAnswer(invocation -> {
+            publishCount.incrementAndGet();
+            String channel = invocation.getArgument(0);
+            String body = invocation.getArgument(1);
+            for (Node node : nodes) {
+                node.subscriber.execute(() -> node.sender.onMessage(
+                        new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)),
+                        null
+                ));
+            }
+            return 1L;
+        }).when(redis).convertAndSend(eq(RedisRelayTopicMessageSender.CHANNEL), anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.subscriber.shutdownNow());
+    }
+
+    @DisplayName("sync 를 실행한 인스턴스와 다른 인스턴스에 접속한 구독자도 delta 를 받는다")
+    @Test
+    void relayToSubscribersOnOtherNodes() {
+        // given : 구독자는 B 에만 접속, sync 는 A 에서 실행
+        Node nodeA = addNode(Set.of());
+        Node nodeB = addNode(Set.of("/topic/fixture/fixture-1"));
+
+        // when
+        nodeA.sender.sendToTopic("/topic/fixture/fixture-1", Map.of("version", 1));
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(nodeB.received).containsOnlyKeys("/topic/fixture/fixture-1")
+        );
+        assertThat(nodeA.received).isEmpty();
+        assertThat(nodeB.received.get("/topic/fixture/fixture-1")).containsExactly(1);
+        assertThat(publishCount.get()).isEqualTo(1);
+        assertThat(nodeB.meterRegistry.get("footballay.websocket.topic-relay.latency").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 경기의 delta 를 여러 인스턴스에서 동시에 보내도 모든 인스턴스의 구독자가 빠짐없이 순서대로 받는다")
+    @Test
+    void manyConcurrentFixtures() throws Exception {
+        // given : 3개 인스턴스, 200개 경기, 경기마다 두 인스턴스에 구독자가 있음
+        int nodeCount = 3;
+        int fixtureCount = 200;
+        int deltasPerFixture = 5;
+        List<Set<String>> destinationsByNode = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            destinationsByNode.add(new HashSet<>());
+        }
+        for (int f = 0; f < fixtureCount; f++) {
+            String destination = "/topic/fixture/fixture-" + f;
+            destinationsByNode.get(f % nodeCount).add(destination);
+            destinationsByNode.get((f + 1) % nodeCount).add(destination);
+        }
+        destinationsByNode.forEach(this::addNode);
+
+        // when : 경기마다 sync 를 실행하는 인스턴스가 달라도 동시에 전송
+        ExecutorService publishers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int f = 0; f < fixtureCount; f++) {
+                String destination = "/topic/fixture/fixture-" + f;
+                Node publisherNode = nodes.get((f + 2) % nodeCount);
+                futures.add(publishers.submit(() -> {
+                    for (int version = 1; version <= deltasPerFixture; version++) {
+                        publisherNode.sender.sendToTopic(destination, Map.of("version", version));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            publishers.shutdown();
+        }
+
+        // then
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(nodes).allSatisfy(node ->
+                        assertThat(node.meterRegistry.get("footballay.websocket.topic-relay.latency").timer().count())
+                                .isEqualTo((long) fixtureCount * deltasPerFixture))
+        );
+        assertThat(publishCount.get()).isEqualTo(fixtureCount * deltasPerFixture);
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = nodes.get(i);
+            assertThat(node.received).containsOnlyKeys(destinationsByNode.get(i));
+            assertThat(node.received.values()).allSatisfy(versions ->
+                    assertThat(versions).containsExactly(1, 2, 3, 4, 5));
+            double p99Millis = node.meterRegistry.get("footballay.websocket.topic-relay.latency").timer()
+                    .takeSnapshot().percentileValues()[2].value(TimeUnit.MILLISECONDS);
+            assertThat(p99Millis).isLessThan(5_000);
+        }
+    }
+
+    private Node addNode(Set<String> subscribedDestinations) {
+        Node node = new Node(subscribedDestinations);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 하나의 애플리케이션 인스턴스 (접속한 구독자 + simple broker + relay)
+     */
+    private class Node {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final ExecutorService subscriber = Executors.newSingleThreadExecutor();
+        final RedisRelayTopicMessageSender sender;
+
+        Node(Set<String> subscribedDestinations) {
+            SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+            doAnswer(invocation -> {
+                String destination = invocation.getArgument(0);
+                JsonNode payload = invocation.getArgument(1);
+                if (subscribedDestinations.contains(destination)) {
+                    received.computeIfAbsent(destination, key -> new CopyOnWriteArrayList<>())
+                            .add(payload.get("version").asInt());
+                }
+                return null;
+            }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+            sender = new RedisRelayTopicMessageSender(redis, messagingTemplate, objectMapper, meterRegistry, Clock.systemUTC());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.footballay.core.infra.apisports
 
 import com.footballay.core.infra.apisports.backbone.sync.fixture.FixtureApiSportsWithCoreSyncer
+import com.footballay.core.infra.apisports.backbone.sync.fixture.FixtureKickoffChangedEvent
 import com.footballay.core.infra.apisports.shared.dto.FixtureApiSportsSyncDto
 import com.footballay.core.infra.apisports.shared.dto.ScoreOfFixtureApiSportsCreateDto
 import com.footballay.core.infra.apisports.shared.dto.StatusOfFixtureApiSportsCreateDto
@@ -22,7 +23,10 @@ import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
 import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.context.event.ApplicationEvents
+import org.springframework.test.context.event.RecordApplicationEvents
 import org.springframework.transaction.annotation.Transactional
+import java.time.Instant
 
 /**
  * FixtureApiSportsWithCoreSyncer 통합 테스트
@@ -34,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional
  * 2. 중복 경기 처리
  * 3. Venue 처리
  * 4. Core Entity 생성 및 연관관계
+ * 5. hash 기반 변경 감지 및 킥오프 변경 반영
  *
  * 주의사항:
  * - LeagueCore와 TeamCore 간의 LeagueTeamCore 다대다 연관관계는 의도적으로 설정하지 않습니다.
@@ -43,6 +48,7 @@ import org.springframework.transaction.annotation.Transactional
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
+@RecordApplicationEvents
 class FixtureApiSportsWithCoreSyncerIntegrationTest {
     val log = logger()
 
@@ -78,6 +84,9 @@ class FixtureApiSportsWithCoreSyncerIntegrationTest {
     @Autowired
     private lateinit var em: EntityManager
 
+    @Autowired
+    private lateinit var applicationEvents: ApplicationEvents
+
     // Test Data Constants
     private val TEST_LEAGUE_API_ID = 39L
     private val TEST_SEASON_YEAR = 2024
@@ -225,6 +234,87 @@ class FixtureApiSportsWithCoreSyncerIntegrationTest {
         log.info("여러 경기 일괄 저장 테스트 완료")
     }
 
+    @Test
+    fun `변경되지 않은 경기 재동기화 - hash 가 같으면 건너뜀`() {
+        // given: 이미 저장된 경기
+        val fixtureDto = createBasicFixtureDto(fixtureApiId = 3001L)
+        val firstResult = fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(fixtureDto))
+        em.flush()
+        em.clear()
+        val storedHash = fixtureApiSportsRepository.findByApiId(3001L)!!.syncHash
+
+        // when: 같은 DTO 로 다시 동기화
+        val secondResult = fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(fixtureDto))
+
+        // then: 아무 경기도 변경되지 않음
+        assertThat(firstResult.keys).containsExactly(3001L)
+        assertThat(storedHash).isNotNull()
+        assertThat(secondResult).isEmpty()
+        assertEquals(storedHash, fixtureApiSportsRepository.findByApiId(3001L)!!.syncHash)
+    }
+
+    @Test
+    fun `일부 경기만 변경된 재동기화 - 변경된 경기만 업데이트`() {
+        // given: 이미 저장된 두 경기
+        val unchanged = createBasicFixtureDto(fixtureApiId = 3002L)
+        val original = createBasicFixtureDto(fixtureApiId = 3003L)
+        fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(unchanged, original))
+        em.flush()
+        em.clear()
+        val originalHash = fixtureApiSportsRepository.findByApiId(3003L)!!.syncHash
+
+        // when: 한 경기의 상태만 바뀐 채 다시 동기화
+        val changed = original.copy(status = StatusOfFixtureApiSportsCreateDto(longStatus = "Match Postponed", shortStatus = "PST"))
+        val result = fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(unchanged, changed))
+
+        // then: 변경된 경기만 반환되고 hash 가 갱신됨
+        assertThat(result.keys).containsExactly(3003L)
+        val saved = fixtureApiSportsRepository.findByApiId(3003L)!!
+        assertEquals("PST", saved.status?.shortStatus)
+        assertThat(saved.syncHash).isNotEqualTo(originalHash)
+    }
+
+    @Test
+    fun `킥오프 변경 - FixtureCore 킥오프를 갱신하고 available 경기는 이벤트 발행`() {
+        // given: available 로 설정된 경기
+        val original = createBasicFixtureDto(fixtureApiId = 3004L)
+        fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(original))
+        val core = fixtureApiSportsRepository.findByApiId(3004L)!!.core!!
+        core.available = true
+        em.flush()
+        em.clear()
+
+        // when: 킥오프가 바뀐 채 다시 동기화
+        val rescheduled = original.copy(date = "2025-06-27T19:30:00+00:00")
+        fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(rescheduled))
+
+        // then
+        val newKickoff = Instant.parse("2025-06-27T19:30:00Z")
+        val savedCore = fixtureCoreRepository.findById(core.id!!).get()
+        assertEquals(newKickoff, savedCore.kickoff)
+        val events = applicationEvents.stream(FixtureKickoffChangedEvent::class.java).toList()
+        assertThat(events).containsExactly(
+            FixtureKickoffChangedEvent(core.uid, Instant.parse("2025-06-26T14:00:00Z"), newKickoff),
+        )
+    }
+
+    @Test
+    fun `킥오프 변경 - available 이 아닌 경기는 이벤트를 발행하지 않음`() {
+        // given
+        val original = createBasicFixtureDto(fixtureApiId = 3005L)
+        fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(original))
+        em.flush()
+        em.clear()
+
+        // when
+        fixtureApiSportsSyncer.saveFixturesOfLeague(TEST_LEAGUE_API_ID, listOf(original.copy(date = "2025-06-27T19:30:00+00:00")))
+
+        // then
+        val savedCore = fixtureApiSportsRepository.findByApiId(3005L)!!.core!!
+        assertEquals(Instant.parse("2025-06-27T19:30:00Z"), savedCore.kickoff)
+        assertThat(applicationEvents.stream(FixtureKickoffChangedEvent::class.java)).isEmpty()
+    }
+
     // === 테스트 데이터 생성 헬퍼 메서드들 ===
 
     private fun createBasicFixtureDto(
@@ -0,0 +1,151 @@
+package com.footballay.core.infra.apisports.match.batch
+
+import com.footballay.core.infra.apisports.match.ApiSportsFixtureSingle
+import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
+import com.footballay.core.infra.apisports.shared.fetch.response.ApiSportsFixture
+import com.footballay.core.infra.apisports.shared.fetch.response.Paging
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * FixtureFetchCoalescer 단위 테스트
+ */
+class FixtureFetchCoalescerTest {
+    private val fetcher: ApiSportsV3Fetcher = mock()
+    private val meterRegistry = SimpleMeterRegistry()
+    private val executor = Executors.newFixedThreadPool(4)
+
+    private val coalescer =
+        FixtureFetchCoalescer(
+            fetcher,
+            FixtureFetchCoalescerProperties(window = Duration.ofMillis(500), maxBatchSize = 20),
+            meterRegistry,
+        )
+
+    @AfterEach
+    fun tearDown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun `동시에 들어온 조회를 ids 조회 한 번으로 묶고 fixture 별로 나눠 돌려준다`() {
+        // given
+        val ids = listOf(1001L, 1002L, 1003L)
+        whenever(fetcher.fetchFixturesByIds(any())).thenReturn(envelope(ids.map { single(it) }))
+
+        // when
+        val results = fetchConcurrently(ids)
+
+        // then
+        val captor = argumentCaptor<List<Long>>()
+        verify(fetcher, times(1)).fetchFixturesByIds(captor.capture())
+        verify(fetcher, never()).fetchFixtureSingle(any())
+        assertThat(captor.firstValue).containsExactlyInAnyOrderElementsOf(ids)
+        ids.forEach { id ->
+            val result = results.getValue(id)
+            assertThat(result.response).hasSize(1)
+            assertThat(result.response.single().fixture.id).isEqualTo(id)
+            assertThat(result.parameters).containsEntry("id", id.toString())
+        }
+        assertThat(meterRegistry.get("footballay.apisports.fixture.batch.size").summary().max()).isEqualTo(3.0)
+    }
+
+    @Test
+    fun `혼자 들어온 조회는 단건 조회를 사용한다`() {
+        // given
+        val single = envelope(listOf(single(2001L)))
+        whenever(fetcher.fetchFixtureSingle(2001L)).thenReturn(single)
+
+        // when
+        val result = coalescer.fetch(2001L)
+
+        // then
+        assertThat(result).isEqualTo(single)
+        verify(fetcher, never()).fetchFixturesByIds(any())
+    }
+
+    @Test
+    fun `응답에 없는 fixture 는 빈 응답을 받는다`() {
+        // given
+        whenever(fetcher.fetchFixturesByIds(any())).thenReturn(envelope(listOf(single(3001L))))
+
+        // when
+        val results = fetchConcurrently(listOf(3001L, 3002L))
+
+        // then
+        assertThat(results.getValue(3001L).response).hasSize(1)
+        assertThat(results.getValue(3002L).response).isEmpty()
+    }
+
+    @Test
+    fun `조회 실패는 batch 의 모든 요청에 전달된다`() {
+        // given
+        whenever(fetcher.fetchFixturesByIds(any())).thenThrow(IllegalStateException("ApiSports down"))
+        val ready = CountDownLatch(2)
+
+        // when
+        val futures =
+            listOf(4001L, 4002L).map { id ->
+                executor.submit(
+                    Callable {
+                        ready.countDown()
+                        ready.await(5, TimeUnit.SECONDS)
+                        coalescer.fetch(id)
+                    },
+                )
+            }
+
+        // then
+        futures.forEach { future ->
+            assertThatThrownBy { future.get(5, TimeUnit.SECONDS) }
+                .hasCauseInstanceOf(IllegalStateException::class.java)
+                .hasMessageContaining("ApiSports down")
+        }
+    }
+
+    private fun fetchConcurrently(ids: List<Long>): Map<Long, ApiSportsFixtureSingle> {
+        val ready = CountDownLatch(ids.size)
+        val futures =
+            ids.associateWith { id ->
+                executor.submit(
+                    Callable {
+                        ready.countDown()
+                        ready.await(5, TimeUnit.SECONDS)
+                        coalescer.fetch(id)
+                    },
+                )
+            }
+        return futures.mapValues { (_, future) -> future.get(5, TimeUnit.SECONDS) }
+    }
+
+    private fun single(id: Long): ApiSportsFixture.Single {
+        val fixture = mock<ApiSportsFixture.Single.Fixture> { on { this.id } doReturn id }
+        return mock { on { this.fixture } doReturn fixture }
+    }
+
+    private fun envelope(items: List<ApiSportsFixture.Single>): ApiSportsFixtureSingle =
+        ApiSportsFixtureSingle(
+            get = "fixtures",
+            parameters = mapOf("ids" to items.joinToString("-") { it.fixture.id.toString() }),
+            errors = emptyList(),
+            results = items.size,
+            paging = Paging(current = 1, total = 1),
+            response = items,
+        )
+}
@@ -0,0 +1,258 @@
+package com.footballay.core.infra.apisports.match.fingerprint
+
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import com.footballay.core.infra.apisports.match.FullMatchSyncDto
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.whenever
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.StringRedisTemplate
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * MatchFingerprintGenerator / MatchFingerprintCache 단위 테스트
+ *
+ * section 별 변경 판단(changedSince)도 함께 검증합니다.
+ */
+class MatchFingerprintGeneratorTest {
+    private val generator = MatchFingerprintGenerator(jacksonObjectMapper())
+
+    @Test
+    fun `같은 내용이면 같은 지문을 생성한다`() {
+        // when
+        val first = generator.generate(createDto(elapsed = 30))
+        val second = generator.generate(createDto(elapsed = 30))
+
+        // then
+        assertThat(first).isEqualTo(second)
+    }
+
+    @Test
+    fun `경과 시간만 바뀌면 지문은 그대로다`() {
+        // when
+        val before = generator.generate(createDto(elapsed = 30))
+        val after = generator.generate(createDto(elapsed = 31))
+
+        // then
+        assertThat(before).isEqualTo(after)
+    }
+
+    @Test
+    fun `이벤트가 추가되면 events 지문만 바뀐다`() {
+        // when
+        val before = generator.generate(createDto(elapsed = 30))
+        val after = generator.generate(createDto(elapsed = 31, events = listOf(goalEvent())))
+
+        // then
+        assertThat(after.events).isNotEqualTo(before.events)
+        assertThat(after.base).isEqualTo(before.base)
+        assertThat(after.lineup).isEqualTo(before.lineup)
+        assertThat(after.teamStats).isEqualTo(before.teamStats)
+        assertThat(after.playerStats).isEqualTo(before.playerStats)
+    }
+
+    @Test
+    fun `이전 지문과 비교해 바뀐 section 만 표시한다`() {
+        // given
+        val before = generator.generate(createDto(elapsed = 30))
+        val after = generator.generate(createDto(elapsed = 31, events = listOf(goalEvent())))
+
+        // when
+        val sections = after.changedSince(before)
+
+        // then : 새 선수가 이벤트에 등장하므로 roster 도 바뀐다
+        assertThat(sections.events).isTrue()
+        assertThat(sections.roster).isTrue()
+        assertThat(sections.players).isTrue()
+        assertThat(sections.base).isFalse()
+        assertThat(sections.lineup).isFalse()
+        assertThat(sections.teamStats).isFalse()
+        assertThat(sections.playerStats).isFalse()
+    }
+
+    @Test
+    fun `같은 선수의 이벤트 내용만 바뀌면 MatchPlayer 처리는 필요 없다`() {
+        // given
+        val before = generator.generate(createDto(elapsed = 30, events = listOf(goalEvent())))
+        val after = generator.generate(createDto(elapsed = 31, events = listOf(goalEvent().copy(comments = "VAR checked"))))
+
+        // when
+        val sections = after.changedSince(before)
+
+        // then
+        assertThat(sections.events).isTrue()
+        assertThat(sections.roster).isFalse()
+        assertThat(sections.players).isFalse()
+    }
+
+    @Test
+    fun `이전 지문이 없으면 모든 section 을 처리한다`() {
+        // when
+        val sections = generator.generate(createDto(elapsed = 30)).changedSince(null)
+
+        // then
+        assertThat(sections).isEqualTo(MatchSyncSections.ALL)
+    }
+
+    @Test
+    fun `스코어가 바뀌면 base 지문이 바뀐다`() {
+        // when
+        val before = generator.generate(createDto(elapsed = 30))
+        val after = generator.generate(createDto(elapsed = 30, goals = FullMatchSyncDto.GoalsDto(home = 1, away = 0)))
+
+        // then
+        assertThat(after.base).isNotEqualTo(before.base)
+    }
+
+    @Test
+    fun `캐시는 기억한 지문과 같을 때만 hit 으로 집계한다`() {
+        // given
+        val meterRegistry = SimpleMeterRegistry()
+        val cache = MatchFingerprintCache(sharedRedis(), meterRegistry)
+        val fingerprint = generator.generate(createDto(elapsed = 30))
+
+        // when
+        val beforeRemember = cache.isUnchanged(cache.get(FIXTURE_API_ID), fingerprint)
+        cache.remember(FIXTURE_API_ID, fingerprint)
+        val afterRemember = cache.isUnchanged(cache.get(FIXTURE_API_ID), fingerprint)
+        cache.evict(FIXTURE_API_ID)
+        val afterEvict = cache.isUnchanged(cache.get(FIXTURE_API_ID), fingerprint)
+
+        // then
+        assertThat(beforeRemember).isFalse()
+        assertThat(afterRemember).isTrue()
+        assertThat(afterEvict).isFalse()
+        assertThat(meterRegistry.get("footballay.match.sync.fingerprint").tag("result", "hit").counter().count())
+            .isEqualTo(1.0)
+        assertThat(meterRegistry.get("footballay.match.sync.fingerprint").tag("result", "miss").counter().count())
+            .isEqualTo(2.0)
+    }
+
+    @Test
+    fun `다른 인스턴스가 저장한 지문을 기준으로 되돌아간 payload 를 변경으로 판단한다`() {
+        // given : 두 인스턴스가 같은 Redis 를 공유
+        val redis = sharedRedis()
+        val nodeA = MatchFingerprintCache(redis, SimpleMeterRegistry())
+        val nodeB = MatchFingerprintCache(redis, SimpleMeterRegistry())
+        val withoutGoal = generator.generate(createDto(elapsed = 30))
+        val withGoal = generator.generate(createDto(elapsed = 31, events = listOf(goalEvent())))
+
+        // when : A 가 골 이전, B 가 골 이후를 저장한 뒤 VAR 취소로 골이 사라진 payload 를 A 가 받음
+        nodeA.remember(FIXTURE_API_ID, withoutGoal)
+        nodeB.remember(FIXTURE_API_ID, withGoal)
+        val previous = nodeA.get(FIXTURE_API_ID)
+
+        // then : A 는 자신이 마지막으로 저장한 지문이 아니라 B 의 지문과 비교한다
+        assertThat(previous).isEqualTo(withGoal)
+        assertThat(nodeA.isUnchanged(previous, withoutGoal)).isFalse()
+        assertThat(withoutGoal.changedSince(previous).events).isTrue()
+    }
+
+    @Test
+    fun `Redis 조회에 실패하면 이전 지문이 없는 것으로 본다`() {
+        // given
+        val redis = mock<StringRedisTemplate>()
+        whenever(redis.opsForHash<String, String>()).thenThrow(RedisConnectionFailureException("down"))
+        val cache = MatchFingerprintCache(redis, SimpleMeterRegistry())
+
+        // when
+        val previous = cache.get(FIXTURE_API_ID)
+
+        // then
+        assertThat(previous).isNull()
+    }
+
+    /**
+     * 여러 인스턴스가 공유하는 Redis 를 흉내 내는 in-memory hash 저장소
+     */
+    private fun sharedRedis(): StringRedisTemplate {
+        val store = ConcurrentHashMap<String, MutableMap<String, String>>()
+        val hashOps = mock<HashOperations<String, String, String>>()
+        doAnswer { invocation ->
+            val key = invocation.getArgument<String>(0)
+            val fields = invocation.getArgument<Map<String, String>>(1)
+            store.computeIfAbsent(key) { ConcurrentHashMap() }.putAll(fields)
+            null
+        }.whenever(hashOps).putAll(any(), any())
+        whenever(hashOps.entries(any())).thenAnswer { invocation ->
+            store[invocation.getArgument<String>(0)]?.toMap() ?: emptyMap<String, String>()
+        }
+
+        val redis = mock<StringRedisTemplate>()
+        whenever(redis.opsForHash<String, String>()).thenReturn(hashOps)
+        whenever(redis.delete(any<String>())).thenAnswer { invocation ->
+            store.remove(invocation.getArgument<String>(0)) != null
+        }
+        return redis
+    }
+
+    private fun goalEvent() =
+        FullMatchSyncDto.EventDto(
+            time = FullMatchSyncDto.EventDto.TimeDto(elapsed = 31, extra = null),
+            team = FullMatchSyncDto.TeamSimpleDto(id = 100L, name = "Arsenal", logo = "arsenal.png"),
+            player = FullMatchSyncDto.EventDto.EventPlayerDto(id = 10L, name = "Saka"),
+            assist = null,
+            type = "Goal",
+            detail = "Normal Goal",
+            comments = null,
+        )
+
+    private fun createDto(
+        elapsed: Int,
+        events: List<FullMatchSyncDto.EventDto> = emptyList(),
+        goals: FullMatchSyncDto.GoalsDto = FullMatchSyncDto.GoalsDto(home = 0, away = 0),
+    ): FullMatchSyncDto =
+        FullMatchSyncDto(
+            fixture =
+                FullMatchSyncDto.FixtureDto(
+                    id = FIXTURE_API_ID,
+                    referee = "Michael Oliver",
+                    timezone = "UTC",
+                    date = OffsetDateTime.of(2024, 3, 15, 15, 0, 0, 0, ZoneOffset.UTC),
+                    timestamp = 1710513600L,
+                    periods = FullMatchSyncDto.FixtureDto.PeriodsDto(first = 1710513600L, second = 0L),
+                    venue = FullMatchSyncDto.FixtureDto.VenueDto(id = 555L, name = "Emirates Stadium", city = "London"),
+                    status =
+                        FullMatchSyncDto.FixtureDto.StatusDto(
+                            long = "First Half",
+                            short = "1H",
+                            elapsed = elapsed,
+                            extra = null,
+                        ),
+                ),
+            league =
+                FullMatchSyncDto.LeagueDto(
+                    id = 39L,
+                    name = "Premier League",
+                    country = "England",
+                    logo = "logo.png",
+                    flag = "flag.png",
+                    season = 2024,
+                    round = "Regular Season - 29",
+                    standings = true,
+                ),
+            teams =
+                FullMatchSyncDto.TeamsDto(
+                    home = FullMatchSyncDto.TeamsDto.TeamDto(id = 100L, name = "Arsenal", logo = "arsenal.png", winner = null),
+                    away = FullMatchSyncDto.TeamsDto.TeamDto(id = 200L, name = "Chelsea", logo = "chelsea.png", winner = null),
+                ),
+            goals = goals,
+            score = FullMatchSyncDto.ScoreDto(halftime = null, fulltime = null, extratime = null, penalty = null),
+            events = events,
+            lineups = emptyList(),
+            statistics = emptyList(),
+            players = emptyList(),
+        )
+
+    companion object {
+        private const val FIXTURE_API_ID = 12345L
+    }
+}
@@ -1,6 +1,7 @@
 package com.footballay.core.infra.apisports.match.persist
 
 import com.footballay.core.infra.apisports.match.MatchEntityPersistManagerImpl
+import com.footballay.core.infra.apisports.match.plan.MatchSyncSections
 import com.footballay.core.infra.apisports.match.plan.context.MatchEntityBundle
 import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
 import com.footballay.core.infra.apisports.match.plan.dto.FixtureApiSportsDto
@@ -431,6 +432,60 @@ class MatchEntitySyncServiceImplTest {
         assertThat(result.success).isTrue()
     }
 
+    @Test
+    @DisplayName("선수 통계만 바뀌면 MatchPlayer, Event, TeamStats 처리를 건너뛰고 경기 상태만 갱신합니다")
+    fun testOnlyChangedSectionsAreProcessed() {
+        // given
+        val fixtureApiId = 12345L
+        val fixture = createMockFixture()
+        val sections =
+            MatchSyncSections(
+                base = false,
+                lineup = false,
+                events = false,
+                teamStats = false,
+                playerStats = true,
+                roster = false,
+            )
+
+        whenever(matchDataLoader.loadContext(eq(fixtureApiId), any(), any())).then {
+            it.getArgument<MatchEntityBundle>(2).fixture = fixture
+        }
+        whenever(playerStatsManager.processPlayerStats(any(), any())).thenReturn(
+            PlayerStatsProcessResult(
+                totalStats = 2,
+                createdCount = 0,
+                retainedCount = 2,
+                deletedCount = 0,
+                savedStats = emptyList(),
+            ),
+        )
+
+        // when
+        val result =
+            matchEntitySyncService.syncMatchEntities(
+                fixtureApiId,
+                createMockFixtureDto(),
+                MatchLineupPlanDto.EMPTY,
+                MatchEventPlanDto(),
+                MatchTeamStatPlanDto.empty(),
+                createMockPlayerStatDto(),
+                createMockPlayerContext(),
+                sections,
+            )
+
+        // then
+        assertThat(result.success).isTrue()
+        assertThat(result.retainedCount).isEqualTo(2)
+
+        verify(baseMatchEntityManager).syncFixtureStatus(eq(fixture), any())
+        verify(baseMatchEntityManager, never()).syncBaseEntities(any(), any(), any())
+        verify(matchPlayerManager, never()).processMatchTeamAndPlayers(any(), any(), any())
+        verify(matchEventManager, never()).processMatchEvents(any(), any())
+        verify(teamStatsManager, never()).processTeamStats(any(), any())
+        verify(playerStatsManager).processPlayerStats(any(), any())
+    }
+
     // 헬퍼 메서드들
     private fun createMockFixtureDto(): FixtureApiSportsDto =
         FixtureApiSportsDto(
@@ -242,6 +242,69 @@ class MatchEventManagerTest {
         assertThat(result.deletedCount).isEqualTo(1)
     }
 
+    @Test
+    @DisplayName("기존 이벤트가 삭제되면 이벤트 revision 을 올립니다")
+    fun `processMatchEvents_deletion_should_bump_event_revision`() {
+        // given: 0, 1 중 1 이 삭제되고 새 이벤트 1 이 추가됨
+        val fixture = entityBundle.fixture!!
+        entityBundle.allEvents = listOf(createMockMatchEvent(sequence = 0), createMockMatchEvent(sequence = 1))
+        val eventDto =
+            MatchEventPlanDto(
+                events = listOf(createMockEventDto(sequence = 0)),
+            )
+        every { matchEventRepository.saveAll(any<List<ApiSportsMatchEvent>>()) } returns listOf(createMockMatchEvent(sequence = 0))
+
+        // when
+        matchEventManager.processMatchEvents(eventDto, entityBundle)
+
+        // then
+        verify { fixture.eventRevision = 1L }
+    }
+
+    @Test
+    @DisplayName("이벤트가 뒤에 추가되기만 하면 이벤트 revision 을 유지합니다")
+    fun `processMatchEvents_append_only_should_keep_event_revision`() {
+        // given
+        val fixture = entityBundle.fixture!!
+        val eventDto =
+            MatchEventPlanDto(
+                events = listOf(createMockEventDto(sequence = 0), createMockEventDto(sequence = 1)),
+            )
+        every { matchEventRepository.saveAll(any<List<ApiSportsMatchEvent>>()) } returns
+            listOf(createMockMatchEvent(sequence = 0), createMockMatchEvent(sequence = 1))
+
+        // when
+        matchEventManager.processMatchEvents(eventDto, entityBundle)
+
+        // then
+        verify(exactly = 0) { fixture.eventRevision = any() }
+    }
+
+    @Test
+    @DisplayName("기존 이벤트 뒤에 새 이벤트가 추가되기만 하면 이벤트 revision 을 유지합니다")
+    fun `processMatchEvents_append_to_existing_events_should_keep_event_revision`() {
+        // given: 0, 1 이 저장된 상태에서 2 가 추가됨
+        val fixture = entityBundle.fixture!!
+        entityBundle.allEvents =
+            listOf(
+                createMockMatchEvent(sequence = 0).apply { matchTeam = null },
+                createMockMatchEvent(sequence = 1).apply { matchTeam = null },
+            )
+        val eventDto =
+            MatchEventPlanDto(
+                events = listOf(createMockEventDto(sequence = 0), createMockEventDto(sequence = 1), createMockEventDto(sequence = 2)),
+            )
+        every { matchEventRepository.saveAll(any<List<ApiSportsMatchEvent>>()) } returns listOf(createMockMatchEvent(sequence = 2))
+
+        // when
+        val result = matchEventManager.processMatchEvents(eventDto, entityBundle)
+
+        // then
+        assertThat(result.createdCount).isEqualTo(1)
+        assertThat(result.retainedCount).isEqualTo(0)
+        verify(exactly = 0) { fixture.eventRevision = any() }
+    }
+
     @Test
     @DisplayName("저장시 예외가 발생하더라도 예외가 바깥으로 던져지지 않습니다")
     fun `processMatchEvents_should_propagate_exceptions`() {
@@ -184,9 +184,60 @@ class MatchEventChangePlannerTest {
         // then
         assertThat(result.createCount).isEqualTo(0)
         assertThat(result.retainedCount).isEqualTo(0)
+        assertThat(result.changedCount).isEqualTo(0)
         assertThat(result.deleteCount).isEqualTo(0)
     }
 
+    @Test
+    @DisplayName("기존 이벤트 뒤에 새 이벤트만 추가되면 변경된 sequence 가 없습니다")
+    fun `planChanges_뒤에_추가만_되면_변경된_sequence_가_없다`() {
+        // given
+        val entityEvents = mapOf(0 to createMockMatchEvent(sequence = 0), 1 to createMockMatchEvent(sequence = 1))
+        val eventDto =
+            MatchEventPlanDto(
+                events = listOf(createMockEventDto(sequence = 0), createMockEventDto(sequence = 1), createMockEventDto(sequence = 2)),
+            )
+
+        // when
+        val result =
+            MatchEventChangePlanner.planChanges(
+                eventDto,
+                entityEvents,
+                createMockFixture(),
+                createMockHomeTeam(),
+                createMockAwayTeam(),
+                emptyMap(),
+            )
+
+        // then
+        assertThat(result.createCount).isEqualTo(1)
+        assertThat(result.changedSequences).isEmpty()
+        assertThat(result.deleteCount).isEqualTo(0)
+    }
+
+    @Test
+    @DisplayName("팀이 바뀐 기존 이벤트는 변경된 sequence 로 보고됩니다")
+    fun `planChanges_팀이_바뀐_이벤트는_변경으로_보고된다`() {
+        // given: 홈팀 이벤트로 저장되었지만 원정팀 이벤트로 정정됨
+        val existingEvent = createMockMatchEvent(sequence = 0, matchTeam = createMockHomeTeam())
+        val eventDto = MatchEventPlanDto(events = listOf(createMockEventDto(sequence = 0).copy(teamApiId = 2L)))
+
+        // when
+        val result =
+            MatchEventChangePlanner.planChanges(
+                eventDto,
+                mapOf(0 to existingEvent),
+                createMockFixture(),
+                createMockHomeTeam(),
+                createMockAwayTeam(),
+                emptyMap(),
+            )
+
+        // then
+        assertThat(result.changedSequences).containsExactly(0)
+        assertThat(result.toRetain[0].matchTeam?.teamApiSports?.apiId).isEqualTo(2L)
+    }
+
     @Test
     @DisplayName("DTO에 없는 기존 이벤트는 삭제 계획에 포함됩니다")
     fun `planChanges_고아_엔티티는_삭제_계획에_포함된다`() {
@@ -688,10 +739,11 @@ class MatchEventChangePlannerTest {
     private fun createMockMatchEvent(
         sequence: Int,
         elapsedTime: Int = 10,
+        matchTeam: ApiSportsMatchTeam? = createMockHomeTeam(),
     ): ApiSportsMatchEvent =
         ApiSportsMatchEvent(
             fixtureApi = createMockFixture(),
-            matchTeam = null,
+            matchTeam = matchTeam,
             player = null,
             assist = null,
             sequence = sequence,
@@ -0,0 +1,94 @@
+package com.footballay.core.infra.apisports.match.persist.player.manager
+
+import com.footballay.core.MatchConfig
+import com.footballay.core.MatchEntityGenerator
+import com.footballay.core.infra.apisports.match.plan.context.MatchEntityBundle
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerContext
+import com.footballay.core.infra.apisports.match.plan.dto.MatchLineupPlanDto
+import com.footballay.core.infra.apisports.match.plan.dto.MatchPlayerDto
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.context.annotation.Import
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.annotation.Transactional
+import com.footballay.core.infra.apisports.match.plan.context.MatchPlayerKeyGenerator.generateMatchPlayerKey as createMpKey
+
+/**
+ * Live 엔티티 pooled sequence + JDBC batch insert 검증
+ *
+ * 라인업 전체(양 팀 40명)가 한 번에 생성될 때 INSERT 가 행 단위가 아니라 batch 로 전송되는지
+ * Hibernate Statistics 의 prepared statement 수로 확인합니다.
+ */
+@SpringBootTest(properties = ["spring.jpa.properties.hibernate.generate_statistics=true"])
+@ActiveProfiles("test")
+@Import(MatchEntityGenerator::class)
+@Transactional
+class MatchPlayerManagerBatchInsertTest {
+    @Autowired
+    private lateinit var matchPlayerManager: MatchPlayerManager
+
+    @Autowired
+    private lateinit var entityGenerator: MatchEntityGenerator
+
+    @Autowired
+    private lateinit var entityManager: EntityManager
+
+    @Test
+    fun `전체 라인업 생성은 선수 수와 무관한 고정 횟수의 statement 로 처리된다`() {
+        // given
+        val config = MatchConfig(createLiveData = false, createLineup = false, createPlayerStats = false)
+        val entities = entityGenerator.createCompleteMatchEntities(config)
+        entityManager.flush()
+
+        val context = MatchPlayerContext()
+        (1..PLAYERS_PER_TEAM).forEach { index ->
+            context.addLineupPlayer(apiId = 10_000L + index, teamApiId = config.homeTeamApiId)
+            context.addLineupPlayer(apiId = 20_000L + index, teamApiId = config.awayTeamApiId)
+        }
+        val bundle =
+            MatchEntityBundle.createEmpty().apply {
+                fixture = entities.fixtureApiSports
+                homeTeam = entities.homeMatchTeam
+                awayTeam = entities.awayMatchTeam
+            }
+
+        val statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.clear()
+
+        // when
+        val result = matchPlayerManager.processMatchTeamAndPlayers(context, MatchLineupPlanDto.EMPTY, bundle)
+        entityManager.flush()
+
+        // then
+        assertThat(result.createdCount).isEqualTo(PLAYERS_PER_TEAM * 2)
+        assertThat(statistics.entityInsertCount).isEqualTo((PLAYERS_PER_TEAM * 2).toLong())
+        // sequence 조회 + PlayerApiSports 일괄 조회 + batch INSERT (IDENTITY 였다면 40번 이상)
+        assertThat(statistics.prepareStatementCount).isLessThanOrEqualTo(MAX_STATEMENTS)
+    }
+
+    private fun MatchPlayerContext.addLineupPlayer(
+        apiId: Long,
+        teamApiId: Long,
+    ) {
+        val name = "Player $apiId"
+        lineupMpDtoMap[createMpKey(apiId, name)] =
+            MatchPlayerDto(
+                apiId = apiId,
+                name = name,
+                number = (apiId % 100).toInt(),
+                position = "M",
+                substitute = false,
+                teamApiId = teamApiId,
+                playerApiSportsInfo = null,
+            )
+    }
+
+    companion object {
+        private const val PLAYERS_PER_TEAM = 20
+        private const val MAX_STATEMENTS = 10L
+    }
+}
@@ -0,0 +1,91 @@
+package com.footballay.core.infra.apisports.match.player
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+
+/**
+ * FixtureKnownPlayerCache 단위 테스트
+ */
+class FixtureKnownPlayerCacheTest {
+    private val meterRegistry = SimpleMeterRegistry()
+    private val cache = FixtureKnownPlayerCache(meterRegistry)
+
+    @Test
+    fun `처음 보는 선수가 있으면 동기화 대상이다`() {
+        // when
+        val hasUnknown = cache.hasUnknownPlayers(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L))
+
+        // then
+        assertThat(hasUnknown).isTrue()
+        assertThat(countOf("synced")).isEqualTo(1.0)
+    }
+
+    @Test
+    fun `기억한 선수만 등장하면 동기화를 건너뛴다`() {
+        // given
+        cache.remember(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L, 3L))
+
+        // when
+        val hasUnknown = cache.hasUnknownPlayers(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(3L, 1L))
+
+        // then
+        assertThat(hasUnknown).isFalse()
+        assertThat(countOf("skipped")).isEqualTo(1.0)
+    }
+
+    @Test
+    fun `선수 목록은 팀과 경기 별로 구분된다`() {
+        // given
+        cache.remember(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L))
+
+        // when
+        val otherTeam = cache.hasUnknownPlayers(FIXTURE_API_ID, AWAY_TEAM_API_ID, listOf(1L))
+        val otherFixture = cache.hasUnknownPlayers(OTHER_FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L))
+
+        // then
+        assertThat(otherTeam).isTrue()
+        assertThat(otherFixture).isTrue()
+    }
+
+    @Test
+    fun `교체 선수가 새로 등장하면 다시 동기화하고 이후에는 합쳐서 기억한다`() {
+        // given
+        cache.remember(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L))
+
+        // when
+        val withSubstitute = cache.hasUnknownPlayers(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L, 99L))
+        cache.remember(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(99L))
+        val afterRemember = cache.hasUnknownPlayers(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L, 2L, 99L))
+
+        // then
+        assertThat(withSubstitute).isTrue()
+        assertThat(afterRemember).isFalse()
+    }
+
+    @Test
+    fun `evict 이후에는 다시 동기화한다`() {
+        // given
+        cache.remember(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L))
+
+        // when
+        cache.evict(FIXTURE_API_ID)
+
+        // then
+        assertThat(cache.hasUnknownPlayers(FIXTURE_API_ID, HOME_TEAM_API_ID, listOf(1L))).isTrue()
+    }
+
+    private fun countOf(result: String): Double =
+        meterRegistry
+            .get("footballay.match.sync.players")
+            .tag("result", result)
+            .counter()
+            .count()
+
+    companion object {
+        private const val FIXTURE_API_ID = 12345L
+        private const val OTHER_FIXTURE_API_ID = 67890L
+        private const val HOME_TEAM_API_ID = 100L
+        private const val AWAY_TEAM_API_ID = 200L
+    }
+}
@@ -0,0 +1,166 @@
+package com.footballay.core.infra.apisports.shared.fetch.impl
+
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import com.fasterxml.jackson.module.kotlin.jacksonTypeRef
+import com.footballay.core.infra.apisports.shared.config.ApiSportsEndpointTimeout
+import com.footballay.core.infra.apisports.shared.config.ApiSportsHeaders
+import com.footballay.core.infra.apisports.shared.config.ApiSportsHttpProperties
+import com.footballay.core.infra.apisports.shared.config.ApiSportsProperties
+import com.footballay.core.infra.apisports.shared.quota.ApiSportsQuotaProperties
+import com.footballay.core.infra.apisports.shared.quota.TokenBucketApiSportsQuotaBudget
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okio.Buffer
+import okio.GzipSink
+import okio.buffer
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+/**
+ * ApiSportsHttpTransport 단위 테스트 (MockWebServer)
+ */
+class ApiSportsHttpTransportTest {
+    private lateinit var server: MockWebServer
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private lateinit var transport: ApiSportsHttpTransport
+
+    @BeforeEach
+    fun setUp() {
+        server = MockWebServer().apply { start() }
+        meterRegistry = SimpleMeterRegistry()
+        transport = createTransport(ApiSportsHttpProperties())
+    }
+
+    @AfterEach
+    fun tearDown() {
+        transport.destroy()
+        server.shutdown()
+    }
+
+    @Test
+    fun `gzip 응답을 해제하여 역직렬화하고 전송 byte 는 압축 기준으로 집계한다`() {
+        // given
+        val json = """{"get":"fixtures","results":1,"response":[${"{\"id\":1208021}, ".repeat(200)}{"id":1208022}]}"""
+        val gzipped = gzip(json)
+        server.enqueue(
+            MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeader("Content-Encoding", "gzip")
+                .setBody(gzipped),
+        )
+
+        // when
+        val result = transport.get(ApiSportsEndpoint.FIXTURE_SINGLE, server.url("/fixtures?id=1").toUri(), jacksonTypeRef<Map<String, Any>>())
+
+        // then
+        assertThat(result["results"]).isEqualTo(1)
+        assertThat(result["response"] as List<*>).hasSize(201)
+
+        val request = server.takeRequest()
+        assertThat(request.getHeader("Accept-Encoding")).isEqualTo("gzip")
+        assertThat(request.getHeader(API_KEY_NAME)).isEqualTo(API_KEY_VALUE)
+
+        val bytes =
+            meterRegistry
+                .get("footballay.apisports.fetch.bytes")
+                .tag("endpoint", "fixture-single")
+                .tag("encoding", "gzip")
+                .summary()
+        assertThat(bytes.count()).isEqualTo(1)
+        assertThat(bytes.totalAmount()).isLessThan(json.length.toDouble())
+
+        val timer =
+            meterRegistry
+                .get("footballay.apisports.fetch.duration")
+                .tag("endpoint", "fixture-single")
+                .tag("outcome", "success")
+                .timer()
+        assertThat(timer.count()).isEqualTo(1)
+    }
+
+    @Test
+    fun `여러 요청이 하나의 연결을 재사용한다`() {
+        // given
+        repeat(3) { server.enqueue(MockResponse().setBody("""{"ok":true}""")) }
+
+        // when
+        repeat(3) { transport.get(ApiSportsEndpoint.STATUS, server.url("/status").toUri(), jacksonTypeRef<Map<String, Any>>()) }
+
+        // then
+        val sequenceNumbers = (1..3).map { server.takeRequest().sequenceNumber }
+        assertThat(sequenceNumbers).containsExactly(0, 1, 2)
+        assertThat(server.requestCount).isEqualTo(3)
+    }
+
+    @Test
+    fun `2xx 가 아닌 응답은 예외와 http_error metric 으로 남긴다`() {
+        // given
+        server.enqueue(MockResponse().setResponseCode(429))
+
+        // when & then
+        assertThatThrownBy {
+            transport.get(ApiSportsEndpoint.FIXTURE_SINGLE, server.url("/fixtures?id=1").toUri(), jacksonTypeRef<Map<String, Any>>())
+        }.isInstanceOf(IllegalStateException::class.java)
+            .hasMessageContaining("status=429")
+
+        val timer =
+            meterRegistry
+                .get("footballay.apisports.fetch.duration")
+                .tag("endpoint", "fixture-single")
+                .tag("outcome", "http_error")
+                .timer()
+        assertThat(timer.count()).isEqualTo(1)
+    }
+
+    @Test
+    fun `endpoint 별 timeout 을 적용한다`() {
+        // given
+        transport.destroy()
+        transport =
+            createTransport(
+                ApiSportsHttpProperties(
+                    endpoints = mapOf("fixture-single" to ApiSportsEndpointTimeout(readTimeout = Duration.ofMillis(200))),
+                ),
+            )
+        server.enqueue(MockResponse().setBody("""{"ok":true}""").setHeadersDelay(2, TimeUnit.SECONDS))
+        server.enqueue(MockResponse().setBody("""{"ok":true}""").setHeadersDelay(300, TimeUnit.MILLISECONDS))
+
+        // when & then
+        assertThatThrownBy {
+            transport.get(ApiSportsEndpoint.FIXTURE_SINGLE, server.url("/fixtures?id=1").toUri(), jacksonTypeRef<Map<String, Any>>())
+        }.isInstanceOf(IllegalStateException::class.java)
+            .hasMessageContaining("I/O failure")
+
+        val result = transport.get(ApiSportsEndpoint.STATUS, server.url("/status").toUri(), jacksonTypeRef<Map<String, Any>>())
+        assertThat(result["ok"]).isEqualTo(true)
+    }
+
+    private fun createTransport(http: ApiSportsHttpProperties) =
+        ApiSportsHttpTransport(
+            properties =
+                ApiSportsProperties(
+                    headers = ApiSportsHeaders(API_KEY_NAME, API_KEY_VALUE),
+                    http = http,
+                ),
+            objectMapper = jacksonObjectMapper(),
+            meterRegistry = meterRegistry,
+            quotaBudget = TokenBucketApiSportsQuotaBudget(ApiSportsQuotaProperties(), meterRegistry),
+        )
+
+    private fun gzip(text: String): Buffer {
+        val compressed = Buffer()
+        GzipSink(compressed).buffer().use { it.writeUtf8(text) }
+        return compressed
+    }
+
+    companion object {
+        private const val API_KEY_NAME = "x-rapidapi-key"
+        private const val API_KEY_VALUE = "test-key"
+    }
+}
@@ -0,0 +1,165 @@
+package com.footballay.core.infra.apisports.shared.quota
+
+import com.footballay.core.domain.football.exception.ApiRateLimitException
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.TimeUnit
+
+/**
+ * TokenBucketApiSportsQuotaBudget 단위 테스트
+ *
+ * 시간은 가짜 nanoTime 과 Clock 으로 직접 진행시킵니다.
+ */
+class TokenBucketApiSportsQuotaBudgetTest {
+    private val meterRegistry = SimpleMeterRegistry()
+    private var now = 0L
+    private var wallClock = Instant.parse("2025-03-16T22:00:00Z")
+    private val clock =
+        object : Clock() {
+            override fun getZone(): ZoneId = ZoneOffset.UTC
+
+            override fun withZone(zone: ZoneId): Clock = this
+
+            override fun instant(): Instant = wallClock
+        }
+
+    private fun budget(
+        minuteLimit: Int = 10,
+        dailyLimit: Int = 1000,
+    ) = TokenBucketApiSportsQuotaBudget(
+        ApiSportsQuotaProperties(
+            minuteLimit = minuteLimit,
+            dailyLimit = dailyLimit,
+            liveMaxWait = Duration.ZERO,
+            maxWait = Duration.ZERO,
+            dailyProbeInterval = Duration.ofMinutes(5),
+        ),
+        meterRegistry,
+        clock,
+    ) { now }
+
+    @Test
+    fun `분당 reserve 때문에 낮은 우선순위가 먼저 막힌다`() {
+        // given
+        val budget = budget(minuteLimit = 10)
+
+        // when : backbone 은 reserve 5개를 남기고 멈춘다
+        val backboneCalls = generateSequence { budget.tryAcquire(ApiSportsCallPriority.BACKBONE) }.takeWhile { it }.count()
+
+        // then
+        assertThat(backboneCalls).isEqualTo(5)
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.POST_MATCH)).isTrue()
+        val liveCalls = generateSequence { budget.tryAcquire(ApiSportsCallPriority.LIVE) }.takeWhile { it }.count()
+        assertThat(liveCalls).isEqualTo(4)
+    }
+
+    @Test
+    fun `시간이 지나면 분당 bucket 이 다시 채워진다`() {
+        // given
+        val budget = budget(minuteLimit = 60)
+        repeat(60) { budget.tryAcquire(ApiSportsCallPriority.LIVE) }
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isFalse()
+
+        // when
+        now += TimeUnit.SECONDS.toNanos(1)
+
+        // then
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isTrue()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isFalse()
+    }
+
+    @Test
+    fun `응답 header 의 남은 한도가 더 작으면 서버 값을 따른다`() {
+        // given
+        val budget = budget(minuteLimit = 300)
+
+        // when
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = 300, minuteRemaining = 1, dailyLimit = 7500, dailyRemaining = 7000))
+
+        // then
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isTrue()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isFalse()
+    }
+
+    @Test
+    fun `일일 quota 가 부족하면 live 외 호출을 막고 polling 간격을 늘린다`() {
+        // given
+        val budget = budget(minuteLimit = 300, dailyLimit = 1000)
+
+        // when
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = null, minuteRemaining = null, dailyLimit = 1000, dailyRemaining = 100))
+
+        // then
+        assertThat(budget.pollStride()).isEqualTo(2)
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.BACKBONE)).isFalse()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.STANDINGS)).isFalse()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isTrue()
+    }
+
+    @Test
+    fun `일일 quota 가 충분하면 polling 간격을 유지하고 최대 배수를 넘지 않는다`() {
+        // given
+        val budget = budget(dailyLimit = 1000)
+        assertThat(budget.pollStride()).isEqualTo(1)
+
+        // when
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = null, minuteRemaining = null, dailyLimit = null, dailyRemaining = 1))
+
+        // then
+        assertThat(budget.pollStride()).isEqualTo(4)
+    }
+
+    @Test
+    fun `일일 quota 를 다 쓴 뒤 초기화 시각이 지나면 다시 호출할 수 있다`() {
+        // given
+        val budget = budget(minuteLimit = 300, dailyLimit = 1000)
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = null, minuteRemaining = null, dailyLimit = 1000, dailyRemaining = 0))
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.BACKBONE)).isFalse()
+
+        // when : UTC 자정이 지남
+        wallClock = Instant.parse("2025-03-17T00:00:01Z")
+
+        // then
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.BACKBONE)).isTrue()
+        assertThat(budget.pollStride()).isEqualTo(1)
+    }
+
+    @Test
+    fun `일일 quota 를 다 쓴 것으로 계산되어도 live probe 는 주기적으로 허용한다`() {
+        // given
+        val budget = budget(minuteLimit = 300, dailyLimit = 1000)
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = null, minuteRemaining = null, dailyLimit = 1000, dailyRemaining = 0))
+
+        // when & then : probe 는 간격마다 하나만 허용
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isTrue()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isFalse()
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.BACKBONE)).isFalse()
+        now += TimeUnit.MINUTES.toNanos(5)
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.LIVE)).isTrue()
+
+        // probe 응답 header 로 남은 요청 수가 바로잡히면 다시 허용
+        budget.record(ApiSportsRateLimitHeaders(minuteLimit = null, minuteRemaining = null, dailyLimit = 1000, dailyRemaining = 500))
+        assertThat(budget.tryAcquire(ApiSportsCallPriority.BACKBONE)).isTrue()
+    }
+
+    @Test
+    fun `quota 를 얻지 못하면 ApiRateLimitException 을 던지고 거절 metric 을 남긴다`() {
+        // given
+        val budget = budget(minuteLimit = 2)
+        budget.tryAcquire(ApiSportsCallPriority.LIVE)
+        budget.tryAcquire(ApiSportsCallPriority.LIVE)
+
+        // when & then
+        assertThatThrownBy { budget.acquire(ApiSportsCallPriority.LIVE) }
+            .isInstanceOf(ApiRateLimitException::class.java)
+        assertThat(meterRegistry.get("footballay.apisports.quota.denied").tag("priority", "live").counter().count())
+            .isEqualTo(1.0)
+    }
+}
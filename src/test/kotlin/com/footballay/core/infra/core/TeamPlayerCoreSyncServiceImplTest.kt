@@ -0,0 +1,121 @@
+package com.footballay.core.infra.core
+
+import com.footballay.core.infra.persistence.apisports.entity.PlayerApiSports
+import com.footballay.core.infra.persistence.apisports.repository.PlayerApiSportsRepository
+import com.footballay.core.infra.persistence.core.entity.PlayerCore
+import com.footballay.core.infra.persistence.core.entity.TeamCore
+import com.footballay.core.infra.persistence.core.entity.TeamPlayerCore
+import com.footballay.core.infra.persistence.core.repository.PlayerCoreRepository
+import com.footballay.core.infra.persistence.core.repository.TeamCoreRepository
+import com.footballay.core.infra.persistence.core.repository.TeamPlayerCoreRepository
+import com.footballay.core.infra.util.UidGenerator
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.annotation.Transactional
+
+/**
+ * 팀-선수 연관관계 reconcile 의 statement 수 검증
+ *
+ * 스쿼드 크기와 무관하게 조회 1번 + batch INSERT + DELETE 1번으로 처리되는지
+ * Hibernate Statistics 의 prepared statement 수로 확인합니다.
+ */
+@SpringBootTest(properties = ["spring.jpa.properties.hibernate.generate_statistics=true"])
+@ActiveProfiles("test")
+@Transactional
+class TeamPlayerCoreSyncServiceImplTest {
+    @Autowired
+    private lateinit var teamPlayerCoreSyncService: TeamPlayerCoreSyncService
+
+    @Autowired
+    private lateinit var teamCoreRepository: TeamCoreRepository
+
+    @Autowired
+    private lateinit var playerCoreRepository: PlayerCoreRepository
+
+    @Autowired
+    private lateinit var playerApiSportsRepository: PlayerApiSportsRepository
+
+    @Autowired
+    private lateinit var teamPlayerCoreRepository: TeamPlayerCoreRepository
+
+    @Autowired
+    private lateinit var uidGenerator: UidGenerator
+
+    @Autowired
+    private lateinit var entityManager: EntityManager
+
+    private lateinit var teamCore: TeamCore
+
+    @BeforeEach
+    fun setUp() {
+        teamCore =
+            teamCoreRepository.save(
+                TeamCore(uid = uidGenerator.generateUid(), name = "Test Team", autoGenerated = false),
+            )
+    }
+
+    @Test
+    fun `스쿼드 변경은 선수 수와 무관한 고정 횟수의 statement 로 반영된다`() {
+        // given - 기존 스쿼드 1..30, 새 스쿼드 11..40
+        val players = (1L..40L).associateWith { apiId -> savePlayer(apiId) }
+        (1L..30L).forEach { apiId ->
+            teamPlayerCoreRepository.save(TeamPlayerCore(team = teamCore, player = players.getValue(apiId)))
+        }
+        entityManager.flush()
+        entityManager.clear()
+
+        val teamCore = teamCoreRepository.findById(teamCore.id!!).orElseThrow()
+        val newSquadApiIds = (11L..40L).toList()
+        val newSquad = playerCoreRepository.findAllById(newSquadApiIds.map { players.getValue(it).id!! })
+
+        val statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.clear()
+
+        // when
+        teamPlayerCoreSyncService.updateTeamPlayerRelationships(teamCore, newSquad, newSquadApiIds)
+        entityManager.flush()
+
+        // then
+        assertThat(statistics.entityInsertCount).isEqualTo(10L)
+        // 연관관계 조회 + sequence 조회 + batch INSERT + 일괄 DELETE
+        assertThat(statistics.prepareStatementCount).isLessThanOrEqualTo(MAX_STATEMENTS)
+
+        entityManager.clear()
+        val remainingPlayerIds = teamPlayerCoreRepository.findByTeamId(teamCore.id!!).map { it.player!!.id }
+        assertThat(remainingPlayerIds).containsExactlyInAnyOrderElementsOf(newSquad.map { it.id })
+    }
+
+    @Test
+    fun `apiId 가 없는 선수의 연관관계는 유지하고 같은 선수를 중복으로 추가하지 않는다`() {
+        // given
+        val withoutApi = playerCoreRepository.save(PlayerCore(uid = uidGenerator.generateUid(), name = "No Api"))
+        teamPlayerCoreRepository.save(TeamPlayerCore(team = teamCore, player = withoutApi))
+        val player = savePlayer(100L)
+        entityManager.flush()
+
+        // when
+        teamPlayerCoreSyncService.updateTeamPlayerRelationships(teamCore, listOf(player, player), listOf(100L))
+        entityManager.flush()
+        entityManager.clear()
+
+        // then
+        val playerIds = teamPlayerCoreRepository.findByTeamId(teamCore.id!!).map { it.player!!.id }
+        assertThat(playerIds).containsExactlyInAnyOrder(withoutApi.id, player.id)
+    }
+
+    private fun savePlayer(apiId: Long): PlayerCore {
+        val playerCore = playerCoreRepository.save(PlayerCore(uid = uidGenerator.generateUid(), name = "Player $apiId"))
+        playerApiSportsRepository.save(PlayerApiSports(playerCore = playerCore, apiId = apiId, name = "Player $apiId"))
+        return playerCore
+    }
+
+    companion object {
+        private const val MAX_STATEMENTS = 6L
+    }
+}
@@ -0,0 +1,187 @@
+package com.footballay.core.infra.dispatcher.match
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.awaitility.Awaitility.await
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.quartz.JobKey
+import java.time.Instant
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * CoroutineMatchSyncEngine 단위 테스트
+ *
+ * Dispatcher 를 latch 로 막아두고 병합(coalescing) / 대기열 거절 / metrics 기록만 검증합니다.
+ */
+class CoroutineMatchSyncEngineTest {
+    private val meterRegistry = SimpleMeterRegistry()
+    private val release = CountDownLatch(1)
+    private val started = CountDownLatch(1)
+    private val syncCount = AtomicInteger(0)
+
+    private val blockingDispatcher =
+        object : MatchDataSyncDispatcher {
+            override fun syncByFixtureUid(
+                fixtureUid: String,
+                jobContext: JobContext?,
+            ): MatchDataSyncResult {
+                syncCount.incrementAndGet()
+                started.countDown()
+                release.await(5, TimeUnit.SECONDS)
+                return MatchDataSyncResult.Live(Instant.now(), false, 10, "1H")
+            }
+        }
+
+    private val admitAll =
+        object : MatchSyncQuotaPolicy {
+            override fun admit(request: MatchSyncRequest): Boolean = true
+
+            override fun <T> runWithin(
+                request: MatchSyncRequest,
+                block: () -> T,
+            ): T = block()
+        }
+
+    /** 다른 인스턴스가 가진 lease 를 흉내내는 in-memory lease */
+    private val heldByOtherNode = ConcurrentHashMap.newKeySet<String>()
+    private val released = ConcurrentHashMap.newKeySet<String>()
+
+    private val lease =
+        object : MatchSyncLease {
+            override fun tryAcquire(fixtureUid: String): Boolean = fixtureUid !in heldByOtherNode
+
+            override fun release(fixtureUid: String) {
+                released.add(fixtureUid)
+            }
+        }
+
+    private lateinit var engine: CoroutineMatchSyncEngine
+
+    @AfterEach
+    fun tearDown() {
+        release.countDown()
+        engine.destroy()
+    }
+
+    @Test
+    fun `같은 fixture 요청이 실행 중이면 새 요청은 병합된다`() {
+        // Given
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 2, queueCapacity = 4), admitAll, lease)
+        val request = liveRequest("fixture-uid-0001")
+
+        // When
+        val first = engine.enqueue(request)
+        started.await(5, TimeUnit.SECONDS)
+        val second = engine.enqueue(request)
+
+        // Then
+        assertThat(first).isTrue()
+        assertThat(second).isFalse()
+        assertThat(meterRegistry.get("footballay.match.sync.rejected").tag("reason", "coalesced").counter().count())
+            .isEqualTo(1.0)
+    }
+
+    @Test
+    fun `대기열이 가득 차면 요청을 거절한다`() {
+        // Given : worker 1개가 막혀 있고 대기열 크기 1
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 1, queueCapacity = 1), admitAll, lease)
+        engine.enqueue(liveRequest("fixture-uid-0001"))
+        started.await(5, TimeUnit.SECONDS)
+
+        // When
+        val queued = engine.enqueue(liveRequest("fixture-uid-0002"))
+        val rejected = engine.enqueue(liveRequest("fixture-uid-0003"))
+
+        // Then
+        assertThat(queued).isTrue()
+        assertThat(rejected).isFalse()
+        assertThat(engine.queueDepth()).isEqualTo(1)
+        assertThat(meterRegistry.get("footballay.match.sync.rejected").tag("reason", "queue_full").counter().count())
+            .isEqualTo(1.0)
+    }
+
+    @Test
+    fun `실행 시작 지연이 phase 별로 기록된다`() {
+        // Given
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 1, queueCapacity = 4), admitAll, lease)
+
+        // When
+        engine.enqueue(liveRequest("fixture-uid-0001", scheduledAt = Instant.now().minusSeconds(3)))
+        started.await(5, TimeUnit.SECONDS)
+
+        // Then
+        val lagTimer = meterRegistry.get("footballay.match.sync.start.lag").tag("phase", "LIVE_MATCH").timer()
+        assertThat(lagTimer.count()).isEqualTo(1)
+        assertThat(lagTimer.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(3.0)
+        assertThat(syncCount.get()).isEqualTo(1)
+    }
+
+    @Test
+    fun `quota 정책이 거절한 polling 은 실행하지 않는다`() {
+        // Given
+        val rejectAll =
+            object : MatchSyncQuotaPolicy by admitAll {
+                override fun admit(request: MatchSyncRequest): Boolean = false
+            }
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 1, queueCapacity = 4), rejectAll, lease)
+
+        // When
+        val enqueued = engine.enqueue(liveRequest("fixture-uid-0001"))
+
+        // Then
+        assertThat(enqueued).isFalse()
+        assertThat(engine.queueDepth()).isZero()
+        assertThat(syncCount.get()).isZero()
+        assertThat(meterRegistry.get("footballay.match.sync.rejected").tag("reason", "quota_stretched").counter().count())
+            .isEqualTo(1.0)
+    }
+
+    @Test
+    fun `다른 인스턴스가 lease 를 가진 fixture 는 실행하지 않는다`() {
+        // Given
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 1, queueCapacity = 4), admitAll, lease)
+        heldByOtherNode.add("fixture-uid-0001")
+
+        // When
+        val enqueued = engine.enqueue(liveRequest("fixture-uid-0001"))
+
+        // Then
+        assertThat(enqueued).isFalse()
+        assertThat(syncCount.get()).isZero()
+        assertThat(meterRegistry.get("footballay.match.sync.rejected").tag("reason", "lease_held").counter().count())
+            .isEqualTo(1.0)
+
+        // lease 가 풀리면 다시 실행할 수 있다
+        heldByOtherNode.clear()
+        assertThat(engine.enqueue(liveRequest("fixture-uid-0001"))).isTrue()
+    }
+
+    @Test
+    fun `sync 가 끝나면 lease 를 반납한다`() {
+        // Given
+        engine = CoroutineMatchSyncEngine(blockingDispatcher, meterRegistry, MatchSyncEngineProperties(workerCount = 1, queueCapacity = 4), admitAll, lease)
+        release.countDown()
+
+        // When
+        engine.enqueue(liveRequest("fixture-uid-0001"))
+        started.await(5, TimeUnit.SECONDS)
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted {
+            assertThat(released).contains("fixture-uid-0001")
+        }
+    }
+
+    private fun liveRequest(
+        fixtureUid: String,
+        scheduledAt: Instant = Instant.now(),
+    ) = MatchSyncRequest(
+        fixtureUid = fixtureUid,
+        jobContext = JobContext.liveMatch(JobKey.jobKey("live-match-$fixtureUid", "live-match")),
+        scheduledAt = scheduledAt,
+    )
+}
@@ -1,7 +1,10 @@
 package com.footballay.core.infra.dispatcher.match
 
 import com.footballay.core.infra.match.MatchSyncOrchestrator
+import com.footballay.core.infra.query.snapshot.MatchSnapshotPublisher
 import com.footballay.core.infra.scheduler.JobSchedulerService
+import com.footballay.core.infra.scheduler.cadence.AdaptiveLiveMatchCadencePolicy
+import com.footballay.core.infra.scheduler.cadence.LiveMatchCadenceProperties
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -11,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension
 import org.mockito.kotlin.any
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.never
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.quartz.JobKey
@@ -31,6 +35,9 @@ class SimpleMatchDataSyncDispatcherTest {
     @Mock
     private lateinit var jobSchedulerService: JobSchedulerService
 
+    @Mock
+    private lateinit var snapshotPublisher: MatchSnapshotPublisher
+
     private lateinit var dispatcher: SimpleMatchDataSyncDispatcher
 
     @BeforeEach
@@ -39,6 +46,8 @@ class SimpleMatchDataSyncDispatcherTest {
             SimpleMatchDataSyncDispatcher(
                 orchestrators = listOf(orchestrator),
                 jobSchedulerService = jobSchedulerService,
+                snapshotPublisher = snapshotPublisher,
+                cadencePolicy = AdaptiveLiveMatchCadencePolicy(LiveMatchCadenceProperties()),
             )
     }
 
@@ -149,6 +158,8 @@ class SimpleMatchDataSyncDispatcherTest {
         assertThat(syncResult).isEqualTo(result)
         verify(jobSchedulerService, never()).removeJob(any())
         verify(jobSchedulerService, never()).addPostMatchJob(any(), any())
+        // 하프타임에는 polling 간격을 늘림
+        verify(jobSchedulerService).rescheduleLiveMatchJob(fixtureUid, LiveMatchCadenceProperties().halfTime)
     }
 
     @Test
@@ -308,4 +319,49 @@ class SimpleMatchDataSyncDispatcherTest {
         // Job 삭제가 일어나지 않아야 함 (무시됨)
         verify(jobSchedulerService, never()).removeJob(any())
     }
+
+    @Test
+    fun `동기화 성공 시 스냅샷을 발행하고 Error 시에는 발행하지 않는다`() {
+        // Given
+        val fixtureUid = "testfixture0020"
+        val live =
+            MatchDataSyncResult.Live(
+                kickoffTime = Instant.now(),
+                isMatchFinished = false,
+                elapsedMin = 10,
+                statusShort = "1H",
+            )
+        whenever(orchestrator.isSupport(fixtureUid)).thenReturn(true)
+        whenever(orchestrator.syncMatchData(fixtureUid))
+            .thenReturn(live)
+            .thenReturn(MatchDataSyncResult.Error("api down", null))
+
+        // When
+        dispatcher.syncByFixtureUid(fixtureUid)
+        dispatcher.syncByFixtureUid(fixtureUid)
+
+        // Then
+        verify(snapshotPublisher, times(1)).publish(fixtureUid)
+    }
+
+    @Test
+    fun `PostMatch polling 종료 시 스냅샷을 제거한다`() {
+        // Given
+        val fixtureUid = "testfixture0021"
+        val result =
+            MatchDataSyncResult.PostMatch(
+                kickoffTime = Instant.now(),
+                shouldStopPolling = true,
+                minutesSinceFinish = 61L,
+            )
+        whenever(orchestrator.isSupport(fixtureUid)).thenReturn(true)
+        whenever(orchestrator.syncMatchData(fixtureUid)).thenReturn(result)
+
+        // When
+        dispatcher.syncByFixtureUid(fixtureUid)
+
+        // Then
+        verify(snapshotPublisher).retire(fixtureUid)
+        verify(snapshotPublisher, never()).publish(any())
+    }
 }
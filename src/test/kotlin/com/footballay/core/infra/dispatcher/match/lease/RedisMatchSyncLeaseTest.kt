@@ -0,0 +1,85 @@
+package com.footballay.core.infra.dispatcher.match.lease
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.script.RedisScript
+import java.time.Duration
+
+/**
+ * RedisMatchSyncLease 단위 테스트 (Redis Mock)
+ */
+class RedisMatchSyncLeaseTest {
+    private lateinit var redis: StringRedisTemplate
+    private lateinit var valueOps: ValueOperations<String, String>
+    private lateinit var lease: RedisMatchSyncLease
+
+    @BeforeEach
+    fun setUp() {
+        redis = mock()
+        valueOps = mock()
+        whenever(redis.opsForValue()).thenReturn(valueOps)
+        lease = RedisMatchSyncLease(redis, MatchSyncLeaseProperties(ttl = TTL))
+    }
+
+    @Test
+    fun `비어 있는 lease 는 nodeId 와 ttl 로 얻는다`() {
+        // given
+        whenever(valueOps.setIfAbsent(KEY, lease.nodeId, TTL)).thenReturn(true)
+
+        // when
+        val acquired = lease.tryAcquire(FIXTURE_UID)
+
+        // then
+        assertThat(acquired).isTrue()
+        verify(valueOps).setIfAbsent(KEY, lease.nodeId, TTL)
+    }
+
+    @Test
+    fun `다른 인스턴스가 가진 lease 는 얻지 못한다`() {
+        // given
+        whenever(valueOps.setIfAbsent(KEY, lease.nodeId, TTL)).thenReturn(false)
+        whenever(valueOps.get(KEY)).thenReturn("other-node")
+
+        // when
+        val acquired = lease.tryAcquire(FIXTURE_UID)
+
+        // then
+        assertThat(acquired).isFalse()
+    }
+
+    @Test
+    fun `Redis 장애 시에는 sync 를 허용한다`() {
+        // given
+        whenever(valueOps.setIfAbsent(any(), any(), any<Duration>())).thenThrow(RedisConnectionFailureException("down"))
+
+        // when
+        val acquired = lease.tryAcquire(FIXTURE_UID)
+
+        // then
+        assertThat(acquired).isTrue()
+    }
+
+    @Test
+    fun `반납은 자신의 nodeId 로 조건부 삭제한다`() {
+        // when
+        lease.release(FIXTURE_UID)
+
+        // then
+        verify(redis).execute(any<RedisScript<Long>>(), eq(listOf(KEY)), eq(lease.nodeId))
+    }
+
+    companion object {
+        private const val FIXTURE_UID = "fixture-uid-0001"
+        private const val KEY = "match-sync:lease:$FIXTURE_UID"
+        private val TTL = Duration.ofSeconds(60)
+    }
+}
@@ -0,0 +1,210 @@
+package com.footballay.core.infra.facade
+
+import com.footballay.core.common.result.DomainFail
+import com.footballay.core.common.result.DomainResult
+import com.footballay.core.infra.apisports.LeagueApiSportsQueryService
+import com.footballay.core.infra.apisports.backbone.sync.player.PlayerApiSportsSyncer
+import com.footballay.core.infra.apisports.shared.fetch.ApiSportsV3Fetcher
+import com.footballay.core.infra.apisports.shared.fetch.response.ApiSportsPlayer
+import com.footballay.core.infra.apisports.shared.fetch.response.ApiSportsV3Envelope
+import com.footballay.core.infra.apisports.shared.fetch.response.Paging
+import com.footballay.core.infra.apisports.shared.model.LeagueApiSportsInfo
+import com.footballay.core.infra.persistence.apisports.entity.TeamApiSports
+import com.footballay.core.infra.persistence.apisports.repository.TeamApiSportsRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.awaitility.Awaitility.await
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.*
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.SimpleTransactionStatus
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * ApiSportsLeagueDeepSyncFacadeImpl 단위 테스트
+ *
+ * 실제 저장은 mock 으로 대체하고 squad 조회 동시성, transaction 묶음, 진행 상황만 검증합니다.
+ */
+class ApiSportsLeagueDeepSyncFacadeImplTest {
+    private val leagueApiId = 39L
+    private val teamApiIds = (1L..6L).toList()
+
+    private lateinit var backboneSyncFacade: ApiSportsBackboneSyncFacade
+    private lateinit var fetcher: ApiSportsV3Fetcher
+    private lateinit var playerSyncer: PlayerApiSportsSyncer
+    private lateinit var teamApiSportsRepository: TeamApiSportsRepository
+    private lateinit var leagueQueryService: LeagueApiSportsQueryService
+    private lateinit var transactionManager: PlatformTransactionManager
+    private lateinit var facade: ApiSportsLeagueDeepSyncFacadeImpl
+
+    private val inFlightFetches = AtomicInteger(0)
+    private val maxInFlightFetches = AtomicInteger(0)
+
+    @BeforeEach
+    fun setUp() {
+        backboneSyncFacade = mock()
+        fetcher = mock()
+        playerSyncer = mock()
+        teamApiSportsRepository = mock()
+        leagueQueryService = mock()
+        transactionManager = mock()
+
+        whenever(leagueQueryService.findByApiId(leagueApiId))
+            .thenReturn(LeagueApiSportsInfo(apiId = leagueApiId, name = "Premier League", currentSeason = 2024))
+        whenever(backboneSyncFacade.syncTeamsOfLeagueWithCurrentSeason(leagueApiId)).thenReturn(DomainResult.Success(teamApiIds.size))
+        whenever(backboneSyncFacade.syncFixturesOfLeagueWithCurrentSeason(leagueApiId)).thenReturn(DomainResult.Success(380))
+        whenever(teamApiSportsRepository.findAllByLeagueApiSportsApiId(leagueApiId))
+            .thenReturn(teamApiIds.map { TeamApiSports(apiId = it, name = "team-$it") })
+        whenever(fetcher.fetchSquadOfTeam(any())).thenAnswer { invocation ->
+            val inFlight = inFlightFetches.incrementAndGet()
+            maxInFlightFetches.accumulateAndGet(inFlight) { a, b -> maxOf(a, b) }
+            Thread.sleep(30)
+            inFlightFetches.decrementAndGet()
+            squadOf(invocation.getArgument(0))
+        }
+        whenever(transactionManager.getTransaction(any())).thenAnswer { SimpleTransactionStatus() }
+
+        facade =
+            ApiSportsLeagueDeepSyncFacadeImpl(
+                backboneSyncFacade,
+                fetcher,
+                playerSyncer,
+                teamApiSportsRepository,
+                leagueQueryService,
+                SimpleMeterRegistry(),
+                LeagueDeepSyncProperties(squadParallelism = 2, teamsPerTransaction = 5),
+                transactionManager,
+            )
+    }
+
+    @AfterEach
+    fun tearDown() {
+        facade.destroy()
+    }
+
+    @Test
+    fun `팀, squad, 경기일정을 차례로 동기화하고 squad 는 팀 묶음마다 한 transaction 으로 저장한다`() {
+        // when
+        val started = facade.start(leagueApiId)
+
+        // then
+        assertThat(started.getOrNull()?.state).isIn(LeagueDeepSyncState.QUEUED, LeagueDeepSyncState.RUNNING)
+        val progress = awaitFinished()
+        assertThat(progress.state).isEqualTo(LeagueDeepSyncState.COMPLETED)
+        assertThat(progress.teamsTotal).isEqualTo(6)
+        assertThat(progress.teamsSynced).isEqualTo(6)
+        assertThat(progress.teamsFailed).isZero()
+        assertThat(progress.playersSynced).isEqualTo(12)
+        assertThat(progress.fixturesSynced).isEqualTo(380)
+        assertThat(progress.stepDurationsMs.keys)
+            .containsExactly(LeagueDeepSyncStep.TEAMS, LeagueDeepSyncStep.SQUADS, LeagueDeepSyncStep.FIXTURES)
+
+        teamApiIds.forEach { verify(playerSyncer).syncPlayersOfTeam(eq(it), argThat { size == 2 }) }
+        // 6 팀 / 5 팀씩 = 2 transaction
+        verify(transactionManager, times(2)).commit(any())
+        assertThat(maxInFlightFetches.get()).isLessThanOrEqualTo(2)
+    }
+
+    @Test
+    fun `묶음 저장이 실패하면 해당 묶음만 팀 단위로 다시 저장하고 실패한 팀을 센다`() {
+        // given
+        whenever(playerSyncer.syncPlayersOfTeam(eq(3L), any())).thenThrow(IllegalArgumentException("TeamCore not found"))
+
+        // when
+        facade.start(leagueApiId)
+
+        // then
+        val progress = awaitFinished()
+        assertThat(progress.state).isEqualTo(LeagueDeepSyncState.COMPLETED)
+        assertThat(progress.teamsSynced).isEqualTo(5)
+        assertThat(progress.teamsFailed).isEqualTo(1)
+        assertThat(progress.playersSynced).isEqualTo(10)
+    }
+
+    @Test
+    fun `squad 조회 실패는 해당 팀만 실패로 남기고 나머지는 계속 진행한다`() {
+        // given
+        whenever(fetcher.fetchSquadOfTeam(4L)).thenThrow(IllegalStateException("quota wait timeout"))
+
+        // when
+        facade.start(leagueApiId)
+
+        // then
+        val progress = awaitFinished()
+        assertThat(progress.state).isEqualTo(LeagueDeepSyncState.COMPLETED)
+        assertThat(progress.teamsSynced).isEqualTo(5)
+        assertThat(progress.teamsFailed).isEqualTo(1)
+        verify(playerSyncer, never()).syncPlayersOfTeam(eq(4L), any())
+    }
+
+    @Test
+    fun `같은 리그의 deep sync 가 진행 중이면 새 요청을 거절한다`() {
+        // given
+        val release = CountDownLatch(1)
+        whenever(backboneSyncFacade.syncTeamsOfLeagueWithCurrentSeason(leagueApiId)).thenAnswer {
+            release.await(5, TimeUnit.SECONDS)
+            DomainResult.Success(teamApiIds.size)
+        }
+        facade.start(leagueApiId)
+
+        // when
+        val second = facade.start(leagueApiId)
+
+        // then
+        assertThat(second).isInstanceOf(DomainResult.Fail::class.java)
+        release.countDown()
+        assertThat(awaitFinished().state).isEqualTo(LeagueDeepSyncState.COMPLETED)
+        assertThat(facade.start(leagueApiId)).isInstanceOf(DomainResult.Success::class.java)
+    }
+
+    @Test
+    fun `팀 동기화가 실패하면 squad 조회 없이 FAILED 로 끝난다`() {
+        // given
+        whenever(backboneSyncFacade.syncTeamsOfLeagueWithCurrentSeason(leagueApiId))
+            .thenReturn(DomainResult.Fail(DomainFail.Unknown("boom")))
+
+        // when
+        facade.start(leagueApiId)
+
+        // then
+        val progress = awaitFinished()
+        assertThat(progress.state).isEqualTo(LeagueDeepSyncState.FAILED)
+        assertThat(progress.failureMessage).contains("Teams sync failed")
+        verify(fetcher, never()).fetchSquadOfTeam(any())
+    }
+
+    private fun awaitFinished(): LeagueDeepSyncProgress {
+        await().atMost(5, TimeUnit.SECONDS).until { facade.progress(leagueApiId)?.state?.inProgress == false }
+        return facade.progress(leagueApiId)!!
+    }
+
+    private fun squadOf(teamApiId: Long): ApiSportsV3Envelope<ApiSportsPlayer.OfTeam> =
+        ApiSportsV3Envelope(
+            get = "players/squads",
+            parameters = mapOf("team" to teamApiId.toString()),
+            errors = emptyList(),
+            results = 1,
+            paging = Paging(current = 1, total = 1),
+            response =
+                listOf(
+                    ApiSportsPlayer.OfTeam(
+                        team = ApiSportsPlayer.OfTeam.TeamInfo(id = teamApiId, name = "team-$teamApiId", logo = ""),
+                        players =
+                            (1..2).map { index ->
+                                ApiSportsPlayer.OfTeam.PlayerInfo(
+                                    id = teamApiId * 100 + index,
+                                    name = "player-$teamApiId-$index",
+                                    age = 25,
+                                    number = index,
+                                    position = "Midfielder",
+                                    photo = "",
+                                )
+                            },
+                    ),
+                ),
+        )
+}
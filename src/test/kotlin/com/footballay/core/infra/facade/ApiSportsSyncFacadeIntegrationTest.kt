@@ -195,6 +195,25 @@ class ApiSportsSyncFacadeIntegrationTest {
         assertThat(firstFixture.score?.fulltimeAway).isEqualTo(0)
     }
 
+    @Test
+    fun `syncFixturesOfLeagueWithSeason은 변경 없는 재동기화에도 처리한 경기 수를 반환한다`() {
+        // given
+        val leagueApiId = SUPPORTED_LEAGUE_API_ID
+        val season = SUPPORTED_SEASON
+        apiSportsBackboneSyncFacadeImpl.syncCurrentLeagues()
+        apiSportsBackboneSyncFacadeImpl.syncTeamsOfLeagueWithCurrentSeason(leagueApiId)
+        apiSportsBackboneSyncFacadeImpl.syncFixturesOfLeagueWithSeason(leagueApiId, season)
+        em.flush()
+        em.clear()
+
+        // when
+        val resyncedCount = apiSportsBackboneSyncFacadeImpl.syncFixturesOfLeagueWithSeason(leagueApiId, season)
+
+        // then
+        assertThat(resyncedCount.getOrNull()).isEqualTo(5)
+        assertThat(fixtureApiSportsRepository.findAll()).hasSize(5)
+    }
+
     @Test
     fun `syncFixturesOfLeagueWithSeason은 ApiSports 에서 지원되지 않는 시즌이더라도 Success 를 반환한다`() {
         // given
@@ -0,0 +1,156 @@
+package com.footballay.core.infra.persistence
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.ActiveProfiles
+
+/**
+ * 조회 빈도가 높은 쿼리의 실행 계획 회귀 테스트
+ *
+ * H2 의 EXPLAIN 결과에서 기대한 인덱스를 사용하는지, table scan 으로 바뀌지 않았는지 검증합니다.
+ * SQL 은 각 Repository JPQL 이 만드는 조건과 같은 형태로 작성하며, PostgreSQL 에서도 그대로 실행할 수 있는 문법만 사용합니다.
+ *
+ * 인덱스는 엔티티 @Table(indexes) 와 Flyway 마이그레이션(V2, V7)에 같은 이름으로 선언되어 있습니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryPlanIndexUsageTest {
+    @Autowired
+    private lateinit var jdbcTemplate: JdbcTemplate
+
+    @Test
+    fun `리그별 킥오프 범위 조회는 league_id, kickoff 복합 인덱스를 사용한다`() {
+        // given: FixtureCoreRepository.findFixturesByLeagueUidInKickoffRange
+        val sql =
+            """
+            SELECT f.id
+            FROM fixture_core f
+            JOIN league_core l ON l.id = f.league_id
+            WHERE l.uid = 'league_uid'
+              AND f.kickoff >= TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00'
+              AND f.kickoff < TIMESTAMP WITH TIME ZONE '2025-01-08 00:00:00+00'
+            ORDER BY f.kickoff ASC
+            """
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "fixture_core", index = "idx_fixture_core_league_kickoff")
+        assertNoTableScan(plan, table = "league_core")
+    }
+
+    @Test
+    fun `리그별 가장 가까운 킥오프 조회는 league_id, kickoff 복합 인덱스를 사용한다`() {
+        // given: FixtureCoreRepository.findMinKickoffAfterByLeagueUid
+        val sql =
+            """
+            SELECT MIN(f.kickoff)
+            FROM fixture_core f
+            JOIN league_core l ON l.id = f.league_id
+            WHERE l.uid = 'league_uid'
+              AND f.kickoff >= TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00'
+            """
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "fixture_core", index = "idx_fixture_core_league_kickoff")
+    }
+
+    @Test
+    fun `sequence 이후 경기 이벤트 조회는 fixture_api_id, sequence 복합 인덱스를 사용한다`() {
+        // given: ApiSportsMatchEventRepository afterSequence 조회
+        val sql =
+            """
+            SELECT e.id
+            FROM apisports_match_event e
+            WHERE e.fixture_api_id = 1
+              AND e.sequence > 10
+            ORDER BY e.sequence ASC
+            """
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "apisports_match_event", index = "idx_match_event_fixture_sequence")
+    }
+
+    @Test
+    fun `match team 의 선수 조회는 match_team_id 인덱스를 사용한다`() {
+        // given
+        val sql = "SELECT p.id FROM apisports_match_player p WHERE p.match_team_id = 1"
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "apisports_match_player", index = "idx_match_player_match_team")
+    }
+
+    @Test
+    fun `선수 기준 match player 조회는 player_apisports_id 인덱스를 사용한다`() {
+        // given
+        val sql = "SELECT p.id FROM apisports_match_player p WHERE p.player_apisports_id = 1"
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "apisports_match_player", index = "idx_match_player_player_apisports")
+    }
+
+    @Test
+    fun `선수가 참조된 이벤트 조회는 player_id, assist_id 인덱스를 사용한다`() {
+        // given: match player 삭제 시 이벤트 FK 참조 검사
+        val byPlayer = "SELECT e.id FROM apisports_match_event e WHERE e.player_id = 1"
+        val byAssist = "SELECT e.id FROM apisports_match_event e WHERE e.assist_id = 1"
+
+        // when
+        val playerPlan = explain(byPlayer)
+        val assistPlan = explain(byAssist)
+
+        // then
+        assertIndexUsed(playerPlan, table = "apisports_match_event", index = "idx_match_event_player")
+        assertIndexUsed(assistPlan, table = "apisports_match_event", index = "idx_match_event_assist")
+    }
+
+    @Test
+    fun `league season 의 경기 조회는 season_id 인덱스를 사용한다`() {
+        // given: 경기일정 sync 의 league+season 조회
+        val sql = "SELECT fas.id FROM fixture_api_sports fas WHERE fas.season_id = 1"
+
+        // when
+        val plan = explain(sql)
+
+        // then
+        assertIndexUsed(plan, table = "fixture_api_sports", index = "idx_fixture_api_sports_season")
+    }
+
+    private fun explain(sql: String): String = jdbcTemplate.queryForObject("EXPLAIN ${sql.trimIndent()}", String::class.java)!!
+
+    private fun assertIndexUsed(
+        plan: String,
+        table: String,
+        index: String,
+    ) {
+        assertThat(plan.uppercase())
+            .describedAs("query plan:\n%s", plan)
+            .contains("PUBLIC.${index.uppercase()}")
+        assertNoTableScan(plan, table)
+    }
+
+    private fun assertNoTableScan(
+        plan: String,
+        table: String,
+    ) {
+        assertThat(plan.uppercase())
+            .describedAs("query plan:\n%s", plan)
+            .doesNotContain("PUBLIC.${table.uppercase()}.TABLESCAN")
+    }
+}
@@ -0,0 +1,219 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.footballay.core.domain.model.match.FixtureEventsModel
+import com.footballay.core.domain.model.match.FixtureInfoModel
+import com.footballay.core.domain.model.match.FixtureLineupModel
+import com.footballay.core.domain.model.match.FixtureLiveStatusModel
+import com.footballay.core.domain.model.match.FixtureStatisticsModel
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import java.time.Instant
+
+/**
+ * MatchSnapshotDelta 단위 테스트
+ */
+class MatchSnapshotDeltaTest {
+    @Test
+    fun `직전 스냅샷이 없으면 전체를 변경분으로 본다`() {
+        // given
+        val current = snapshot(version = 1, events = listOf(event(1)))
+
+        // when
+        val delta = MatchSnapshotDelta.between(null, current)
+
+        // then
+        assertThat(delta.previousVersion).isNull()
+        assertThat(delta.liveStatus).isEqualTo(current.liveStatus)
+        assertThat(delta.events).hasSize(1)
+        assertThat(delta.eventsReset).isTrue()
+        assertThat(delta.lineupChanged).isTrue()
+        assertThat(delta.statistics).isEqualTo(current.statistics)
+    }
+
+    @Test
+    fun `변경이 없으면 빈 변경분이다`() {
+        // given
+        val previous = snapshot(version = 1, events = listOf(event(1)))
+        val current = previous.copy(version = 2)
+
+        // when
+        val delta = MatchSnapshotDelta.between(previous, current)
+
+        // then
+        assertThat(delta.isEmpty()).isTrue()
+        assertThat(delta.previousVersion).isEqualTo(1)
+    }
+
+    @Test
+    fun `새 이벤트와 스코어 변경만 담는다`() {
+        // given
+        val previous = snapshot(version = 1, events = listOf(event(1)))
+        val current = snapshot(version = 2, events = listOf(event(1), event(2)), homeScore = 1)
+
+        // when
+        val delta = MatchSnapshotDelta.between(previous, current)
+
+        // then
+        assertThat(delta.events.map { it.sequence }).containsExactly(2)
+        assertThat(delta.eventsReset).isFalse()
+        assertThat(delta.liveStatus!!.liveStatus.score.home).isEqualTo(1)
+        assertThat(delta.lineupChanged).isFalse()
+        assertThat(delta.statistics).isNull()
+    }
+
+    @Test
+    fun `기존 이벤트가 사라지면 전체 이벤트로 교체한다`() {
+        // given
+        val previous = snapshot(version = 1, events = listOf(event(1), event(2)))
+        val current = snapshot(version = 2, events = listOf(event(1)))
+
+        // when
+        val delta = MatchSnapshotDelta.between(previous, current)
+
+        // then
+        assertThat(delta.eventsReset).isTrue()
+        assertThat(delta.events.map { it.sequence }).containsExactly(1)
+    }
+
+    @Test
+    fun `선수 통계는 바뀐 선수만 담는다`() {
+        // given
+        val previous = snapshot(version = 1, homePlayers = listOf(player("mp-1", goals = 0), player("mp-2", goals = 0)))
+        val current = snapshot(version = 2, homePlayers = listOf(player("mp-1", goals = 1), player("mp-2", goals = 0)))
+
+        // when
+        val delta = MatchSnapshotDelta.between(previous, current)
+
+        // then
+        val home = delta.statistics!!.home!!
+        assertThat(home.playerStatistics.map { it.player.matchPlayerUid }).containsExactly("mp-1")
+        assertThat(delta.statistics!!.away).isNull()
+    }
+
+    private fun snapshot(
+        version: Long,
+        events: List<FixtureEventsModel.EventInfo> = emptyList(),
+        homeScore: Int = 0,
+        homePlayers: List<FixtureStatisticsModel.PlayerWithStatistics> = emptyList(),
+    ) = MatchSnapshot(
+        fixtureUid = FIXTURE_UID,
+        version = version,
+        publishedAt = Instant.parse("2025-03-15T15:00:00Z"),
+        info =
+            FixtureInfoModel(
+                fixtureUid = FIXTURE_UID,
+                referee = null,
+                date = "2025-03-16 00:00",
+                league = FixtureInfoModel.LeagueInfo(name = "Premier League", koreanName = null, logo = null, leagueUid = "league-uid"),
+                home = null,
+                away = null,
+            ),
+        liveStatus =
+            FixtureLiveStatusModel(
+                fixtureUid = FIXTURE_UID,
+                liveStatus =
+                    FixtureLiveStatusModel.LiveStatus(
+                        elapsed = 30,
+                        shortStatus = "1H",
+                        longStatus = "First Half",
+                        score = FixtureLiveStatusModel.Score(home = homeScore, away = 0),
+                    ),
+            ),
+        events = FixtureEventsModel(fixtureUid = FIXTURE_UID, events = events),
+        lineup = FixtureLineupModel(fixtureUid = FIXTURE_UID, lineup = FixtureLineupModel.Lineup(home = null, away = null)),
+        statistics =
+            FixtureStatisticsModel(
+                fixture = FixtureStatisticsModel.FixtureBasic(uid = FIXTURE_UID, elapsed = 30, status = "1H"),
+                home = FixtureStatisticsModel.TeamWithStatistics(team = team(), teamStatistics = teamStatistics(), playerStatistics = homePlayers),
+                away = null,
+            ),
+    )
+
+    private fun event(sequence: Int) =
+        FixtureEventsModel.EventInfo(
+            sequence = sequence,
+            elapsed = 10 * sequence,
+            extraTime = null,
+            team = FixtureEventsModel.TeamInfo(name = "Home", koreanName = null, teamUid = "home-uid", playerColor = null),
+            player = null,
+            assist = null,
+            type = "Goal",
+            detail = "Normal Goal",
+            comments = null,
+        )
+
+    private fun team() =
+        FixtureStatisticsModel.TeamInfo(name = "Home", koreanName = null, logo = null, teamUid = "home-uid", playerColor = null)
+
+    private fun teamStatistics() =
+        FixtureStatisticsModel.TeamStatistics(
+            shotsOnGoal = 0,
+            shotsOffGoal = 0,
+            totalShots = 0,
+            blockedShots = 0,
+            shotsInsideBox = 0,
+            shotsOutsideBox = 0,
+            fouls = 0,
+            cornerKicks = 0,
+            offsides = 0,
+            ballPossession = 50,
+            yellowCards = 0,
+            redCards = 0,
+            goalkeeperSaves = 0,
+            totalPasses = 0,
+            passesAccurate = 0,
+            passesAccuracyPercentage = 0,
+            goalsPrevented = 0,
+            xg = emptyList(),
+        )
+
+    private fun player(
+        matchPlayerUid: String,
+        goals: Int,
+    ) = FixtureStatisticsModel.PlayerWithStatistics(
+        player =
+            FixtureStatisticsModel.PlayerInfoBasic(
+                name = matchPlayerUid,
+                koreanName = null,
+                photo = null,
+                position = "F",
+                number = 9,
+                matchPlayerUid = matchPlayerUid,
+                playerUid = null,
+            ),
+        statistics =
+            FixtureStatisticsModel.PlayerStatistics(
+                minutesPlayed = 30,
+                position = "F",
+                rating = null,
+                captain = false,
+                substitute = false,
+                shotsTotal = 0,
+                shotsOn = 0,
+                goals = goals,
+                goalsConceded = 0,
+                assists = 0,
+                saves = 0,
+                passesTotal = 0,
+                passesKey = 0,
+                passesAccuracy = 0,
+                tacklesTotal = 0,
+                interceptions = 0,
+                duelsTotal = 0,
+                duelsWon = 0,
+                dribblesAttempts = 0,
+                dribblesSuccess = 0,
+                foulsCommitted = 0,
+                foulsDrawn = 0,
+                yellowCards = 0,
+                redCards = 0,
+                penaltiesScored = 0,
+                penaltiesMissed = 0,
+                penaltiesSaved = 0,
+            ),
+    )
+
+    companion object {
+        private const val FIXTURE_UID = "yp4nn06fntg591kk"
+    }
+}
@@ -0,0 +1,146 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.footballay.core.common.result.DomainResult
+import com.footballay.core.domain.model.match.FixtureEventsModel
+import com.footballay.core.domain.model.match.FixtureInfoModel
+import com.footballay.core.domain.model.match.FixtureLineupModel
+import com.footballay.core.domain.model.match.FixtureLiveStatusModel
+import com.footballay.core.domain.model.match.FixtureStatisticsModel
+import com.footballay.core.infra.query.MatchDataQueryService
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.whenever
+
+/**
+ * MatchSnapshotPublisherImpl 단위 테스트
+ *
+ * 조회 서비스는 Mock, 스냅샷 저장소는 메모리 구현으로 대체합니다.
+ */
+class MatchSnapshotPublisherImplTest {
+    private lateinit var matchDataQueryService: MatchDataQueryService
+    private lateinit var snapshotStore: InMemorySnapshotStore
+    private val published = mutableListOf<MatchSnapshotDelta>()
+    private lateinit var publisher: MatchSnapshotPublisherImpl
+
+    @BeforeEach
+    fun setUp() {
+        matchDataQueryService = mock()
+        snapshotStore = InMemorySnapshotStore()
+        publisher =
+            MatchSnapshotPublisherImpl(
+                matchDataQueryService,
+                snapshotStore,
+                listOf(
+                    object : MatchSnapshotListener {
+                        override fun onSnapshotPublished(delta: MatchSnapshotDelta) {
+                            published.add(delta)
+                        }
+                    },
+                ),
+            )
+        whenever(matchDataQueryService.getFixtureInfo(FIXTURE_UID)).thenReturn(DomainResult.Success(info()))
+        whenever(matchDataQueryService.getFixtureEvents(FIXTURE_UID))
+            .thenReturn(DomainResult.Success(FixtureEventsModel(fixtureUid = FIXTURE_UID, events = emptyList())))
+        whenever(matchDataQueryService.getFixtureLineup(FIXTURE_UID))
+            .thenReturn(DomainResult.Success(FixtureLineupModel(FIXTURE_UID, FixtureLineupModel.Lineup(home = null, away = null))))
+        whenever(matchDataQueryService.getFixtureStatistics(FIXTURE_UID))
+            .thenReturn(
+                DomainResult.Success(
+                    FixtureStatisticsModel(
+                        fixture = FixtureStatisticsModel.FixtureBasic(uid = FIXTURE_UID, elapsed = 30, status = "1H"),
+                        home = null,
+                        away = null,
+                    ),
+                ),
+            )
+    }
+
+    @Test
+    fun `내용이 같은 발행은 버전을 올리지 않고 다음 변경분은 마지막으로 전달한 버전을 기준으로 한다`() {
+        // given
+        givenHomeScore(0)
+        val first = publisher.publish(FIXTURE_UID)!!
+
+        // when: 변경 없는 polling 뒤 스코어 변경
+        val unchanged = publisher.publish(FIXTURE_UID)!!
+        givenHomeScore(1)
+        val changed = publisher.publish(FIXTURE_UID)!!
+
+        // then
+        assertThat(unchanged.version).isEqualTo(first.version)
+        assertThat(snapshotStore.putCount).isEqualTo(2)
+        assertThat(changed.version).isGreaterThan(first.version)
+        assertThat(published).hasSize(2)
+        assertThat(published[0].version).isEqualTo(first.version)
+        assertThat(published[1].previousVersion).isEqualTo(first.version)
+        assertThat(published[1].liveStatus!!.liveStatus.score.home).isEqualTo(1)
+    }
+
+    @Test
+    fun `경기 기본 정보만 바뀌어도 새 버전으로 발행한다`() {
+        // given
+        givenHomeScore(0)
+        val first = publisher.publish(FIXTURE_UID)!!
+        whenever(matchDataQueryService.getFixtureInfo(FIXTURE_UID)).thenReturn(DomainResult.Success(info(referee = "Michael Oliver")))
+
+        // when
+        val second = publisher.publish(FIXTURE_UID)!!
+
+        // then
+        assertThat(second.version).isGreaterThan(first.version)
+        assertThat(published.last().infoChanged).isTrue()
+        assertThat(published.last().previousVersion).isEqualTo(first.version)
+    }
+
+    private fun givenHomeScore(home: Int) {
+        whenever(matchDataQueryService.getFixtureLiveStatus(FIXTURE_UID)).thenReturn(
+            DomainResult.Success(
+                FixtureLiveStatusModel(
+                    fixtureUid = FIXTURE_UID,
+                    liveStatus =
+                        FixtureLiveStatusModel.LiveStatus(
+                            elapsed = 30,
+                            shortStatus = "1H",
+                            longStatus = "First Half",
+                            score = FixtureLiveStatusModel.Score(home = home, away = 0),
+                        ),
+                ),
+            ),
+        )
+    }
+
+    private fun info(referee: String? = null) =
+        FixtureInfoModel(
+            fixtureUid = FIXTURE_UID,
+            referee = referee,
+            date = "2025-03-16 00:00",
+            league = FixtureInfoModel.LeagueInfo(name = "Premier League", koreanName = null, logo = null, leagueUid = "league-uid"),
+            home = null,
+            away = null,
+        )
+
+    private class InMemorySnapshotStore : MatchSnapshotStore {
+        private val snapshots = mutableMapOf<String, MatchSnapshot>()
+        var putCount = 0
+
+        override fun get(fixtureUid: String): MatchSnapshot? = snapshots[fixtureUid]
+
+        override fun put(snapshot: MatchSnapshot): Boolean {
+            val current = snapshots[snapshot.fixtureUid]
+            if (current != null && current.version >= snapshot.version) return false
+            snapshots[snapshot.fixtureUid] = snapshot
+            putCount++
+            return true
+        }
+
+        override fun evict(fixtureUid: String) {
+            snapshots.remove(fixtureUid)
+        }
+    }
+
+    companion object {
+        private const val FIXTURE_UID = "yp4nn06fntg591kk"
+    }
+}
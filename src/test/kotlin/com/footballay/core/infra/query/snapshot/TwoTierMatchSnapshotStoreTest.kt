@@ -0,0 +1,183 @@
+package com.footballay.core.infra.query.snapshot
+
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import com.footballay.core.domain.model.match.FixtureEventsModel
+import com.footballay.core.domain.model.match.FixtureInfoModel
+import com.footballay.core.domain.model.match.FixtureLineupModel
+import com.footballay.core.domain.model.match.FixtureLiveStatusModel
+import com.footballay.core.domain.model.match.FixtureStatisticsModel
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.eq
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * TwoTierMatchSnapshotStore 단위 테스트
+ *
+ * Redis 는 Mock 으로 대체하고, 두 인스턴스가 같은 Redis 를 바라보는 상황을 흉내냅니다.
+ */
+class TwoTierMatchSnapshotStoreTest {
+    private val objectMapper = jacksonObjectMapper().findAndRegisterModules()
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private lateinit var redis: StringRedisTemplate
+    private lateinit var valueOps: ValueOperations<String, String>
+    private lateinit var store: TwoTierMatchSnapshotStore
+
+    @BeforeEach
+    fun setUp() {
+        redis = mock()
+        valueOps = mock()
+        whenever(redis.opsForValue()).thenReturn(valueOps)
+        store = newStore()
+    }
+
+    @Test
+    fun `낮은 버전의 스냅샷은 저장하지 않는다`() {
+        // given
+        store.put(snapshot(version = 2))
+
+        // when
+        val accepted = store.put(snapshot(version = 1))
+
+        // then
+        assertThat(accepted).isFalse()
+        assertThat(store.get(FIXTURE_UID)!!.version).isEqualTo(2)
+        verify(valueOps, times(1)).set(eq(KEY), any(), any<Duration>())
+    }
+
+    @Test
+    fun `L1 에 없으면 Redis 의 직렬화된 스냅샷을 읽어 L1 에 채운다`() {
+        // given : 다른 인스턴스가 저장한 JSON
+        store.put(snapshot(version = 5))
+        val json = argumentCaptor<String>()
+        verify(valueOps).set(eq(KEY), json.capture(), any<Duration>())
+
+        val otherInstance = newStore()
+        whenever(valueOps.get(KEY)).thenReturn(json.firstValue)
+
+        // when
+        val first = otherInstance.get(FIXTURE_UID)
+        val second = otherInstance.get(FIXTURE_UID)
+
+        // then
+        assertThat(first).isEqualTo(snapshot(version = 5))
+        assertThat(second).isEqualTo(first)
+        assertThat(lookupCount("l2")).isEqualTo(1.0)
+        assertThat(lookupCount("l1")).isEqualTo(1.0)
+    }
+
+    @Test
+    fun `더 높은 버전이 발행되면 L1 스냅샷을 제거한다`() {
+        // given
+        store.put(snapshot(version = 3))
+        whenever(valueOps.get(KEY)).thenReturn(null)
+
+        // when
+        store.onMessage(DefaultMessage(CHANNEL, "$FIXTURE_UID|4".toByteArray()), null)
+
+        // then
+        assertThat(store.get(FIXTURE_UID)).isNull()
+        assertThat(lookupCount("miss")).isEqualTo(1.0)
+    }
+
+    @Test
+    fun `같은 버전의 발행 메시지는 무시한다`() {
+        // given
+        store.put(snapshot(version = 3))
+
+        // when
+        store.onMessage(DefaultMessage(CHANNEL, "$FIXTURE_UID|3".toByteArray()), null)
+
+        // then
+        assertThat(store.get(FIXTURE_UID)!!.version).isEqualTo(3)
+    }
+
+    @Test
+    fun `Redis 장애 시에도 L1 으로 응답한다`() {
+        // given
+        whenever(valueOps.set(any(), any(), any<Duration>())).thenThrow(RuntimeException("redis down"))
+
+        // when
+        val accepted = store.put(snapshot(version = 1))
+
+        // then
+        assertThat(accepted).isTrue()
+        assertThat(store.get(FIXTURE_UID)!!.version).isEqualTo(1)
+    }
+
+    private fun newStore() =
+        TwoTierMatchSnapshotStore(
+            redis = redis,
+            objectMapper = objectMapper,
+            listenerContainer = mock<RedisMessageListenerContainer>(),
+            meterRegistry = meterRegistry,
+        )
+
+    private fun lookupCount(tier: String): Double =
+        meterRegistry
+            .get("footballay.match.snapshot.lookup")
+            .tag("tier", tier)
+            .counter()
+            .count()
+
+    private fun snapshot(version: Long) =
+        MatchSnapshot(
+            fixtureUid = FIXTURE_UID,
+            version = version,
+            publishedAt = Instant.parse("2025-03-15T15:00:00Z"),
+            info =
+                FixtureInfoModel(
+                    fixtureUid = FIXTURE_UID,
+                    referee = "Michael Oliver",
+                    date = "2025-03-16 00:00",
+                    league =
+                        FixtureInfoModel.LeagueInfo(
+                            name = "Premier League",
+                            koreanName = "프리미어리그",
+                            logo = null,
+                            leagueUid = "league-uid",
+                        ),
+                    home = null,
+                    away = null,
+                ),
+            liveStatus =
+                FixtureLiveStatusModel(
+                    fixtureUid = FIXTURE_UID,
+                    liveStatus =
+                        FixtureLiveStatusModel.LiveStatus(
+                            elapsed = 30,
+                            shortStatus = "1H",
+                            longStatus = "First Half",
+                            score = FixtureLiveStatusModel.Score(home = 1, away = 0),
+                        ),
+                ),
+            events = FixtureEventsModel(fixtureUid = FIXTURE_UID, events = emptyList()),
+            lineup = FixtureLineupModel(fixtureUid = FIXTURE_UID, lineup = FixtureLineupModel.Lineup(home = null, away = null)),
+            statistics =
+                FixtureStatisticsModel(
+                    fixture = FixtureStatisticsModel.FixtureBasic(uid = FIXTURE_UID, elapsed = 30, status = "1H"),
+                    home = null,
+                    away = null,
+                ),
+        )
+
+    companion object {
+        private const val FIXTURE_UID = "yp4nn06fntg591kk"
+        private const val KEY = "match:snapshot:$FIXTURE_UID"
+        private const val CHANNEL = "match:snapshot:version"
+    }
+}
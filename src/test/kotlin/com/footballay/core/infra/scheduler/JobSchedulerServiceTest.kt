@@ -3,17 +3,26 @@ package com.footballay.core.infra.scheduler
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.eq
 import org.mockito.BDDMockito.given
 import org.mockito.InjectMocks
 import org.mockito.Mock
+import org.mockito.Mockito.never
 import org.mockito.Mockito.times
 import org.mockito.Mockito.verify
 import org.mockito.junit.jupiter.MockitoExtension
 import org.quartz.JobDetail
 import org.quartz.JobKey
 import org.quartz.Scheduler
+import org.quartz.SimpleScheduleBuilder
+import org.quartz.SimpleTrigger
 import org.quartz.Trigger
+import org.quartz.TriggerBuilder
+import org.quartz.TriggerKey
+import org.quartz.impl.triggers.SimpleTriggerImpl
+import java.time.Duration
 import java.time.Instant
 import java.util.Date
 
@@ -170,4 +179,121 @@ class JobSchedulerServiceTest {
         assertThat(result).isFalse()
         verify(scheduler).deleteJob(jobKey)
     }
+
+    @Test
+    fun `LiveMatchJob 간격 변경 시 endAt 을 유지한 채 trigger 를 교체`() {
+        // Given
+        val fixtureUid = "testjob000000009"
+        val triggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", "live-match")
+        val endAt = Date.from(Instant.now().plus(Duration.ofHours(4)))
+        given(scheduler.getTrigger(triggerKey)).willReturn(liveTrigger(triggerKey, intervalSeconds = 17, endAt = endAt))
+
+        // When
+        val result = jobSchedulerService.rescheduleLiveMatchJob(fixtureUid, Duration.ofSeconds(60))
+
+        // Then
+        assertThat(result).isTrue()
+        val captor = ArgumentCaptor.forClass(Trigger::class.java)
+        verify(scheduler).rescheduleJob(eq(triggerKey), captor.capture())
+        val replaced = captor.value as SimpleTrigger
+        assertThat(replaced.repeatInterval).isEqualTo(60_000L)
+        assertThat(replaced.endTime).isEqualTo(endAt)
+        assertThat(replaced.jobKey).isEqualTo(JobKey.jobKey("live-match-$fixtureUid", "live-match"))
+    }
+
+    @Test
+    fun `LiveMatchJob 간격이 같으면 trigger 를 교체하지 않음`() {
+        // Given
+        val fixtureUid = "testjob000000010"
+        val triggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", "live-match")
+        given(scheduler.getTrigger(triggerKey))
+            .willReturn(liveTrigger(triggerKey, intervalSeconds = 17, endAt = Date.from(Instant.now().plus(Duration.ofHours(4)))))
+
+        // When
+        val result = jobSchedulerService.rescheduleLiveMatchJob(fixtureUid, Duration.ofSeconds(17))
+
+        // Then
+        assertThat(result).isFalse()
+        verify(scheduler, never()).rescheduleJob(any(TriggerKey::class.java), any(Trigger::class.java))
+    }
+
+    @Test
+    fun `킥오프 변경 시 아직 시작되지 않은 Pre, Live Job 을 새 시각으로 재등록`() {
+        // Given
+        val fixtureUid = "testjob000000011"
+        val triggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", "live-match")
+        val kickoff = Instant.now().plus(Duration.ofHours(3))
+        // 기존 LiveMatchJob 은 지금 시작하도록 등록되어 있음 (킥오프가 3시간 뒤로 밀린 상황)
+        given(scheduler.getTrigger(triggerKey))
+            .willReturn(liveTrigger(triggerKey, intervalSeconds = 17, endAt = Date.from(Instant.now().plus(Duration.ofHours(5)))))
+        given(scheduler.checkExists(any(JobKey::class.java))).willReturn(true)
+        given(scheduler.deleteJob(any(JobKey::class.java))).willReturn(true)
+        given(scheduler.scheduleJob(any(JobDetail::class.java), any(Trigger::class.java))).willReturn(Date.from(kickoff))
+
+        // When
+        val result = jobSchedulerService.retimeMatchJobs(fixtureUid, kickoff.minus(Duration.ofHours(1)), kickoff)
+
+        // Then
+        assertThat(result).isTrue()
+        val captor = ArgumentCaptor.forClass(Trigger::class.java)
+        verify(scheduler, times(2)).scheduleJob(any(JobDetail::class.java), captor.capture())
+        assertThat(captor.allValues.map { it.startTime.toInstant() })
+            .containsExactly(kickoff.minus(Duration.ofHours(1)), kickoff)
+    }
+
+    @Test
+    fun `이미 실행된 LiveMatchJob 은 킥오프가 바뀌어도 재등록하지 않음`() {
+        // Given
+        val fixtureUid = "testjob000000012"
+        val triggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", "live-match")
+        val started =
+            liveTrigger(triggerKey, intervalSeconds = 17, endAt = Date.from(Instant.now().plus(Duration.ofHours(4))))
+                .apply { (this as SimpleTriggerImpl).setPreviousFireTime(Date()) }
+        given(scheduler.getTrigger(triggerKey)).willReturn(started)
+
+        // When
+        val result = jobSchedulerService.retimeMatchJobs(fixtureUid, null, Instant.now().plus(Duration.ofMinutes(30)))
+
+        // Then
+        assertThat(result).isFalse()
+        verify(scheduler, never()).scheduleJob(any(JobDetail::class.java), any(Trigger::class.java))
+        verify(scheduler, never()).deleteJob(any(JobKey::class.java))
+    }
+
+    @Test
+    fun `간격 변경으로 trigger 가 교체된 LiveMatchJob 은 킥오프가 바뀌어도 재등록하지 않음`() {
+        // Given: 실행 중 간격이 바뀌어 previousFireTime 이 없는 trigger 로 교체된 상태
+        val fixtureUid = "testjob000000013"
+        val triggerKey = TriggerKey.triggerKey("live-match-trigger-$fixtureUid", "live-match")
+        given(scheduler.getTrigger(triggerKey))
+            .willReturn(liveTrigger(triggerKey, intervalSeconds = 17, endAt = Date.from(Instant.now().plus(Duration.ofHours(4)))))
+        jobSchedulerService.rescheduleLiveMatchJob(fixtureUid, Duration.ofSeconds(60))
+        val captor = ArgumentCaptor.forClass(Trigger::class.java)
+        verify(scheduler).rescheduleJob(eq(triggerKey), captor.capture())
+        val replaced = captor.value
+        given(scheduler.getTrigger(triggerKey)).willReturn(replaced)
+
+        // When
+        val result = jobSchedulerService.retimeMatchJobs(fixtureUid, null, Instant.now().plus(Duration.ofMinutes(30)))
+
+        // Then
+        assertThat(replaced.previousFireTime).isNull()
+        assertThat(result).isFalse()
+        verify(scheduler, never()).scheduleJob(any(JobDetail::class.java), any(Trigger::class.java))
+        verify(scheduler, never()).deleteJob(any(JobKey::class.java))
+    }
+
+    private fun liveTrigger(
+        triggerKey: TriggerKey,
+        intervalSeconds: Int,
+        endAt: Date,
+    ): SimpleTrigger =
+        TriggerBuilder
+            .newTrigger()
+            .withIdentity(triggerKey)
+            .forJob(JobKey.jobKey("live-match-${triggerKey.name.removePrefix("live-match-trigger-")}", "live-match"))
+            .startAt(Date())
+            .endAt(endAt)
+            .withSchedule(SimpleScheduleBuilder.simpleSchedule().withIntervalInSeconds(intervalSeconds).repeatForever())
+            .build()
 }
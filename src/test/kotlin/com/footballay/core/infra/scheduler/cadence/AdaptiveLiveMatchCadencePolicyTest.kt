@@ -0,0 +1,99 @@
+package com.footballay.core.infra.scheduler.cadence
+
+import com.footballay.core.infra.dispatcher.match.MatchDataSyncResult
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.CsvSource
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * AdaptiveLiveMatchCadencePolicy 단위 테스트
+ */
+class AdaptiveLiveMatchCadencePolicyTest {
+    private val properties = LiveMatchCadenceProperties()
+    private val policy = AdaptiveLiveMatchCadencePolicy(properties)
+
+    @ParameterizedTest
+    @CsvSource(
+        "HT, 45, 60",
+        "BT, 90, 45",
+        "SUSP, 60, 120",
+        "INT, 60, 120",
+        "1H, 30, 17",
+        "1H, 45, 10",
+        "2H, 70, 17",
+        "2H, 85, 10",
+        "ET, 100, 10",
+        "P, 120, 10",
+    )
+    fun `경기 상태에 따라 polling 간격을 정한다`(
+        status: String,
+        elapsed: Int,
+        expectedSeconds: Long,
+    ) {
+        // when
+        val interval = policy.nextInterval(FIXTURE_UID, live(status, elapsed))
+
+        // then
+        assertThat(interval).isEqualTo(Duration.ofSeconds(expectedSeconds))
+    }
+
+    @Test
+    fun `변경 없는 응답이 연속되면 간격을 늘리고 변경이 생기면 되돌린다`() {
+        // given
+        val unchanged = live("1H", 20, payloadUnchanged = true)
+
+        // when
+        val intervals = (1..properties.unchangedStreakThreshold).map { policy.nextInterval(FIXTURE_UID, unchanged) }
+        val afterChange = policy.nextInterval(FIXTURE_UID, live("1H", 21))
+
+        // then
+        assertThat(intervals.dropLast(1)).allMatch { it == properties.base }
+        assertThat(intervals.last()).isEqualTo(properties.idle)
+        assertThat(afterChange).isEqualTo(properties.base)
+    }
+
+    @Test
+    fun `경기 막판에는 변경이 없어도 간격을 늘리지 않는다`() {
+        // given
+        val unchanged = live("2H", 88, payloadUnchanged = true)
+
+        // when
+        val intervals = (1..properties.unchangedStreakThreshold + 2).map { policy.nextInterval(FIXTURE_UID, unchanged) }
+
+        // then
+        assertThat(intervals).allMatch { it == properties.urgent }
+    }
+
+    @Test
+    fun `forget 이후에는 무변경 횟수를 처음부터 센다`() {
+        // given
+        val unchanged = live("1H", 20, payloadUnchanged = true)
+        repeat(properties.unchangedStreakThreshold - 1) { policy.nextInterval(FIXTURE_UID, unchanged) }
+
+        // when
+        policy.forget(FIXTURE_UID)
+        val interval = policy.nextInterval(FIXTURE_UID, unchanged)
+
+        // then
+        assertThat(interval).isEqualTo(properties.base)
+    }
+
+    private fun live(
+        status: String,
+        elapsed: Int,
+        payloadUnchanged: Boolean = false,
+    ) = MatchDataSyncResult.Live(
+        kickoffTime = Instant.now(),
+        isMatchFinished = false,
+        elapsedMin = elapsed,
+        statusShort = status,
+        payloadUnchanged = payloadUnchanged,
+    )
+
+    companion object {
+        private const val FIXTURE_UID = "cadencefixture01"
+    }
+}
@@ -0,0 +1,107 @@
+package com.footballay.core.web.football.controller
+
+import com.footballay.core.common.result.DomainResult
+import com.footballay.core.web.football.dto.FixtureEventsResponse
+import com.footballay.core.web.football.service.FixtureWebService
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.BDDMockito.given
+import org.mockito.Mockito.never
+import org.mockito.Mockito.verify
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.mock.mockito.MockBean
+import org.springframework.http.HttpHeaders
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.get
+
+/**
+ * FixtureMatchController 조건부 요청(ETag) 테스트
+ *
+ * WebService 를 Mock 으로 주입하여 Controller 레이어만 테스트합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FixtureMatchControllerTest(
+    @Autowired private val mockMvc: MockMvc,
+) {
+    @MockBean
+    private lateinit var webService: FixtureWebService
+
+    @Test
+    @DisplayName("getFixtureEvents - 스냅샷이 있으면 200 과 함께 ETag 를 반환한다")
+    fun getFixtureEvents_withSnapshot_returnsETag() {
+        // given
+        given(webService.getFixtureETag(UID)).willReturn(ETAG)
+        given(webService.getFixtureEvents(UID)).willReturn(DomainResult.Success(FixtureEventsResponse(UID, emptyList())))
+
+        // when & then
+        mockMvc
+            .get("/api/v1/football/fixtures/{uid}/events", UID)
+            .andExpect {
+                status { isOk() }
+                header { string(HttpHeaders.ETAG, ETAG) }
+                jsonPath("$.fixtureUid") { value(UID) }
+            }
+    }
+
+    @Test
+    @DisplayName("getFixtureEvents - If-None-Match 가 현재 ETag 와 같으면 조회 없이 304 를 반환한다")
+    fun getFixtureEvents_notModified_returns304WithoutQuery() {
+        // given
+        given(webService.getFixtureETag(UID)).willReturn(ETAG)
+
+        // when & then
+        mockMvc
+            .get("/api/v1/football/fixtures/{uid}/events", UID) {
+                header(HttpHeaders.IF_NONE_MATCH, ETAG)
+            }.andExpect {
+                status { isNotModified() }
+                header { string(HttpHeaders.ETAG, ETAG) }
+                content { string("") }
+            }
+        verify(webService, never()).getFixtureEvents(UID)
+    }
+
+    @Test
+    @DisplayName("getFixtureEvents - 버전이 바뀌었으면 200 과 새 ETag 를 반환한다")
+    fun getFixtureEvents_staleETag_returns200() {
+        // given
+        given(webService.getFixtureETag(UID)).willReturn("\"1700000000001\"")
+        given(webService.getFixtureEvents(UID)).willReturn(DomainResult.Success(FixtureEventsResponse(UID, emptyList())))
+
+        // when & then
+        mockMvc
+            .get("/api/v1/football/fixtures/{uid}/events", UID) {
+                header(HttpHeaders.IF_NONE_MATCH, ETAG)
+            }.andExpect {
+                status { isOk() }
+                header { string(HttpHeaders.ETAG, "\"1700000000001\"") }
+            }
+    }
+
+    @Test
+    @DisplayName("getFixtureEvents - 스냅샷이 없으면 ETag 없이 응답한다")
+    fun getFixtureEvents_withoutSnapshot_noETag() {
+        // given
+        given(webService.getFixtureETag(UID)).willReturn(null)
+        given(webService.getFixtureEvents(UID)).willReturn(DomainResult.Success(FixtureEventsResponse(UID, emptyList())))
+
+        // when & then
+        mockMvc
+            .get("/api/v1/football/fixtures/{uid}/events", UID) {
+                header(HttpHeaders.IF_NONE_MATCH, ETAG)
+            }.andExpect {
+                status { isOk() }
+                header { doesNotExist(HttpHeaders.ETAG) }
+            }
+    }
+
+    companion object {
+        private const val UID = "yp4nn06fntg591kk"
+        private const val ETAG = "\"1700000000000\""
+    }
+}
@@ -4,12 +4,17 @@ import com.footballay.core.MatchConfig
 import com.footballay.core.MatchEntityGenerator
 import com.footballay.core.common.result.DomainFail
 import com.footballay.core.common.result.DomainResult
+import com.footballay.core.infra.query.snapshot.MatchSnapshotPublisher
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
 import org.springframework.boot.test.context.SpringBootTest
 import org.springframework.context.annotation.Import
+import org.springframework.http.HttpHeaders
 import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.get
 import org.springframework.transaction.annotation.Transactional
 
 /**
@@ -20,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional
 @SpringBootTest
 @ActiveProfiles("test")
 @Import(MatchEntityGenerator::class)
+@AutoConfigureMockMvc
 @Transactional
 class FootballayFixtureWebServiceTest {
     @Autowired
@@ -28,6 +34,12 @@ class FootballayFixtureWebServiceTest {
     @Autowired
     private lateinit var entityGenerator: MatchEntityGenerator
 
+    @Autowired
+    private lateinit var snapshotPublisher: MatchSnapshotPublisher
+
+    @Autowired
+    private lateinit var mockMvc: MockMvc
+
     @Test
     fun `getFixtureInfo - 성공 응답 반환`() {
         // Given
@@ -78,6 +90,96 @@ class FootballayFixtureWebServiceTest {
         assertThat(data.events[0].type).isEqualTo("Goal")
     }
 
+    @Test
+    fun `getFixtureEventsAfter - cursor 이후 이벤트만 반환한다`() {
+        // Given
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+        val all = webService.getFixtureEvents(fixtureUid).getOrNull()!!.events
+
+        // When
+        val fromStart = webService.getFixtureEventsAfter(fixtureUid, -1, null).getOrNull()!!
+        val upToDate = webService.getFixtureEventsAfter(fixtureUid, fromStart.lastSequence, fromStart.eventRevision).getOrNull()!!
+
+        // Then
+        assertThat(fromStart.events.map { it.sequence }).isEqualTo(all.map { it.sequence })
+        assertThat(fromStart.lastSequence).isEqualTo(all.last().sequence)
+        assertThat(fromStart.removedSequences).isEmpty()
+        assertThat(upToDate.events).isEmpty()
+        assertThat(upToDate.removedSequences).isEmpty()
+    }
+
+    @Test
+    fun `getFixtureEventsAfter - 사라진 sequence 는 tombstone 으로 알리고 전체 이벤트를 반환한다`() {
+        // Given: 클라이언트는 현재보다 2개 더 많은 이벤트를 받은 상태 (VAR 취소 등으로 삭제됨)
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+        val all = webService.getFixtureEvents(fixtureUid).getOrNull()!!.events
+        val lastSequence = all.last().sequence
+
+        // When
+        val result = webService.getFixtureEventsAfter(fixtureUid, lastSequence + 2, null).getOrNull()!!
+
+        // Then
+        assertThat(result.removedSequences).containsExactly(lastSequence + 1, lastSequence + 2)
+        assertThat(result.events.map { it.sequence }).isEqualTo(all.map { it.sequence })
+    }
+
+    @Test
+    fun `getFixtureEventsAfter - 마지막 이벤트가 삭제되고 새 이벤트가 같은 sequence 로 추가되면 전체 이벤트를 다시 보낸다`() {
+        // Given: 클라이언트는 마지막 이벤트까지 받은 상태
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+        val received = webService.getFixtureEventsAfter(fixtureUid, -1, null).getOrNull()!!
+
+        // 마지막 골이 VAR 로 취소되어 삭제되고, 같은 sequence 에 카드 이벤트가 추가됨
+        val replaced = entities.matchEvents.maxBy { it.sequence }
+        replaced.eventType = "Card"
+        replaced.detail = "Yellow Card"
+        entities.fixtureApiSports.eventRevision++
+
+        // When
+        val result =
+            webService
+                .getFixtureEventsAfter(fixtureUid, received.lastSequence, received.eventRevision)
+                .getOrNull()!!
+
+        // Then: sequence 는 그대로지만 revision 이 바뀌었으므로 전체 이벤트를 보낸다
+        assertThat(result.lastSequence).isEqualTo(received.lastSequence)
+        assertThat(result.eventRevision).isNotEqualTo(received.eventRevision)
+        assertThat(result.events.map { it.sequence }).isEqualTo(received.events.map { it.sequence })
+        assertThat(result.events.last().type).isEqualTo("Card")
+        assertThat(result.removedSequences).isEmpty()
+    }
+
+    @Test
+    fun `getFixtureEventsAfter - 스냅샷과 DB 조회 결과가 같다`() {
+        // Given
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+        val fromDb = webService.getFixtureEventsAfter(fixtureUid, 0, 0).getOrNull()!!
+
+        snapshotPublisher.publish(fixtureUid)
+        try {
+            // When
+            val fromSnapshot = webService.getFixtureEventsAfter(fixtureUid, 0, 0).getOrNull()!!
+
+            // Then
+            assertThat(fromSnapshot).isEqualTo(fromDb)
+        } finally {
+            snapshotPublisher.retire(fixtureUid)
+        }
+    }
+
+    @Test
+    fun `getFixtureEventsAfter - 존재하지 않는 UID는 NotFound`() {
+        // When
+        val result = webService.getFixtureEventsAfter("nonexistent-uid-12345", -1, null)
+
+        // Then
+        assertThat(result.errorOrNull()).isInstanceOf(DomainFail.NotFound::class.java)
+    }
+
     @Test
     fun `getFixtureEvents - 빈 이벤트 목록 성공 응답`() {
         // Given: Live 데이터 없는 매치
@@ -181,4 +283,78 @@ class FootballayFixtureWebServiceTest {
         assertThat(notFoundError.resource).contains("Fixture")
         assertThat(notFoundError.id).isEqualTo(invalidUid)
     }
+
+    @Test
+    fun `스냅샷이 발행되면 DB 대신 스냅샷으로 응답한다`() {
+        // Given
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+        snapshotPublisher.publish(fixtureUid)
+
+        try {
+            // 스냅샷 발행 이후의 DB 변경은 다음 발행 전까지 응답에 반영되지 않는다
+            entities.fixtureApiSports.status?.shortStatus = "1H"
+
+            // When
+            val result = webService.getFixtureLiveStatus(fixtureUid)
+
+            // Then
+            assertThat(result.getOrNull()!!.liveStatus.shortStatus).isEqualTo("NS")
+        } finally {
+            snapshotPublisher.retire(fixtureUid)
+        }
+    }
+
+    @Test
+    fun `ETag 는 스냅샷 버전을 따르고 스냅샷이 없으면 null 이다`() {
+        // Given
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+
+        try {
+            // When
+            val beforePublish = webService.getFixtureETag(fixtureUid)
+            val first = snapshotPublisher.publish(fixtureUid)!!
+            val firstETag = webService.getFixtureETag(fixtureUid)
+            entities.fixtureApiSports.status?.shortStatus = "1H"
+            val second = snapshotPublisher.publish(fixtureUid)!!
+            val secondETag = webService.getFixtureETag(fixtureUid)
+
+            // Then
+            assertThat(beforePublish).isNull()
+            assertThat(firstETag).isEqualTo("\"${first.version}\"")
+            assertThat(secondETag).isEqualTo("\"${second.version}\"")
+            assertThat(secondETag).isNotEqualTo(firstETag)
+        } finally {
+            snapshotPublisher.retire(fixtureUid)
+        }
+    }
+
+    @Test
+    fun `같은 데이터를 두 번 발행하면 ETag 가 그대로이고 If-None-Match 요청은 304 를 받는다`() {
+        // Given
+        val entities = entityGenerator.createCompleteMatchEntities()
+        val fixtureUid = entities.fixtureCore.uid
+
+        try {
+            snapshotPublisher.publish(fixtureUid)
+            val firstETag = webService.getFixtureETag(fixtureUid)!!
+
+            // When: 변경 없는 sync 후 다시 발행
+            snapshotPublisher.publish(fixtureUid)
+            val secondETag = webService.getFixtureETag(fixtureUid)
+
+            // Then
+            assertThat(secondETag).isEqualTo(firstETag)
+            mockMvc
+                .get("/api/v1/football/fixtures/{uid}/status", fixtureUid) {
+                    header(HttpHeaders.IF_NONE_MATCH, firstETag)
+                }.andExpect {
+                    status { isNotModified() }
+                    header { string(HttpHeaders.ETAG, firstETag) }
+                }
+        } finally {
+            snapshotPublisher.retire(fixtureUid)
+        }
+    }
 }